@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.benchmarks;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.ThingsModelFactory;
+
+/**
+ * Provides things of realistic shape and a given approximate size for the benchmarks.
+ * A thing consists of some attributes and as many sensor features as needed to reach the requested size.
+ */
+final class BenchmarkThings {
+
+    /**
+     * The ID of all generated things.
+     */
+    static final ThingId THING_ID = ThingId.of("org.eclipse.ditto.benchmark", "device-0815");
+
+    /**
+     * Pointer to a property of the first feature which is present in every generated thing.
+     */
+    static final JsonPointer TEMPERATURE_POINTER =
+            JsonPointer.of("/features/sensor-0/properties/status/temperature");
+
+    /**
+     * Pointer to a nested attribute which is present in every generated thing.
+     */
+    static final JsonPointer LATITUDE_POINTER = JsonPointer.of("/attributes/location/latitude");
+
+    private BenchmarkThings() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Returns the JSON representation of a thing whose JSON string has about the given size.
+     *
+     * @param approximateSizeInBytes the size the JSON string of the thing should roughly have.
+     * @return the thing JSON.
+     */
+    static JsonObject thingJson(final int approximateSizeInBytes) {
+        final JsonObject attributes = JsonObject.newBuilder()
+                .set("manufacturer", "ACME Sensors Inc.")
+                .set("model", "Climate Sensor XL 3000")
+                .set("serialNumber", "SN-2024-000815-42")
+                .set("location", JsonObject.newBuilder()
+                        .set("latitude", 48.7758)
+                        .set("longitude", 9.1829)
+                        .set("building", "B42")
+                        .build())
+                .build();
+
+        final JsonObjectBuilder features = JsonObject.newBuilder();
+        int size = attributes.toString().length();
+        int featureIndex = 0;
+        do {
+            final String featureId = "sensor-" + featureIndex;
+            final JsonObject feature = sensorFeature(featureIndex);
+            features.set(featureId, feature);
+            size += featureId.length() + feature.toString().length() + 4;
+            featureIndex++;
+        } while (size < approximateSizeInBytes);
+
+        return JsonObject.newBuilder()
+                .set(Thing.JsonFields.ID, THING_ID.toString())
+                .set(Thing.JsonFields.POLICY_ID, THING_ID.toString())
+                .set(Thing.JsonFields.ATTRIBUTES, attributes)
+                .set(Thing.JsonFields.FEATURES, features.build())
+                .build();
+    }
+
+    private static JsonObject sensorFeature(final int featureIndex) {
+        return JsonObject.newBuilder()
+                .set("properties", JsonObject.newBuilder()
+                        .set("status", JsonObject.newBuilder()
+                                .set("temperature", 20.0 + featureIndex % 10)
+                                .set("humidity", 40 + featureIndex % 30)
+                                .set("lastUpdate", "2024-03-01T12:00:00.000Z")
+                                .build())
+                        .set("configuration", JsonObject.newBuilder()
+                                .set("interval", 1000)
+                                .set("threshold", 25.5)
+                                .set("enabled", true)
+                                .build())
+                        .build())
+                .build();
+    }
+
+    /**
+     * Returns a thing whose JSON string has about the given size.
+     *
+     * @param approximateSizeInBytes the size the JSON string of the thing should roughly have.
+     * @return the thing.
+     */
+    static Thing thing(final int approximateSizeInBytes) {
+        return ThingsModelFactory.newThing(thingJson(approximateSizeInBytes));
+    }
+
+}
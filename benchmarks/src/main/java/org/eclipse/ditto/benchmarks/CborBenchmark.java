@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.json.cbor.JacksonCborFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks serializing Ditto JSON to CBOR and deserializing it again with the {@link JacksonCborFactory}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CborBenchmark {
+
+    @Param({"1024", "10240", "102400", "1048576"})
+    public int thingSizeInBytes;
+
+    private JacksonCborFactory cborFactory;
+    private JsonObject thingJson;
+    private byte[] thingCbor;
+
+    @Setup
+    public void setUp() throws IOException {
+        cborFactory = new JacksonCborFactory();
+        thingJson = BenchmarkThings.thingJson(thingSizeInBytes);
+        thingCbor = cborFactory.toByteArray(thingJson);
+    }
+
+    @Benchmark
+    public byte[] toCbor() throws IOException {
+        return cborFactory.toByteArray(thingJson);
+    }
+
+    @Benchmark
+    public JsonValue fromCbor() {
+        return cborFactory.readFrom(thingCbor);
+    }
+
+    @Benchmark
+    public JsonValue roundTrip() throws IOException {
+        return cborFactory.readFrom(cborFactory.toByteArray(thingJson));
+    }
+
+}
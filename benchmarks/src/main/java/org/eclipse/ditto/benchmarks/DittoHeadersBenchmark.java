@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.base.model.auth.AuthorizationContext;
+import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
+import org.eclipse.ditto.base.model.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.json.JsonObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks building, copying and (de-)serializing {@link DittoHeaders} like they occur for each signal.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DittoHeadersBenchmark {
+
+    private static final AuthorizationContext AUTHORIZATION_CONTEXT =
+            AuthorizationContext.newInstance(DittoAuthorizationContextType.PRE_AUTHENTICATED_HTTP,
+                    AuthorizationSubject.newInstance("integration:benchmark-connection"),
+                    AuthorizationSubject.newInstance("google:some-user-1234567890"));
+
+    private DittoHeaders dittoHeaders;
+    private JsonObject dittoHeadersJson;
+
+    @Setup
+    public void setUp() {
+        dittoHeaders = buildHeaders();
+        dittoHeadersJson = dittoHeaders.toJson();
+    }
+
+    @Benchmark
+    public DittoHeaders build() {
+        return buildHeaders();
+    }
+
+    @Benchmark
+    public DittoHeaders copyAndModify() {
+        return dittoHeaders.toBuilder()
+                .correlationId("benchmark-correlation-id-modified")
+                .responseRequired(false)
+                .build();
+    }
+
+    @Benchmark
+    public JsonObject toJson() {
+        return buildHeaders().toJson();
+    }
+
+    @Benchmark
+    public DittoHeaders fromJson() {
+        return DittoHeaders.newBuilder(dittoHeadersJson).build();
+    }
+
+    private static DittoHeaders buildHeaders() {
+        return DittoHeaders.newBuilder()
+                .correlationId("benchmark-correlation-id")
+                .contentType("application/json")
+                .authorizationContext(AUTHORIZATION_CONTEXT)
+                .responseRequired(true)
+                .channel("twin")
+                .putHeader("x-custom-header", "custom-value")
+                .putHeader("device-id", BenchmarkThings.THING_ID.toString())
+                .build();
+    }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.benchmarks;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks parsing, reading and modifying Ditto JSON objects of different sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonBenchmark {
+
+    private static final JsonValue NEW_TEMPERATURE = JsonValue.of(23.42);
+
+    @Param({"1024", "10240", "102400", "1048576"})
+    public int thingSizeInBytes;
+
+    private String thingJsonString;
+    private JsonObject thingJson;
+
+    @Setup
+    public void setUp() {
+        thingJsonString = BenchmarkThings.thingJson(thingSizeInBytes).toString();
+        thingJson = JsonFactory.newObject(thingJsonString);
+    }
+
+    @Benchmark
+    public JsonValue readFrom() {
+        return JsonFactory.readFrom(thingJsonString);
+    }
+
+    @Benchmark
+    public Optional<JsonValue> readFromAndGetValue() {
+        return JsonFactory.readFrom(thingJsonString).asObject().getValue(BenchmarkThings.TEMPERATURE_POINTER);
+    }
+
+    @Benchmark
+    public Optional<JsonValue> newObjectLazilyAndGetValue() {
+        return JsonFactory.newObjectLazily(thingJsonString).getValue(BenchmarkThings.TEMPERATURE_POINTER);
+    }
+
+    @Benchmark
+    public Optional<JsonValue> getValueByPointer() {
+        return thingJson.getValue(BenchmarkThings.TEMPERATURE_POINTER);
+    }
+
+    @Benchmark
+    public JsonObject setValueByPointer() {
+        return thingJson.setValue(BenchmarkThings.TEMPERATURE_POINTER, NEW_TEMPERATURE);
+    }
+
+    @Benchmark
+    public String toJsonString() {
+        return thingJson.setValue(BenchmarkThings.LATITUDE_POINTER, NEW_TEMPERATURE).toString();
+    }
+
+}
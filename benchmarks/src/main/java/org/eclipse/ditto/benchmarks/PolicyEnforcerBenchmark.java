@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.base.model.auth.AuthorizationContext;
+import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
+import org.eclipse.ditto.base.model.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.policies.model.EffectedSubjects;
+import org.eclipse.ditto.policies.model.Permissions;
+import org.eclipse.ditto.policies.model.PoliciesResourceType;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.PolicyBuilder;
+import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.ResourceKey;
+import org.eclipse.ditto.policies.model.Subject;
+import org.eclipse.ditto.policies.model.SubjectIssuer;
+import org.eclipse.ditto.policies.model.Subjects;
+import org.eclipse.ditto.policies.model.enforcers.Enforcer;
+import org.eclipse.ditto.policies.model.enforcers.PolicyEnforcers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the permission checks of the trie based and the compiled policy enforcers for policies with a growing
+ * number of subjects.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PolicyEnforcerBenchmark {
+
+    private static final int PAGE_SIZE = 200;
+
+    private static final Permissions READ = Permissions.newInstance("READ");
+    private static final Permissions WRITE = Permissions.newInstance("WRITE");
+    private static final ResourceKey THING_ROOT = PoliciesResourceType.thingResource("/");
+    private static final ResourceKey ATTRIBUTES = PoliciesResourceType.thingResource("/attributes");
+    private static final ResourceKey FEATURE_PROPERTY =
+            PoliciesResourceType.thingResource("/features/sensor-0/properties/status/temperature");
+
+    @Param({"10", "100", "500"})
+    public int subjectCount;
+
+    @Param({"10240"})
+    public int thingSizeInBytes;
+
+    @Param({"trie", "compiled"})
+    public String enforcerType;
+
+    private Policy policy;
+    private Enforcer enforcer;
+    private AuthorizationContext readerContext;
+    private AuthorizationContext operatorContext;
+    private JsonObject thingJson;
+    private List<JsonObject> thingPage;
+
+    @Setup
+    public void setUp() {
+        policy = createPolicy(subjectCount);
+        enforcer = createEnforcer();
+        readerContext = authorizationContext("reader-" + (subjectCount - 1));
+        operatorContext = authorizationContext("operator-0");
+        thingJson = BenchmarkThings.thingJson(thingSizeInBytes);
+        thingPage = Collections.nCopies(PAGE_SIZE, thingJson);
+    }
+
+    private static Policy createPolicy(final int subjectCount) {
+        final PolicyBuilder policyBuilder = Policy.newBuilder(PolicyId.of(BenchmarkThings.THING_ID));
+        policyBuilder.forLabel("owner")
+                .setSubject(Subject.newInstance(SubjectIssuer.GOOGLE, "owner"))
+                .setGrantedPermissions(THING_ROOT, "READ", "WRITE")
+                .setGrantedPermissions(PoliciesResourceType.policyResource("/"), "READ", "WRITE");
+
+        final List<Subject> readers = new ArrayList<>(subjectCount);
+        final List<Subject> operators = new ArrayList<>(subjectCount);
+        for (int i = 0; i < subjectCount; i++) {
+            readers.add(Subject.newInstance(SubjectIssuer.GOOGLE, "reader-" + i));
+            operators.add(Subject.newInstance(SubjectIssuer.GOOGLE, "operator-" + i));
+        }
+        policyBuilder.forLabel("readers")
+                .setSubjects(Subjects.newInstance(readers))
+                .setGrantedPermissions(THING_ROOT, "READ")
+                .setRevokedPermissions(PoliciesResourceType.thingResource("/attributes/serialNumber"), "READ");
+        policyBuilder.forLabel("operators")
+                .setSubjects(Subjects.newInstance(operators))
+                .setGrantedPermissions(PoliciesResourceType.thingResource("/features"), "READ", "WRITE")
+                .setRevokedPermissions(
+                        PoliciesResourceType.thingResource("/features/sensor-0/properties/configuration"), "WRITE");
+        return policyBuilder.build();
+    }
+
+    private static AuthorizationContext authorizationContext(final String subjectId) {
+        return AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                AuthorizationSubject.newInstance(SubjectIssuer.GOOGLE + ":" + subjectId));
+    }
+
+    @Benchmark
+    public Enforcer createEnforcer() {
+        if ("compiled".equals(enforcerType)) {
+            return PolicyEnforcers.compiledEvaluator(policy);
+        }
+        return PolicyEnforcers.throughputOptimizedEvaluator(policy);
+    }
+
+    @Benchmark
+    public boolean hasUnrestrictedPermissionsOnRoot() {
+        return enforcer.hasUnrestrictedPermissions(THING_ROOT, readerContext, READ);
+    }
+
+    @Benchmark
+    public boolean hasUnrestrictedPermissionsOnLeaf() {
+        return enforcer.hasUnrestrictedPermissions(FEATURE_PROPERTY, operatorContext, WRITE);
+    }
+
+    @Benchmark
+    public boolean hasPartialPermissions() {
+        return enforcer.hasPartialPermissions(ATTRIBUTES, readerContext, READ);
+    }
+
+    @Benchmark
+    public EffectedSubjects getSubjectsWithPermission() {
+        return enforcer.getSubjectsWithPermission(FEATURE_PROPERTY, READ);
+    }
+
+    @Benchmark
+    public JsonObject buildJsonView() {
+        return enforcer.buildJsonView(THING_ROOT, thingJson, readerContext, READ);
+    }
+
+    @Benchmark
+    public List<JsonObject> buildJsonViewsOfPage() {
+        return enforcer.buildJsonViews(THING_ROOT, thingPage, readerContext, READ);
+    }
+
+}
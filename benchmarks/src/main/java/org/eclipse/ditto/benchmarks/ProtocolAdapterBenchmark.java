@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.benchmarks;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.signals.Signal;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.protocol.Adaptable;
+import org.eclipse.ditto.protocol.JsonifiableAdaptable;
+import org.eclipse.ditto.protocol.ProtocolFactory;
+import org.eclipse.ditto.protocol.adapter.DittoProtocolAdapter;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.signals.commands.modify.ModifyThing;
+import org.eclipse.ditto.things.model.signals.events.ThingModified;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks converting thing commands and events to Ditto Protocol and back with the {@link DittoProtocolAdapter}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProtocolAdapterBenchmark {
+
+    @Param({"1024", "10240", "102400", "1048576"})
+    public int thingSizeInBytes;
+
+    private DittoProtocolAdapter protocolAdapter;
+    private ModifyThing modifyThing;
+    private ThingModified thingModified;
+    private Adaptable modifyThingAdaptable;
+    private Adaptable thingModifiedAdaptable;
+    private String thingModifiedProtocolJson;
+
+    @Setup
+    public void setUp() {
+        protocolAdapter = DittoProtocolAdapter.newInstance();
+        final Thing thing = BenchmarkThings.thing(thingSizeInBytes);
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder()
+                .correlationId("benchmark-correlation-id")
+                .contentType("application/json")
+                .build();
+        modifyThing = ModifyThing.of(BenchmarkThings.THING_ID, thing, null, dittoHeaders);
+        thingModified = ThingModified.of(thing, 42L, Instant.now(), dittoHeaders, null);
+        modifyThingAdaptable = protocolAdapter.toAdaptable(modifyThing);
+        thingModifiedAdaptable = protocolAdapter.toAdaptable(thingModified);
+        thingModifiedProtocolJson = ProtocolFactory.wrapAsJsonifiableAdaptable(thingModifiedAdaptable).toJsonString();
+    }
+
+    @Benchmark
+    public Adaptable commandToAdaptable() {
+        return protocolAdapter.toAdaptable(modifyThing);
+    }
+
+    @Benchmark
+    public Signal<?> commandFromAdaptable() {
+        return protocolAdapter.fromAdaptable(modifyThingAdaptable);
+    }
+
+    @Benchmark
+    public Adaptable eventToAdaptable() {
+        return protocolAdapter.toAdaptable(thingModified);
+    }
+
+    @Benchmark
+    public Signal<?> eventFromAdaptable() {
+        return protocolAdapter.fromAdaptable(thingModifiedAdaptable);
+    }
+
+    @Benchmark
+    public String eventToProtocolJsonString() {
+        return ProtocolFactory.wrapAsJsonifiableAdaptable(protocolAdapter.toAdaptable(thingModified)).toJsonString();
+    }
+
+    @Benchmark
+    public Signal<?> eventFromProtocolJsonString() {
+        final JsonifiableAdaptable jsonifiableAdaptable =
+                ProtocolFactory.jsonifiableAdaptableFromJson(JsonObject.of(thingModifiedProtocolJson));
+        return protocolAdapter.fromAdaptable(jsonifiableAdaptable);
+    }
+
+}
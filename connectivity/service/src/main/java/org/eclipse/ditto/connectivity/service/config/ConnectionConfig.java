@@ -178,6 +178,13 @@ public interface ConnectionConfig extends WithSupervisorConfig, WithActivityChec
      */
     FieldsEncryptionConfig getFieldsEncryptionConfig();
 
+    /**
+     * Returns the configuration for dropping already processed inbound messages.
+     *
+     * @return the config.
+     */
+    InboundDeduplicationConfig getInboundDeduplicationConfig();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code ConnectionConfig}.
@@ -59,6 +59,7 @@ public final class DefaultConnectionConfig implements ConnectionConfig {
     private final HttpPushConfig httpPushConfig;
     private final ActivityCheckConfig activityCheckConfig;
     private final FieldsEncryptionConfig fieldsEncryptionConfig;
+    private final InboundDeduplicationConfig inboundDeduplicationConfig;
     private final Integer maxNumberOfTargets;
     private final Integer maxNumberOfSources;
     private final Duration ackLabelDeclareInterval;
@@ -87,6 +88,7 @@ public final class DefaultConnectionConfig implements ConnectionConfig {
         httpPushConfig = DefaultHttpPushConfig.of(config);
         activityCheckConfig = DefaultActivityCheckConfig.of(config);
         fieldsEncryptionConfig = DefaultFieldsEncryptionConfig.of(config);
+        inboundDeduplicationConfig = InboundDeduplicationConfig.of(config);
         maxNumberOfTargets = config.getNonNegativeIntOrThrow(ConnectionConfigValue.MAX_TARGET_NUMBER);
         maxNumberOfSources = config.getNonNegativeIntOrThrow(ConnectionConfigValue.MAX_SOURCE_NUMBER);
         ackLabelDeclareInterval =
@@ -237,6 +239,11 @@ public final class DefaultConnectionConfig implements ConnectionConfig {
         return fieldsEncryptionConfig;
     }
 
+    @Override
+    public InboundDeduplicationConfig getInboundDeduplicationConfig() {
+        return inboundDeduplicationConfig;
+    }
+
 
     @Override
     public boolean equals(final Object o) {
@@ -265,6 +272,7 @@ public final class DefaultConnectionConfig implements ConnectionConfig {
                 Objects.equals(httpPushConfig, that.httpPushConfig) &&
                 Objects.equals(activityCheckConfig, that.activityCheckConfig) &&
                 Objects.equals(fieldsEncryptionConfig, that.fieldsEncryptionConfig) &&
+                Objects.equals(inboundDeduplicationConfig, that.inboundDeduplicationConfig) &&
                 Objects.equals(maxNumberOfTargets, that.maxNumberOfTargets) &&
                 Objects.equals(maxNumberOfSources, that.maxNumberOfSources) &&
                 Objects.equals(ackLabelDeclareInterval, that.ackLabelDeclareInterval) &&
@@ -278,7 +286,7 @@ public final class DefaultConnectionConfig implements ConnectionConfig {
         return Objects.hash(clientActorAskTimeout, clientActorRestartsBeforeEscalation, allowedHostnames,
                 blockedHostnames, blockedSubnets, blockedHostRegex, supervisorConfig, snapshotConfig, eventConfig,
                 acknowledgementConfig, cleanupConfig, maxNumberOfTargets, maxNumberOfSources, activityCheckConfig,
-                fieldsEncryptionConfig, amqp10Config, amqp091Config, mqttConfig, kafkaConfig, httpPushConfig,
+                fieldsEncryptionConfig, inboundDeduplicationConfig, amqp10Config, amqp091Config, mqttConfig, kafkaConfig, httpPushConfig,
                 ackLabelDeclareInterval, priorityUpdateInterval, shutdownTimeout, allClientActorsOnOneNode);
     }
 
@@ -303,6 +311,7 @@ public final class DefaultConnectionConfig implements ConnectionConfig {
                 ", httpPushConfig=" + httpPushConfig +
                 ", activityCheckConfig=" + activityCheckConfig +
                 ", fieldsEncryptionConfig=" + fieldsEncryptionConfig +
+                ", inboundDeduplicationConfig=" + inboundDeduplicationConfig +
                 ", maxNumberOfTargets=" + maxNumberOfTargets +
                 ", maxNumberOfSources=" + maxNumberOfSources +
                 ", ackLabelDeclareInterval=" + ackLabelDeclareInterval +
@@ -51,6 +51,7 @@ public final class DefaultFluencyLoggerPublisherConfig implements FluencyLoggerP
     private final Duration senderMaxRetryInterval;
     private final boolean ackResponseMode;
     private final Duration waitUntilAllBufferFlushedDurationOnClose;
+    private final int emitQueueSize;
 
     private DefaultFluencyLoggerPublisherConfig(final ConfigWithFallback config) {
         host = config.getString(ConfigValue.HOST.getConfigPath());
@@ -76,6 +77,7 @@ public final class DefaultFluencyLoggerPublisherConfig implements FluencyLoggerP
         ackResponseMode = config.getBoolean(ConfigValue.ACK_RESPONSE_MODE.getConfigPath());
         waitUntilAllBufferFlushedDurationOnClose =
                 config.getDuration(ConfigValue.WAIT_UNTIL_BUFFER_FLUSHED_DURATION_ON_CLOSE.getConfigPath());
+        emitQueueSize = config.getPositiveIntOrThrow(ConfigValue.EMIT_QUEUE_SIZE);
     }
 
     /**
@@ -119,6 +121,11 @@ public final class DefaultFluencyLoggerPublisherConfig implements FluencyLoggerP
         return waitUntilAllBufferFlushedDurationOnClose;
     }
 
+    @Override
+    public int getEmitQueueSize() {
+        return emitQueueSize;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -133,6 +140,7 @@ public final class DefaultFluencyLoggerPublisherConfig implements FluencyLoggerP
                 bufferChunkRetentionSize == that.bufferChunkRetentionSize &&
                 jvmHeapBufferMode == that.jvmHeapBufferMode &&
                 senderMaxRetryCount == that.senderMaxRetryCount && ackResponseMode == that.ackResponseMode &&
+                emitQueueSize == that.emitQueueSize &&
                 Objects.equals(host, that.host) &&
                 Objects.equals(connectionTimeout, that.connectionTimeout) &&
                 Objects.equals(readTimeout, that.readTimeout) &&
@@ -153,7 +161,7 @@ public final class DefaultFluencyLoggerPublisherConfig implements FluencyLoggerP
                 bufferChunkRetentionSize, bufferChunkRetentionTime, flushAttemptInterval, fileBackupDir,
                 waitUntilBufferFlushed, waitUntilFlusherTerminated, jvmHeapBufferMode, senderMaxRetryCount,
                 senderBaseRetryInterval, senderMaxRetryInterval, ackResponseMode,
-                waitUntilAllBufferFlushedDurationOnClose);
+                waitUntilAllBufferFlushedDurationOnClose, emitQueueSize);
     }
 
     @Override
@@ -178,6 +186,7 @@ public final class DefaultFluencyLoggerPublisherConfig implements FluencyLoggerP
                 ", senderMaxRetryInterval=" + senderMaxRetryInterval +
                 ", ackResponseMode=" + ackResponseMode +
                 ", waitUntilAllBufferFlushedDurationOnClose=" + waitUntilAllBufferFlushedDurationOnClose +
+                ", emitQueueSize=" + emitQueueSize +
                 "]";
     }
 
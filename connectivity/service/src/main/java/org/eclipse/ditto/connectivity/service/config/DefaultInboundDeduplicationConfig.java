@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.config;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.internal.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of {@link InboundDeduplicationConfig}.
+ */
+@Immutable
+final class DefaultInboundDeduplicationConfig implements InboundDeduplicationConfig {
+
+    private final boolean enabled;
+    private final String key;
+    private final Duration window;
+    private final int maxEntries;
+
+    private DefaultInboundDeduplicationConfig(final ScopedConfig config) {
+        enabled = config.getBoolean(ConfigValue.ENABLED.getConfigPath());
+        key = config.getString(ConfigValue.KEY.getConfigPath());
+        window = config.getNonNegativeAndNonZeroDurationOrThrow(ConfigValue.WINDOW);
+        maxEntries = config.getPositiveIntOrThrow(ConfigValue.MAX_ENTRIES);
+    }
+
+    static InboundDeduplicationConfig of(final Config config) {
+        return new DefaultInboundDeduplicationConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, ConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public String getKey() {
+        return key;
+    }
+
+    @Override
+    public Duration getWindow() {
+        return window;
+    }
+
+    @Override
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultInboundDeduplicationConfig that = (DefaultInboundDeduplicationConfig) o;
+        return enabled == that.enabled &&
+                maxEntries == that.maxEntries &&
+                Objects.equals(key, that.key) &&
+                Objects.equals(window, that.window);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, key, window, maxEntries);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", key=" + key +
+                ", window=" + window +
+                ", maxEntries=" + maxEntries +
+                "]";
+    }
+
+}
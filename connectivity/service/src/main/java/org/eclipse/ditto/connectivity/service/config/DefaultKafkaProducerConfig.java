@@ -37,6 +37,8 @@ final class DefaultKafkaProducerConfig implements KafkaProducerConfig {
     private final double randomFactor;
     private final int maxRestartsCount;
     private final Duration maxRestartsWithin;
+    private final int batchSize;
+    private final Duration batchLinger;
     private final Config pekkoConnectorsConfig;
     private final long initTimeoutSeconds;
 
@@ -48,6 +50,8 @@ final class DefaultKafkaProducerConfig implements KafkaProducerConfig {
         randomFactor = kafkaProducerScopedConfig.getDouble(ConfigValue.RANDOM_FACTOR.getConfigPath());
         maxRestartsCount = kafkaProducerScopedConfig.getInt(ConfigValue.MAX_RESTARTS_COUNT.getConfigPath());
         maxRestartsWithin = kafkaProducerScopedConfig.getDuration(ConfigValue.MAX_RESTARTS_WITHIN.getConfigPath());
+        batchSize = kafkaProducerScopedConfig.getInt(ConfigValue.BATCH_SIZE.getConfigPath());
+        batchLinger = kafkaProducerScopedConfig.getDuration(ConfigValue.BATCH_LINGER.getConfigPath());
         pekkoConnectorsConfig = kafkaProducerScopedConfig.getConfig(PEKKO_CONNECTORS_PATH);
         initTimeoutSeconds = kafkaProducerScopedConfig.getLong(ConfigValue.INIT_TIMEOUT_SECONDS.getConfigPath());
     }
@@ -99,6 +103,16 @@ final class DefaultKafkaProducerConfig implements KafkaProducerConfig {
         return maxRestartsWithin;
     }
 
+    @Override
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    @Override
+    public Duration getBatchLinger() {
+        return batchLinger;
+    }
+
     @Override
     public Config getPekkoConnectorsConfig() {
         return pekkoConnectorsConfig;
@@ -121,6 +135,8 @@ final class DefaultKafkaProducerConfig implements KafkaProducerConfig {
                 Objects.equals(randomFactor, that.randomFactor) &&
                 Objects.equals(maxRestartsCount, that.maxRestartsCount) &&
                 Objects.equals(maxRestartsWithin, that.maxRestartsWithin) &&
+                Objects.equals(batchSize, that.batchSize) &&
+                Objects.equals(batchLinger, that.batchLinger) &&
                 Objects.equals(pekkoConnectorsConfig, that.pekkoConnectorsConfig) &&
                 Objects.equals(initTimeoutSeconds, that.initTimeoutSeconds);
     }
@@ -128,7 +144,7 @@ final class DefaultKafkaProducerConfig implements KafkaProducerConfig {
     @Override
     public int hashCode() {
         return Objects.hash(queueSize, parallelism, minBackoff, maxBackoff, maxRestartsCount, maxRestartsWithin,
-                randomFactor, pekkoConnectorsConfig, initTimeoutSeconds);
+                randomFactor, batchSize, batchLinger, pekkoConnectorsConfig, initTimeoutSeconds);
     }
 
     @Override
@@ -141,6 +157,8 @@ final class DefaultKafkaProducerConfig implements KafkaProducerConfig {
                 ", randomFactor=" + randomFactor +
                 ", maxRestartsCount=" + maxRestartsCount +
                 ", maxRestartsWithin=" + maxRestartsWithin +
+                ", batchSize=" + batchSize +
+                ", batchLinger=" + batchLinger +
                 ", pekkoConnectorsConfig=" + pekkoConnectorsConfig +
                 ", initTimeoutSeconds=" + initTimeoutSeconds +
                 "]";
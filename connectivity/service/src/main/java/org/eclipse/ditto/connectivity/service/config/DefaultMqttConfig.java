@@ -50,6 +50,8 @@ final class DefaultMqttConfig implements MqttConfig {
     private final BackOffConfig reconnectBackOffConfig;
     private final ThrottlingConfig consumerThrottlingConfig;
     private final ReceiveMaximum clientReceiveMaximum;
+    private final int consumerMaxBufferedPublishes;
+    private final int consumerMaxInFlight;
 
     private DefaultMqttConfig(final ScopedConfig config) {
         eventLoopThreads = config.getNonNegativeIntOrThrow(MqttConfigValue.EVENT_LOOP_THREADS);
@@ -67,6 +69,8 @@ final class DefaultMqttConfig implements MqttConfig {
                 : ConfigFactory.parseString("backoff" + "={}"));
         consumerThrottlingConfig = ThrottlingConfig.of(config);
         clientReceiveMaximum = getClientReceiveMaximumOrThrow(config);
+        consumerMaxBufferedPublishes = config.getPositiveIntOrThrow(MqttConfigValue.CONSUMER_MAX_BUFFERED_PUBLISHES);
+        consumerMaxInFlight = config.getNonNegativeIntOrThrow(MqttConfigValue.CONSUMER_MAX_IN_FLIGHT);
     }
 
     private static SessionExpiryInterval getSessionExpiryIntervalOrThrow(final ScopedConfig config) {
@@ -148,6 +152,16 @@ final class DefaultMqttConfig implements MqttConfig {
         return clientReceiveMaximum;
     }
 
+    @Override
+    public int getConsumerMaxBufferedPublishes() {
+        return consumerMaxBufferedPublishes;
+    }
+
+    @Override
+    public int getConsumerMaxInFlight() {
+        return consumerMaxInFlight;
+    }
+
     @Override
     public BackOffConfig getReconnectBackOffConfig() {
         return reconnectBackOffConfig;
@@ -173,7 +187,9 @@ final class DefaultMqttConfig implements MqttConfig {
                 Objects.equals(maxQueueSize, that.maxQueueSize) &&
                 Objects.equals(reconnectBackOffConfig, that.reconnectBackOffConfig) &&
                 Objects.equals(consumerThrottlingConfig, that.consumerThrottlingConfig) &&
-                Objects.equals(clientReceiveMaximum, that.clientReceiveMaximum);
+                Objects.equals(clientReceiveMaximum, that.clientReceiveMaximum) &&
+                consumerMaxBufferedPublishes == that.consumerMaxBufferedPublishes &&
+                consumerMaxInFlight == that.consumerMaxInFlight;
     }
 
     @Override
@@ -188,7 +204,9 @@ final class DefaultMqttConfig implements MqttConfig {
                 maxQueueSize,
                 reconnectBackOffConfig,
                 consumerThrottlingConfig,
-                clientReceiveMaximum);
+                clientReceiveMaximum,
+                consumerMaxBufferedPublishes,
+                consumerMaxInFlight);
     }
 
     @Override
@@ -206,6 +224,8 @@ final class DefaultMqttConfig implements MqttConfig {
                 ", reconnectBackOffConfig=" + reconnectBackOffConfig +
                 ", consumerThrottlingConfig=" + consumerThrottlingConfig +
                 ", clientReceiveMaximum=" + clientReceiveMaximum +
+                ", consumerMaxBufferedPublishes=" + consumerMaxBufferedPublishes +
+                ", consumerMaxInFlight=" + consumerMaxInFlight +
                 "]";
     }
 
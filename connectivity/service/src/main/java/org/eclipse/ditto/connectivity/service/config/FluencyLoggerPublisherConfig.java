@@ -41,6 +41,14 @@ public interface FluencyLoggerPublisherConfig {
      */
     Duration getWaitUntilAllBufferFlushedDurationOnClose();
 
+    /**
+     * Returns the maximum number of log entries which are pending to be emitted to the Fluency buffer by the
+     * background emitter. Further log entries are dropped until the emitter caught up.
+     *
+     * @return the maximum number of pending log entries.
+     */
+    int getEmitQueueSize();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code FluencyLoggerPublisherConfig}.
@@ -144,6 +152,11 @@ public interface FluencyLoggerPublisherConfig {
          * If this is Zero or a negative duration, no waiting for the buffer will be performed.
          */
         WAIT_UNTIL_BUFFER_FLUSHED_DURATION_ON_CLOSE("waitUntilAllBufferFlushedDurationOnClose", Duration.ofSeconds(5)),
+
+        /**
+         * The maximum number of log entries which are pending to be emitted to the Fluency buffer.
+         */
+        EMIT_QUEUE_SIZE("emitQueueSize", 10_000),
         ;
 
         private final String path;
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.config;
+
+import java.time.Duration;
+
+import org.eclipse.ditto.internal.utils.config.KnownConfigValue;
+
+import com.typesafe.config.Config;
+
+/**
+ * Provides configuration settings for dropping inbound messages which were already processed, e.g. messages
+ * redelivered by an at-least-once source after a reconnect or broker failover.
+ */
+public interface InboundDeduplicationConfig {
+
+    /**
+     * Expected path of this config relative to its parent.
+     */
+    String CONFIG_PATH = "inbound-deduplication";
+
+    /**
+     * Indicates whether inbound deduplication is enabled.
+     *
+     * @return {@code true} if already processed inbound messages should be dropped.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the placeholder template which is resolved against the headers of an inbound message in order to get
+     * its deduplication key, e.g. {@code {{ header:message-id }}}.
+     * Messages for which the key cannot be resolved are never dropped.
+     *
+     * @return the key template.
+     */
+    String getKey();
+
+    /**
+     * Returns how long the key of a processed message is remembered.
+     *
+     * @return the deduplication window.
+     */
+    Duration getWindow();
+
+    /**
+     * Returns the maximum number of keys remembered per connection.
+     * If more keys are remembered, the oldest ones are forgotten before their window has passed.
+     *
+     * @return the maximum number of remembered keys.
+     */
+    int getMaxEntries();
+
+    /**
+     * Returns an instance of {@code InboundDeduplicationConfig} based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.internal.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    static InboundDeduplicationConfig of(final Config config) {
+        return DefaultInboundDeduplicationConfig.of(config);
+    }
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code InboundDeduplicationConfig}.
+     */
+    enum ConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether inbound deduplication is enabled.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * The placeholder template resolving the deduplication key from the headers of an inbound message.
+         */
+        KEY("key", "{{ header:message-id }}"),
+
+        /**
+         * How long the key of a processed message is remembered.
+         */
+        WINDOW("window", Duration.ofMinutes(10L)),
+
+        /**
+         * The maximum number of keys remembered per connection.
+         */
+        MAX_ENTRIES("max-entries", 100_000);
+
+        private final String path;
+        private final Object defaultValue;
+
+        ConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
@@ -61,6 +61,19 @@ public interface KafkaProducerConfig {
      */
     Duration getMaxRestartsWithin();
 
+    /**
+     * Returns the maximum number of outbound messages which are grouped per target partition into one send operation.
+     * A value of 1 or less disables batching and sends each message on its own.
+     *
+     * @return the maximum number of messages per batch.
+     */
+    int getBatchSize();
+
+    /**
+     * @return the maximum duration to wait for more messages before an incomplete batch is sent.
+     */
+    Duration getBatchLinger();
+
     /**
      * Returns the Config for producers needed by the Kafka client.
      *
@@ -100,6 +113,10 @@ public interface KafkaProducerConfig {
 
         MAX_RESTARTS_WITHIN("max-restarts-within", Duration.ofMinutes(5)),
 
+        BATCH_SIZE("batch-size", 1),
+
+        BATCH_LINGER("batch-linger", Duration.ofMillis(5)),
+
         INIT_TIMEOUT_SECONDS("init-timeout-seconds", 3);
 
         private final String path;
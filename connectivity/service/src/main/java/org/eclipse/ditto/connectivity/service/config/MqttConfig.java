@@ -115,6 +115,26 @@ public interface MqttConfig {
      */
     ReceiveMaximum getClientReceiveMaximum();
 
+    /**
+     * Returns the number of received MQTT publishes which are held in memory for the consumers of a client before
+     * QoS 0 publishes are dropped until the consumers caught up.
+     * QoS 1 and QoS 2 publishes are never dropped; the broker limits them to the receive maximum of the client as
+     * long as they are not acknowledged.
+     *
+     * @return the maximum number of buffered publishes.
+     */
+    int getConsumerMaxBufferedPublishes();
+
+    /**
+     * Returns the maximum number of received QoS 1 and QoS 2 publishes per consumer which are processed but not yet
+     * acknowledged.
+     * The consumer does not accept further publishes until acknowledgements are sent.
+     * {@code 0} means that the number of unacknowledged publishes is not limited.
+     *
+     * @return the maximum number of unacknowledged publishes per consumer.
+     */
+    int getConsumerMaxInFlight();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code MqttConfig}.
@@ -170,7 +190,19 @@ public interface MqttConfig {
          * The client Receive Maximum for MQTT 5, i.e. the number of QoS 1 and Qos2 publications the broker is willing
          * to process concurrently for the client.
          */
-        CLIENT_RECEIVE_MAXIMUM("receive-maximum-client", ReceiveMaximum.DEFAULT_VALUE);
+        CLIENT_RECEIVE_MAXIMUM("receive-maximum-client", ReceiveMaximum.DEFAULT_VALUE),
+
+        /**
+         * The number of received MQTT publishes which are held in memory for the consumers of a client before QoS 0
+         * publishes are dropped.
+         */
+        CONSUMER_MAX_BUFFERED_PUBLISHES("consumer-max-buffered-publishes", 10_000),
+
+        /**
+         * The maximum number of received QoS 1 and QoS 2 publishes per consumer which are not yet acknowledged,
+         * {@code 0} for no limit.
+         */
+        CONSUMER_MAX_IN_FLIGHT("consumer-max-in-flight", 0);
 
         private final String path;
         private final Object defaultValue;
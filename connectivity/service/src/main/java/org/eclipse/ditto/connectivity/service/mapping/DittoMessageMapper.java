@@ -94,7 +94,7 @@ public final class DittoMessageMapper extends AbstractMessageMapper {
         final String payload = extractPayloadAsString(message);
         final JsonifiableAdaptable jsonifiableAdaptable = DittoJsonException.wrapJsonRuntimeException(payload,
                 message.getInternalHeaders(), (thePayload, headers) ->
-                        ProtocolFactory.jsonifiableAdaptableFromJson(JsonFactory.newObject(thePayload))
+                        ProtocolFactory.jsonifiableAdaptableFromJson(JsonFactory.newObjectLazily(thePayload))
         );
 
         final DittoHeaders mergedHeaders = jsonifiableAdaptable.getDittoHeaders();
@@ -17,11 +17,14 @@ import java.io.InputStreamReader;
 import java.io.Reader;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.annotation.Nullable;
 
@@ -38,6 +41,7 @@ import org.eclipse.ditto.protocol.Adaptable;
 import org.mozilla.javascript.Context;
 import org.mozilla.javascript.ContextFactory;
 import org.mozilla.javascript.RhinoException;
+import org.mozilla.javascript.Script;
 import org.mozilla.javascript.Scriptable;
 import org.mozilla.javascript.commonjs.module.RequireBuilder;
 import org.mozilla.javascript.commonjs.module.provider.SoftCachingModuleScriptProvider;
@@ -63,6 +67,11 @@ final class JavaScriptMessageMapperRhino extends AbstractMessageMapper {
     static final String INCOMING_SCRIPT = "/javascript/incoming-mapping.js";
     static final String OUTGOING_SCRIPT = "/javascript/outgoing-mapping.js";
 
+    /**
+     * The bundled libraries are compiled only once per JVM and executed in the scope of each configured mapper.
+     */
+    private static final Map<String, Script> COMPILED_LIBRARIES = new ConcurrentHashMap<>();
+
     @Nullable private ContextFactory contextFactory;
     @Nullable private JavaScriptMessageMapperConfiguration configuration;
 
@@ -168,12 +177,10 @@ final class JavaScriptMessageMapperRhino extends AbstractMessageMapper {
 
     private void initLibraries(final Context cx, final Scriptable scope, @Nullable final Path commonJsModulePath) {
         if (getConfiguration().map(JavaScriptMessageMapperConfiguration::isLoadLongJS).orElse(false)) {
-            loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(WEBJARS_LONG)),
-                    WEBJARS_LONG);
+            executeCompiledLibrary(cx, scope, WEBJARS_LONG);
         }
         if (getConfiguration().map(JavaScriptMessageMapperConfiguration::isLoadBytebufferJS).orElse(false)) {
-            loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(WEBJARS_BYTEBUFFER)),
-                    WEBJARS_BYTEBUFFER);
+            executeCompiledLibrary(cx, scope, WEBJARS_BYTEBUFFER);
         }
 
         final List<URI> paths = new ArrayList<>();
@@ -192,12 +199,9 @@ final class JavaScriptMessageMapperRhino extends AbstractMessageMapper {
                 .createRequire(cx, scope)
                 .install(scope);
 
-        loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(DITTO_SCOPE_SCRIPT)),
-                DITTO_SCOPE_SCRIPT);
-        loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(INCOMING_SCRIPT)),
-                INCOMING_SCRIPT);
-        loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(OUTGOING_SCRIPT)),
-                OUTGOING_SCRIPT);
+        executeCompiledLibrary(cx, scope, DITTO_SCOPE_SCRIPT);
+        executeCompiledLibrary(cx, scope, INCOMING_SCRIPT);
+        executeCompiledLibrary(cx, scope, OUTGOING_SCRIPT);
 
         final String userIncomingScript = getConfiguration()
                 .flatMap(JavaScriptMessageMapperConfiguration::getIncomingScript)
@@ -228,6 +232,19 @@ final class JavaScriptMessageMapperRhino extends AbstractMessageMapper {
         return Optional.ofNullable(configuration);
     }
 
+    private static void executeCompiledLibrary(final Context cx, final Scriptable scope, final String libraryName) {
+        COMPILED_LIBRARIES.computeIfAbsent(libraryName, name -> compileLibrary(cx, name)).exec(cx, scope);
+    }
+
+    private static Script compileLibrary(final Context cx, final String libraryName) {
+        try (final Reader reader = new InputStreamReader(
+                JavaScriptMessageMapperRhino.class.getResourceAsStream(libraryName), StandardCharsets.UTF_8)) {
+            return cx.compileReader(reader, libraryName, 1, null);
+        } catch (final IOException e) {
+            throw new IllegalStateException("Could not load script <" + libraryName + ">", e);
+        }
+    }
+
     static void loadJavascriptLibrary(final Context cx,
             final Scriptable scope,
             final Reader reader,
@@ -21,6 +21,10 @@ import org.mozilla.javascript.Scriptable;
 
 /**
  * Special Rhino ContextFactory responsible for sandboxing JavaScript execution.
+ * <p>
+ * Each thread which executes scripts via this factory gets one pre-initialized {@link Context} which is re-used for
+ * all subsequent executions on that thread instead of creating and configuring a new Context per invocation.
+ * </p>
  */
 final class SandboxingContextFactory extends ContextFactory {
 
@@ -36,6 +40,7 @@ final class SandboxingContextFactory extends ContextFactory {
 
     private final Duration maxScriptExecutionTime;
     private final int maxStackDepth;
+    private final ThreadLocal<StartTimeAwareContext> threadContexts;
 
     /**
      * Constructs a new ContextFactory for sandboxing Rhino executions.
@@ -48,10 +53,21 @@ final class SandboxingContextFactory extends ContextFactory {
     SandboxingContextFactory(final Duration maxScriptExecutionTime, final int maxStackDepth) {
         this.maxScriptExecutionTime = maxScriptExecutionTime;
         this.maxStackDepth = maxStackDepth;
+        threadContexts = ThreadLocal.withInitial(this::newContext);
     }
 
+    /**
+     * Rhino only asks for a new Context if there is no Context entered on the current thread, thus the cached Context
+     * of the current thread is never in use when it is handed out again.
+     *
+     * @return the Context of the current thread.
+     */
     @Override
     protected Context makeContext() {
+        return threadContexts.get();
+    }
+
+    private StartTimeAwareContext newContext() {
         final StartTimeAwareContext cx = new StartTimeAwareContext(this);
         cx.setOptimizationLevel(OPTIMIZATION_LEVEL);
         cx.setInstructionObserverThreshold(INSTRUCTION_OBSERVER_THRESHOLD);
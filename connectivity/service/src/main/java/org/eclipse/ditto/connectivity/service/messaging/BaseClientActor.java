@@ -197,6 +197,7 @@ public abstract class BaseClientActor extends AbstractFSMWithStash<BaseClientSta
     private final ReconnectTimeoutStrategy reconnectTimeoutStrategy;
     private final SupervisorStrategy supervisorStrategy;
     private final ConnectionPubSub connectionPubSub;
+    @Nullable private final InboundDeduplicationCaches inboundDeduplicationCaches;
     private final DittoProtocolSub dittoProtocolSub;
     private final int subscriptionIdPrefixLength;
     protected final UUID actorUuid;
@@ -268,6 +269,10 @@ public abstract class BaseClientActor extends AbstractFSMWithStash<BaseClientSta
         reconnectTimeoutStrategy = DuplicationReconnectTimeoutStrategy.fromConfig(clientConfig);
         supervisorStrategy = createSupervisorStrategy(getSelf());
         connectionPubSub = ConnectionPubSub.get(system);
+        inboundDeduplicationCaches =
+                connectivityConfig.getConnectionConfig().getInboundDeduplicationConfig().isEnabled()
+                        ? InboundDeduplicationCaches.get(system)
+                        : null;
         subscriptionIdPrefixLength =
                 ConnectionPersistenceActor.getSubscriptionPrefixLength(connection.getClientCount());
 
@@ -312,6 +317,12 @@ public abstract class BaseClientActor extends AbstractFSMWithStash<BaseClientSta
         registerConnectionPubSub();
         addCoordinatedShutdownTasks();
 
+        // share the inbound deduplication cache with the consumer actors started by init()
+        if (null != inboundDeduplicationCaches) {
+            inboundDeduplicationCaches.acquire(connectionId(),
+                    connectivityConfig.getConnectionConfig().getInboundDeduplicationConfig());
+        }
+
         init();
     }
 
@@ -390,6 +401,9 @@ public abstract class BaseClientActor extends AbstractFSMWithStash<BaseClientSta
         clientGauge.reset();
         clientConnectingGauge.reset();
         stopChildActor(tunnelActor);
+        if (null != inboundDeduplicationCaches) {
+            inboundDeduplicationCaches.release(connectionId());
+        }
         logger.debug("Stopped client with id - <{}>", getDefaultClientId());
         try {
             connectionLogger.close();
@@ -50,6 +50,7 @@ import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.internal.utils.metrics.instruments.tag.Tag;
 import org.eclipse.ditto.internal.utils.tracing.DittoTracing;
 import org.eclipse.ditto.internal.utils.tracing.span.SpanTagKey;
+import org.eclipse.ditto.placeholders.PlaceholderFactory;
 
 import org.apache.pekko.NotUsed;
 import org.apache.pekko.actor.AbstractActorWithTimers;
@@ -76,6 +77,8 @@ public abstract class BaseConsumerActor extends AbstractActorWithTimers {
     private final Sink<Object, ?> inboundMappingSink;
     private final ConnectivityConfig connectivityConfig;
     private final AcknowledgementConfig acknowledgementConfig;
+    private final ConnectionMonitor inboundDroppedMonitor;
+    @Nullable private final InboundDeduplicationCache deduplicationCache;
 
     @Nullable private ResourceStatus resourceStatus;
 
@@ -100,6 +103,10 @@ public abstract class BaseConsumerActor extends AbstractActorWithTimers {
         final var connectionMonitorRegistry = DefaultConnectionMonitorRegistry.fromConfig(connectivityConfig);
         inboundMonitor = connectionMonitorRegistry.forInboundConsumed(connection, sourceAddress);
         inboundAcknowledgedMonitor = connectionMonitorRegistry.forInboundAcknowledged(connection, sourceAddress);
+        inboundDroppedMonitor = connectionMonitorRegistry.forInboundDropped(connection, sourceAddress);
+        deduplicationCache = connectivityConfig.getConnectionConfig().getInboundDeduplicationConfig().isEnabled()
+                ? InboundDeduplicationCaches.get(getContext().getSystem()).lookup(connectionId).orElse(null)
+                : null;
     }
 
     protected void resetResourceStatus() {
@@ -113,11 +120,61 @@ public abstract class BaseConsumerActor extends AbstractActorWithTimers {
     protected abstract ThreadSafeDittoLoggingAdapter log();
 
     protected final Sink<AcknowledgeableMessage, NotUsed> getMessageMappingSink() {
-        return Flow.fromFunction(this::withSender)
+        return Flow.<AcknowledgeableMessage>create()
+                .filterNot(this::dropIfAlreadyProcessed)
+                .map(this::withSender)
                 .map(Object.class::cast)
                 .to(inboundMappingSink);
     }
 
+    /**
+     * Settles an inbound message without mapping it if a message with the same deduplication key was processed
+     * successfully within the deduplication window, e.g. because the broker redelivered it after a reconnect.
+     */
+    private boolean dropIfAlreadyProcessed(final AcknowledgeableMessage acknowledgeableMessage) {
+        if (null == deduplicationCache) {
+            return false;
+        }
+        final var externalMessage = acknowledgeableMessage.getMessage();
+        final Optional<String> deduplicationKey = getDeduplicationKey(externalMessage);
+        final boolean alreadyProcessed = deduplicationKey.filter(deduplicationCache::contains).isPresent();
+        if (alreadyProcessed) {
+            log().withCorrelationId(externalMessage.getHeaders())
+                    .debug("Dropping already processed message with deduplication key <{}>.", deduplicationKey.get());
+            acknowledgeableMessage.settle();
+            inboundDroppedMonitor.success(externalMessage,
+                    "Message with deduplication key <{0}> was already processed and is dropped",
+                    deduplicationKey.get());
+        }
+        return alreadyProcessed;
+    }
+
+    private void rememberProcessed(final ExternalMessage externalMessage) {
+        if (null != deduplicationCache) {
+            getDeduplicationKey(externalMessage).ifPresent(deduplicationCache::add);
+        }
+    }
+
+    /**
+     * Keys are scoped by source address as the same message ID may occur in different addresses of a connection.
+     */
+    private Optional<String> getDeduplicationKey(final ExternalMessage externalMessage) {
+        final var keyTemplate =
+                connectivityConfig.getConnectionConfig().getInboundDeduplicationConfig().getKey();
+        try {
+            return PlaceholderFactory.newExpressionResolver(PlaceholderFactory.newHeadersPlaceholder(),
+                            externalMessage.getHeaders())
+                    .resolve(keyTemplate)
+                    .findFirst()
+                    .map(key -> sourceAddress + ":" + key);
+        } catch (final DittoRuntimeException e) {
+            log().withCorrelationId(e)
+                    .debug("Could not resolve deduplication key <{}>, message is not deduplicated: {}",
+                            keyTemplate, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
     private ExternalMessageWithSender withSender(final AcknowledgeableMessage acknowledgeableMessage) {
         // Start per-inbound-signal actor to collect acks of all thing-modify-commands mapped from incoming signal
         final Duration collectorLifetime = acknowledgementConfig.getCollectorFallbackLifetime();
@@ -171,6 +228,7 @@ public abstract class BaseConsumerActor extends AbstractActorWithTimers {
                     ackTimer.stop();
                     ackCounter.decrement();
                     acknowledgeableMessage.settle();
+                    rememberProcessed(acknowledgeableExternalMessage);
                 } else {
                     // empty failed responses indicate that SetCount was missing
                     final boolean shouldRedeliver = failedResponses.isEmpty() ||
@@ -194,6 +252,7 @@ public abstract class BaseConsumerActor extends AbstractActorWithTimers {
                         ackTimer.stop();
                         ackCounter.decrement();
                         acknowledgeableMessage.settle();
+                        rememberProcessed(acknowledgeableExternalMessage);
                     } else {
                         final var shouldRedeliver = requiresRedelivery(dittoRuntimeException.getHttpStatus());
                         log().debug("Rejecting [redeliver={}] due to error <{}>. ResponseCollector=<{}>",
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.messaging;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.base.model.common.ConditionChecker;
+import org.eclipse.ditto.connectivity.service.config.InboundDeduplicationConfig;
+
+/**
+ * Remembers the deduplication keys of processed inbound messages of one connection for a configured time window.
+ * The number of remembered keys is bounded; if the bound is reached, the oldest key is forgotten first.
+ * Expired keys are evicted whenever the cache is accessed.
+ */
+@ThreadSafe
+final class InboundDeduplicationCache {
+
+    private final long windowNanos;
+    private final int maxEntries;
+    private final LongSupplier nanoTime;
+
+    // guarded by "this"; in order of insertion, i.e. the head is the key which expires first
+    private final LinkedHashMap<String, Long> insertionTimes;
+
+    InboundDeduplicationCache(final Duration window, final int maxEntries, final LongSupplier nanoTime) {
+        ConditionChecker.checkArgument(window, w -> !w.isNegative() && !w.isZero(),
+                () -> "The window must be positive but it was <" + window + ">.");
+        ConditionChecker.checkArgument(maxEntries, max -> max > 0,
+                () -> "The maxEntries must be positive but it was <" + maxEntries + ">.");
+        windowNanos = window.toNanos();
+        this.maxEntries = maxEntries;
+        this.nanoTime = ConditionChecker.checkNotNull(nanoTime, "nanoTime");
+        insertionTimes = new LinkedHashMap<>();
+    }
+
+    /**
+     * Returns a new instance of {@code InboundDeduplicationCache}.
+     *
+     * @param config the config providing the time window and the maximum number of remembered keys.
+     * @return the instance.
+     * @throws NullPointerException if {@code config} is {@code null}.
+     */
+    static InboundDeduplicationCache newInstance(final InboundDeduplicationConfig config) {
+        ConditionChecker.checkNotNull(config, "config");
+        return new InboundDeduplicationCache(config.getWindow(), config.getMaxEntries(), System::nanoTime);
+    }
+
+    /**
+     * Indicates whether a message with the given deduplication key was processed within the time window.
+     *
+     * @param key the deduplication key.
+     * @return {@code true} if the key is remembered.
+     */
+    synchronized boolean contains(final String key) {
+        evictExpired(nanoTime.getAsLong());
+        return insertionTimes.containsKey(key);
+    }
+
+    /**
+     * Remembers the deduplication key of a processed message.
+     * The time window of an already remembered key starts anew.
+     *
+     * @param key the deduplication key.
+     */
+    synchronized void add(final String key) {
+        final long now = nanoTime.getAsLong();
+        evictExpired(now);
+        insertionTimes.remove(key);
+        insertionTimes.put(key, now);
+        if (insertionTimes.size() > maxEntries) {
+            final Iterator<String> oldest = insertionTimes.keySet().iterator();
+            oldest.next();
+            oldest.remove();
+        }
+    }
+
+    /**
+     * @return the number of remembered keys including those which expired since the last access.
+     */
+    synchronized int size() {
+        return insertionTimes.size();
+    }
+
+    private void evictExpired(final long now) {
+        final Iterator<Map.Entry<String, Long>> iterator = insertionTimes.entrySet().iterator();
+        while (iterator.hasNext() && now - iterator.next().getValue() >= windowNanos) {
+            iterator.remove();
+        }
+    }
+
+}
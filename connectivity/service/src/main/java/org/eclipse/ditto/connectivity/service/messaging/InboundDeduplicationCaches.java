@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.messaging;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.ditto.connectivity.model.ConnectionId;
+import org.eclipse.ditto.connectivity.service.config.InboundDeduplicationConfig;
+
+import org.apache.pekko.actor.AbstractExtensionId;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.actor.ExtendedActorSystem;
+import org.apache.pekko.actor.Extension;
+
+/**
+ * Holds the {@link InboundDeduplicationCache}s of the connections whose client actors run on this node.
+ * The cache of a connection is shared by all its consumer actors and survives their restarts, e.g. on reconnects,
+ * as long as at least one client actor of the connection holds on to it.
+ */
+final class InboundDeduplicationCaches implements Extension {
+
+    private static final ExtensionId EXTENSION_ID = new ExtensionId();
+
+    private final Map<ConnectionId, Holder> holders;
+
+    private InboundDeduplicationCaches() {
+        holders = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Look up the inbound deduplication caches extension.
+     *
+     * @param system the actor system.
+     * @return the inbound deduplication caches of the actor system.
+     */
+    static InboundDeduplicationCaches get(final ActorSystem system) {
+        return EXTENSION_ID.get(system);
+    }
+
+    /**
+     * Acquires the cache of a connection on behalf of a client actor.
+     * The cache is created if no other client actor of the connection holds on to it.
+     *
+     * @param connectionId the ID of the connection.
+     * @param config the config to create the cache with.
+     */
+    void acquire(final ConnectionId connectionId, final InboundDeduplicationConfig config) {
+        holders.compute(connectionId, (id, holder) -> null == holder
+                ? new Holder(InboundDeduplicationCache.newInstance(config), 1)
+                : new Holder(holder.cache(), holder.references() + 1));
+    }
+
+    /**
+     * Releases the cache of a connection on behalf of a client actor.
+     * The cache is discarded once no client actor of the connection holds on to it anymore.
+     *
+     * @param connectionId the ID of the connection.
+     */
+    void release(final ConnectionId connectionId) {
+        holders.computeIfPresent(connectionId, (id, holder) -> 1 < holder.references()
+                ? new Holder(holder.cache(), holder.references() - 1)
+                : null);
+    }
+
+    /**
+     * Looks up the cache of a connection.
+     *
+     * @param connectionId the ID of the connection.
+     * @return the cache or an empty Optional if no client actor of the connection acquired it.
+     */
+    Optional<InboundDeduplicationCache> lookup(final ConnectionId connectionId) {
+        return Optional.ofNullable(holders.get(connectionId)).map(Holder::cache);
+    }
+
+    private record Holder(InboundDeduplicationCache cache, int references) {}
+
+    private static final class ExtensionId extends AbstractExtensionId<InboundDeduplicationCaches> {
+
+        private ExtensionId() {}
+
+        @Override
+        public InboundDeduplicationCaches createExtension(final ExtendedActorSystem system) {
+            return new InboundDeduplicationCaches();
+        }
+    }
+
+}
@@ -21,7 +21,9 @@ import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -49,6 +51,7 @@ import org.apache.pekko.stream.javadsl.Source;
 import org.eclipse.ditto.base.model.acks.AcknowledgementLabel;
 import org.eclipse.ditto.base.model.acks.AcknowledgementRequest;
 import org.eclipse.ditto.base.model.acks.DittoAcknowledgementLabel;
+import org.eclipse.ditto.base.model.auth.AuthorizationContext;
 import org.eclipse.ditto.base.model.common.HttpStatus;
 import org.eclipse.ditto.base.model.entity.id.EntityId;
 import org.eclipse.ditto.base.model.entity.id.WithEntityId;
@@ -410,11 +413,15 @@ public final class OutboundMappingProcessorActor
      * <li>
      * Targets with matching filtered topics without extra fields are grouped into 1 outbound signal, followed by
      * </li>
-     * <li>one outbound signal for each target with a matching filtered topic with extra fields.</li>
+     * <li>
+     * one outbound signal for each group of targets with matching filtered topics with the same extra fields, filter
+     * and authorization context.
+     * </li>
      * </ol>
-     * The matching filtered topic is attached in the latter case.
+     * The matching filtered topic of the first target of the group is attached in the latter case.
      * Consequently, for each outbound signal leaving this flow, if it has a filtered topic attached,
-     * then it has 1 unique target with a matching topic with extra fields.
+     * then all its targets are enriched and filtered alike and the signal is mapped once per payload mapping of the
+     * group instead of once per target.
      * This satisfies the precondition of {@code this#enrichAndFilterSignal}.
      *
      * @return the flow.
@@ -422,7 +429,7 @@ public final class OutboundMappingProcessorActor
     private static Flow<OutboundSignalWithSender, Pair<OutboundSignalWithSender, FilteredTopic>, NotUsed> splitByTargetExtraFieldsFlow() {
         return Flow.<OutboundSignalWithSender>create()
                 .mapConcat(outboundSignal -> {
-                    final Pair<List<Target>, List<Pair<Target, FilteredTopic>>> splitTargets =
+                    final Pair<List<Target>, List<Pair<List<Target>, FilteredTopic>>> splitTargets =
                             splitTargetsByExtraFields(outboundSignal);
 
                     final boolean shouldSendSignalWithoutExtraFields =
@@ -436,10 +443,9 @@ public final class OutboundMappingProcessorActor
 
                     final Stream<Pair<OutboundSignalWithSender, FilteredTopic>> outboundSignalWithExtraFields =
                             splitTargets.second().stream()
-                                    .map(targetAndSelector -> Pair.create(
-                                            outboundSignal.setTargets(
-                                                    Collections.singletonList(targetAndSelector.first())),
-                                            targetAndSelector.second()));
+                                    .map(targetsAndSelector -> Pair.create(
+                                            outboundSignal.setTargets(targetsAndSelector.first()),
+                                            targetsAndSelector.second()));
 
                     return Stream.concat(outboundSignalWithoutExtraFields, outboundSignalWithExtraFields).toList();
                 });
@@ -447,7 +453,8 @@ public final class OutboundMappingProcessorActor
 
 
     // Called inside stream; must be thread-safe
-    // precondition: whenever filteredTopic != null, it contains an extra fields
+    // precondition: whenever filteredTopic != null, it contains an extra fields and all targets share the extra
+    // fields, filter and authorization context
     private CompletionStage<Collection<OutboundSignalWithSender>> enrichAndFilterSignal(
             final Pair<OutboundSignalWithSender, FilteredTopic> outboundSignalWithExtraFields) {
 
@@ -460,7 +467,8 @@ public final class OutboundMappingProcessorActor
             return CompletableFuture.completedFuture(Collections.singletonList(outboundSignal));
         }
         final JsonFieldSelector extraFields = extraFieldsOptional.get();
-        final Target target = outboundSignal.getTargets().get(0);
+        final List<Target> targets = outboundSignal.getTargets();
+        final Target target = targets.get(0);
 
 
         final DittoHeaders headers = DittoHeaders.newBuilder()
@@ -489,7 +497,7 @@ public final class OutboundMappingProcessorActor
                             .warning("Could not retrieve extra data due to: {} {}", error.getClass().getSimpleName(),
                                     error.getMessage());
                     // recover from all errors to keep message-mapping-stream running despite enrichment failures
-                    return recoverFromEnrichmentError(outboundSignal, target, error);
+                    return recoverFromEnrichmentError(outboundSignal, targets, error);
                 });
     }
 
@@ -518,7 +526,7 @@ public final class OutboundMappingProcessorActor
 
     // Called inside future; must be thread-safe
     private List<OutboundSignalWithSender> recoverFromEnrichmentError(final OutboundSignalWithSender outboundSignal,
-            final Target target, final Throwable error) {
+            final List<Target> targets, final Throwable error) {
 
         final var dittoRuntimeException = DittoRuntimeException.asDittoRuntimeException(error, t ->
                 SignalEnrichmentFailedException.newBuilder()
@@ -544,9 +552,9 @@ public final class OutboundMappingProcessorActor
             clientActor.tell(connectionFailure, getSelf());
         }
         if (mappingConfig.getPublishFailedEnrichments()) {
-            return Collections.singletonList(outboundSignal.setTargets(Collections.singletonList(target)));
+            return Collections.singletonList(outboundSignal.setTargets(targets));
         } else {
-            return Collections.singletonList(outboundSignal.setFailedEnrichment(dittoRuntimeException, target));
+            return Collections.singletonList(outboundSignal.setFailedEnrichment(dittoRuntimeException, targets));
         }
     }
 
@@ -767,12 +775,15 @@ public final class OutboundMappingProcessorActor
 
         return signals.stream().filter(signal -> {
             if (null != signal.enrichmentFailure) {
-                final var optionalAcknowledgementLabel = signal.getTargets()
-                        .get(signal.getTargets().indexOf(signal.enrichmentFailure.second()))
-                        .getIssuedAcknowledgementLabel();
-                if (optionalAcknowledgementLabel.isPresent()) {
+                final Set<AcknowledgementLabel> failedTargetsAcknowledgementLabels =
+                        signal.enrichmentFailure.second()
+                                .stream()
+                                .map(Target::getIssuedAcknowledgementLabel)
+                                .flatMap(Optional::stream)
+                                .collect(Collectors.toSet());
+                if (!failedTargetsAcknowledgementLabels.isEmpty()) {
                     final Predicate<AcknowledgementLabel> perTargetPredicate =
-                            optionalAcknowledgementLabel.get()::equals;
+                            failedTargetsAcknowledgementLabels::contains;
                     final var combinedPredicate = predicate.and(perTargetPredicate);
                     issueFailedAcknowledgements(signal.getSource(), combinedPredicate, signal.enrichmentFailure.first(),
                             context, logger);
@@ -849,9 +860,10 @@ public final class OutboundMappingProcessorActor
      *
      * @param outboundSignal The outbound signal.
      * @return A pair of lists. The first list contains targets without matching extra fields.
-     * The second list contains targets together with their extra fields matching the outbound signal.
+     * The second list contains groups of targets together with the extra fields matching the outbound signal; the
+     * targets of a group share extra fields, filter and authorization context so that they are enriched only once.
      */
-    private static Pair<List<Target>, List<Pair<Target, FilteredTopic>>> splitTargetsByExtraFields(
+    private static Pair<List<Target>, List<Pair<List<Target>, FilteredTopic>>> splitTargetsByExtraFields(
             final OutboundSignal outboundSignal) {
 
         final Optional<StreamingType> streamingTypeOptional = StreamingType.fromSignal(outboundSignal.getSource());
@@ -859,8 +871,8 @@ public final class OutboundMappingProcessorActor
             // Find targets with a matching topic with extra fields
             final StreamingType streamingType = streamingTypeOptional.get();
             final List<Target> targetsWithoutExtraFields = new ArrayList<>(outboundSignal.getTargets().size());
-            final List<Pair<Target, FilteredTopic>> targetsWithExtraFields =
-                    new ArrayList<>(outboundSignal.getTargets().size());
+            final Map<EnrichmentGroupKey, Pair<List<Target>, FilteredTopic>> targetsWithExtraFields =
+                    new LinkedHashMap<>();
             for (final Target target : outboundSignal.getTargets()) {
                 final Optional<FilteredTopic> matchingExtraFields = target.getTopics()
                         .stream()
@@ -868,12 +880,16 @@ public final class OutboundMappingProcessorActor
                                 streamingType == StreamingType.fromTopic(filteredTopic.getTopic().getPubSubTopic()))
                         .findAny();
                 if (matchingExtraFields.isPresent()) {
-                    targetsWithExtraFields.add(Pair.create(target, matchingExtraFields.get()));
+                    final FilteredTopic filteredTopic = matchingExtraFields.get();
+                    targetsWithExtraFields.computeIfAbsent(EnrichmentGroupKey.of(target, filteredTopic),
+                                    key -> Pair.create(new ArrayList<>(), filteredTopic))
+                            .first()
+                            .add(target);
                 } else {
                     targetsWithoutExtraFields.add(target);
                 }
             }
-            return Pair.create(targetsWithoutExtraFields, targetsWithExtraFields);
+            return Pair.create(targetsWithoutExtraFields, new ArrayList<>(targetsWithExtraFields.values()));
         } else {
             // The outbound signal has no streaming type: Do not attach extra fields.
             return Pair.create(outboundSignal.getTargets(), Collections.emptyList());
@@ -906,19 +922,34 @@ public final class OutboundMappingProcessorActor
         return Acknowledgement.of(label, entityId, dre.getHttpStatus(), dittoHeaders, payload);
     }
 
+    /**
+     * Key of targets which are enriched and filtered alike: the enrichment is retrieved with the authorization
+     * context of the target and the filter is evaluated again on the enriched thing.
+     */
+    private record EnrichmentGroupKey(AuthorizationContext authorizationContext,
+                                      @Nullable JsonFieldSelector extraFields,
+                                      @Nullable String filter) {
+
+        private static EnrichmentGroupKey of(final Target target, final FilteredTopic filteredTopic) {
+            return new EnrichmentGroupKey(target.getAuthorizationContext(),
+                    filteredTopic.getExtraFields().orElse(null),
+                    filteredTopic.getFilter().orElse(null));
+        }
+    }
+
     static final class OutboundSignalWithSender implements OutboundSignal {
 
         private final OutboundSignal delegate;
         private final ActorRef sender;
 
         @Nullable
-        private final Pair<DittoRuntimeException, Target> enrichmentFailure;
+        private final Pair<DittoRuntimeException, List<Target>> enrichmentFailure;
         @Nullable
         private final JsonObject extra;
 
         private OutboundSignalWithSender(final OutboundSignal delegate,
                 final ActorRef sender,
-                @Nullable final Pair<DittoRuntimeException, Target> enrichmentFailure,
+                @Nullable final Pair<DittoRuntimeException, List<Target>> enrichmentFailure,
                 @Nullable final JsonObject extra) {
 
             this.delegate = delegate;
@@ -962,8 +993,8 @@ public final class OutboundMappingProcessorActor
                     sender, enrichmentFailure, extra);
         }
 
-        // Also set target, because enrichment can fail per target.
-        private OutboundSignalWithSender setFailedEnrichment(final DittoRuntimeException e, final Target t) {
+        // Also set targets, because enrichment can fail per group of targets.
+        private OutboundSignalWithSender setFailedEnrichment(final DittoRuntimeException e, final List<Target> t) {
             return new OutboundSignalWithSender(
                     OutboundSignalFactory.newOutboundSignal(delegate.getSource(), getTargets()),
                     sender, Pair.apply(e, t), extra);
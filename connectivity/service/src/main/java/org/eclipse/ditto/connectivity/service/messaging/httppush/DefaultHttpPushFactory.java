@@ -15,6 +15,8 @@ package org.eclipse.ditto.connectivity.service.messaging.httppush;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.BiConsumer;
 import java.util.function.Supplier;
@@ -32,9 +34,12 @@ import org.eclipse.ditto.connectivity.service.messaging.monitoring.ConnectionMon
 import org.eclipse.ditto.connectivity.service.messaging.monitoring.logs.ConnectionLogger;
 import org.eclipse.ditto.connectivity.service.messaging.tunnel.SshTunnelState;
 import org.eclipse.ditto.internal.utils.pekko.controlflow.TimeoutFlow;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.gauge.Gauge;
 import org.eclipse.ditto.internal.utils.metrics.instruments.timer.PreparedTimer;
 import org.eclipse.ditto.internal.utils.metrics.instruments.timer.StartedTimer;
 
+import org.apache.pekko.NotUsed;
 import org.apache.pekko.actor.ActorSystem;
 import org.apache.pekko.event.LoggingAdapter;
 import org.apache.pekko.http.javadsl.ClientTransport;
@@ -42,16 +47,26 @@ import org.apache.pekko.http.javadsl.ConnectHttp;
 import org.apache.pekko.http.javadsl.ConnectionContext;
 import org.apache.pekko.http.javadsl.Http;
 import org.apache.pekko.http.javadsl.HttpsConnectionContext;
+import org.apache.pekko.http.javadsl.OutgoingConnectionBuilder;
+import org.apache.pekko.http.javadsl.model.AttributeKey;
 import org.apache.pekko.http.javadsl.model.HttpRequest;
 import org.apache.pekko.http.javadsl.model.HttpResponse;
+import org.apache.pekko.http.javadsl.model.RequestResponseAssociation;
 import org.apache.pekko.http.javadsl.model.Uri;
 import org.apache.pekko.http.javadsl.model.headers.HttpCredentials;
 import org.apache.pekko.http.javadsl.settings.ClientConnectionSettings;
 import org.apache.pekko.http.javadsl.settings.ConnectionPoolSettings;
 import org.apache.pekko.http.javadsl.settings.ParserSettings;
 import org.apache.pekko.japi.Pair;
+import org.apache.pekko.stream.Materializer;
+import org.apache.pekko.stream.OverflowStrategy;
+import org.apache.pekko.stream.QueueOfferResult;
 import org.apache.pekko.stream.javadsl.Flow;
+import org.apache.pekko.stream.javadsl.Sink;
+import org.apache.pekko.stream.javadsl.Source;
+import org.apache.pekko.stream.javadsl.SourceQueueWithComplete;
 import scala.util.Failure;
+import scala.util.Success;
 import scala.util.Try;
 
 /**
@@ -66,8 +81,12 @@ final class DefaultHttpPushFactory implements HttpPushFactory {
      */
     private static final String DISPATCHER_NAME = "http-push-connection-dispatcher";
 
+    private static final String IN_FLIGHT_GAUGE_NAME = "http_publish_in_flight_requests";
+
     private final Connection connection;
     private final int parallelism;
+    private final boolean http2;
+    private final int pipeliningLimit;
     private final Supplier<SshTunnelState> tunnelConfigSupplier;
 
     @Nullable
@@ -76,11 +95,13 @@ final class DefaultHttpPushFactory implements HttpPushFactory {
     @Nullable
     private final HttpsConnectionContext httpsConnectionContext;
 
-    private DefaultHttpPushFactory(final Connection connection, final int parallelism,
+    private DefaultHttpPushFactory(final Connection connection, final HttpPushSpecificConfig httpPushSpecificConfig,
             final HttpPushConfig httpPushConfig, @Nullable final HttpsConnectionContext httpsConnectionContext,
             final Supplier<SshTunnelState> tunnelConfigSupplier) {
         this.connection = connection;
-        this.parallelism = parallelism;
+        parallelism = parseParallelism(httpPushSpecificConfig);
+        http2 = httpPushSpecificConfig.isHttp2();
+        pipeliningLimit = httpPushSpecificConfig.pipeliningLimit();
         this.tunnelConfigSupplier = tunnelConfigSupplier;
         if (!httpPushConfig.getHttpProxyConfig().isEnabled()) {
             clientTransport = null;
@@ -95,7 +116,6 @@ final class DefaultHttpPushFactory implements HttpPushFactory {
 
         final Uri baseUri = Uri.create(connection.getUri());
         final var httpPushSpecificConfig = HttpPushSpecificConfig.fromConnection(connection, httpPushConfig);
-        final int parallelism = parseParallelism(httpPushSpecificConfig);
 
         final HttpsConnectionContext httpsConnectionContext;
         if (HttpPushValidator.isSecureScheme(baseUri.getScheme())) {
@@ -118,7 +138,7 @@ final class DefaultHttpPushFactory implements HttpPushFactory {
             httpsConnectionContext = null;
         }
 
-        return new DefaultHttpPushFactory(connection, parallelism, httpPushConfig, httpsConnectionContext,
+        return new DefaultHttpPushFactory(connection, httpPushSpecificConfig, httpPushConfig, httpsConnectionContext,
                 tunnelConfigSupplier);
     }
 
@@ -180,6 +200,12 @@ final class DefaultHttpPushFactory implements HttpPushFactory {
             @Nullable final PreparedTimer timer,
             @Nullable final BiConsumer<Duration, ConnectionMonitor.InfoProvider> durationConsumer) {
 
+        final Gauge inFlightGauge = DittoMetrics.gauge(IN_FLIGHT_GAUGE_NAME)
+                .tag("id", connection.getId().toString());
+        if (http2) {
+            return createHttp2Flow(system, log, requestTimeout, timer, durationConsumer, inFlightGauge);
+        }
+
         final Http http = Http.get(system);
         final ConnectionPoolSettings poolSettings = getConnectionPoolSettings(system);
         final Flow<Pair<HttpRequest, HttpPushContext>, Pair<Try<HttpResponse>, HttpPushContext>, ?> flow;
@@ -198,8 +224,10 @@ final class DefaultHttpPushFactory implements HttpPushFactory {
         // make requests in parallel
         return Flow.<Pair<HttpRequest, HttpPushContext>>create().flatMapMerge(parallelism, request -> {
             final var startedTimer = timer != null ? timer.start() : null;
+            inFlightGauge.increment();
             return TimeoutFlow.single(request, flow, requestTimeout, DefaultHttpPushFactory::onRequestTimeout)
                     .map(pair -> {
+                        inFlightGauge.decrement();
                         stopTimer(startedTimer, durationConsumer, pair.second().getInfoProvider(), log);
                         return pair;
                     })
@@ -207,6 +235,93 @@ final class DefaultHttpPushFactory implements HttpPushFactory {
         });
     }
 
+    /**
+     * Creates a flow which multiplexes up to {@code parallelism} requests as HTTP/2 streams over one connection.
+     * The connection is established once per materialization and re-established on failure.
+     * As responses may arrive in any order, each request carries the future of its response as attribute which
+     * Pekko HTTP transfers to the matching response.
+     */
+    private Flow<Pair<HttpRequest, HttpPushContext>, Pair<Try<HttpResponse>, HttpPushContext>, ?> createHttp2Flow(
+            final ActorSystem system,
+            final LoggingAdapter log,
+            final Duration requestTimeout,
+            @Nullable final PreparedTimer timer,
+            @Nullable final BiConsumer<Duration, ConnectionMonitor.InfoProvider> durationConsumer,
+            final Gauge inFlightGauge) {
+
+        return Flow.fromMaterializer((materializer, attributes) -> {
+            final SourceQueueWithComplete<HttpRequest> connectionQueue =
+                    Source.<HttpRequest>queue(parallelism, OverflowStrategy.dropNew())
+                            .via(newHttp2ConnectionFlow(system, log))
+                            .to(Sink.foreach(response -> completeHttp2Response(response, materializer)))
+                            .run(materializer);
+
+            return Flow.<Pair<HttpRequest, HttpPushContext>>create()
+                    .mapAsyncUnordered(parallelism, pair -> {
+                        final var startedTimer = timer != null ? timer.start() : null;
+                        inFlightGauge.increment();
+                        final var responseFuture = new Http2ResponseFuture(new CompletableFuture<>());
+                        connectionQueue.offer(pair.first().addAttribute(Http2ResponseFuture.KEY, responseFuture))
+                                .whenComplete((queueOfferResult, error) -> {
+                                    if (null != error) {
+                                        responseFuture.future().completeExceptionally(error);
+                                    } else if (!QueueOfferResult.enqueued().equals(queueOfferResult)) {
+                                        responseFuture.future().completeExceptionally(new IllegalStateException(
+                                                "HTTP/2 request was not enqueued: " + queueOfferResult));
+                                    }
+                                });
+                        return responseFuture.future()
+                                .orTimeout(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                                .handle((response, error) -> {
+                                    inFlightGauge.decrement();
+                                    stopTimer(startedTimer, durationConsumer, pair.second().getInfoProvider(), log);
+                                    if (error instanceof TimeoutException) {
+                                        return onRequestTimeout(pair);
+                                    }
+                                    final Try<HttpResponse> result =
+                                            null == error ? new Success<>(response) : new Failure<>(error);
+                                    return Pair.create(result, pair.second());
+                                });
+                    })
+                    .watchTermination((notUsed, done) -> {
+                        done.whenComplete((unused, error) -> connectionQueue.complete());
+                        return notUsed;
+                    });
+        });
+    }
+
+    private Flow<HttpRequest, HttpResponse, NotUsed> newHttp2ConnectionFlow(final ActorSystem system,
+            final LoggingAdapter log) {
+
+        final Uri baseUri = getBaseUri();
+        final ClientConnectionSettings connectionSettings = clientTransport == null
+                ? ClientConnectionSettings.create(system)
+                : ClientConnectionSettings.create(system).withTransport(clientTransport);
+        final OutgoingConnectionBuilder connectionBuilder = Http.get(system)
+                .connectionTo(baseUri.host().address())
+                .toPort(baseUri.port())
+                .withClientConnectionSettings(connectionSettings)
+                .logTo(log);
+        if (null != httpsConnectionContext) {
+            // HTTP/2 is negotiated via ALPN during the TLS handshake
+            return connectionBuilder.withCustomHttpsConnectionContext(httpsConnectionContext)
+                    .managedPersistentHttp2();
+        } else {
+            // no TLS, hence the endpoint has to accept HTTP/2 without upgrade ("h2c" with prior knowledge)
+            return connectionBuilder.managedPersistentHttp2WithPriorKnowledge();
+        }
+    }
+
+    private static void completeHttp2Response(final HttpResponse response, final Materializer materializer) {
+        final boolean completed = response.getAttribute(Http2ResponseFuture.KEY)
+                .map(responseFuture -> responseFuture.future().complete(response))
+                .orElse(false);
+        if (!completed) {
+            // the request already timed out
+            response.discardEntityBytes(materializer);
+        }
+    }
+
     private void stopTimer(@Nullable final StartedTimer startedTimer,
             @Nullable final BiConsumer<Duration, ConnectionMonitor.InfoProvider> durationConsumer,
             final ConnectionMonitor.InfoProvider infoProvider,
@@ -225,8 +340,9 @@ final class DefaultHttpPushFactory implements HttpPushFactory {
     }
 
     private ConnectionPoolSettings getConnectionPoolSettings(final ActorSystem system) {
-        final ConnectionPoolSettings settings =
-                disambiguateByConnectionId(system, connection.getId()).withMaxConnections(parallelism);
+        final ConnectionPoolSettings settings = disambiguateByConnectionId(system, connection.getId())
+                .withMaxConnections(parallelism)
+                .withPipeliningLimit(pipeliningLimit);
         return clientTransport == null
                 ? settings
                 : settings.withTransport(clientTransport);
@@ -269,4 +385,14 @@ final class DefaultHttpPushFactory implements HttpPushFactory {
         return parallelism == 1 ? 1 : Integer.highestOneBit(parallelism - 1) * 2;
     }
 
+    /**
+     * The future of the response to an HTTP/2 request, carried over from the request to its response.
+     */
+    private record Http2ResponseFuture(CompletableFuture<HttpResponse> future) implements RequestResponseAssociation {
+
+        private static final AttributeKey<Http2ResponseFuture> KEY =
+                AttributeKey.create("ditto-http-push-response-future", Http2ResponseFuture.class);
+
+    }
+
 }
@@ -37,6 +37,11 @@ public final class HttpPushSpecificConfig {
     static final String IDLE_TIMEOUT = "idleTimeout";
     static final String PARALLELISM = "parallelism";
     static final String OMIT_REQUEST_BODY = "omitRequestBody";
+    static final String HTTP_VERSION = "httpVersion";
+    static final String PIPELINING_LIMIT = "pipeliningLimit";
+
+    static final String HTTP_VERSION_1_1 = "1.1";
+    static final String HTTP_VERSION_2 = "2";
 
     private final Config specificConfig;
 
@@ -65,6 +70,8 @@ public final class HttpPushSpecificConfig {
         defaultMap.put(IDLE_TIMEOUT, httpConfig.getRequestTimeout());
         defaultMap.put(PARALLELISM, 1);
         defaultMap.put(OMIT_REQUEST_BODY, httpConfig.getOmitRequestBodyMethods());
+        defaultMap.put(HTTP_VERSION, HTTP_VERSION_1_1);
+        defaultMap.put(PIPELINING_LIMIT, 1);
 
         return defaultMap;
     }
@@ -98,6 +105,27 @@ public final class HttpPushSpecificConfig {
         }
     }
 
+    /**
+     * @return the HTTP version used to publish, either {@value #HTTP_VERSION_1_1} or {@value #HTTP_VERSION_2}.
+     */
+    public String httpVersion() {
+        return specificConfig.getString(HTTP_VERSION);
+    }
+
+    /**
+     * @return whether requests are multiplexed as HTTP/2 streams over a single connection.
+     */
+    public boolean isHttp2() {
+        return HTTP_VERSION_2.equals(httpVersion());
+    }
+
+    /**
+     * @return the maximum number of requests sent over one HTTP/1.1 connection before the first response arrived.
+     */
+    public Integer pipeliningLimit() {
+        return specificConfig.getInt(PIPELINING_LIMIT);
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
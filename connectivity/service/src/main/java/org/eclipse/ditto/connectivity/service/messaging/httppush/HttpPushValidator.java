@@ -163,6 +163,8 @@ public final class HttpPushValidator extends AbstractProtocolValidator {
         validateIdleTimeout(httpPushSpecificConfig.idleTimeout(), dittoHeaders);
         validateParallelism(httpPushSpecificConfig.parallelism(), dittoHeaders);
         validateOmitBodyMethods(httpPushSpecificConfig.omitRequestBody(), dittoHeaders);
+        validateHttpVersion(httpPushSpecificConfig.httpVersion(), dittoHeaders);
+        validatePipeliningLimit(httpPushSpecificConfig.pipeliningLimit(), dittoHeaders);
     }
 
     private static void validateIdleTimeout(final Duration idleTimeout, final DittoHeaders dittoHeaders) {
@@ -186,6 +188,33 @@ public final class HttpPushValidator extends AbstractProtocolValidator {
         }
     }
 
+    private static void validateHttpVersion(final String httpVersion, final DittoHeaders dittoHeaders) {
+        if (!HttpPushSpecificConfig.HTTP_VERSION_1_1.equals(httpVersion) &&
+                !HttpPushSpecificConfig.HTTP_VERSION_2.equals(httpVersion)) {
+            final String errorMessage = String.format("The configured value '%s' of '%s' is invalid. " +
+                            "It must be either '%s' or '%s'.",
+                    httpVersion,
+                    HttpPushSpecificConfig.HTTP_VERSION,
+                    HttpPushSpecificConfig.HTTP_VERSION_1_1,
+                    HttpPushSpecificConfig.HTTP_VERSION_2);
+            throw ConnectionConfigurationInvalidException.newBuilder(errorMessage)
+                    .dittoHeaders(dittoHeaders)
+                    .build();
+        }
+    }
+
+    private static void validatePipeliningLimit(final int pipeliningLimit, final DittoHeaders dittoHeaders) {
+        if (pipeliningLimit <= 0) {
+            final String errorMessage = String.format("The configured value '%s' of '%s' is invalid. " +
+                            "It must be a positive integer.",
+                    pipeliningLimit,
+                    HttpPushSpecificConfig.PIPELINING_LIMIT);
+            throw ConnectionConfigurationInvalidException.newBuilder(errorMessage)
+                    .dittoHeaders(dittoHeaders)
+                    .build();
+        }
+    }
+
     private static void validateOmitBodyMethods(final List<String> omitBodyMethods,
             final DittoHeaders dittoHeaders) {
 
@@ -16,6 +16,9 @@ import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -320,8 +323,7 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
                  b) The client count of this connection is not configured high enough.""";
 
         private final KillSwitch killSwitch;
-        private final SourceQueueWithComplete<ProducerMessage.Envelope<String, ByteBuffer, CompletableFuture<RecordMetadata>>>
-                sourceQueue;
+        private final SourceQueueWithComplete<PendingRecord> sourceQueue;
         private final AtomicReference<SendProducer<String, ByteBuffer>> sendProducer = new AtomicReference<>();
 
         private KafkaProducerStream(final KafkaProducerConfig config, final Materializer materializer,
@@ -331,13 +333,12 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
                     RestartSettings.create(config.getMinBackoff(), config.getMaxBackoff(), config.getRandomFactor())
                             .withMaxRestarts(config.getMaxRestartsCount(), config.getMaxRestartsWithin());
 
-            final Pair<SourceQueueWithComplete<ProducerMessage.Envelope<String, ByteBuffer, CompletableFuture<RecordMetadata>>>, Source<ProducerMessage.Envelope<String, ByteBuffer, CompletableFuture<RecordMetadata>>, NotUsed>>
-                    sourcePair =
-                    Source.<ProducerMessage.Envelope<String, ByteBuffer, CompletableFuture<RecordMetadata>>>
-                            queue(config.getQueueSize(), OverflowStrategy.dropNew()).preMaterialize(materializer);
+            final Pair<SourceQueueWithComplete<PendingRecord>, Source<PendingRecord, NotUsed>> sourcePair =
+                    Source.<PendingRecord>queue(config.getQueueSize(), OverflowStrategy.dropNew())
+                            .preMaterialize(materializer);
 
             sourceQueue = sourcePair.first();
-            killSwitch = sourcePair.second()
+            killSwitch = toEnvelopes(sourcePair.second(), config)
                     .via(RestartFlow.onFailuresWithBackoff(restartSettings, () -> {
                         logger.debug("Creating new kafka publish flow.");
                         Optional.ofNullable(sendProducer.getAndSet(producerFactory.newSendProducer()))
@@ -353,24 +354,71 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
                     .run(materializer);
         }
 
+        private static Source<ProducerMessage.Envelope<String, ByteBuffer, List<CompletableFuture<RecordMetadata>>>, NotUsed> toEnvelopes(
+                final Source<PendingRecord, NotUsed> pendingRecords, final KafkaProducerConfig config) {
+
+            if (config.getBatchSize() > 1) {
+                return pendingRecords.groupedWithin(config.getBatchSize(), config.getBatchLinger())
+                        .mapConcat(KafkaProducerStream::toPartitionBatches);
+            } else {
+                return pendingRecords.map(pendingRecord -> toEnvelope(List.of(pendingRecord)));
+            }
+        }
+
+        /**
+         * Groups the records of one batch by topic, partition and key while preserving their order.
+         * Records with the same key are thus still sent in the order in which they were published.
+         */
+        private static List<ProducerMessage.Envelope<String, ByteBuffer, List<CompletableFuture<RecordMetadata>>>> toPartitionBatches(
+                final List<PendingRecord> batch) {
+
+            final Map<PartitionKey, List<PendingRecord>> recordsPerPartitionKey = batch.stream()
+                    .collect(Collectors.groupingBy(pendingRecord -> PartitionKey.of(pendingRecord.record()),
+                            LinkedHashMap::new, Collectors.toList()));
+
+            return recordsPerPartitionKey.values()
+                    .stream()
+                    .map(KafkaProducerStream::toEnvelope)
+                    .toList();
+        }
+
+        private static ProducerMessage.Envelope<String, ByteBuffer, List<CompletableFuture<RecordMetadata>>> toEnvelope(
+                final List<PendingRecord> pendingRecords) {
+
+            final List<CompletableFuture<RecordMetadata>> resultFutures =
+                    pendingRecords.stream().map(PendingRecord::resultFuture).toList();
+            if (pendingRecords.size() == 1) {
+                return ProducerMessage.single(pendingRecords.get(0).record(), resultFutures);
+            }
+            return ProducerMessage.multi(pendingRecords.stream().map(PendingRecord::record).toList(),
+                    resultFutures);
+        }
+
         private void handleSendResult(
-                @Nullable final ProducerMessage.Results<String, ByteBuffer, CompletableFuture<RecordMetadata>> results,
-                @Nullable final Throwable exception, final CompletableFuture<RecordMetadata> resultFuture) {
+                @Nullable final ProducerMessage.Results<String, ByteBuffer, List<CompletableFuture<RecordMetadata>>> results,
+                @Nullable final Throwable exception, final List<CompletableFuture<RecordMetadata>> resultFutures) {
             if (exception == null) {
                 if (results instanceof ProducerMessage.Result) {
-                    final ProducerMessage.Result<String, ByteBuffer, CompletableFuture<RecordMetadata>> result =
-                            (ProducerMessage.Result<String, ByteBuffer, CompletableFuture<RecordMetadata>>) results;
-                    resultFuture.complete(result.metadata());
+                    final ProducerMessage.Result<String, ByteBuffer, List<CompletableFuture<RecordMetadata>>> result =
+                            (ProducerMessage.Result<String, ByteBuffer, List<CompletableFuture<RecordMetadata>>>) results;
+                    resultFutures.get(0).complete(result.metadata());
+                } else if (results instanceof ProducerMessage.MultiResult) {
+                    final ProducerMessage.MultiResult<String, ByteBuffer, List<CompletableFuture<RecordMetadata>>>
+                            multiResult =
+                            (ProducerMessage.MultiResult<String, ByteBuffer, List<CompletableFuture<RecordMetadata>>>) results;
+                    // the parts are in the same order as the records of the sent envelope
+                    final Iterator<CompletableFuture<RecordMetadata>> resultFutureIterator = resultFutures.iterator();
+                    multiResult.getParts().forEach(part -> resultFutureIterator.next().complete(part.metadata()));
                 } else {
-                    // should never happen, we provide only ProducerMessage.single to the source
-                    logger.warning("Received multipart result, ignoring: {}", results);
-                    resultFuture.completeExceptionally(
-                            new IllegalArgumentException("Received unexpected multipart result."));
+                    // should never happen, we provide only ProducerMessage.single and ProducerMessage.multi
+                    logger.warning("Received unexpected result, ignoring: {}", results);
+                    resultFutures.forEach(resultFuture -> resultFuture.completeExceptionally(
+                            new IllegalArgumentException("Received unexpected result.")));
                 }
             } else {
-                logger.debug("Failed to send kafka record: [{}] {}", exception.getClass().getName(),
-                        exception.getMessage());
-                resultFuture.completeExceptionally(exception);
+                logger.debug("Failed to send <{}> kafka record(s): [{}] {}", resultFutures.size(),
+                        exception.getClass().getName(), exception.getMessage());
+                resultFutures.forEach(resultFuture -> resultFuture.completeExceptionally(exception));
                 escalate(exception, ConnectionFailure.determineFailureDescription(Instant.now(),
                         exception, "Broker may not be available."));
             }
@@ -381,10 +429,9 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
 
             final CompletableFuture<RecordMetadata> resultFuture = new CompletableFuture<>();
             final ProducerRecord<String, ByteBuffer> producerRecord = getProducerRecord(publishTarget, externalMessage);
-            final ProducerMessage.Envelope<String, ByteBuffer, CompletableFuture<RecordMetadata>> envelope =
-                    ProducerMessage.single(producerRecord, resultFuture);
             if (null != sourceQueue) {
-                sourceQueue.offer(envelope).whenComplete(handleQueueOfferResult(externalMessage, resultFuture));
+                sourceQueue.offer(new PendingRecord(producerRecord, resultFuture))
+                        .whenComplete(handleQueueOfferResult(externalMessage, resultFuture));
             } else {
                 final IllegalStateException ex = new IllegalStateException("Publisher not initialized");
                 logger.error(ex, ex.getMessage());
@@ -457,4 +504,21 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
 
     }
 
+    /**
+     * A record waiting in the queue of the producer stream together with the future to complete once it was sent.
+     */
+    private record PendingRecord(ProducerRecord<String, ByteBuffer> record,
+                                 CompletableFuture<RecordMetadata> resultFuture) {}
+
+    /**
+     * Identifies the records which may be sent together without changing the order of records with the same key.
+     */
+    private record PartitionKey(String topic, @Nullable Integer partition, @Nullable String key) {
+
+        private static PartitionKey of(final ProducerRecord<String, ByteBuffer> record) {
+            return new PartitionKey(record.topic(), record.partition(), record.key());
+        }
+
+    }
+
 }
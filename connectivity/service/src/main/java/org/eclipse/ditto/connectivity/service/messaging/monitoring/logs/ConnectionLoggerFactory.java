@@ -101,6 +101,7 @@ final class ConnectionLoggerFactory {
      * as connection static context information.
      *
      * @param fluencyForwarder the fluency forwarder for the logger.
+     * @param emitter the emitter which emits the logs to the fluency forwarder in the background.
      * @param waitUntilAllBufferFlushedDurationOnClose the duration of how long to wait after closing the Fluency buffer.
      * @param logLevels the log levels which should be included when publishing logs.
      * @param logHeadersAndPayload whether to also include headers and payload information in published logs.
@@ -109,14 +110,15 @@ final class ConnectionLoggerFactory {
      * @return a new fluent publishing connection logger context.
      */
     static FluentPublishingConnectionLoggerContext newPublishingLoggerContext(final Fluency fluencyForwarder,
+            final FluentLogEmitter emitter,
             final Duration waitUntilAllBufferFlushedDurationOnClose,
             final Collection<LogLevel> logLevels,
             final boolean logHeadersAndPayload,
             @Nullable final CharSequence logTag,
             final Map<String, Object> additionalLogContext) {
 
-        return new FluentPublishingConnectionLoggerContext(fluencyForwarder, waitUntilAllBufferFlushedDurationOnClose,
-                logLevels, logHeadersAndPayload, logTag, additionalLogContext);
+        return new FluentPublishingConnectionLoggerContext(fluencyForwarder, emitter,
+                waitUntilAllBufferFlushedDurationOnClose, logLevels, logHeadersAndPayload, logTag, additionalLogContext);
     }
 
     /**
@@ -135,7 +137,7 @@ final class ConnectionLoggerFactory {
             final FluentPublishingConnectionLoggerContext context) {
 
         final FluentPublishingConnectionLogger.Builder builder = FluentPublishingConnectionLogger
-                .newBuilder(connectionId, logCategory, logType, context.getFluencyForwarder(),
+                .newBuilder(connectionId, logCategory, logType, context.getFluencyForwarder(), context.getEmitter(),
                         context.getWaitUntilAllBufferFlushedDurationOnClose()
                 )
                         .withAddress(address)
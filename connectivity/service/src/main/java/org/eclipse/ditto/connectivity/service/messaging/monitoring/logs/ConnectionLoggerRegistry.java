@@ -93,6 +93,7 @@ public final class ConnectionLoggerRegistry implements ConnectionMonitorRegistry
             final FluencyLoggerPublisherConfig fluencyConfig = loggerPublisherConfig.getFluencyLoggerPublisherConfig();
             final Fluency fluency = fluencyConfig.buildFluencyLoggerPublisher();
             fluentPublishingConnectionLoggerContext = ConnectionLoggerFactory.newPublishingLoggerContext(fluency,
+                    FluentLogEmitter.newInstance(fluencyConfig.getEmitQueueSize()),
                     fluencyConfig.getWaitUntilAllBufferFlushedDurationOnClose(),
                     loggerPublisherConfig.getLogLevels(),
                     loggerPublisherConfig.isLogHeadersAndPayload(),
@@ -18,6 +18,7 @@ import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 
 import javax.annotation.Nullable;
@@ -40,14 +41,14 @@ final class EvictingConnectionLogger extends AbstractConnectionLogger<EvictingCo
 
     private static final DittoLogger LOGGER = DittoLoggerFactory.getLogger(EvictingConnectionLogger.class);
 
-    private final EvictingQueue<LogEntry> successLogs;
-    private final EvictingQueue<LogEntry> failureLogs;
+    private final LogEntryRing successLogs;
+    private final LogEntryRing failureLogs;
 
     private EvictingConnectionLogger(final Builder builder) {
         super(builder);
 
-        successLogs = DefaultEvictingQueue.withCapacity(builder.successCapacity);
-        failureLogs = DefaultEvictingQueue.withCapacity(builder.failureCapacity);
+        successLogs = LogEntryRing.withCapacity(builder.successCapacity);
+        failureLogs = LogEntryRing.withCapacity(builder.failureCapacity);
 
         LOGGER.trace("Successfully built new EvictingConnectionLogger: {}", this);
     }
@@ -167,9 +168,9 @@ final class EvictingConnectionLogger extends AbstractConnectionLogger<EvictingCo
 
     @Override
     public Collection<LogEntry> getLogs() {
-        final Collection<LogEntry> logs = new ArrayList<>(successLogs.size() + failureLogs.size());
-        logs.addAll(successLogs);
-        logs.addAll(failureLogs);
+        final List<LogEntry> logs = new ArrayList<>(successLogs.size() + failureLogs.size());
+        successLogs.copyTo(logs);
+        failureLogs.copyTo(logs);
 
         LOGGER.trace("Returning logs: {}", logs);
         return logs;
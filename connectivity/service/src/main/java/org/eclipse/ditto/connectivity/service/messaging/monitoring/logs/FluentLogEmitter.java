@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.messaging.monitoring.logs;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.internal.utils.pekko.logging.DittoLoggerFactory;
+import org.eclipse.ditto.internal.utils.pekko.logging.ThreadSafeDittoLogger;
+
+/**
+ * Emits connection logs to Fluency from a single background thread, so that rendering and serializing log entries
+ * does not happen on the thread which logs.
+ * <p>
+ * Pending emissions are kept in a bounded queue; when it is full, further emissions are dropped and counted instead of
+ * blocking the logging thread.
+ * Fluency itself buffers the serialized entries and ships them in chunks.
+ * </p>
+ */
+@ThreadSafe
+final class FluentLogEmitter {
+
+    private static final ThreadSafeDittoLogger LOGGER = DittoLoggerFactory.getThreadSafeLogger(FluentLogEmitter.class);
+
+    private static final String THREAD_NAME = "connection-log-fluent-emitter";
+
+    private final ThreadPoolExecutor executor;
+    private final Counter droppedCounter;
+
+    private FluentLogEmitter(final int queueSize) {
+        droppedCounter = DittoMetrics.counter("connection_log_fluent_dropped");
+        executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueSize),
+                runnable -> {
+                    final Thread thread = new Thread(runnable, THREAD_NAME);
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, rejectingExecutor) -> onDropped());
+    }
+
+    /**
+     * Creates a new emitter.
+     *
+     * @param queueSize the maximum number of pending emissions.
+     * @return the emitter.
+     * @throws IllegalArgumentException if {@code queueSize} is not positive.
+     */
+    static FluentLogEmitter newInstance(final int queueSize) {
+        return new FluentLogEmitter(queueSize);
+    }
+
+    private void onDropped() {
+        droppedCounter.increment();
+        LOGGER.debug("Dropped connection log entry as <{}> log entries are already pending to be emitted.",
+                executor.getQueue().size());
+    }
+
+    /**
+     * Emits in the background: the given emission is executed after all previously pending ones.
+     *
+     * @param emission renders a log entry and emits it to Fluency.
+     */
+    void emit(final Runnable emission) {
+        executor.execute(emission);
+    }
+
+    /**
+     * Waits until all emissions which are pending at the time of the call were executed.
+     *
+     * @param timeout how long to wait at most.
+     */
+    void awaitPendingEmissions(final Duration timeout) {
+        try {
+            CompletableFuture.runAsync(() -> {}, executor).get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (final ExecutionException | TimeoutException e) {
+            LOGGER.warn("Pending connection log entries were not emitted within <{}>: {}", timeout, e.toString());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "executor=" + executor +
+                "]";
+    }
+
+}
@@ -42,6 +42,7 @@ import org.komamitsu.fluency.Fluency;
 /**
  * Implementation of {@link ConnectionLogger} that publishes logs via {@link Fluency} library to a Fluentd/Fluentbit
  * endpoint.
+ * The log entries are rendered and handed over to Fluency in the background by a {@link FluentLogEmitter}.
  */
 final class FluentPublishingConnectionLogger
         extends AbstractConnectionLogger<FluentPublishingConnectionLogger.Builder, FluentPublishingConnectionLogger> {
@@ -69,6 +70,7 @@ final class FluentPublishingConnectionLogger
     private final String fluentTag;
     private final Set<LogLevel> logLevels;
     private final Fluency fluencyForwarder;
+    private final FluentLogEmitter emitter;
     private final Duration waitUntilAllBufferFlushedDurationOnClose;
     private final Map<String, Object> additionalLogContext;
     @Nullable private final String instanceIdentifier;
@@ -79,6 +81,7 @@ final class FluentPublishingConnectionLogger
         fluentTag = builder.fluentTag;
         logLevels = builder.logLevels;
         fluencyForwarder = builder.fluencyForwarder;
+        emitter = builder.emitter;
         waitUntilAllBufferFlushedDurationOnClose = builder.waitUntilAllBufferFlushedDurationOnClose;
         additionalLogContext = Map.copyOf(builder.additionalLogContext);
         instanceIdentifier = builder.instanceIdentifier;
@@ -91,6 +94,7 @@ final class FluentPublishingConnectionLogger
      * @param category category of logs stored by the logger.
      * @param type type of logs stored by the logger.
      * @param fluencyForwarder the {@code Fluency} forwarder used to forward logs to fluentd/fluentbit.
+     * @param emitter the emitter which emits the logs to the {@code Fluency} forwarder in the background.
      * @param waitUntilAllBufferFlushedDurationOnClose the duration of how long to wait after closing the Fluency buffer.
      * @return a new Builder for {@code FluentPublishingConnectionLogger}.
      * @throws java.lang.NullPointerException if any non-nullable argument is {@code null}.
@@ -98,9 +102,11 @@ final class FluentPublishingConnectionLogger
     static Builder newBuilder(final ConnectionId connectionId, final LogCategory category,
             final LogType type,
             final Fluency fluencyForwarder,
+            final FluentLogEmitter emitter,
             final Duration waitUntilAllBufferFlushedDurationOnClose) {
 
-        return new Builder(connectionId, category, type, fluencyForwarder, waitUntilAllBufferFlushedDurationOnClose);
+        return new Builder(connectionId, category, type, fluencyForwarder, emitter,
+                waitUntilAllBufferFlushedDurationOnClose);
     }
 
     @Override
@@ -118,11 +124,17 @@ final class FluentPublishingConnectionLogger
         LOGGER.info("Flushing and closing Fluency forwarder, waiting <{}> for buffers being flushed...",
                 waitUntilAllBufferFlushedDurationOnClose);
 
+        final boolean waitForBuffers = !waitUntilAllBufferFlushedDurationOnClose.isZero() &&
+                !waitUntilAllBufferFlushedDurationOnClose.isNegative();
+        if (waitForBuffers) {
+            // hand over the log entries which are still pending in the emitter before closing:
+            emitter.awaitPendingEmissions(waitUntilAllBufferFlushedDurationOnClose);
+        }
+
         // fluencyForwarder.close also flushes:
         fluencyForwarder.close();
 
-        if (!waitUntilAllBufferFlushedDurationOnClose.isZero() &&
-                !waitUntilAllBufferFlushedDurationOnClose.isNegative()) {
+        if (waitForBuffers) {
             try {
                 fluencyForwarder.waitUntilAllBufferFlushed((int) waitUntilAllBufferFlushedDurationOnClose.getSeconds());
             } catch (final InterruptedException e) {
@@ -152,56 +164,66 @@ final class FluentPublishingConnectionLogger
 
     @Override
     public void logEntry(final LogEntry logEntry) {
-        emitLogEntry(logEntry);
+        if (isLogLevelIncluded(logEntry.getLogLevel(), logEntry.getCorrelationId())) {
+            emitter.emit(() -> emitLogEntry(logEntry));
+        }
     }
 
     private void emitLogEntry(final ConnectionMonitor.InfoProvider infoProvider, final String message,
             final Object[] messageArguments, final LogLevel logLevel) {
-        final String formattedMessage = formatMessage(infoProvider, message, messageArguments);
-        emitLogEntry(getLogEntry(infoProvider, formattedMessage, logLevel));
+        if (isLogLevelIncluded(logLevel, infoProvider.getCorrelationId())) {
+            emitter.emit(() -> {
+                final String formattedMessage = formatMessage(infoProvider, message, messageArguments);
+                emitLogEntry(getLogEntry(infoProvider, formattedMessage, logLevel));
+            });
+        }
+    }
+
+    private boolean isLogLevelIncluded(final LogLevel logLevel, final String correlationId) {
+        final boolean included = logLevels.contains(logLevel);
+        if (!included) {
+            LOGGER.withCorrelationId(correlationId)
+                    .debug("Not emitting log entry with logLevel <{}> as the configured logLevels contained: <{}>",
+                            logLevel, logLevels);
+        }
+        return included;
     }
 
     private void emitLogEntry(final LogEntry logEntry) {
         final String correlationId = InfoProviderFactory.FALLBACK_CORRELATION_ID
                 .equals(logEntry.getCorrelationId()) ? null : logEntry.getCorrelationId();
-        if (logLevels.contains(logEntry.getLogLevel())) {
-            try {
-                final Instant timestamp = logEntry.getTimestamp();
-                final EventTime eventTime = EventTime.fromEpoch(timestamp.getEpochSecond(), timestamp.getNano());
-
-                final Map<String, Object> logMap = new LinkedHashMap<>();
-                logMap.put(TAG_CONNECTION_ID, connectionId.toString());
-                logMap.put(TAG_LEVEL, logEntry.getLogLevel().toString());
-                logMap.put(TAG_CATEGORY, logEntry.getLogCategory().toString());
-                logMap.put(TAG_TYPE, logEntry.getLogType().toString());
-                if (null != correlationId) {
-                    logMap.put(TAG_CORRELATION_ID, correlationId);
-                }
-                logEntry.getAddress().ifPresent(address -> logMap.put(TAG_ADDRESS, address));
-                logEntry.getEntityId().ifPresent(entityId -> {
-                    logMap.put(TAG_ENTITY_TYPE, entityId.getEntityType().toString());
-                    logMap.put(TAG_ENTITY_ID, entityId.toString());
-                });
-                logMap.put(TAG_MESSAGE, logEntry.getMessage());
-                if (null != instanceIdentifier) {
-                    logMap.put(TAG_INSTANCE_ID, instanceIdentifier);
-                }
-                logMap.putAll(additionalLogContext);
-
-                fluencyForwarder.emit(fluentTag, eventTime, logMap);
-            } catch (final BufferFullException e) {
-                LOGGER.withCorrelationId(correlationId)
-                        .error("Got BufferFullException when trying to emit further connection log entries to fluentd: {}",
-                                e.getMessage());
-            } catch (final IOException e) {
-                LOGGER.withCorrelationId(correlationId)
-                        .error("Got IOException when trying to emit further connection log entries to fluentd: <{}>: {}",
-                                e.getClass().getSimpleName(), e.getMessage());
+        try {
+            final Instant timestamp = logEntry.getTimestamp();
+            final EventTime eventTime = EventTime.fromEpoch(timestamp.getEpochSecond(), timestamp.getNano());
+
+            final Map<String, Object> logMap = new LinkedHashMap<>();
+            logMap.put(TAG_CONNECTION_ID, connectionId.toString());
+            logMap.put(TAG_LEVEL, logEntry.getLogLevel().toString());
+            logMap.put(TAG_CATEGORY, logEntry.getLogCategory().toString());
+            logMap.put(TAG_TYPE, logEntry.getLogType().toString());
+            if (null != correlationId) {
+                logMap.put(TAG_CORRELATION_ID, correlationId);
+            }
+            logEntry.getAddress().ifPresent(address -> logMap.put(TAG_ADDRESS, address));
+            logEntry.getEntityId().ifPresent(entityId -> {
+                logMap.put(TAG_ENTITY_TYPE, entityId.getEntityType().toString());
+                logMap.put(TAG_ENTITY_ID, entityId.toString());
+            });
+            logMap.put(TAG_MESSAGE, logEntry.getMessage());
+            if (null != instanceIdentifier) {
+                logMap.put(TAG_INSTANCE_ID, instanceIdentifier);
             }
-        } else {
+            logMap.putAll(additionalLogContext);
+
+            fluencyForwarder.emit(fluentTag, eventTime, logMap);
+        } catch (final BufferFullException e) {
             LOGGER.withCorrelationId(correlationId)
-                    .debug("Not emitting log entry with logLevel <{}> as the configured logLevels contained: <{}>",
-                            logEntry.getLogLevel(), logLevels);
+                    .error("Got BufferFullException when trying to emit further connection log entries to fluentd: {}",
+                            e.getMessage());
+        } catch (final IOException e) {
+            LOGGER.withCorrelationId(correlationId)
+                    .error("Got IOException when trying to emit further connection log entries to fluentd: <{}>: {}",
+                            e.getClass().getSimpleName(), e.getMessage());
         }
     }
 
@@ -219,13 +241,14 @@ final class FluentPublishingConnectionLogger
                 Objects.equals(fluentTag, that.fluentTag) &&
                 Objects.equals(logLevels, that.logLevels) &&
                 Objects.equals(fluencyForwarder, that.fluencyForwarder) &&
+                Objects.equals(emitter, that.emitter) &&
                 Objects.equals(additionalLogContext, that.additionalLogContext) &&
                 Objects.equals(instanceIdentifier, that.instanceIdentifier);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(super.hashCode(), connectionId, fluentTag, logLevels, fluencyForwarder,
+        return Objects.hash(super.hashCode(), connectionId, fluentTag, logLevels, fluencyForwarder, emitter,
                 additionalLogContext, instanceIdentifier);
     }
 
@@ -236,6 +259,7 @@ final class FluentPublishingConnectionLogger
                 ", fluentTag=" + fluentTag +
                 ", logLevels=" + logLevels +
                 ", fluencyForwarder=" + fluencyForwarder +
+                ", emitter=" + emitter +
                 ", additionalLogContext=" + additionalLogContext +
                 ", instanceIdentifier=" + instanceIdentifier +
                 "]";
@@ -253,6 +277,7 @@ final class FluentPublishingConnectionLogger
         String fluentTag;
         Set<LogLevel> logLevels;
         final Fluency fluencyForwarder;
+        final FluentLogEmitter emitter;
         final Duration waitUntilAllBufferFlushedDurationOnClose;
         Map<String, Object> additionalLogContext;
         @Nullable String instanceIdentifier;
@@ -261,11 +286,13 @@ final class FluentPublishingConnectionLogger
                 final LogCategory category,
                 final LogType type,
                 final Fluency fluencyForwarder,
+                final FluentLogEmitter emitter,
                 final Duration waitUntilAllBufferFlushedDurationOnClose) {
             super(category, type);
             this.connectionId = connectionId;
             this.fluentTag = CONNECTION_TAG_PREFIX + connectionId; // default to the connectionId as tag
             this.fluencyForwarder = fluencyForwarder;
+            this.emitter = emitter;
             this.waitUntilAllBufferFlushedDurationOnClose = waitUntilAllBufferFlushedDurationOnClose;
             this.additionalLogContext = Collections.emptyMap();
         }
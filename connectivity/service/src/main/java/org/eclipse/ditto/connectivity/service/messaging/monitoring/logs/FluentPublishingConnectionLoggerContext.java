@@ -32,6 +32,7 @@ import org.komamitsu.fluency.Fluency;
 final class FluentPublishingConnectionLoggerContext {
 
     private final Fluency fluencyForwarder;
+    private final FluentLogEmitter emitter;
     private final Duration waitUntilAllBufferFlushedDurationOnClose;
     private final Set<LogLevel> logLevels;
     private final boolean logHeadersAndPayload;
@@ -39,12 +40,14 @@ final class FluentPublishingConnectionLoggerContext {
     private final Map<String, Object> additionalLogContext;
 
     FluentPublishingConnectionLoggerContext(final Fluency fluencyForwarder,
+            final FluentLogEmitter emitter,
             final Duration waitUntilAllBufferFlushedDurationOnClose,
             final Collection<LogLevel> logLevels,
             final boolean logHeadersAndPayload,
             @Nullable final CharSequence logTag,
             final Map<String, Object> additionalLogContext) {
         this.fluencyForwarder = fluencyForwarder;
+        this.emitter = emitter;
         this.waitUntilAllBufferFlushedDurationOnClose = waitUntilAllBufferFlushedDurationOnClose;
         this.logLevels = Set.copyOf(logLevels);
         this.logHeadersAndPayload = logHeadersAndPayload;
@@ -56,6 +59,10 @@ final class FluentPublishingConnectionLoggerContext {
         return fluencyForwarder;
     }
 
+    FluentLogEmitter getEmitter() {
+        return emitter;
+    }
+
     Set<LogLevel> getLogLevels() {
         return logLevels;
     }
@@ -87,6 +94,7 @@ final class FluentPublishingConnectionLoggerContext {
         final FluentPublishingConnectionLoggerContext that = (FluentPublishingConnectionLoggerContext) o;
         return logHeadersAndPayload == that.logHeadersAndPayload &&
                 Objects.equals(fluencyForwarder, that.fluencyForwarder) &&
+                Objects.equals(emitter, that.emitter) &&
                 Objects.equals(waitUntilAllBufferFlushedDurationOnClose,
                         that.waitUntilAllBufferFlushedDurationOnClose) &&
                 Objects.equals(logLevels, that.logLevels) && Objects.equals(logTag, that.logTag) &&
@@ -95,8 +103,8 @@ final class FluentPublishingConnectionLoggerContext {
 
     @Override
     public int hashCode() {
-        return Objects.hash(fluencyForwarder, waitUntilAllBufferFlushedDurationOnClose, logLevels, logHeadersAndPayload,
-                logTag, additionalLogContext);
+        return Objects.hash(fluencyForwarder, emitter, waitUntilAllBufferFlushedDurationOnClose, logLevels,
+                logHeadersAndPayload, logTag, additionalLogContext);
     }
 
 
@@ -104,6 +112,7 @@ final class FluentPublishingConnectionLoggerContext {
     public String toString() {
         return getClass().getSimpleName() + " [" +
                 "fluencyForwarder=" + fluencyForwarder +
+                ", emitter=" + emitter +
                 ", waitUntilAllBufferFlushedDurationOnClose=" + waitUntilAllBufferFlushedDurationOnClose +
                 ", logLevels=" + logLevels +
                 ", logHeadersAndPayload=" + logHeadersAndPayload +
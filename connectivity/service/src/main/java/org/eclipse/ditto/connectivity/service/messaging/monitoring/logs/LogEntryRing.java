@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.messaging.monitoring.logs;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.connectivity.model.LogEntry;
+
+/**
+ * Ring buffer with a fixed capacity which keeps the most recently added log entries and evicts the oldest ones.
+ * <p>
+ * The log entries are added already rendered: a {@link LogEntry} only holds the formatted message and a few small
+ * values, so the ring does not keep the logged signals or messages alive and each entry reflects the time it was
+ * logged at.
+ * Adding an entry neither locks nor allocates.
+ * An entry which is overwritten concurrently while the logs are copied might be replaced by a newer one, as we
+ * care more about the speed of logging than about the accuracy of a snapshot of the logs.
+ * </p>
+ */
+@ThreadSafe
+final class LogEntryRing {
+
+    private final AtomicReferenceArray<LogEntry> entries;
+    private final AtomicLong addedCount;
+
+    private LogEntryRing(final int capacity) {
+        entries = new AtomicReferenceArray<>(capacity);
+        addedCount = new AtomicLong();
+    }
+
+    /**
+     * Create a new ring.
+     *
+     * @param capacity the maximum number of log entries to keep.
+     * @return the new ring.
+     */
+    static LogEntryRing withCapacity(final int capacity) {
+        return new LogEntryRing(capacity);
+    }
+
+    /**
+     * Adds the given log entry, evicting the oldest entry if the ring is full.
+     *
+     * @param logEntry the log entry.
+     */
+    void add(final LogEntry logEntry) {
+        final int capacity = entries.length();
+        if (capacity > 0) {
+            entries.set((int) (addedCount.getAndIncrement() % capacity), logEntry);
+        }
+    }
+
+    /**
+     * @return the number of log entries in the ring.
+     */
+    int size() {
+        return (int) Math.min(addedCount.get(), entries.length());
+    }
+
+    /**
+     * Adds the log entries of the ring from the oldest to the newest to the given list.
+     *
+     * @param target the list to add the log entries to.
+     */
+    void copyTo(final List<LogEntry> target) {
+        final int capacity = entries.length();
+        final long end = addedCount.get();
+        for (long i = Math.max(0L, end - capacity); i < end; i++) {
+            final LogEntry logEntry = entries.get((int) (i % capacity));
+            if (null != logEntry) {
+                target.add(logEntry);
+            }
+        }
+    }
+
+    /**
+     * Removes all log entries.
+     */
+    void clear() {
+        addedCount.set(0L);
+        for (int i = 0; i < entries.length(); i++) {
+            entries.set(i, null);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "capacity=" + entries.length() +
+                ", size=" + size() +
+                "]";
+    }
+
+}
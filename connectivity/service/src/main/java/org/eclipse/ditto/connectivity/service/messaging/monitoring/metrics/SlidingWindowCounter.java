@@ -19,9 +19,9 @@ import java.util.Arrays;
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Stream;
 
 import javax.annotation.Nullable;
@@ -29,9 +29,15 @@ import javax.annotation.Nullable;
 import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
 
 /**
- * Simple implementation of a sliding window using a map. Depending on the given parameters
+ * Implementation of a sliding window based on ring buffers. Depending on the given parameters
  * {@code window} and {@code duration} this implementation holds counter for time slots of size {@code duration} to
  * fill the {@code window}.
+ * <p>
+ * Each recording window has one fixed-size ring of slots per outcome (success and failure) which is allocated once.
+ * A slot counts with a {@link LongAdder} and is only replaced when the ring wraps around, thus recording a
+ * measurement only allocates once per time slot, old measurements need no clean up and reading the counts only
+ * touches the slots of the rings.
+ * </p>
  */
 public final class SlidingWindowCounter {
 
@@ -43,35 +49,33 @@ public final class SlidingWindowCounter {
     private final MeasurementWindow[] windowsForRecording;
     private final MeasurementWindow[] windowsForReporting;
 
-    private final ConcurrentMap<Long, Long> successMeasurements = new ConcurrentHashMap<>();
-    private final ConcurrentMap<Long, Long> failureMeasurements = new ConcurrentHashMap<>();
+    // rings of the recording windows, in the same order as windowsForRecording
+    private final SlotRing[] successMeasurements;
+    private final SlotRing[] failureMeasurements;
 
     private final AtomicLong lastSuccessTimestamp = new AtomicLong(Instant.EPOCH.toEpochMilli());
     private final AtomicLong lastFailureTimestamp = new AtomicLong(Instant.EPOCH.toEpochMilli());
-    private final Duration minResolution;
-    private final Counter metricsCounter;
+    private final Counter successMetricsCounter;
+    private final Counter failureMetricsCounter;
     @Nullable private final MetricsAlert metricsAlert;
     private final long maximumPerSlot;
-    private final boolean cleanUpEnabled;
 
     // allows to override the reported value with a fixed value by checking the last modified timestamp instead of
-    // calculating from the measurement maps (allows more accuracy for the shortest window)
+    // calculating from the measurement rings (allows more accuracy for the shortest window)
     private final Map<MeasurementWindow, Long> lastTimestampOverrides;
 
     private SlidingWindowCounter(final SlidingWindowCounterBuilder builder) {
-        metricsCounter = builder.metricsCounter;
+        successMetricsCounter = builder.metricsCounter.tag("success", true);
+        failureMetricsCounter = builder.metricsCounter.tag("success", false);
         clock = builder.clock;
         metricsAlert = builder.metricsAlert;
-        cleanUpEnabled = builder.cleanUpEnabled;
         windowsForRecording = builder.recordingMeasurementWindows;
         windowsForReporting = builder.reportingMeasurementWindows;
         maximumPerSlot = builder.maximumPerSlot;
         lastTimestampOverrides = builder.lastTimestampOverrides;
 
-        minResolution = Stream.of(windowsForRecording)
-                .map(MeasurementWindow::getResolution)
-                .min(Duration::compareTo)
-                .orElse(Duration.ofMinutes(5));
+        successMeasurements = Stream.of(windowsForRecording).map(SlotRing::new).toArray(SlotRing[]::new);
+        failureMeasurements = Stream.of(windowsForRecording).map(SlotRing::new).toArray(SlotRing[]::new);
     }
 
     /**
@@ -111,70 +115,47 @@ public final class SlidingWindowCounter {
      * @param success whether to increment success or failure count
      */
     void increment(final boolean success) {
-        increment(success, clock.instant().toEpochMilli());
+        increment(success, clock.millis());
     }
 
     /**
      * Increment this counter.
+     * Measurements with a timestamp after the current time slot of the clock are not recorded.
      *
      * @param success whether to increment success or failure count
      * @param ts the timestamp when the operation happened (mostly useful for testing)
      */
     void increment(final boolean success, final long ts) {
-        final long previousTimestamp;
         if (success) {
-            metricsCounter.tag("success", true).increment();
-            previousTimestamp = updateTimestampAndReturnPrevious(lastSuccessTimestamp, ts);
+            successMetricsCounter.increment();
+            updateTimestamp(lastSuccessTimestamp, ts);
             incrementMeasurements(ts, successMeasurements);
         } else {
-            metricsCounter.tag("success", false).increment();
-            previousTimestamp = updateTimestampAndReturnPrevious(lastFailureTimestamp, ts);
+            failureMetricsCounter.increment();
+            updateTimestamp(lastFailureTimestamp, ts);
             incrementMeasurements(ts, failureMeasurements);
         }
-
-        // if diff between current and last timestamp is too large, cleanup old measurements
-        if (cleanUpEnabled && previousTimestamp > ts - minResolution.toMillis()) {
-            cleanUpOldMeasurements();
-        }
-    }
-
-    private long updateTimestampAndReturnPrevious(final AtomicLong toUpdate, final long ts) {
-        return toUpdate.getAndUpdate(previous -> Math.max(previous, ts));
     }
 
-    private void incrementMeasurements(final long ts, final Map<Long, Long> measurements) {
-        for (final MeasurementWindow window : windowsForRecording) {
-            final long slot = getSlot(ts, window.getResolution().toMillis());
-            final long newValue = measurements.compute(slot, (key, value) -> (value == null) ? 1 : value + 1);
-            if (metricsAlert != null && metricsAlert.evaluateCondition(window, slot, newValue)) {
-                metricsAlert.triggerAction(ts, newValue);
-            }
+    private static void updateTimestamp(final AtomicLong toUpdate, final long ts) {
+        long previous = toUpdate.get();
+        while (previous < ts && !toUpdate.compareAndSet(previous, ts)) {
+            previous = toUpdate.get();
         }
     }
 
-    private void cleanUpOldMeasurements() {
-        cleanUpOldMeasurements(successMeasurements);
-        cleanUpOldMeasurements(failureMeasurements);
-    }
-
-    private void cleanUpOldMeasurements(final Map<Long, Long> measurements) {
-        measurements.entrySet().removeIf(e -> isOld(e.getKey()));
-    }
-
-    private boolean isOld(final long slot) {
-        final long now = clock.instant().toEpochMilli();
-        for (final MeasurementWindow window : windowsForRecording) {
-            final long resolutionInMs = window.getResolution().toMillis();
-            final long windowInMs = window.getWindow().toMillis();
-            // max slot is the current slot for this window
-            final long max = getSlot(now, resolutionInMs);
-            // min slot is current slot minus window size
-            final long min = getSlot(now - windowInMs, resolutionInMs);
-            if (slot <= max && slot >= min) {
-                return false;
+    private void incrementMeasurements(final long ts, final SlotRing[] measurements) {
+        final long now = clock.millis();
+        for (final SlotRing ring : measurements) {
+            final LongAdder slotCount = ring.increment(ts, now);
+            if (null != slotCount && null != metricsAlert) {
+                final long slot = ring.getSlot(ts);
+                final long newValue = slotCount.sum();
+                if (metricsAlert.evaluateCondition(ring.window, slot, newValue)) {
+                    metricsAlert.triggerAction(ts, newValue);
+                }
             }
         }
-        return true;
     }
 
     /**
@@ -193,29 +174,24 @@ public final class SlidingWindowCounter {
     /**
      * Gets counts for all measurement windows given.
      *
-     * @param measurements the measurements map to use
+     * @param measurements the measurement rings to use
      * @return the counts for all windows
      */
-    private Map<Duration, Long> getCounts(final Map<Long, Long> measurements,
-            final long lastTimestamp) {
+    private Map<Duration, Long> getCounts(final SlotRing[] measurements, final long lastTimestamp) {
         final Map<Duration, Long> result = new HashMap<>();
-        final long now = clock.instant().toEpochMilli();
+        final long now = clock.millis();
         for (final MeasurementWindow window : windowsForReporting) {
             long sum = 0;
             if (lastTimestampOverrides.containsKey(window) && now - window.getWindow().toMillis() < lastTimestamp) {
                 sum = lastTimestampOverrides.get(window);
             } else {
-                // min is where we start to sum up the slots
-                final long windowInMs = window.getWindow().toMillis();
-                final long resolutionInMs = window.getResolution().toMillis();
-                final long min = getSlot(now - windowInMs, resolutionInMs);
-                // max is the current active time slot
-                final long max = getSlot(now, resolutionInMs);
-                for (final Map.Entry<Long, Long> e : measurements.entrySet()) {
-                    final long slot = e.getKey();
-                    if (slot > min && slot <= max) {
-                        sum += Math.min(maximumPerSlot, e.getValue());
-                    }
+                final SlotRing ring = findRecordingRing(measurements, window);
+                if (null != ring) {
+                    // min is where we start to sum up the slots
+                    final long min = ring.getSlot(now - window.getWindow().toMillis());
+                    // max is the current active time slot
+                    final long max = ring.getSlot(now);
+                    sum = ring.sum(min, max, maximumPerSlot);
                 }
             }
             result.put(window.getWindow(), sum);
@@ -223,6 +199,20 @@ public final class SlidingWindowCounter {
         return result;
     }
 
+    /**
+     * Finds the ring of a recording window which has the resolution of the given reporting window and covers it.
+     */
+    @Nullable
+    private static SlotRing findRecordingRing(final SlotRing[] measurements, final MeasurementWindow window) {
+        for (final SlotRing ring : measurements) {
+            if (ring.window == window || ring.window.getResolution().equals(window.getResolution()) &&
+                    ring.window.getWindow().compareTo(window.getWindow()) >= 0) {
+                return ring;
+            }
+        }
+        return null;
+    }
+
     /**
      * Reset all counts.
      */
@@ -231,12 +221,10 @@ public final class SlidingWindowCounter {
         reset(failureMeasurements);
     }
 
-    private void reset(final Map<Long, Long> measurements) {
-        measurements.clear();
-    }
-
-    private long getSlot(final long ts, final long resolutionInMs) {
-        return ts / resolutionInMs;
+    private static void reset(final SlotRing[] measurements) {
+        for (final SlotRing ring : measurements) {
+            ring.reset();
+        }
     }
 
     /**
@@ -247,7 +235,6 @@ public final class SlidingWindowCounter {
         private final Counter metricsCounter;
         private Clock clock = Clock.systemUTC();
         private MetricsAlert metricsAlert = null;
-        private boolean cleanUpEnabled = true;
         private MeasurementWindow[] recordingMeasurementWindows;
         private MeasurementWindow[] reportingMeasurementWindows;
         private long maximumPerSlot = Long.MAX_VALUE;
@@ -267,11 +254,6 @@ public final class SlidingWindowCounter {
             return this;
         }
 
-        SlidingWindowCounterBuilder cleanUpEnabled(final boolean cleanUpEnabled) {
-            this.cleanUpEnabled = cleanUpEnabled;
-            return this;
-        }
-
         SlidingWindowCounterBuilder recordingMeasurementWindows(
                 final MeasurementWindow... recordingMeasurementWindows) {
             this.recordingMeasurementWindows = recordingMeasurementWindows;
@@ -313,16 +295,105 @@ public final class SlidingWindowCounter {
                 "clock=" + clock +
                 ", windowsForRecording=" + Arrays.toString(windowsForRecording) +
                 ", windowsForReporting=" + Arrays.toString(windowsForReporting) +
-                ", successMeasurements=" + successMeasurements +
-                ", failureMeasurements=" + failureMeasurements +
+                ", successMeasurements=" + Arrays.toString(successMeasurements) +
+                ", failureMeasurements=" + Arrays.toString(failureMeasurements) +
                 ", lastSuccessTimestamp=" + lastSuccessTimestamp +
                 ", lastFailureTimestamp=" + lastFailureTimestamp +
-                ", minResolution=" + minResolution +
-                ", metricsCounter=" + metricsCounter +
+                ", successMetricsCounter=" + successMetricsCounter +
+                ", failureMetricsCounter=" + failureMetricsCounter +
                 ", metricsAlert=" + metricsAlert +
                 ", maximumPerSlot=" + maximumPerSlot +
-                ", cleanUpEnabled=" + cleanUpEnabled +
                 ", lastTimestampOverrides=" + lastTimestampOverrides +
                 "]";
     }
+
+    /**
+     * The count of one time slot of a recording window.
+     *
+     * @param id the number of the time slot, i.e. the timestamp divided by the resolution of the window.
+     * @param count the count of measurements within the time slot.
+     */
+    private record Slot(long id, LongAdder count) {}
+
+    /**
+     * Ring buffer of the slots of one recording window.
+     * It holds the current slot plus all slots covered by the window; the slot with number {@code n} is stored at
+     * index {@code n} modulo the ring length and replaces the older slot which was stored there before.
+     */
+    private static final class SlotRing {
+
+        private final MeasurementWindow window;
+        private final long resolutionInMs;
+        private final AtomicReferenceArray<Slot> slots;
+
+        private SlotRing(final MeasurementWindow window) {
+            this.window = window;
+            resolutionInMs = window.getResolution().toMillis();
+            slots = new AtomicReferenceArray<>(Math.toIntExact(window.getWindow().toMillis() / resolutionInMs) + 1);
+        }
+
+        private long getSlot(final long ts) {
+            return ts / resolutionInMs;
+        }
+
+        /**
+         * Increments the count of the slot of the given timestamp.
+         *
+         * @param ts the timestamp of the measurement.
+         * @param now the current time.
+         * @return the count of the incremented slot or {@code null} if the timestamp lies in the future or its slot
+         * was already replaced by a newer one.
+         */
+        @Nullable
+        private LongAdder increment(final long ts, final long now) {
+            final long slotId = getSlot(ts);
+            if (slotId > getSlot(now)) {
+                // a slot of the future would overwrite slots which are still reported
+                return null;
+            }
+            final int index = (int) Math.floorMod(slotId, (long) slots.length());
+            while (true) {
+                final Slot slot = slots.get(index);
+                if (null != slot && slot.id() == slotId) {
+                    slot.count().increment();
+                    return slot.count();
+                } else if (null != slot && slot.id() > slotId) {
+                    // the ring already moved past the slot of this (old) measurement
+                    return null;
+                }
+                // the slot is reused once per resolution, only this replacement allocates
+                slots.compareAndSet(index, slot, new Slot(slotId, new LongAdder()));
+            }
+        }
+
+        /**
+         * Sums up the counts of the slots after {@code minSlotId} up to and including {@code maxSlotId}.
+         */
+        private long sum(final long minSlotId, final long maxSlotId, final long maximumPerSlot) {
+            long sum = 0;
+            for (int i = 0; i < slots.length(); i++) {
+                final Slot slot = slots.get(i);
+                if (null != slot && slot.id() > minSlotId && slot.id() <= maxSlotId) {
+                    sum += Math.min(maximumPerSlot, slot.count().sum());
+                }
+            }
+            return sum;
+        }
+
+        private void reset() {
+            for (int i = 0; i < slots.length(); i++) {
+                slots.set(i, null);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " [" +
+                    "window=" + window +
+                    ", slots=" + slots +
+                    "]";
+        }
+
+    }
+
 }
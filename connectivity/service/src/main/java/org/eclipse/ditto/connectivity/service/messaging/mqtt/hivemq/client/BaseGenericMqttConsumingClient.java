@@ -14,11 +14,14 @@ package org.eclipse.ditto.connectivity.service.messaging.mqtt.hivemq.client;
 
 import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
 
+import java.util.function.LongConsumer;
+
 import org.eclipse.ditto.base.model.common.ConditionChecker;
 import org.eclipse.ditto.connectivity.service.messaging.mqtt.hivemq.message.publish.GenericMqttPublish;
 
 import com.hivemq.client.mqtt.MqttClient;
 import com.hivemq.client.mqtt.MqttGlobalPublishFilter;
+import com.hivemq.client.mqtt.datatypes.MqttQos;
 import com.hivemq.client.mqtt.mqtt3.Mqtt3RxClient;
 import com.hivemq.client.mqtt.mqtt3.message.publish.Mqtt3Publish;
 import com.hivemq.client.mqtt.mqtt5.Mqtt5RxClient;
@@ -28,6 +31,9 @@ import io.reactivex.Flowable;
 
 /**
  * Base implementation of {@link GenericMqttConsumingClient}.
+ * Only QoS 0 publishes are dropped when the consumers do not keep up. QoS 1 and QoS 2 publishes are acknowledged
+ * manually, thus the broker does not send more of them than the receive maximum of the client permits until the
+ * consumers acknowledged them.
  */
 abstract class BaseGenericMqttConsumingClient<C extends MqttClient> implements GenericMqttConsumingClient {
 
@@ -40,13 +46,33 @@ abstract class BaseGenericMqttConsumingClient<C extends MqttClient> implements G
     static BaseGenericMqttConsumingClient<Mqtt3RxClient> ofMqtt3RxClient(
             final Mqtt3RxClient mqtt3RxClient
     ) {
-        return new Mqtt3ConsumingClient(mqtt3RxClient);
+        return ofMqtt3RxClient(mqtt3RxClient, Integer.MAX_VALUE, () -> {}, bufferedPublishes -> {});
+    }
+
+    static BaseGenericMqttConsumingClient<Mqtt3RxClient> ofMqtt3RxClient(
+            final Mqtt3RxClient mqtt3RxClient,
+            final int maxBufferedPublishes,
+            final Runnable onDroppedPublish,
+            final LongConsumer onBufferedPublishesChanged
+    ) {
+        return new Mqtt3ConsumingClient(mqtt3RxClient, maxBufferedPublishes, onDroppedPublish,
+                onBufferedPublishesChanged);
     }
 
     static BaseGenericMqttConsumingClient<Mqtt5RxClient> ofMqtt5RxClient(
             final Mqtt5RxClient mqtt5RxClient
     ) {
-        return new Mqtt5ConsumingClient(mqtt5RxClient);
+        return ofMqtt5RxClient(mqtt5RxClient, Integer.MAX_VALUE, () -> {}, bufferedPublishes -> {});
+    }
+
+    static BaseGenericMqttConsumingClient<Mqtt5RxClient> ofMqtt5RxClient(
+            final Mqtt5RxClient mqtt5RxClient,
+            final int maxBufferedPublishes,
+            final Runnable onDroppedPublish,
+            final LongConsumer onBufferedPublishesChanged
+    ) {
+        return new Mqtt5ConsumingClient(mqtt5RxClient, maxBufferedPublishes, onDroppedPublish,
+                onBufferedPublishesChanged);
     }
 
     @Override
@@ -61,10 +87,19 @@ abstract class BaseGenericMqttConsumingClient<C extends MqttClient> implements G
         private final BufferingFlowableWrapper<Mqtt3Publish> bufferingFlowableWrapper;
         private boolean isDisposed = false;
 
-        private Mqtt3ConsumingClient(final Mqtt3RxClient mqtt3RxClient) {
+        private Mqtt3ConsumingClient(final Mqtt3RxClient mqtt3RxClient,
+                final int maxBufferedPublishes,
+                final Runnable onDroppedPublish,
+                final LongConsumer onBufferedPublishesChanged) {
             super(ConditionChecker.checkNotNull(mqtt3RxClient, "mqtt3RxClient"));
 
-            bufferingFlowableWrapper = BufferingFlowableWrapper.of(mqtt3RxClient.publishes(MqttGlobalPublishFilter.ALL, true));
+            bufferingFlowableWrapper = BufferingFlowableWrapper.of(
+                    mqtt3RxClient.publishes(MqttGlobalPublishFilter.ALL, true),
+                    maxBufferedPublishes,
+                    publish -> MqttQos.AT_MOST_ONCE == publish.getQos(),
+                    onDroppedPublish,
+                    onBufferedPublishesChanged
+            );
         }
 
         @Override
@@ -95,10 +130,19 @@ abstract class BaseGenericMqttConsumingClient<C extends MqttClient> implements G
         private final BufferingFlowableWrapper<Mqtt5Publish> bufferingFlowableWrapper;
         private boolean isDisposed = false;
 
-        private Mqtt5ConsumingClient(final Mqtt5RxClient mqtt5RxClient) {
+        private Mqtt5ConsumingClient(final Mqtt5RxClient mqtt5RxClient,
+                final int maxBufferedPublishes,
+                final Runnable onDroppedPublish,
+                final LongConsumer onBufferedPublishesChanged) {
             super(checkNotNull(mqtt5RxClient, "mqtt5RxClient"));
 
-            bufferingFlowableWrapper = BufferingFlowableWrapper.of(mqtt5RxClient.publishes(MqttGlobalPublishFilter.ALL, true));
+            bufferingFlowableWrapper = BufferingFlowableWrapper.of(
+                    mqtt5RxClient.publishes(MqttGlobalPublishFilter.ALL, true),
+                    maxBufferedPublishes,
+                    publish -> MqttQos.AT_MOST_ONCE == publish.getQos(),
+                    onDroppedPublish,
+                    onBufferedPublishesChanged
+            );
         }
 
         @Override
@@ -17,6 +17,7 @@ import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.function.LongConsumer;
 
 import org.eclipse.ditto.connectivity.service.messaging.mqtt.hivemq.message.connect.GenericMqttConnect;
 import org.eclipse.ditto.connectivity.service.messaging.mqtt.hivemq.message.publish.GenericMqttPublish;
@@ -74,10 +75,34 @@ abstract class BaseGenericMqttSubscribingClient<C extends MqttClient>
     static BaseGenericMqttSubscribingClient<Mqtt3RxClient> ofMqtt3RxClient(final Mqtt3RxClient mqtt3RxClient,
             final ClientRole clientRole) {
 
+        return ofMqtt3RxClient(mqtt3RxClient, clientRole, Integer.MAX_VALUE, () -> {}, bufferedPublishes -> {});
+    }
+
+    /**
+     * Returns an instance of {@code BaseGenericMqttSubscribingClient} that operates on the specified
+     * {@code Mqtt3RxClient} argument and holds at most {@code maxBufferedPublishes} received QoS 0 publishes in
+     * memory.
+     *
+     * @param mqtt3RxClient the MQTT client for subscribing to topics.
+     * @param clientRole the role of the client.
+     * @param maxBufferedPublishes the number of received publishes to buffer for consumers before QoS 0 publishes are
+     * dropped.
+     * @param onDroppedPublish called for each received QoS 0 publish which is dropped because the buffer is full.
+     * @param onBufferedPublishesChanged called with the number of buffered publishes whenever it changed.
+     * @return the instance.
+     * @throws NullPointerException if {@code mqtt3RxClient} is {@code null}.
+     */
+    static BaseGenericMqttSubscribingClient<Mqtt3RxClient> ofMqtt3RxClient(final Mqtt3RxClient mqtt3RxClient,
+            final ClientRole clientRole,
+            final int maxBufferedPublishes,
+            final Runnable onDroppedPublish,
+            final LongConsumer onBufferedPublishesChanged) {
+
         checkNotNull(mqtt3RxClient, "mqtt3RxClient");
         return new Mqtt3RxSubscribingClient(mqtt3RxClient,
                 BaseGenericMqttConnectableClient.ofMqtt3AsyncClient(mqtt3RxClient.toAsync()),
-                BaseGenericMqttConsumingClient.ofMqtt3RxClient(mqtt3RxClient),
+                BaseGenericMqttConsumingClient.ofMqtt3RxClient(mqtt3RxClient, maxBufferedPublishes,
+                        onDroppedPublish, onBufferedPublishesChanged),
                 clientRole);
     }
 
@@ -92,10 +117,34 @@ abstract class BaseGenericMqttSubscribingClient<C extends MqttClient>
     static BaseGenericMqttSubscribingClient<Mqtt5RxClient> ofMqtt5RxClient(final Mqtt5RxClient mqtt5RxClient,
             final ClientRole clientRole) {
 
+        return ofMqtt5RxClient(mqtt5RxClient, clientRole, Integer.MAX_VALUE, () -> {}, bufferedPublishes -> {});
+    }
+
+    /**
+     * Returns an instance of {@code BaseGenericMqttSubscribingClient} that operates on the specified
+     * {@code Mqtt5RxClient} argument and holds at most {@code maxBufferedPublishes} received QoS 0 publishes in
+     * memory.
+     *
+     * @param mqtt5RxClient the MQTT client for subscribing to topics.
+     * @param clientRole the role of the client.
+     * @param maxBufferedPublishes the number of received publishes to buffer for consumers before QoS 0 publishes are
+     * dropped.
+     * @param onDroppedPublish called for each received QoS 0 publish which is dropped because the buffer is full.
+     * @param onBufferedPublishesChanged called with the number of buffered publishes whenever it changed.
+     * @return the instance.
+     * @throws NullPointerException if {@code mqtt5RxClient} is {@code null}.
+     */
+    static BaseGenericMqttSubscribingClient<Mqtt5RxClient> ofMqtt5RxClient(final Mqtt5RxClient mqtt5RxClient,
+            final ClientRole clientRole,
+            final int maxBufferedPublishes,
+            final Runnable onDroppedPublish,
+            final LongConsumer onBufferedPublishesChanged) {
+
         checkNotNull(mqtt5RxClient, "mqtt5RxClient");
         return new Mqtt5RxSubscribingClient(mqtt5RxClient,
                 BaseGenericMqttConnectableClient.ofMqtt5AsyncClient(mqtt5RxClient.toAsync()),
-                BaseGenericMqttConsumingClient.ofMqtt5RxClient(mqtt5RxClient),
+                BaseGenericMqttConsumingClient.ofMqtt5RxClient(mqtt5RxClient, maxBufferedPublishes,
+                        onDroppedPublish, onBufferedPublishesChanged),
                 clientRole);
     }
 
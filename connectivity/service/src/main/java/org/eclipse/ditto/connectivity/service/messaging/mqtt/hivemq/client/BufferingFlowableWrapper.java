@@ -12,6 +12,10 @@
  */
 package org.eclipse.ditto.connectivity.service.messaging.mqtt.hivemq.client;
 
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+import java.util.function.Predicate;
+
 import org.eclipse.ditto.base.model.common.ConditionChecker;
 
 import io.reactivex.BackpressureStrategy;
@@ -23,6 +27,13 @@ import io.reactivex.subjects.PublishSubject;
  * Wrapper around flowable that buffers the items until it is told to stop.
  * When buffering is enabled, all subscribers get all missed items, when the
  * buffering is disabled, subscribers will get only new items.
+ * <p>
+ * The number of droppable items which are held in memory is bounded: while buffering and per subscriber which does
+ * not keep up, droppable items are dropped and reported to the overflow callback once {@code maxBufferSize} items
+ * are held.
+ * Items which are not droppable are always kept; the source has to limit them itself, e.g. MQTT brokers send at most
+ * "receive maximum" QoS 1 and QoS 2 publishes which were not yet acknowledged.
+ * </p>
  *
  * @param <T> type of items
  */
@@ -35,25 +46,50 @@ public final class BufferingFlowableWrapper<T> implements Disposable {
     private final Disposable originalSubscription;
     private final Flowable<T> flowable;
     private final Disposable subscription;
-    private boolean isBuffering = true;
+    private final int maxBufferSize;
+    private final Predicate<T> isDroppable;
+    private final Runnable onOverflow;
+    private final LongConsumer bufferedCountListener;
+    private final AtomicLong bufferedCount;
+    private volatile boolean isBuffering = true;
+    private int replayBufferedCount = 0;
+
+    private BufferingFlowableWrapper(final Flowable<T> flowable,
+            final int maxBufferSize,
+            final Predicate<T> isDroppable,
+            final Runnable onOverflow,
+            final LongConsumer bufferedCountListener) {
 
-    private BufferingFlowableWrapper(final Flowable<T> flowable) {
         this.originalFlowable = flowable;
         this.buffered = PublishSubject.<T>create();
         this.unbuffered = PublishSubject.<T>create();
+        this.maxBufferSize = maxBufferSize;
+        this.isDroppable = isDroppable;
+        this.onOverflow = onOverflow;
+        this.bufferedCountListener = bufferedCountListener;
+        this.bufferedCount = new AtomicLong();
 
         this.flowable = buffered
                 .replay()
                 .autoConnect()
                 .mergeWith(unbuffered)
-                .toFlowable(BackpressureStrategy.BUFFER);
+                .toFlowable(BackpressureStrategy.MISSING)
+                .compose(this::bufferPerSubscriber);
 
         this.originalSubscription = flowable.subscribe(
                 x -> {
                     if (isDisposed) {
                         return;
                     }
-                    (isBuffering ? buffered : unbuffered).onNext(x);
+                    if (!isBuffering) {
+                        unbuffered.onNext(x);
+                    } else if (replayBufferedCount < maxBufferSize || !isDroppable.test(x)) {
+                        replayBufferedCount++;
+                        addToBufferedCount(1L);
+                        buffered.onNext(x);
+                    } else {
+                        onOverflow.run();
+                    }
                 },
                 e -> {
                     if (isDisposed) {
@@ -82,8 +118,72 @@ public final class BufferingFlowableWrapper<T> implements Disposable {
      * @param <T> type of items of the flowable.
      */
     public static <T> BufferingFlowableWrapper<T> of(final Flowable<T> flowable) {
+        return of(flowable, Integer.MAX_VALUE, item -> true, () -> {}, bufferedCount -> {});
+    }
+
+    /**
+     * Creates new wrapper around provided {@code Flowable} which holds at most {@code maxBufferSize} droppable items
+     * in memory while buffering and per subscriber.
+     *
+     * @param flowable flowable to wrap.
+     * @param maxBufferSize the maximum number of items to buffer before droppable items are dropped.
+     * @param isDroppable tells whether an item may be dropped when the buffer is full.
+     * @param onOverflow called for each item which is dropped because the buffer is full.
+     * @param bufferedCountListener called with the number of items held in memory whenever it changed; items which
+     * were replayed to a subscriber while buffering but were not yet requested by it are counted twice.
+     * @return wrapper around the provided flowable.
+     * @param <T> type of items of the flowable.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws IllegalArgumentException if {@code maxBufferSize} is not positive.
+     */
+    public static <T> BufferingFlowableWrapper<T> of(final Flowable<T> flowable,
+            final int maxBufferSize,
+            final Predicate<T> isDroppable,
+            final Runnable onOverflow,
+            final LongConsumer bufferedCountListener) {
+
         ConditionChecker.checkNotNull(flowable, "flowable");
-        return new BufferingFlowableWrapper<>(flowable);
+        ConditionChecker.checkArgument(maxBufferSize, size -> size > 0,
+                () -> "The maxBufferSize must be positive but it was <" + maxBufferSize + ">.");
+        ConditionChecker.checkNotNull(isDroppable, "isDroppable");
+        ConditionChecker.checkNotNull(onOverflow, "onOverflow");
+        ConditionChecker.checkNotNull(bufferedCountListener, "bufferedCountListener");
+        return new BufferingFlowableWrapper<>(flowable, maxBufferSize, isDroppable, onOverflow,
+                bufferedCountListener);
+    }
+
+    /**
+     * Queues the items for a subscriber which requests fewer items than are emitted and drops droppable items as
+     * long as {@code maxBufferSize} items are queued.
+     */
+    private Flowable<T> bufferPerSubscriber(final Flowable<T> upstream) {
+        return Flowable.defer(() -> {
+            final AtomicLong queued = new AtomicLong();
+            return upstream
+                    .filter(item -> {
+                        if (queued.get() < maxBufferSize || !isDroppable.test(item)) {
+                            return true;
+                        }
+                        onOverflow.run();
+                        return false;
+                    })
+                    .doOnNext(item -> {
+                        queued.incrementAndGet();
+                        addToBufferedCount(1L);
+                    })
+                    .onBackpressureBuffer()
+                    .doOnNext(item -> {
+                        queued.decrementAndGet();
+                        addToBufferedCount(-1L);
+                    })
+                    .doFinally(() -> addToBufferedCount(-queued.getAndSet(0L)));
+        });
+    }
+
+    private void addToBufferedCount(final long delta) {
+        if (0L != delta) {
+            bufferedCountListener.accept(bufferedCount.addAndGet(delta));
+        }
     }
 
     /**
@@ -108,6 +208,9 @@ public final class BufferingFlowableWrapper<T> implements Disposable {
 
         isBuffering = false;
         buffered.onComplete();
+        // the replayed items are only held by the queues of the subscribers from now on
+        addToBufferedCount(-replayBufferedCount);
+        replayBufferedCount = 0;
     }
 
     private boolean isDisposed = false;
@@ -123,4 +226,4 @@ public final class BufferingFlowableWrapper<T> implements Disposable {
     public boolean isDisposed() {
         return isDisposed;
     }
-}
\ No newline at end of file
+}
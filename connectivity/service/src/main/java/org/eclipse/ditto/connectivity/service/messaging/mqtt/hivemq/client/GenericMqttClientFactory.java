@@ -12,10 +12,15 @@
  */
 package org.eclipse.ditto.connectivity.service.messaging.mqtt.hivemq.client;
 
+import java.util.function.LongConsumer;
+
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.connectivity.model.Connection;
 import org.eclipse.ditto.connectivity.model.ConnectionType;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.internal.utils.metrics.instruments.gauge.Gauge;
 
 import com.hivemq.client.mqtt.mqtt3.Mqtt3AsyncClient;
 import com.hivemq.client.mqtt.mqtt3.Mqtt3RxClient;
@@ -28,6 +33,9 @@ import com.hivemq.client.mqtt.mqtt5.Mqtt5RxClient;
 @Immutable
 public final class GenericMqttClientFactory {
 
+    private static final String DROPPED_PUBLISHES_COUNTER_NAME = "mqtt_consumer_dropped_publishes";
+    private static final String BUFFERED_PUBLISHES_GAUGE_NAME = "mqtt_consumer_buffered_publishes";
+
     private GenericMqttClientFactory() {
         super();
     }
@@ -81,13 +89,37 @@ public final class GenericMqttClientFactory {
             final var mqtt3Client = HiveMqttClientFactory.getMqtt3Client(hiveMqttClientProperties,
                     subscribingClientIdFactory.getMqttClientIdentifier(),
                     clientRole);
-            subscribingClient = BaseGenericMqttSubscribingClient.ofMqtt3RxClient(mqtt3Client.toRx(), clientRole);
+            subscribingClient = BaseGenericMqttSubscribingClient.ofMqtt3RxClient(mqtt3Client.toRx(),
+                    clientRole,
+                    getMaxBufferedPublishes(hiveMqttClientProperties),
+                    countDroppedPublishes(hiveMqttClientProperties),
+                    reportBufferedPublishes(hiveMqttClientProperties));
             publishingClient =
                     BaseGenericMqttPublishingClient.ofMqtt3AsyncClient(mqtt3Client.toAsync(), clientRole);
         }
         return DefaultGenericMqttClient.newInstance(subscribingClient, publishingClient, hiveMqttClientProperties);
     }
 
+    private static int getMaxBufferedPublishes(final HiveMqttClientProperties hiveMqttClientProperties) {
+        final var mqttConfig = hiveMqttClientProperties.getMqttConfig();
+        return mqttConfig.getConsumerMaxBufferedPublishes();
+    }
+
+    private static Runnable countDroppedPublishes(final HiveMqttClientProperties hiveMqttClientProperties) {
+        final var mqttConnection = hiveMqttClientProperties.getMqttConnection();
+        final Counter droppedPublishesCounter = DittoMetrics.counter(DROPPED_PUBLISHES_COUNTER_NAME)
+                .tag("connectionId", mqttConnection.getId().toString());
+        return droppedPublishesCounter::increment;
+    }
+
+    private static LongConsumer reportBufferedPublishes(final HiveMqttClientProperties hiveMqttClientProperties) {
+        final var mqttConnection = hiveMqttClientProperties.getMqttConnection();
+        final Gauge bufferedPublishesGauge = DittoMetrics.gauge(BUFFERED_PUBLISHES_GAUGE_NAME)
+                .tag("connectionId", mqttConnection.getId().toString());
+        bufferedPublishesGauge.set(0L);
+        return bufferedPublishes -> bufferedPublishesGauge.set(bufferedPublishes);
+    }
+
     private static boolean isSeparatePublisherClient(final HiveMqttClientProperties hiveMqttClientProperties) {
         final var mqttSpecificConfig = hiveMqttClientProperties.getMqttSpecificConfig();
         return mqttSpecificConfig.isSeparatePublisherClient();
@@ -105,7 +137,10 @@ public final class GenericMqttClientFactory {
                         subscribingClientIdFactory.getMqttClientIdentifier(),
                         clientRole
                 ).toRx(),
-                clientRole
+                clientRole,
+                getMaxBufferedPublishes(hiveMqttClientProperties),
+                countDroppedPublishes(hiveMqttClientProperties),
+                reportBufferedPublishes(hiveMqttClientProperties)
         );
     }
 
@@ -141,7 +176,11 @@ public final class GenericMqttClientFactory {
             final var mqtt5Client = HiveMqttClientFactory.getMqtt5Client(hiveMqttClientProperties,
                     subscribingClientIdFactory.getMqttClientIdentifier(),
                     clientRole);
-            subscribingClient = BaseGenericMqttSubscribingClient.ofMqtt5RxClient(mqtt5Client.toRx(), clientRole);
+            subscribingClient = BaseGenericMqttSubscribingClient.ofMqtt5RxClient(mqtt5Client.toRx(),
+                    clientRole,
+                    getMaxBufferedPublishes(hiveMqttClientProperties),
+                    countDroppedPublishes(hiveMqttClientProperties),
+                    reportBufferedPublishes(hiveMqttClientProperties));
             publishingClient =
                     BaseGenericMqttPublishingClient.ofMqtt5AsyncClient(mqtt5Client.toAsync(), clientRole);
         }
@@ -160,7 +199,10 @@ public final class GenericMqttClientFactory {
                         subscribingClientIdFactory.getMqttClientIdentifier(),
                         clientRole
                 ).toRx(),
-                clientRole
+                clientRole,
+                getMaxBufferedPublishes(hiveMqttClientProperties),
+                countDroppedPublishes(hiveMqttClientProperties),
+                reportBufferedPublishes(hiveMqttClientProperties)
         );
     }
 
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.messaging.mqtt.hivemq.consuming;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.base.model.common.ConditionChecker;
+import org.eclipse.ditto.internal.utils.metrics.instruments.gauge.Gauge;
+
+/**
+ * Limits the number of MQTT publishes which are processed but not yet acknowledged.
+ * A publish acquires a {@link Permit} before it is processed and releases it once it was acknowledged.
+ * When all permits are taken, acquiring completes only after a permit was released, which back-pressures the stream
+ * of publishes and thus the MQTT client.
+ */
+@ThreadSafe
+final class InFlightWindow {
+
+    private final int maxInFlight;
+    private final Gauge inFlightGauge;
+
+    // guarded by "this"
+    private final Queue<CompletableFuture<Permit>> waitingForPermit;
+    private int inFlight;
+
+    private InFlightWindow(final int maxInFlight, final Gauge inFlightGauge) {
+        this.maxInFlight = maxInFlight;
+        this.inFlightGauge = inFlightGauge;
+        waitingForPermit = new ArrayDeque<>();
+        inFlight = 0;
+    }
+
+    /**
+     * Returns a new instance of {@code InFlightWindow}.
+     *
+     * @param maxInFlight the maximum number of permits which can be acquired at the same time.
+     * @param inFlightGauge the gauge which reports the number of acquired permits.
+     * @return the instance.
+     * @throws IllegalArgumentException if {@code maxInFlight} is not positive.
+     * @throws NullPointerException if {@code inFlightGauge} is {@code null}.
+     */
+    static InFlightWindow newInstance(final int maxInFlight, final Gauge inFlightGauge) {
+        ConditionChecker.checkArgument(maxInFlight, max -> max > 0,
+                () -> "The maxInFlight must be positive but it was <" + maxInFlight + ">.");
+        return new InFlightWindow(maxInFlight, ConditionChecker.checkNotNull(inFlightGauge, "inFlightGauge"));
+    }
+
+    /**
+     * Acquires a permit.
+     *
+     * @return a future which completes with the permit as soon as one is available.
+     */
+    CompletionStage<Permit> acquire() {
+        synchronized (this) {
+            if (inFlight < maxInFlight) {
+                inFlight++;
+                inFlightGauge.increment();
+                return CompletableFuture.completedFuture(new Permit());
+            }
+            final var waiting = new CompletableFuture<Permit>();
+            waitingForPermit.add(waiting);
+            return waiting;
+        }
+    }
+
+    /**
+     * @return the number of currently acquired permits.
+     */
+    synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    private void release() {
+        @Nullable final CompletableFuture<Permit> waiting;
+        synchronized (this) {
+            waiting = waitingForPermit.poll();
+            if (null == waiting) {
+                inFlight--;
+                inFlightGauge.decrement();
+            }
+        }
+
+        // hand the permit over directly; complete outside the lock as completing runs the downstream stage
+        if (null != waiting) {
+            waiting.complete(new Permit());
+        }
+    }
+
+    /**
+     * A permit to process one publish. Releasing a permit more than once has no effect.
+     */
+    final class Permit {
+
+        private final AtomicBoolean released = new AtomicBoolean(false);
+
+        private Permit() {
+            super();
+        }
+
+        /**
+         * Releases this permit.
+         */
+        void release() {
+            if (released.compareAndSet(false, true)) {
+                InFlightWindow.this.release();
+            }
+        }
+
+    }
+
+}
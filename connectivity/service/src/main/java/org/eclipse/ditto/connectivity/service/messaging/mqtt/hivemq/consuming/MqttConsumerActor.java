@@ -12,6 +12,12 @@
  */
 package org.eclipse.ditto.connectivity.service.messaging.mqtt.hivemq.consuming;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import javax.annotation.Nullable;
+
 import org.eclipse.ditto.base.model.common.ConditionChecker;
 import org.eclipse.ditto.base.model.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.connectivity.api.ExternalMessage;
@@ -35,8 +41,11 @@ import org.eclipse.ditto.internal.utils.pekko.logging.ThreadSafeDittoLoggingAdap
 import org.eclipse.ditto.internal.utils.health.RetrieveHealth;
 import org.eclipse.ditto.internal.utils.health.RetrieveHealthResponse;
 import org.eclipse.ditto.internal.utils.health.StatusInfo;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
 
 import com.hivemq.client.internal.mqtt.datatypes.MqttTopicFilterImpl;
+import com.hivemq.client.mqtt.datatypes.MqttQos;
+import com.hivemq.client.mqtt.datatypes.MqttTopicFilter;
 
 import org.apache.pekko.NotUsed;
 import org.apache.pekko.actor.Props;
@@ -54,10 +63,15 @@ import org.apache.pekko.stream.javadsl.Source;
  */
 public final class MqttConsumerActor extends BaseConsumerActor {
 
+    private static final String IN_FLIGHT_GAUGE_NAME = "mqtt_consumer_in_flight_publishes";
+    private static final Runnable NO_PERMIT = () -> {};
+
     private final OperationMode operationMode;
     private final MqttConfig mqttConfig;
     private final ThreadSafeDittoLoggingAdapter logger;
     private final MqttSpecificConfig mqttSpecificConfig;
+    private final List<MqttTopicFilter> sourceTopicFilters;
+    @Nullable private final InFlightWindow inFlightWindow;
 
     private KillSwitch killSwitch;
     private Source<GenericMqttPublish, NotUsed> mqttPublishSource;
@@ -88,11 +102,31 @@ public final class MqttConsumerActor extends BaseConsumerActor {
         logger.withMdcEntry(ConnectivityMdcEntryKey.CONNECTION_TYPE, connection.getConnectionType());
 
         mqttSpecificConfig = MqttSpecificConfig.fromConnection(connection, mqttConfig);
+        sourceTopicFilters = source.getAddresses()
+                .stream()
+                .<MqttTopicFilter>map(MqttTopicFilterImpl::of)
+                .toList();
+        inFlightWindow = getInFlightWindowIfLimited(connection, mqttConfig.getConsumerMaxInFlight());
 
         killSwitch = null;
         this.mqttPublishSource = mqttPublishSource;
     }
 
+    @Nullable
+    private InFlightWindow getInFlightWindowIfLimited(final Connection connection, final int maxInFlight) {
+        final InFlightWindow result;
+        if (0 < maxInFlight) {
+            final var inFlightGauge = DittoMetrics.gauge(IN_FLIGHT_GAUGE_NAME)
+                    .tag("connectionId", connection.getId().toString())
+                    .tag("sourceAddress", sourceAddress);
+            inFlightGauge.set(0L);
+            result = InFlightWindow.newInstance(maxInFlight, inFlightGauge);
+        } else {
+            result = null;
+        }
+        return result;
+    }
+
     /**
      * Returns the {@code Props} for creating an {@code MqttConsumerActor} with the specified arguments.
      * The once created consumer actor operates in 'dry-run' mode, i.e. it drops all MQTT publish messages it receives.
@@ -199,10 +233,13 @@ public final class MqttConsumerActor extends BaseConsumerActor {
      * @return whether the message matches the topics of this source.
      */
     private boolean messageHasRightTopicPath(final GenericMqttPublish genericMqttPublish) {
-        return super.source.getAddresses()
-                .stream()
-                .map(MqttTopicFilterImpl::of)
-                .anyMatch(topicFilter -> topicFilter.matches(genericMqttPublish.getTopic()));
+        final var topic = genericMqttPublish.getTopic();
+        for (final MqttTopicFilter topicFilter : sourceTopicFilters) {
+            if (topicFilter.matches(topic)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     private <T extends TransformationResult<GenericMqttPublish, ExternalMessage>> Sink<T, ?> getTransformationFailureSink() {
@@ -241,19 +278,47 @@ public final class MqttConsumerActor extends BaseConsumerActor {
         return Flow.<T>create()
                 .alsoTo(Flow.<T, ExternalMessage>fromFunction(TransformationResult::getSuccessValueOrThrow)
                         .to(Sink.foreach(inboundMonitor::success)))
-                .map(this::getAcknowledgeableMessageForTransformationResult)
+                .mapAsync(1, transformationResult ->
+                        acquireInFlightPermit(transformationResult.getTransformationInput())
+                                .thenApply(releasePermit -> getAcknowledgeableMessageForTransformationResult(
+                                        transformationResult, releasePermit)))
                 .to(getMessageMappingSink());
     }
 
+    /**
+     * Acquires a permit of the in-flight window for publishes which have to be acknowledged.
+     * The returned stage completes only when the publish may be processed; this back-pressures the MQTT client as
+     * long as too many publishes wait for their acknowledgement.
+     *
+     * @param genericMqttPublish the publish to be processed.
+     * @return a stage of the action which releases the permit after the publish was acknowledged.
+     */
+    private CompletionStage<Runnable> acquireInFlightPermit(final GenericMqttPublish genericMqttPublish) {
+        final CompletionStage<Runnable> result;
+        if (null == inFlightWindow || MqttQos.AT_MOST_ONCE == genericMqttPublish.getQos()) {
+            result = CompletableFuture.completedFuture(NO_PERMIT);
+        } else {
+            result = inFlightWindow.acquire().thenApply(permit -> permit::release);
+        }
+        return result;
+    }
+
     private AcknowledgeableMessage getAcknowledgeableMessageForTransformationResult(
-            final TransformationResult<GenericMqttPublish, ExternalMessage> transformationResult
+            final TransformationResult<GenericMqttPublish, ExternalMessage> transformationResult,
+            final Runnable releasePermit
     ) {
         final var externalMessage = transformationResult.getSuccessValueOrThrow();
         final var genericMqttPublish = transformationResult.getTransformationInput();
 
         return AcknowledgeableMessage.of(externalMessage,
-                () -> tryToAcknowledgePublish(genericMqttPublish, externalMessage),
-                shouldRedeliver -> rejectIncomingMessage(shouldRedeliver, externalMessage, genericMqttPublish));
+                () -> {
+                    tryToAcknowledgePublish(genericMqttPublish, externalMessage);
+                    releasePermit.run();
+                },
+                shouldRedeliver -> {
+                    rejectIncomingMessage(shouldRedeliver, externalMessage, genericMqttPublish);
+                    releasePermit.run();
+                });
     }
 
     private void tryToAcknowledgePublish(final GenericMqttPublish mqttPublish, final ExternalMessage externalMessage) {
@@ -15,21 +15,24 @@ package org.eclipse.ditto.connectivity.service.messaging.persistence;
 import static org.eclipse.ditto.protocol.TopicPath.Criterion.COMMANDS;
 import static org.eclipse.ditto.protocol.TopicPath.Criterion.EVENTS;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.Predicate;
 
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.base.model.auth.AuthorizationContext;
 import org.eclipse.ditto.base.model.entity.id.EntityId;
 import org.eclipse.ditto.base.model.entity.id.WithEntityId;
+import org.eclipse.ditto.base.model.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
 import org.eclipse.ditto.base.model.namespaces.NamespaceReader;
 import org.eclipse.ditto.base.model.signals.Signal;
-import org.eclipse.ditto.base.model.signals.WithResource;
 import org.eclipse.ditto.base.model.signals.commands.Command;
 import org.eclipse.ditto.base.model.signals.commands.CommandResponse;
 import org.eclipse.ditto.base.model.signals.events.Event;
@@ -69,6 +72,9 @@ import org.eclipse.ditto.things.model.signals.events.ThingEventToThingConverter;
  * <li>removing those targets that do not want to receive a signal</li>
  * <li>removing those targets that are not allowed to read a signal</li>
  * </ul>
+ * The topics, namespaces and RQL filters of all targets are compiled once per connection into a lookup by topic, so
+ * that filtering a signal only visits the targets subscribed for the topic of the signal and never re-parses a
+ * filter.
  */
 public final class SignalFilter {
 
@@ -79,14 +85,17 @@ public final class SignalFilter {
     private static final FeaturePlaceholder FEATURE_PLACEHOLDER = FeaturePlaceholder.getInstance();
     private static final ResourcePlaceholder RESOURCE_PLACEHOLDER = ResourcePlaceholder.getInstance();
     private static final TimePlaceholder TIME_PLACEHOLDER = TimePlaceholder.getInstance();
+    private static final Thing EMPTY_THING = Thing.newBuilder().build();
 
     private final Connection connection;
     private final ConnectionMonitorRegistry<ConnectionMonitor> connectionMonitorRegistry;
+    private final Map<Topic, List<SubscribedTarget>> targetsByTopic;
 
     SignalFilter(final Connection connection,
             final ConnectionMonitorRegistry<ConnectionMonitor> connectionMonitorRegistry) {
         this.connection = connection;
         this.connectionMonitorRegistry = connectionMonitorRegistry;
+        targetsByTopic = compileTargets(connection.getTargets());
     }
 
     /**
@@ -110,53 +119,55 @@ public final class SignalFilter {
      * @throws org.eclipse.ditto.base.model.exceptions.InvalidRqlExpressionException if the optional filter string of a
      * Target cannot be mapped to a valid criterion
      */
-    @SuppressWarnings("squid:S3864")
     public List<Target> filter(final Signal<?> signal) {
-        return connection.getTargets().stream()
-                .filter(t -> isTargetAuthorized(t, signal)) // this is cheaper, so check this first
-                .filter(t -> isTargetSubscribedForTopicGenerally(t, signal))
+        final List<SubscribedTarget> subscribedTargets = topicFromSignal(signal)
+                .map(targetsByTopic::get)
+                .orElse(null);
+        if (null == subscribedTargets) {
+            return List.of();
+        }
+        final boolean authorizationRequired = isAuthorizationRequired(signal);
+        final SignalContext signalContext = new SignalContext(signal);
+        final List<Target> result = new ArrayList<>(subscribedTargets.size());
+        for (final SubscribedTarget subscribedTarget : subscribedTargets) {
+            final Target target = subscribedTarget.target();
+            // authorization is cheaper than filtering, so check it first
+            if (!authorizationRequired || isTargetAuthorized(target, signal)) {
                 // count authorized targets which generally are interested in the topic (e.g. "live messages")
-                .peek(authorizedTarget -> connectionMonitorRegistry.forOutboundDispatched(connection,
-                        authorizedTarget.getAddress())
-                        .success(signal))
-                .filter(t -> isTargetSubscribedForTopicWithFiltering(t, signal))
-                // count authorized + filtered targets
-                .peek(filteredTarget -> connectionMonitorRegistry.forOutboundFiltered(connection,
-                        filteredTarget.getAddress())
-                        .success(signal))
-                .toList();
-    }
-
-    private static boolean isTargetAuthorized(final Target target, final Signal<?> signal) {
-        if (signal instanceof PolicyAnnouncement || signal instanceof ConnectivityAnnouncement) {
-            return true;
-        } else {
-            final AuthorizationContext authorizationContext = target.getAuthorizationContext();
-            final DittoHeaders headers = signal.getDittoHeaders();
-            return authorizationContext.isAuthorized(headers.getReadGrantedSubjects(),
-                    headers.getReadRevokedSubjects());
+                connectionMonitorRegistry.forOutboundDispatched(connection, target.getAddress()).success(signal);
+                if (subscribedTarget.matches(signalContext)) {
+                    // count authorized + filtered targets
+                    connectionMonitorRegistry.forOutboundFiltered(connection, target.getAddress()).success(signal);
+                    result.add(target);
+                }
+            }
         }
+        return Collections.unmodifiableList(result);
     }
 
-    private static boolean isTargetSubscribedForTopicGenerally(final Target target, final Signal<?> signal) {
-        return target.getTopics().stream()
-                .anyMatch(applyTopicFilter(signal));
-    }
-
-    private static boolean isTargetSubscribedForTopicWithFiltering(final Target target, final Signal<?> signal) {
-        return target.getTopics().stream()
-                .filter(applyTopicFilter(signal))
-                .filter(applyNamespaceFilter(signal))
-                .anyMatch(filteredTopic -> matchesFilterBeforeEnrichment(filteredTopic, signal));
+    private static Map<Topic, List<SubscribedTarget>> compileTargets(final List<Target> targets) {
+        final Map<Topic, List<SubscribedTarget>> result = new EnumMap<>(Topic.class);
+        for (final Target target : targets) {
+            final Map<Topic, List<CompiledTopicFilter>> filtersByTopic = new EnumMap<>(Topic.class);
+            for (final FilteredTopic filteredTopic : target.getTopics()) {
+                filtersByTopic.computeIfAbsent(filteredTopic.getTopic(), topic -> new ArrayList<>())
+                        .add(CompiledTopicFilter.of(filteredTopic));
+            }
+            filtersByTopic.forEach((topic, topicFilters) -> result.computeIfAbsent(topic, t -> new ArrayList<>())
+                    .add(new SubscribedTarget(target, List.copyOf(topicFilters))));
+        }
+        result.replaceAll((topic, subscribedTargets) -> List.copyOf(subscribedTargets));
+        return result;
     }
 
-    private static Predicate<FilteredTopic> applyTopicFilter(final Signal<?> signal) {
-        return t -> t.getTopic().equals(topicFromSignal(signal).orElse(null));
+    private static boolean isAuthorizationRequired(final Signal<?> signal) {
+        return !(signal instanceof PolicyAnnouncement || signal instanceof ConnectivityAnnouncement);
     }
 
-    private static Predicate<FilteredTopic> applyNamespaceFilter(final Signal<?> signal) {
-        return t -> t.getNamespaces().isEmpty() ||
-                (signal instanceof WithEntityId withEntityId && t.getNamespaces().contains(namespaceFromId(withEntityId)));
+    private static boolean isTargetAuthorized(final Target target, final Signal<?> signal) {
+        final AuthorizationContext authorizationContext = target.getAuthorizationContext();
+        final DittoHeaders headers = signal.getDittoHeaders();
+        return authorizationContext.isAuthorized(headers.getReadGrantedSubjects(), headers.getReadRevokedSubjects());
     }
 
     @Nullable
@@ -164,57 +175,148 @@ public final class SignalFilter {
         return NamespaceReader.fromEntityId(withEntityId.getEntityId()).orElse(null);
     }
 
-    private static boolean matchesFilterBeforeEnrichment(final FilteredTopic filteredTopic, final Signal<?> signal) {
-        final Optional<String> filterOptional = filteredTopic.getFilter();
-        if (filterOptional.isPresent()) {
-            // match filter ignoring "extraFields"
+    /**
+     * A target together with its compiled filters for one topic.
+     */
+    private record SubscribedTarget(Target target, List<CompiledTopicFilter> topicFilters) {
+
+        private boolean matches(final SignalContext signalContext) {
+            for (final CompiledTopicFilter topicFilter : topicFilters) {
+                if (topicFilter.matches(signalContext)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+    }
+
+    /**
+     * The namespaces and the RQL filter of a {@link FilteredTopic} in a form which is cheap to evaluate.
+     * The filter is parsed once; a filter which cannot be parsed fails every evaluation with the headers of the
+     * evaluated signal.
+     */
+    private static final class CompiledTopicFilter {
+
+        private final Set<String> namespaces;
+        @Nullable private final Thing3ValuePredicateVisitor.CompiledPredicate predicate;
+        @Nullable private final DittoRuntimeException parseError;
+
+        private CompiledTopicFilter(final Set<String> namespaces,
+                @Nullable final Thing3ValuePredicateVisitor.CompiledPredicate predicate,
+                @Nullable final DittoRuntimeException parseError) {
+            this.namespaces = namespaces;
+            this.predicate = predicate;
+            this.parseError = parseError;
+        }
 
-            final TopicPath topicPath = DITTO_PROTOCOL_ADAPTER.toTopicPath(signal);
-            final PlaceholderResolver<TopicPath> topicPathPlaceholderResolver =
-                    PlaceholderFactory.newPlaceholderResolver(TOPIC_PATH_PLACEHOLDER, topicPath);
-            final PlaceholderResolver<EntityId> entityIdPlaceholderResolver = PlaceholderFactory
-                    .newPlaceholderResolver(ENTITY_ID_PLACEHOLDER,
-                            (signal instanceof WithEntityId withEntityId) ? withEntityId.getEntityId() : null);
-            final PlaceholderResolver<EntityId> thingPlaceholderResolver = PlaceholderFactory
-                    .newPlaceholderResolver(THING_PLACEHOLDER,
-                            (signal instanceof WithEntityId withEntityId) ? withEntityId.getEntityId() : null);
-            final PlaceholderResolver<Signal<?>> featurePlaceholderResolver = PlaceholderFactory
-                    .newPlaceholderResolver(FEATURE_PLACEHOLDER, signal);
-            final PlaceholderResolver<WithResource> resourcePlaceholderResolver = PlaceholderFactory
-                    .newPlaceholderResolver(RESOURCE_PLACEHOLDER, signal);
-            final PlaceholderResolver<Object> timePlaceholderResolver = PlaceholderFactory
-                    .newPlaceholderResolver(TIME_PLACEHOLDER, new Object());
-            final Criteria criteria = parseCriteria(filterOptional.get(), signal.getDittoHeaders(),
-                    topicPathPlaceholderResolver, entityIdPlaceholderResolver, thingPlaceholderResolver,
-                    featurePlaceholderResolver, resourcePlaceholderResolver, timePlaceholderResolver);
+        private static CompiledTopicFilter of(final FilteredTopic filteredTopic) {
+            final Set<String> namespaces = new HashSet<>(filteredTopic.getNamespaces());
+            final Optional<String> filterOptional = filteredTopic.getFilter();
+            if (filterOptional.isEmpty()) {
+                return new CompiledTopicFilter(namespaces, null, null);
+            }
+            // match filter ignoring "extraFields"
             final Set<JsonPointer> extraFields = filteredTopic.getExtraFields()
                     .map(JsonFieldSelector::getPointers)
                     .orElse(Collections.emptySet());
-            if (signal instanceof ThingEvent) {
-                return ThingEventToThingConverter.thingEventToThing((ThingEvent<?>) signal)
-                        .filter(thing -> Thing3ValuePredicateVisitor.couldBeTrue(criteria, extraFields, thing,
-                                topicPathPlaceholderResolver, entityIdPlaceholderResolver, thingPlaceholderResolver,
-                                featurePlaceholderResolver, resourcePlaceholderResolver, timePlaceholderResolver))
-                        .isPresent();
-            } else {
-                final Thing emptyThing = Thing.newBuilder().build();
-                return Thing3ValuePredicateVisitor.couldBeTrue(criteria, extraFields, emptyThing,
-                        topicPathPlaceholderResolver, entityIdPlaceholderResolver, thingPlaceholderResolver,
-                        featurePlaceholderResolver, resourcePlaceholderResolver, timePlaceholderResolver);
+            try {
+                final Criteria criteria = parseCriteria(filterOptional.get());
+                return new CompiledTopicFilter(namespaces, Thing3ValuePredicateVisitor.compile(criteria, extraFields),
+                        null);
+            } catch (final DittoRuntimeException e) {
+                return new CompiledTopicFilter(namespaces, null, e);
             }
-        } else {
-            return true;
         }
+
+        /**
+         * @throws org.eclipse.ditto.base.model.exceptions.InvalidRqlExpressionException if the filter string cannot be
+         * mapped to a valid criterion
+         */
+        private static Criteria parseCriteria(final String filter) {
+            return QueryFilterCriteriaFactory.modelBased(RqlPredicateParser.getInstance(), TOPIC_PATH_PLACEHOLDER,
+                            ENTITY_ID_PLACEHOLDER, THING_PLACEHOLDER, FEATURE_PLACEHOLDER, RESOURCE_PLACEHOLDER,
+                            TIME_PLACEHOLDER)
+                    .filterCriteria(filter, DittoHeaders.empty());
+        }
+
+        private boolean matches(final SignalContext signalContext) {
+            if (!namespaces.isEmpty() && !namespaces.contains(signalContext.getNamespace())) {
+                return false;
+            }
+            if (null != parseError) {
+                throw parseError.setDittoHeaders(signalContext.signal.getDittoHeaders());
+            }
+            if (null == predicate) {
+                return true;
+            }
+            final Thing thing = signalContext.getThing();
+            return null != thing && predicate.couldBeTrue(thing, signalContext.getPlaceholderResolvers());
+        }
+
     }
 
     /**
-     * @throws org.eclipse.ditto.base.model.exceptions.InvalidRqlExpressionException if the filter string cannot be
-     * mapped to a valid criterion
+     * Values derived from one signal which are computed lazily at most once, no matter how many targets evaluate
+     * them.
      */
-    private static Criteria parseCriteria(final String filter, final DittoHeaders dittoHeaders,
-            final PlaceholderResolver<?>... placeholderResolvers) {
-        return QueryFilterCriteriaFactory.modelBased(RqlPredicateParser.getInstance(), placeholderResolvers)
-                .filterCriteria(filter, dittoHeaders);
+    private static final class SignalContext {
+
+        private final Signal<?> signal;
+        private boolean namespaceResolved;
+        @Nullable private String namespace;
+        private boolean thingResolved;
+        @Nullable private Thing thing;
+        @Nullable private List<PlaceholderResolver<?>> placeholderResolvers;
+
+        private SignalContext(final Signal<?> signal) {
+            this.signal = signal;
+        }
+
+        @Nullable
+        private String getNamespace() {
+            if (!namespaceResolved) {
+                namespace = signal instanceof WithEntityId withEntityId ? namespaceFromId(withEntityId) : null;
+                namespaceResolved = true;
+            }
+            return namespace;
+        }
+
+        /**
+         * @return the partial thing to evaluate filters against or {@code null} if the signal is a thing event which
+         * cannot be converted to a thing.
+         */
+        @Nullable
+        private Thing getThing() {
+            if (!thingResolved) {
+                if (signal instanceof ThingEvent<?> thingEvent) {
+                    thing = ThingEventToThingConverter.thingEventToThing(thingEvent).orElse(null);
+                } else {
+                    thing = EMPTY_THING;
+                }
+                thingResolved = true;
+            }
+            return thing;
+        }
+
+        private List<PlaceholderResolver<?>> getPlaceholderResolvers() {
+            if (null == placeholderResolvers) {
+                final TopicPath topicPath = DITTO_PROTOCOL_ADAPTER.toTopicPath(signal);
+                final EntityId entityId = signal instanceof WithEntityId withEntityId
+                        ? withEntityId.getEntityId()
+                        : null;
+                placeholderResolvers = List.of(
+                        PlaceholderFactory.newPlaceholderResolver(TOPIC_PATH_PLACEHOLDER, topicPath),
+                        PlaceholderFactory.newPlaceholderResolver(ENTITY_ID_PLACEHOLDER, entityId),
+                        PlaceholderFactory.newPlaceholderResolver(THING_PLACEHOLDER, entityId),
+                        PlaceholderFactory.newPlaceholderResolver(FEATURE_PLACEHOLDER, signal),
+                        PlaceholderFactory.newPlaceholderResolver(RESOURCE_PLACEHOLDER, signal),
+                        PlaceholderFactory.newPlaceholderResolver(TIME_PLACEHOLDER, new Object())
+                );
+            }
+            return placeholderResolvers;
+        }
+
     }
 
     private static Optional<Topic> topicFromSignal(final Signal<?> signal) {
@@ -17,7 +17,6 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
-import java.util.function.Function;
 
 import org.eclipse.ditto.json.JsonKey;
 import org.eclipse.ditto.json.JsonPointer;
@@ -35,18 +34,31 @@ import org.eclipse.ditto.rql.query.things.ThingPredicatePredicateVisitor;
 import org.eclipse.ditto.things.model.Thing;
 
 /**
- * Visitor to evaluate a criteria against a partial thing with unknown fields.
+ * Visitor to compile a criteria into a predicate which evaluates it against a partial thing with unknown fields.
+ * Unknown fields are resolved when compiling so that evaluation only needs to look at the thing and the placeholder
+ * resolvers of the signal.
  */
-final class Thing3ValuePredicateVisitor implements CriteriaVisitor<Function<Thing, Trilean>> {
+final class Thing3ValuePredicateVisitor implements CriteriaVisitor<Thing3ValuePredicateVisitor.CompiledPredicate> {
+
+    private static final CompiledPredicate ALWAYS_TRUE = (thing, placeholderResolvers) -> Trilean.TRUE;
+    private static final CompiledPredicate ALWAYS_UNKNOWN = (thing, placeholderResolvers) -> Trilean.UNKNOWN;
 
     private final Set<JsonPointer> unknownFields;
-    private final List<PlaceholderResolver<?>> placeholderResolvers;
 
-    private Thing3ValuePredicateVisitor(final Set<JsonPointer> unknownFields,
-            final Collection<PlaceholderResolver<?>> placeholderResolvers) {
+    private Thing3ValuePredicateVisitor(final Set<JsonPointer> unknownFields) {
         // only internally instantiable, therefore no copying + immutability of fields
         this.unknownFields = unknownFields;
-        this.placeholderResolvers = new ArrayList<>(placeholderResolvers);
+    }
+
+    /**
+     * Compile criteria into a predicate which can be evaluated against many partial things.
+     *
+     * @param criteria the criteria.
+     * @param unknownFields the set of unknown fields that shall not falsify the criteria evaluation result.
+     * @return the compiled predicate.
+     */
+    static CompiledPredicate compile(final Criteria criteria, final Set<JsonPointer> unknownFields) {
+        return criteria.accept(new Thing3ValuePredicateVisitor(unknownFields));
     }
 
     /**
@@ -82,50 +94,69 @@ final class Thing3ValuePredicateVisitor implements CriteriaVisitor<Function<Thin
             final Set<JsonPointer> unknownFields,
             final Thing partialThing,
             final Collection<PlaceholderResolver<?>> placeholderResolvers) {
-        return Trilean.FALSE != criteria.accept(new Thing3ValuePredicateVisitor(unknownFields, placeholderResolvers))
-                .apply(partialThing);
+        return compile(criteria, unknownFields).couldBeTrue(partialThing, new ArrayList<>(placeholderResolvers));
     }
 
     @Override
-    public Function<Thing, Trilean> visitAnd(final List<Function<Thing, Trilean>> conjuncts) {
-        return thing -> conjuncts.stream().map(f -> f.apply(thing)).reduce(Trilean::and).orElse(Trilean.TRUE);
+    public CompiledPredicate visitAnd(final List<CompiledPredicate> conjuncts) {
+        return (thing, placeholderResolvers) -> {
+            Trilean result = Trilean.TRUE;
+            for (final CompiledPredicate conjunct : conjuncts) {
+                result = Trilean.and(result, conjunct.apply(thing, placeholderResolvers));
+                if (Trilean.FALSE == result) {
+                    break;
+                }
+            }
+            return result;
+        };
     }
 
     @Override
-    public Function<Thing, Trilean> visitAny() {
-        return thing -> Trilean.TRUE;
+    public CompiledPredicate visitAny() {
+        return ALWAYS_TRUE;
     }
 
     @Override
-    public Function<Thing, Trilean> visitExists(final ExistsFieldExpression fieldExpression) {
-        return thing -> isUnknownField(fieldExpression)
-                ? Trilean.UNKNOWN
-                : Trilean.lift(ExistsThingPredicateVisitor.apply(fieldExpression, placeholderResolvers).test(thing));
+    public CompiledPredicate visitExists(final ExistsFieldExpression fieldExpression) {
+        if (isUnknownField(fieldExpression)) {
+            return ALWAYS_UNKNOWN;
+        }
+        return (thing, placeholderResolvers) -> Trilean.lift(
+                ExistsThingPredicateVisitor.apply(fieldExpression, placeholderResolvers).test(thing));
     }
 
     @Override
-    public Function<Thing, Trilean> visitField(final FilterFieldExpression fieldExpression, final Predicate predicate) {
-        return thing -> {
-            if (isUnknownField(fieldExpression)) {
-                return Trilean.UNKNOWN;
-            } else {
-                final ThingPredicatePredicateVisitor ppVisitor = ThingPredicatePredicateVisitor
-                        .createInstance(placeholderResolvers);
-                return Trilean.lift(
-                        FilterThingPredicateVisitor.apply(fieldExpression, predicate.accept(ppVisitor)).test(thing)
-                );
-            }
+    public CompiledPredicate visitField(final FilterFieldExpression fieldExpression, final Predicate predicate) {
+        if (isUnknownField(fieldExpression)) {
+            return ALWAYS_UNKNOWN;
+        }
+        return (thing, placeholderResolvers) -> {
+            final ThingPredicatePredicateVisitor ppVisitor = ThingPredicatePredicateVisitor
+                    .createInstance(placeholderResolvers);
+            return Trilean.lift(
+                    FilterThingPredicateVisitor.apply(fieldExpression, predicate.accept(ppVisitor)).test(thing)
+            );
         };
     }
 
     @Override
-    public Function<Thing, Trilean> visitNor(final List<Function<Thing, Trilean>> negativeDisjoints) {
-        return visitOr(negativeDisjoints).andThen(Trilean::not);
+    public CompiledPredicate visitNor(final List<CompiledPredicate> negativeDisjoints) {
+        final CompiledPredicate or = visitOr(negativeDisjoints);
+        return (thing, placeholderResolvers) -> Trilean.not(or.apply(thing, placeholderResolvers));
     }
 
     @Override
-    public Function<Thing, Trilean> visitOr(final List<Function<Thing, Trilean>> disjoints) {
-        return thing -> disjoints.stream().map(f -> f.apply(thing)).reduce(Trilean::or).orElse(Trilean.FALSE);
+    public CompiledPredicate visitOr(final List<CompiledPredicate> disjoints) {
+        return (thing, placeholderResolvers) -> {
+            Trilean result = Trilean.FALSE;
+            for (final CompiledPredicate disjoint : disjoints) {
+                result = Trilean.or(result, disjoint.apply(thing, placeholderResolvers));
+                if (Trilean.TRUE == result) {
+                    break;
+                }
+            }
+            return result;
+        };
     }
 
     private boolean isUnknownField(final FieldExpression fieldExpression) {
@@ -187,4 +218,33 @@ final class Thing3ValuePredicateVisitor implements CriteriaVisitor<Function<Thin
 
     }
 
+    /**
+     * A criteria compiled against a fixed set of unknown fields.
+     */
+    @FunctionalInterface
+    interface CompiledPredicate {
+
+        /**
+         * Evaluate the compiled criteria against a partial thing.
+         *
+         * @param partialThing the partial thing.
+         * @param placeholderResolvers the {@code PlaceholderResolver}s to resolve placeholders with.
+         * @return the 3-valued evaluation result.
+         */
+        Trilean apply(Thing partialThing, List<PlaceholderResolver<?>> placeholderResolvers);
+
+        /**
+         * Evaluate the compiled criteria against a partial thing to see whether it could be true.
+         *
+         * @param partialThing the partial thing.
+         * @param placeholderResolvers the {@code PlaceholderResolver}s to resolve placeholders with.
+         * @return whether the criteria may evaluate to true.
+         */
+        default boolean couldBeTrue(final Thing partialThing,
+                final List<PlaceholderResolver<?>> placeholderResolvers) {
+            return Trilean.FALSE != apply(partialThing, placeholderResolvers);
+        }
+
+    }
+
 }
@@ -60,7 +60,8 @@ public final class DefaultConnectionConfigTest {
                         MqttConfig.class,
                         KafkaConfig.class,
                         Amqp10Config.class,
-                        HttpPushConfig.class
+                        HttpPushConfig.class,
+                        InboundDeduplicationConfig.class
                 ).areAlsoImmutable()
         );
     }
@@ -157,6 +158,23 @@ public final class DefaultConnectionConfigTest {
         softly.assertThat(underTest.getShutdownTimeout())
                 .as(ConnectionConfig.ConnectionConfigValue.SHUTDOWN_TIMEOUT.getConfigPath())
                 .isEqualTo(Duration.ofMinutes(7));
+
+        softly.assertThat(underTest.getInboundDeduplicationConfig())
+                .as("inboundDeduplicationConfig")
+                .satisfies(inboundDeduplicationConfig -> {
+                    softly.assertThat(inboundDeduplicationConfig.isEnabled())
+                            .as(InboundDeduplicationConfig.ConfigValue.ENABLED.getConfigPath())
+                            .isTrue();
+                    softly.assertThat(inboundDeduplicationConfig.getKey())
+                            .as(InboundDeduplicationConfig.ConfigValue.KEY.getConfigPath())
+                            .isEqualTo("{{ header:correlation-id }}");
+                    softly.assertThat(inboundDeduplicationConfig.getWindow())
+                            .as(InboundDeduplicationConfig.ConfigValue.WINDOW.getConfigPath())
+                            .isEqualTo(Duration.ofMinutes(3));
+                    softly.assertThat(inboundDeduplicationConfig.getMaxEntries())
+                            .as(InboundDeduplicationConfig.ConfigValue.MAX_ENTRIES.getConfigPath())
+                            .isEqualTo(500);
+                });
     }
 
 }
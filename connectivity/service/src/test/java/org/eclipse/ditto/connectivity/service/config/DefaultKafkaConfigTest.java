@@ -79,5 +79,7 @@ public class DefaultKafkaConfigTest {
 
         assertThat(underTest.getProducerConfig().getQueueSize()).isEqualTo(39);
         assertThat(underTest.getProducerConfig().getParallelism()).isEqualTo(3);
+        assertThat(underTest.getProducerConfig().getBatchSize()).isEqualTo(50);
+        assertThat(underTest.getProducerConfig().getBatchLinger()).isEqualTo(Duration.ofMillis(20));
     }
 }
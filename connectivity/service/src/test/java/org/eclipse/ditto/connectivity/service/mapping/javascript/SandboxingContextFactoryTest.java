@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.mapping.javascript;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Test;
+import org.mozilla.javascript.Context;
+import org.mozilla.javascript.Script;
+import org.mozilla.javascript.Scriptable;
+
+/**
+ * Unit test for {@link SandboxingContextFactory}.
+ */
+public final class SandboxingContextFactoryTest {
+
+    private final SandboxingContextFactory underTest = new SandboxingContextFactory(Duration.ofMillis(200), 10);
+
+    @Test
+    public void reusesContextOfCurrentThread() {
+        final Context first = underTest.call(cx -> cx);
+        final Context second = underTest.call(cx -> cx);
+
+        assertThat(second).isSameAs(first);
+        assertThat(second.getOptimizationLevel()).isEqualTo(-1);
+        assertThat(second.getLanguageVersion()).isEqualTo(Context.VERSION_ES6);
+    }
+
+    @Test
+    public void usesDifferentContextsForDifferentThreads() {
+        final Context contextOfThisThread = underTest.call(cx -> cx);
+        final Context contextOfOtherThread = CompletableFuture.supplyAsync(() -> underTest.call(cx -> cx)).join();
+
+        assertThat(contextOfOtherThread).isNotSameAs(contextOfThisThread);
+    }
+
+    @Test
+    public void maxExecutionTimeIsEnforcedOnReusedContext() {
+        final Scriptable scope = underTest.call(Context::initSafeStandardObjects);
+        final Script endlessLoop = underTest.call(cx -> cx.compileString("while (true);", "loop", 1, null));
+
+        for (int i = 0; i < 2; i++) {
+            assertThatExceptionOfType(Error.class)
+                    .isThrownBy(() -> underTest.call(cx -> endlessLoop.exec(cx, scope)))
+                    .withMessageContaining("Maximum execution time");
+        }
+        assertThat(underTest.call(cx -> cx.evaluateString(scope, "'still working'", "ok", 1, null)))
+                .isEqualTo("still working");
+    }
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link InboundDeduplicationCache}.
+ */
+public final class InboundDeduplicationCacheTest {
+
+    private static final Duration WINDOW = Duration.ofMinutes(1L);
+
+    private AtomicLong nanoTime;
+
+    @Before
+    public void setUp() {
+        nanoTime = new AtomicLong(42L);
+    }
+
+    @Test
+    public void unknownKeyIsNotContained() {
+        final InboundDeduplicationCache underTest = newCache(10);
+
+        assertThat(underTest.contains("a")).isFalse();
+    }
+
+    @Test
+    public void addedKeyIsContainedWithinWindow() {
+        final InboundDeduplicationCache underTest = newCache(10);
+
+        underTest.add("a");
+        advance(WINDOW.minusNanos(1L));
+
+        assertThat(underTest.contains("a")).isTrue();
+        assertThat(underTest.contains("b")).isFalse();
+    }
+
+    @Test
+    public void keyExpiresAfterWindow() {
+        final InboundDeduplicationCache underTest = newCache(10);
+
+        underTest.add("a");
+        advance(WINDOW.dividedBy(2L));
+        underTest.add("b");
+        advance(WINDOW.dividedBy(2L));
+
+        assertThat(underTest.contains("a")).isFalse();
+        assertThat(underTest.contains("b")).isTrue();
+        assertThat(underTest.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void addingKeyAgainRestartsItsWindow() {
+        final InboundDeduplicationCache underTest = newCache(10);
+
+        underTest.add("a");
+        underTest.add("b");
+        advance(WINDOW.dividedBy(2L));
+        underTest.add("a");
+        advance(WINDOW.dividedBy(2L));
+
+        assertThat(underTest.contains("a")).isTrue();
+        assertThat(underTest.contains("b")).isFalse();
+    }
+
+    @Test
+    public void oldestKeyIsEvictedWhenFull() {
+        final InboundDeduplicationCache underTest = newCache(2);
+
+        underTest.add("a");
+        underTest.add("b");
+        underTest.add("c");
+
+        assertThat(underTest.size()).isEqualTo(2);
+        assertThat(underTest.contains("a")).isFalse();
+        assertThat(underTest.contains("b")).isTrue();
+        assertThat(underTest.contains("c")).isTrue();
+    }
+
+    @Test
+    public void nonPositiveMaxEntriesIsRejected() {
+        assertThatIllegalArgumentException().isThrownBy(() -> newCache(0));
+    }
+
+    @Test
+    public void zeroWindowIsRejected() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> new InboundDeduplicationCache(Duration.ZERO, 1, nanoTime::get));
+    }
+
+    private InboundDeduplicationCache newCache(final int maxEntries) {
+        return new InboundDeduplicationCache(WINDOW, maxEntries, nanoTime::get);
+    }
+
+    private void advance(final Duration duration) {
+        nanoTime.addAndGet(duration.toNanos());
+    }
+
+}
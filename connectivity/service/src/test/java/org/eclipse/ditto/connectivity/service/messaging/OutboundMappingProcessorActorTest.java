@@ -153,6 +153,36 @@ public final class OutboundMappingProcessorActorTest {
         }};
     }
 
+    @Test
+    public void enrichAndMapOnceForTargetsWithSameExtraFields() {
+        new TestKit(actorSystemResource.getActorSystem()) {{
+            final Props props = OutboundMappingProcessorActor.props(clientActorProbe.ref(),
+                    getProcessors(),
+                    CONNECTION,
+                    TestConstants.CONNECTIVITY_CONFIG,
+                    3);
+            final ActorRef underTest = actorSystemResource.newActor(props);
+
+            // WHEN: mapping processor actor receives outbound signal with 2 targets sharing extra fields, filter,
+            // authorization context and payload mapping
+            final Attributes attributes = Attributes.newBuilder().set("target2", "wayne").build();
+            final OutboundSignal outboundSignal = outboundTwinEvent(attributes,
+                    List.of("target2", "target5"),
+                    List.of(target2(), target5()),
+                    getRef());
+            underTest.tell(outboundSignal, getRef());
+            proxyActorProbe.expectMsgClass(RetrieveThing.class);
+            proxyActorProbe.reply(retrieveThingResponse(attributes));
+
+            // THEN: the thing is retrieved once and the signal is mapped once for both targets
+            final BaseClientActor.PublishMappedMessage publish =
+                    clientActorProbe.expectMsgClass(BaseClientActor.PublishMappedMessage.class);
+            assertThat(publish.getOutboundSignal().getMappedOutboundSignals()).hasSize(1);
+            assertThat(publish.getOutboundSignal().first().getTargets()).containsExactly(target2(), target5());
+            proxyActorProbe.expectNoMessage();
+        }};
+    }
+
     @Test
     public void sendWeakAckWhenDroppedBySomeTarget() {
         new TestKit(actorSystemResource.getActorSystem()) {{
@@ -317,7 +347,7 @@ public final class OutboundMappingProcessorActorTest {
         final String uri = "tcp://localhost:1883";
         return ConnectivityModelFactory.newConnectionBuilder(connectionId(), type, status, uri)
                 .setSources(List.of(createTestSource()))
-                .setTargets(List.of(target1(), target2(), target3(), target4()))
+                .setTargets(List.of(target1(), target2(), target3(), target4(), target5()))
                 .payloadMappingDefinition(ConnectivityModelFactory.newPayloadMappingDefinition(Map.of(
                         "javascript",
                         ConnectivityModelFactory.newMappingContext("JavaScript", Map.of(
@@ -362,6 +392,13 @@ public final class OutboundMappingProcessorActorTest {
                 .build();
     }
 
+    private static Target target5() {
+        return ConnectivityModelFactory.newTargetBuilder(target2())
+                .address("target5")
+                .issuedAcknowledgementLabel(AcknowledgementLabel.of("target5"))
+                .build();
+    }
+
     private static Target target3() {
         return ConnectivityModelFactory.newTargetBuilder()
                 .address("target3")
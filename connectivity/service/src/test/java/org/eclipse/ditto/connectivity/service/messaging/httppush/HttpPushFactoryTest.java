@@ -64,9 +64,12 @@ import org.apache.pekko.http.javadsl.model.HttpRequest;
 import org.apache.pekko.http.javadsl.model.HttpResponse;
 import org.apache.pekko.http.javadsl.model.StatusCodes;
 import org.apache.pekko.http.javadsl.model.headers.Authorization;
+import org.apache.pekko.http.javadsl.settings.ServerSettings;
 import org.apache.pekko.japi.Pair;
 import org.apache.pekko.stream.KillSwitches;
+import org.apache.pekko.stream.Materializer;
 import org.apache.pekko.stream.OverflowStrategy;
+import org.apache.pekko.stream.SystemMaterializer;
 import org.apache.pekko.stream.javadsl.Flow;
 import org.apache.pekko.stream.javadsl.Keep;
 import org.apache.pekko.stream.javadsl.Sink;
@@ -316,6 +319,58 @@ public final class HttpPushFactoryTest {
         sinkQueue.cancel();
     }
 
+    @Test
+    public void sendRequestsMultiplexedOverHttp2() {
+        // GIVEN: a cleartext HTTP/2 server which answers the first request last
+        final Materializer materializer = SystemMaterializer.get(actorSystem).materializer();
+        final ServerBinding http2Binding = Http.get(actorSystem)
+                .newServerAt("127.0.0.1", 0)
+                .withSettings(ServerSettings.create(
+                        ConfigFactory.parseString("pekko.http.server.preview.enable-http2 = on")
+                                .withFallback(actorSystem.settings().config())))
+                .bind(request -> {
+                    request.discardEntityBytes(materializer);
+                    final String path = request.getUri().getPathString();
+                    final long delayMillis = "/0".equals(path) ? 500L : 0L;
+                    return CompletableFuture.supplyAsync(() -> HttpResponse.create().withEntity(path),
+                            CompletableFuture.delayedExecutor(delayMillis, TimeUnit.MILLISECONDS));
+                })
+                .toCompletableFuture()
+                .join();
+
+        // GIVEN: the connection publishes via HTTP/2
+        connection = connection.toBuilder()
+                .uri("http://127.0.0.1:" + http2Binding.localAddress().getPort())
+                .specificConfig(Map.of("parallelism", "4", "httpVersion", "2"))
+                .build();
+        final HttpPushFactory underTest = HttpPushFactory.of(connection, connectionConfig.getHttpPushConfig(),
+                mock(ConnectionLogger.class), SshTunnelState::disabled);
+
+        // WHEN: 4 requests are sent over the same connection
+        final List<Pair<Try<HttpResponse>, HttpPushContext>> results = Source.range(0, 3)
+                .<Pair<HttpRequest, HttpPushContext>>map(i -> Pair.create(
+                        underTest.newRequest(HttpPublishTarget.of("POST:/" + i)), new RequestPathContext("/" + i)))
+                .via(underTest.createFlow(actorSystem, actorSystem.log(), Duration.ofSeconds(10)))
+                .runWith(Sink.seq(), actorSystem)
+                .toCompletableFuture()
+                .join();
+
+        // THEN: each response is correlated with the request it belongs to, regardless of the arrival order
+        assertThat(results).hasSize(4);
+        for (final Pair<Try<HttpResponse>, HttpPushContext> result : results) {
+            assertThat(result.first().isSuccess()).describedAs("expect successful response").isTrue();
+            final String entity = result.first().get()
+                    .entity()
+                    .toStrict(10_000L, materializer)
+                    .toCompletableFuture()
+                    .join()
+                    .getData()
+                    .utf8String();
+            assertThat(entity).isEqualTo(((RequestPathContext) result.second()).path());
+        }
+        http2Binding.unbind();
+    }
+
     private void newBinding() {
         requestQueue = new LinkedBlockingQueue<>();
         responseQueue = new LinkedBlockingQueue<>();
@@ -366,6 +421,19 @@ public final class HttpPushFactoryTest {
         }
     }
 
+    private record RequestPathContext(String path) implements HttpPushContext {
+
+        @Override
+        public ConnectionMonitor.InfoProvider getInfoProvider() {
+            return InfoProviderFactory.empty();
+        }
+
+        @Override
+        public void onResponse(final Try<HttpResponse> response) {
+            // no-op
+        }
+    }
+
     private Pair<SourceQueueWithComplete<HttpRequest>, SinkQueueWithCancel<Try<HttpResponse>>> newSourceSinkQueues(
             final HttpPushFactory underTest) {
 
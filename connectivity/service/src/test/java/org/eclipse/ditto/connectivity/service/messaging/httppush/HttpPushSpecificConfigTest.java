@@ -49,6 +49,8 @@ public final class HttpPushSpecificConfigTest {
         configuredSpecificConfig.put(HttpPushSpecificConfig.IDLE_TIMEOUT, "3s");
         configuredSpecificConfig.put(HttpPushSpecificConfig.PARALLELISM, "2");
         configuredSpecificConfig.put(HttpPushSpecificConfig.OMIT_REQUEST_BODY, omitBodyRequest);
+        configuredSpecificConfig.put(HttpPushSpecificConfig.HTTP_VERSION, "2");
+        configuredSpecificConfig.put(HttpPushSpecificConfig.PIPELINING_LIMIT, "4");
 
         when(httpConfig.getRequestTimeout()).thenReturn(Duration.ofSeconds(2));
         when(connection.getSpecificConfig()).thenReturn(configuredSpecificConfig);
@@ -58,6 +60,8 @@ public final class HttpPushSpecificConfigTest {
         assertThat(specificConfig.parallelism()).isEqualTo(2);
         assertThat(specificConfig.omitRequestBody())
                 .isEqualTo(Arrays.stream(omitBodyRequest.split(",")).toList());
+        assertThat(specificConfig.isHttp2()).isTrue();
+        assertThat(specificConfig.pipeliningLimit()).isEqualTo(4);
     }
 
     @Test
@@ -71,6 +75,9 @@ public final class HttpPushSpecificConfigTest {
         assertThat(specificConfig.idleTimeout()).isEqualTo(Duration.ofSeconds(60));
         assertThat(specificConfig.parallelism()).isEqualTo(1);
         assertThat(specificConfig.omitRequestBody()).isEqualTo(expectedOmittedRequestBody);
+        assertThat(specificConfig.httpVersion()).isEqualTo("1.1");
+        assertThat(specificConfig.isHttp2()).isFalse();
+        assertThat(specificConfig.pipeliningLimit()).isEqualTo(1);
     }
 
 }
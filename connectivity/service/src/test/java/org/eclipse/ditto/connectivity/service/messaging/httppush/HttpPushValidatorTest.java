@@ -147,6 +147,30 @@ public final class HttpPushValidatorTest {
                         "] seconds.");
     }
 
+    @Test
+    public void testInvalidHttpVersion() {
+        final Connection connection = getConnectionWithTarget("POST:events").toBuilder()
+                .specificConfig(Map.of(HttpPushSpecificConfig.HTTP_VERSION, "3"))
+                .build();
+        verifyConnectionConfigurationInvalidExceptionIsThrown(connection, "It must be either '1.1' or '2'.");
+    }
+
+    @Test
+    public void testInvalidPipeliningLimit() {
+        final Connection connection = getConnectionWithTarget("POST:events").toBuilder()
+                .specificConfig(Map.of(HttpPushSpecificConfig.PIPELINING_LIMIT, "0"))
+                .build();
+        verifyConnectionConfigurationInvalidExceptionIsThrown(connection, "It must be a positive integer.");
+    }
+
+    @Test
+    public void testHttp2IsValid() {
+        final Connection connection = getConnectionWithTarget("POST:events").toBuilder()
+                .specificConfig(Map.of(HttpPushSpecificConfig.HTTP_VERSION, "2"))
+                .build();
+        underTest.validate(connection, DittoHeaders.empty(), actorSystem, connectivityConfig);
+    }
+
     @Test
     public void testNullOmitBodyHttpMethods() {
         final Connection connection = getConnectionWithTarget("POST:events").toBuilder().build();
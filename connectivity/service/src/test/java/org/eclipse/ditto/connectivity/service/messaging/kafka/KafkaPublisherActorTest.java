@@ -68,6 +68,8 @@ import org.eclipse.ditto.things.model.signals.events.ThingDeleted;
 import org.eclipse.ditto.things.model.signals.events.ThingEvent;
 import org.junit.Test;
 
+import com.typesafe.config.ConfigFactory;
+
 import org.apache.pekko.actor.ActorRef;
 import org.apache.pekko.actor.Props;
 import org.apache.pekko.actor.Status;
@@ -246,6 +248,42 @@ public class KafkaPublisherActorTest extends AbstractPublisherActorTest {
         }};
     }
 
+    @Test
+    public void messagesToSamePartitionKeyAreSentInBatches() {
+        new TestKit(actorSystem) {{
+            mockSendProducerFactory = MockSendProducerFactory.getInstance(TARGET_TOPIC, published);
+            final DittoConnectivityConfig batchingConfig = DittoConnectivityConfig.of(DefaultScopedConfig.dittoScoped(
+                    ConfigFactory.parseString("ditto.connectivity.connection.kafka.producer {\n" +
+                            "  batch-size = 10\n" +
+                            "  batch-linger = 500ms\n" +
+                            "}").withFallback(CONFIG)));
+
+            final ActorRef publisherActor = childActorOf(KafkaPublisherActor.props(TestConstants.createConnection(),
+                    mockSendProducerFactory,
+                    false,
+                    mock(ConnectivityStatusResolver.class),
+                    batchingConfig));
+            publisherCreated(this, publisherActor);
+
+            final int messageCount = 10;
+            IntStream.range(0, messageCount).forEach(i -> publisherActor.tell(
+                    OutboundSignalFactory.newMultiMappedOutboundSignal(List.of(getMockOutboundSignalWithAutoAck("batch",
+                                    DittoHeaderDefinition.DITTO_ACKREGATOR_ADDRESS.getKey(),
+                                    getRef().path().toSerializationFormat())),
+                            getRef()),
+                    getRef()));
+
+            final List<Object> acknowledgements = receiveN(messageCount, Duration.ofSeconds(5));
+
+            assertThat(acknowledgements).allSatisfy(acks -> {
+                assertThat(acks).isInstanceOf(Acknowledgements.class);
+                assertThat(((Acknowledgements) acks).getFailedAcknowledgements()).isEmpty();
+            });
+            assertThat(published).hasSize(messageCount);
+            assertThat(mockSendProducerFactory.getSentEnvelopesCount()).isLessThan(messageCount);
+        }};
+    }
+
     @Test
     public void verifyAcknowledgementsWithDebugEnabled() {
         new TestKit(actorSystem) {
@@ -17,6 +17,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.nio.ByteBuffer;
+import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -31,6 +32,8 @@ import org.apache.pekko.kafka.ProducerMessage;
 import org.apache.pekko.kafka.javadsl.SendProducer;
 import org.apache.pekko.kafka.testkit.ProducerResultFactory;
 
+import scala.jdk.javaapi.CollectionConverters;
+
 /**
  * Creates mock {@code SendProducer}s.
  */
@@ -43,6 +46,7 @@ final class MockSendProducerFactory implements SendProducerFactory {
     private final boolean blocking;
     private final AtomicBoolean wait = new AtomicBoolean();
     private final AtomicInteger counter = new AtomicInteger();
+    private final AtomicInteger sentEnvelopes = new AtomicInteger();
 
     private MockSendProducerFactory(final String targetTopic,
             final Queue<ProducerRecord<String, ByteBuffer>> published,
@@ -90,6 +94,13 @@ final class MockSendProducerFactory implements SendProducerFactory {
         return new MockSendProducerFactory(targetTopic, published, false, true, null, false);
     }
 
+    /**
+     * @return the number of envelopes which were successfully sent by the producers of this factory.
+     */
+    int getSentEnvelopesCount() {
+        return sentEnvelopes.get();
+    }
+
     @Override
     public SendProducer<String, ByteBuffer> newSendProducer() {
         final SendProducer<String, ByteBuffer> producer = mock(SendProducer.class);
@@ -110,13 +121,27 @@ final class MockSendProducerFactory implements SendProducerFactory {
                             Thread.sleep(1000);
                         }
 
-                        final ProducerMessage.Envelope<String, ByteBuffer, CompletableFuture<RecordMetadata>> envelope =
+                        final ProducerMessage.Envelope<String, ByteBuffer, Object> envelope =
                                 invocationOnMock.getArgument(0);
                         final RecordMetadata dummyMetadata =
                                 new RecordMetadata(new TopicPartition(targetTopic, 5),
                                         0L, 0L, 0L, 0L, 0, 0);
-                        final ProducerMessage.Message<String, ByteBuffer, CompletableFuture<RecordMetadata>> message =
-                                (ProducerMessage.Message<String, ByteBuffer, CompletableFuture<RecordMetadata>>) envelope;
+                        sentEnvelopes.incrementAndGet();
+                        if (envelope instanceof ProducerMessage.MultiMessage) {
+                            final ProducerMessage.MultiMessage<String, ByteBuffer, Object> multiMessage =
+                                    (ProducerMessage.MultiMessage<String, ByteBuffer, Object>) envelope;
+                            final List<ProducerRecord<String, ByteBuffer>> records =
+                                    CollectionConverters.asJava(multiMessage.records());
+                            published.addAll(records);
+                            final List<ProducerMessage.MultiResultPart<String, ByteBuffer>> parts = records.stream()
+                                    .map(record -> ProducerResultFactory.multiResultPart(dummyMetadata, record))
+                                    .toList();
+
+                            return CompletableFuture.completedFuture(
+                                    ProducerResultFactory.multiResult(parts, multiMessage.passThrough()));
+                        }
+                        final ProducerMessage.Message<String, ByteBuffer, Object> message =
+                                (ProducerMessage.Message<String, ByteBuffer, Object>) envelope;
                         published.offer(message.record());
 
                         return CompletableFuture.completedFuture(ProducerResultFactory.result(dummyMetadata, message));
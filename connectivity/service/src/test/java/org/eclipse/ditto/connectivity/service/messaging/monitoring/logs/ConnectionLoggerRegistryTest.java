@@ -409,7 +409,11 @@ public final class ConnectionLoggerRegistryTest {
         final Fluency red = new FluencyBuilderForFluentd().build();
         final Fluency black = new FluencyBuilderForFluentd().build("localhost", 9999);
 
-        forClass(ConnectionLoggerRegistry.class).withPrefabValues(Fluency.class, red, black).verify();
+        forClass(ConnectionLoggerRegistry.class)
+                .withPrefabValues(Fluency.class, red, black)
+                .withPrefabValues(FluentLogEmitter.class, FluentLogEmitter.newInstance(1),
+                        FluentLogEmitter.newInstance(2))
+                .verify();
     }
 
     private ConnectionId connectionId() {
@@ -407,6 +407,17 @@ public final class EvictingConnectionLoggerTest {
                 .withNoCause();
     }
 
+    @Test
+    public void messageArgumentsAreFormattedWhenLogged() {
+        final var logger = builder.build();
+        final var mutableArgument = new StringBuilder("before");
+
+        logger.success(getInfoProvider(), "state: {0}", mutableArgument);
+        mutableArgument.replace(0, mutableArgument.length(), "after");
+
+        assertThat(getFirstAndOnlyEntry(logger).getMessage()).isEqualTo("state: before");
+    }
+
     @Test
     public void logSuccessEntry() {
         final var correlationId = testNameCorrelationId.getCorrelationId();
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.messaging.monitoring.logs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.eclipse.ditto.connectivity.model.ConnectivityModelFactory;
+import org.eclipse.ditto.connectivity.model.LogCategory;
+import org.eclipse.ditto.connectivity.model.LogEntry;
+import org.eclipse.ditto.connectivity.model.LogLevel;
+import org.eclipse.ditto.connectivity.model.LogType;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link LogEntryRing}.
+ */
+public final class LogEntryRingTest {
+
+    private static final int CAPACITY = 6;
+
+    @Test
+    public void verifyEviction() {
+        final LogEntryRing underTest = LogEntryRing.withCapacity(CAPACITY);
+
+        IntStream.range(0, 13).forEach(i -> underTest.add(logEntry(i)));
+
+        assertThat(underTest.size()).isEqualTo(CAPACITY);
+        assertThat(copy(underTest))
+                .extracting(LogEntry::getMessage)
+                .containsExactly("7", "8", "9", "10", "11", "12");
+    }
+
+    @Test
+    public void verifyEvictionUnderHighLoad() {
+        final LogEntryRing underTest = LogEntryRing.withCapacity(CAPACITY);
+
+        IntStream.range(0, 100000).parallel().forEach(i -> underTest.add(logEntry(i)));
+
+        assertThat(underTest.size()).isEqualTo(CAPACITY);
+        assertThat(copy(underTest)).hasSize(CAPACITY);
+    }
+
+    @Test
+    public void clearRemovesAllLogEntries() {
+        final LogEntryRing underTest = LogEntryRing.withCapacity(CAPACITY);
+        IntStream.range(0, 3).forEach(i -> underTest.add(logEntry(i)));
+
+        underTest.clear();
+        underTest.add(logEntry(42));
+
+        assertThat(copy(underTest)).extracting(LogEntry::getMessage).containsExactly("42");
+    }
+
+    @Test
+    public void ringWithoutCapacityKeepsNothing() {
+        final LogEntryRing underTest = LogEntryRing.withCapacity(0);
+
+        underTest.add(logEntry(0));
+
+        assertThat(underTest.size()).isZero();
+        assertThat(copy(underTest)).isEmpty();
+    }
+
+    private static List<LogEntry> copy(final LogEntryRing ring) {
+        final List<LogEntry> result = new ArrayList<>();
+        ring.copyTo(result);
+        return result;
+    }
+
+    private static LogEntry logEntry(final int i) {
+        return ConnectivityModelFactory.newLogEntryBuilder("correlation-id", Instant.now(), LogCategory.TARGET,
+                LogType.MAPPED, LogLevel.SUCCESS, String.valueOf(i)).build();
+    }
+
+}
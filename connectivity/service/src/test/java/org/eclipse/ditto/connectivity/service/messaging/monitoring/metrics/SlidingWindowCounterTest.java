@@ -100,7 +100,6 @@ public class SlidingWindowCounterTest {
                 .recordingMeasurementWindows(ONE_DAY_WITH_ONE_MINUTE_RESOLUTION)
                 .reportingMeasurementWindows(ONE_MINUTE_WITH_ONE_MINUTE_RESOLUTION, ONE_HOUR_WITH_ONE_MINUTE_RESOLUTION,
                         ONE_DAY_WITH_ONE_MINUTE_RESOLUTION)
-                .cleanUpEnabled(false)
                 .build();
 
         final long ts = System.currentTimeMillis() +
@@ -139,7 +138,6 @@ public class SlidingWindowCounterTest {
                 .metricsAlert(new ThrottledMetricsAlert(ONE_MINUTE_WITH_TEN_SECONDS_RESOLUTION, threshold,
                         () -> new DummyConnectionMetricsCounter(throttledCounter)))
                 .measurementWindows(ONE_MINUTE_WITH_TEN_SECONDS_RESOLUTION, ONE_HOUR_WITH_ONE_MINUTE_RESOLUTION)
-                .cleanUpEnabled(false) // better testability
                 .build();
 
         // add some measurements
@@ -165,6 +163,53 @@ public class SlidingWindowCounterTest {
                 .containsEntry(ONE_HOUR_WITH_ONE_MINUTE_RESOLUTION.getWindow(), 3L);
     }
 
+    @Test
+    public void testOldSlotsAreReplacedWhenRingWrapsAround() {
+        final SlidingWindowCounter counter = SlidingWindowCounter.newBuilder(metricsCounter)
+                .measurementWindows(ONE_MINUTE_WITH_TEN_SECONDS_RESOLUTION)
+                .build();
+
+        final long now = System.currentTimeMillis();
+        // 70 seconds ago the slot was at the same position of the ring as the current one
+        increment(counter, 5, now - Duration.ofSeconds(70).toMillis());
+        increment(counter, 2, now);
+
+        assertThat(counter.getCounts(true)).containsEntry(ONE_MINUTE_WITH_TEN_SECONDS_RESOLUTION.getWindow(), 2L);
+    }
+
+    @Test
+    public void testFutureMeasurementsAreNotRecorded() {
+        final SlidingWindowCounter counter = SlidingWindowCounter.newBuilder(metricsCounter)
+                .measurementWindows(ONE_MINUTE_WITH_TEN_SECONDS_RESOLUTION)
+                .build();
+
+        final long now = System.currentTimeMillis();
+        increment(counter, 1, now);
+        increment(counter, 3, now + Duration.ofSeconds(50).toMillis());
+
+        assertThat(counter.getCounts(true)).containsEntry(ONE_MINUTE_WITH_TEN_SECONDS_RESOLUTION.getWindow(), 1L);
+    }
+
+    @Test
+    public void testConcurrentIncrements() throws InterruptedException {
+        final SlidingWindowCounter counter = SlidingWindowCounter.newBuilder(metricsCounter)
+                .measurementWindows(ONE_MINUTE_WITH_TEN_SECONDS_RESOLUTION, ONE_HOUR_WITH_ONE_MINUTE_RESOLUTION)
+                .build();
+        final long ts = System.currentTimeMillis();
+        final Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> increment(counter, 10_000, ts));
+            threads[i].start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(counter.getCounts(true))
+                .containsEntry(ONE_MINUTE_WITH_TEN_SECONDS_RESOLUTION.getWindow(), 40_000L)
+                .containsEntry(ONE_HOUR_WITH_ONE_MINUTE_RESOLUTION.getWindow(), 40_000L);
+    }
+
     private void increment(final SlidingWindowCounter counter, final int count, final long ts) {
         for (int i = 0; i < count; i++) {
             counter.increment(true, ts);
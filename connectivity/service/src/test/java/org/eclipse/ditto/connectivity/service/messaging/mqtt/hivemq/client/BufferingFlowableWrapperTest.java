@@ -15,6 +15,8 @@ package org.eclipse.ditto.connectivity.service.messaging.mqtt.hivemq.client;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.assertj.core.api.Assertions;
 import org.junit.Test;
@@ -158,4 +160,92 @@ public class BufferingFlowableWrapperTest {
         assertThat(received).containsExactly(1);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void itemsExceedingMaxBufferSizeAreDroppedWhileBuffering() {
+        final var dropped = new AtomicInteger();
+        final var underTest =
+                BufferingFlowableWrapper.of(flowable, 2, item -> true, dropped::incrementAndGet, count -> {});
+
+        emitter.onNext(1);
+        emitter.onNext(2);
+        emitter.onNext(3);
+
+        final var received = new ArrayList<Integer>();
+        final var subscription = underTest.toFlowable().subscribe(received::add);
+        underTest.stopBuffering();
+        emitter.onNext(4);
+        subscription.dispose();
+
+        assertThat(received).containsExactly(1, 2, 4);
+        assertThat(dropped).hasValue(1);
+    }
+
+    @Test
+    public void nonDroppableItemsExceedingMaxBufferSizeAreKeptWhileBuffering() {
+        final var dropped = new AtomicInteger();
+        final var underTest = BufferingFlowableWrapper.of(flowable, 1, BufferingFlowableWrapperTest::isEven,
+                dropped::incrementAndGet, count -> {});
+
+        emitter.onNext(1);
+        emitter.onNext(2);
+        emitter.onNext(3);
+
+        final var received = new ArrayList<Integer>();
+        final var subscription = underTest.toFlowable().subscribe(received::add);
+        subscription.dispose();
+
+        assertThat(received).containsExactly(1, 3);
+        assertThat(dropped).hasValue(1);
+    }
+
+    @Test
+    public void onlyDroppableItemsAreDroppedForSlowSubscriber() {
+        final var dropped = new AtomicInteger();
+        final var bufferedCount = new AtomicLong();
+        final var underTest = BufferingFlowableWrapper.of(flowable, 2, BufferingFlowableWrapperTest::isEven,
+                dropped::incrementAndGet, bufferedCount::set);
+
+        final var testSubscriber = underTest.toFlowable().test(0L);
+        underTest.stopBuffering();
+        emitter.onNext(1);
+        emitter.onNext(2);
+        emitter.onNext(3);
+        emitter.onNext(4);
+
+        assertThat(dropped).hasValue(1);
+        assertThat(bufferedCount).hasValue(3L);
+
+        testSubscriber.requestMore(Long.MAX_VALUE);
+
+        testSubscriber.assertValues(1, 2, 3);
+        assertThat(bufferedCount).hasValue(0L);
+        testSubscriber.dispose();
+    }
+
+    @Test
+    public void bufferedCountReportsItemsHeldWhileBuffering() {
+        final var bufferedCount = new AtomicLong();
+        final var underTest =
+                BufferingFlowableWrapper.of(flowable, 10, item -> true, () -> {}, bufferedCount::set);
+
+        emitter.onNext(1);
+        emitter.onNext(2);
+
+        assertThat(bufferedCount).hasValue(2L);
+
+        underTest.stopBuffering();
+
+        assertThat(bufferedCount).hasValue(0L);
+    }
+
+    @Test
+    public void newInstanceWithNonPositiveMaxBufferSizeThrowsException() {
+        Assertions.assertThatIllegalArgumentException()
+                .isThrownBy(() -> BufferingFlowableWrapper.of(flowable, 0, item -> true, () -> {}, count -> {}));
+    }
+
+    private static boolean isEven(final Integer item) {
+        return item % 2 == 0;
+    }
+
+}
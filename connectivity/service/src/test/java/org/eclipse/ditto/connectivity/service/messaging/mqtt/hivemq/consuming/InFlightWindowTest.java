@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.messaging.mqtt.hivemq.consuming;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.ditto.internal.utils.metrics.instruments.gauge.Gauge;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * Unit test for {@link InFlightWindow}.
+ */
+public final class InFlightWindowTest {
+
+    private final Gauge inFlightGauge = Mockito.mock(Gauge.class);
+
+    @Test
+    public void newInstanceWithNonPositiveMaxInFlightThrowsException() {
+        assertThatIllegalArgumentException().isThrownBy(() -> InFlightWindow.newInstance(0, inFlightGauge));
+    }
+
+    @Test
+    public void acquireCompletesImmediatelyWhilePermitsAreAvailable() {
+        final var underTest = InFlightWindow.newInstance(2, inFlightGauge);
+
+        assertThat(underTest.acquire().toCompletableFuture()).isCompleted();
+        assertThat(underTest.acquire().toCompletableFuture()).isCompleted();
+        assertThat(underTest.getInFlight()).isEqualTo(2);
+        Mockito.verify(inFlightGauge, Mockito.times(2)).increment();
+    }
+
+    @Test
+    public void acquireWaitsUntilPermitIsReleased() {
+        final var underTest = InFlightWindow.newInstance(1, inFlightGauge);
+        final var firstPermit = underTest.acquire().toCompletableFuture().join();
+
+        final CompletableFuture<InFlightWindow.Permit> secondPermit = underTest.acquire().toCompletableFuture();
+        assertThat(secondPermit).isNotDone();
+
+        firstPermit.release();
+
+        assertThat(secondPermit).isCompleted();
+        assertThat(underTest.getInFlight()).isEqualTo(1);
+    }
+
+    @Test
+    public void releasingPermitTwiceReleasesItOnce() {
+        final var underTest = InFlightWindow.newInstance(2, inFlightGauge);
+        final var firstPermit = underTest.acquire().toCompletableFuture().join();
+        underTest.acquire();
+
+        firstPermit.release();
+        firstPermit.release();
+
+        assertThat(underTest.getInFlight()).isEqualTo(1);
+        Mockito.verify(inFlightGauge, Mockito.times(1)).decrement();
+    }
+
+}
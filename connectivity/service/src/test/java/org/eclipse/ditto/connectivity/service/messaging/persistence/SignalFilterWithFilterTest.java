@@ -27,6 +27,7 @@ import java.util.List;
 import org.assertj.core.api.Assertions;
 import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
 import org.eclipse.ditto.base.model.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.base.model.exceptions.InvalidRqlExpressionException;
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
 import org.eclipse.ditto.base.model.signals.Signal;
 import org.eclipse.ditto.connectivity.model.Connection;
@@ -345,4 +346,71 @@ public final class SignalFilterWithFilterTest {
         final List<Target> filteredTargets = signalFilter.filter(signal);
         Assertions.assertThat(filteredTargets).hasSize(1).contains(target);
     }
+
+    @Test
+    public void compiledFiltersAreEvaluatedForEverySignalInTargetOrder() {
+        final Target targetA = ConnectivityModelFactory.newTargetBuilder()
+                .address("twin/a")
+                .authorizationContext(newAuthContext(DittoAuthorizationContextType.UNSPECIFIED, AUTHORIZED))
+                .topics(ConnectivityModelFactory.newFilteredTopicBuilder(TWIN_EVENTS)
+                        .withFilter("gt(attributes/test,50)")
+                        .build())
+                .build();
+        final Target targetB = ConnectivityModelFactory.newTargetBuilder()
+                .address("twin/b")
+                .authorizationContext(newAuthContext(DittoAuthorizationContextType.UNSPECIFIED, AUTHORIZED))
+                .topics(ConnectivityModelFactory.newFilteredTopicBuilder(TWIN_EVENTS)
+                                .withNamespaces(Collections.singletonList("other"))
+                                .build(),
+                        ConnectivityModelFactory.newFilteredTopicBuilder(TWIN_EVENTS)
+                                .withFilter("gt(attributes/test,23)")
+                                .build())
+                .build();
+        final Target targetC = ConnectivityModelFactory.newTargetBuilder()
+                .address("live/c")
+                .authorizationContext(newAuthContext(DittoAuthorizationContextType.UNSPECIFIED, AUTHORIZED))
+                .topics(ConnectivityModelFactory.newFilteredTopicBuilder(LIVE_EVENTS).build())
+                .build();
+        final Connection connection = ConnectivityModelFactory
+                .newConnectionBuilder(CONNECTION_ID, ConnectionType.AMQP_10, ConnectivityStatus.OPEN, URI)
+                .targets(Arrays.asList(targetA, targetB, targetC))
+                .build();
+        final SignalFilter signalFilter = new SignalFilter(connection, connectionMonitorRegistry);
+
+        assertThat(signalFilter.filter(twinThingModified(42))).containsExactly(targetB);
+        assertThat(signalFilter.filter(twinThingModified(60))).containsExactly(targetA, targetB);
+        assertThat(signalFilter.filter(twinThingModified(10))).isEmpty();
+    }
+
+    @Test
+    public void invalidRqlFilterFailsWithHeadersOfTheFilteredSignal() {
+        final Target target = ConnectivityModelFactory.newTargetBuilder()
+                .address("twin/a")
+                .authorizationContext(newAuthContext(DittoAuthorizationContextType.UNSPECIFIED, AUTHORIZED))
+                .topics(ConnectivityModelFactory.newFilteredTopicBuilder(TWIN_EVENTS)
+                        .withFilter("gt(attributes/test")
+                        .build())
+                .build();
+        final Connection connection = TestConstants.createConnection(CONNECTION_ID, target);
+        final SignalFilter signalFilter = new SignalFilter(connection, connectionMonitorRegistry);
+        final ThingModified signal = twinThingModified(42);
+
+        Assertions.assertThatExceptionOfType(InvalidRqlExpressionException.class)
+                .isThrownBy(() -> signalFilter.filter(signal))
+                .satisfies(e -> assertThat(e.getDittoHeaders().getCorrelationId())
+                        .isEqualTo(signal.getDittoHeaders().getCorrelationId()));
+    }
+
+    private static ThingModified twinThingModified(final int testAttributeValue) {
+        final Thing thing = Thing.newBuilder()
+                .setId(THING_ID)
+                .setAttribute(JsonPointer.of("test"), JsonValue.of(testAttributeValue))
+                .build();
+        final DittoHeaders headers = DittoHeaders.newBuilder()
+                .randomCorrelationId()
+                .readGrantedSubjects(Collections.singletonList(AUTHORIZED))
+                .build();
+        return ThingModified.of(thing, 3L, Instant.now(), headers, null);
+    }
+
 }
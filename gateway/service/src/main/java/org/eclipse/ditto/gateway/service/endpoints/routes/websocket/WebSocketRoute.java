@@ -699,7 +699,7 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
 
         return wrapJsonRuntimeException(messageJsonString,
                 DittoHeaders.empty(), // unused
-                (s, unused) -> ProtocolFactory.jsonifiableAdaptableFromJson(JsonFactory.newObject(s)));
+                (s, unused) -> ProtocolFactory.jsonifiableAdaptableFromJson(JsonFactory.newObjectLazily(s)));
     }
 
     private static Signal<?> buildSignal(final CharSequence connectionCorrelationId,
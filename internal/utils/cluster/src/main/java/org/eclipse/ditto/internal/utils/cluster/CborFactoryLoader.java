@@ -25,7 +25,7 @@ import org.eclipse.ditto.json.CborFactory;
  * is thrown.
  */
 @ThreadSafe
-final class CborFactoryLoader {
+public final class CborFactoryLoader {
 
     @Nullable
     private static CborFactoryLoader instance = null;
@@ -38,7 +38,12 @@ final class CborFactoryLoader {
         super();
     }
 
-    static CborFactoryLoader getInstance() {
+    /**
+     * Returns the instance of {@code CborFactoryLoader}.
+     *
+     * @return the instance.
+     */
+    public static CborFactoryLoader getInstance() {
         var result = instance;
         if (null == result) {
             result = new CborFactoryLoader();
@@ -47,7 +52,13 @@ final class CborFactoryLoader {
         return result;
     }
 
-    CborFactory getCborFactoryOrThrow() {
+    /**
+     * Returns the {@code CborFactory} which is loaded via {@link ServiceLoader} on first access.
+     *
+     * @return the CborFactory.
+     * @throws IllegalStateException if no CborFactory could be loaded or if it cannot handle CBOR.
+     */
+    public CborFactory getCborFactoryOrThrow() {
         var result = cborFactory;
 
         // Double-Check-Idiom
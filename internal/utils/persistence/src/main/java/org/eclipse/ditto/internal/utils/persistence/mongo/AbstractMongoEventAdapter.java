@@ -80,7 +80,7 @@ public abstract class AbstractMongoEventAdapter<T extends Event<?>> implements E
             final JsonObject jsonObject = performToJournalMigration(theEvent,
                     theEvent.toJson(schemaVersion, FieldType.regularOrSpecial())
             ).build();
-            final BsonDocument bson = DittoBsonJson.getInstance().parse(jsonObject);
+            final BsonDocument bson = DittoBsonJson.getInstance().parseToRawBsonDocument(jsonObject);
             final Set<String> tags = theEvent.getDittoHeaders().getJournalTags();
             return new Tagged(bson, tags);
         } else {
@@ -44,9 +44,19 @@ public abstract class AbstractMongoSnapshotAdapter<T extends Jsonifiable.WithFie
         implements SnapshotAdapter<T> {
 
     private final Logger logger;
+    private final SnapshotFormat snapshotFormat;
 
     protected AbstractMongoSnapshotAdapter(final Logger logger) {
+        this(logger, SnapshotFormat.BSON);
+    }
+
+    /**
+     * @param logger the logger to use.
+     * @param snapshotFormat the format in which to write snapshots; snapshots of all formats are read.
+     */
+    protected AbstractMongoSnapshotAdapter(final Logger logger, final SnapshotFormat snapshotFormat) {
         this.logger = logger;
+        this.snapshotFormat = checkNotNull(snapshotFormat, "snapshotFormat");
     }
 
     /**
@@ -77,8 +87,11 @@ public abstract class AbstractMongoSnapshotAdapter<T extends Jsonifiable.WithFie
 
         onSnapshotStoreConversion(snapshotEntity, json);
 
+        if (SnapshotFormat.CBOR_LZ4 == snapshotFormat) {
+            return CompressedCborSnapshot.toBsonDocument(json);
+        }
         final DittoBsonJson dittoBsonJson = DittoBsonJson.getInstance();
-        return dittoBsonJson.parse(json);
+        return dittoBsonJson.parseToRawBsonDocument(json);
     }
 
     /**
@@ -153,6 +166,10 @@ public abstract class AbstractMongoSnapshotAdapter<T extends Jsonifiable.WithFie
      */
     private static JsonObject convertToJson(final BsonValue bsonValue) {
         checkNotNull(bsonValue, "BsonValue to be converted");
+        if (CompressedCborSnapshot.isCompressed(bsonValue)) {
+            return DittoJsonException.wrapJsonRuntimeException(() ->
+                    CompressedCborSnapshot.toJsonObject(bsonValue.asDocument()));
+        }
         final DittoBsonJson dittoBsonJson = DittoBsonJson.getInstance();
         final JsonObject jsonObject = dittoBsonJson.serialize(bsonValue).asObject();
         return DittoJsonException.wrapJsonRuntimeException(() -> jsonObject);
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.mongo;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.bson.BsonBinary;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonValue;
+import org.eclipse.ditto.internal.utils.cluster.CborFactoryLoader;
+import org.eclipse.ditto.json.CborFactory;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+
+/**
+ * Converts snapshot JSON objects to and from the {@link SnapshotFormat#CBOR_LZ4} format.
+ * <p>
+ * Top-level fields with a simple value, like the revision or the lifecycle, are kept as plain BSON fields because
+ * the read journal projects them directly from the snapshot store.
+ * All nested objects and arrays are encoded to CBOR and compressed with LZ4 into one binary field.
+ * </p>
+ */
+@Immutable
+final class CompressedCborSnapshot {
+
+    /**
+     * Field of the compressed CBOR binary.
+     */
+    static final String PAYLOAD_FIELD = "__cborLz4";
+
+    /**
+     * Field of the length of the uncompressed CBOR binary which is required for decompression.
+     */
+    static final String PAYLOAD_SIZE_FIELD = "__cborSize";
+
+    private static final LZ4Factory LZ4_FACTORY = LZ4Factory.fastestInstance();
+
+    private CompressedCborSnapshot() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Converts the given snapshot JSON to a BSON document with compressed CBOR payload.
+     *
+     * @param snapshotJson the JSON to convert.
+     * @return the BSON document to write to the snapshot store.
+     */
+    static BsonDocument toBsonDocument(final JsonObject snapshotJson) {
+        final JsonObjectBuilder plainFields = JsonFactory.newObjectBuilder();
+        final JsonObjectBuilder payloadFields = JsonFactory.newObjectBuilder();
+        for (final JsonField field : snapshotJson) {
+            if (field.getValue().isObject() || field.getValue().isArray()) {
+                payloadFields.set(field);
+            } else {
+                plainFields.set(field);
+            }
+        }
+
+        final BsonDocument result = DittoBsonJson.getInstance().parse(plainFields.build());
+        final JsonObject payload = payloadFields.build();
+        if (!payload.isEmpty()) {
+            final byte[] cbor = toCbor(payload);
+            final LZ4Compressor compressor = LZ4_FACTORY.fastCompressor();
+            result.append(PAYLOAD_FIELD, new BsonBinary(compressor.compress(cbor)));
+            result.append(PAYLOAD_SIZE_FIELD, new BsonInt32(cbor.length));
+        }
+        return result;
+    }
+
+    /**
+     * Indicates whether the given snapshot document contains a compressed CBOR payload.
+     *
+     * @param bsonValue the snapshot as read from the snapshot store.
+     * @return {@code true} if the snapshot was written in the {@link SnapshotFormat#CBOR_LZ4} format.
+     */
+    static boolean isCompressed(final BsonValue bsonValue) {
+        return bsonValue.isDocument() && bsonValue.asDocument().containsKey(PAYLOAD_FIELD);
+    }
+
+    /**
+     * Converts a snapshot document with compressed CBOR payload back to the snapshot JSON.
+     *
+     * @param bsonDocument the snapshot as read from the snapshot store.
+     * @return the snapshot JSON.
+     */
+    static JsonObject toJsonObject(final BsonDocument bsonDocument) {
+        final byte[] compressed = bsonDocument.getBinary(PAYLOAD_FIELD).getData();
+        final int size = bsonDocument.getInt32(PAYLOAD_SIZE_FIELD).getValue();
+        final BsonDocument plainFields = new BsonDocument();
+        bsonDocument.forEach((key, value) -> {
+            if (!PAYLOAD_FIELD.equals(key) && !PAYLOAD_SIZE_FIELD.equals(key)) {
+                plainFields.append(key, value);
+            }
+        });
+
+        final LZ4FastDecompressor decompressor = LZ4_FACTORY.fastDecompressor();
+        final JsonObject payload = getCborFactory().readFrom(decompressor.decompress(compressed, size)).asObject();
+
+        return JsonFactory.newObjectBuilder(DittoBsonJson.getInstance().serialize(plainFields))
+                .setAll(payload)
+                .build();
+    }
+
+    private static byte[] toCbor(final JsonObject jsonObject) {
+        try {
+            return getCborFactory().toByteArray(jsonObject);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to encode snapshot to CBOR.", e);
+        }
+    }
+
+    private static CborFactory getCborFactory() {
+        return CborFactoryLoader.getInstance().getCborFactoryOrThrow();
+    }
+
+}
@@ -22,6 +22,7 @@ import javax.annotation.Nullable;
 import org.bson.BsonArray;
 import org.bson.BsonDocument;
 import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
 import org.eclipse.ditto.json.JsonArray;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonValue;
@@ -36,18 +37,18 @@ public final class DittoBsonJson {
     private static final DittoBsonJson INSTANCE = DittoBsonJson.newInstance();
 
     private final JsonValueToDbEntityMapper jsonValueToDbEntityMapper;
-    private final Function<BsonDocument, JsonObject> bsonDocumentToJsonObjectMapper;
+    private final JsonObjectCodec jsonObjectCodec;
     private final Function<BsonArray, JsonArray> bsonArrayToJsonObjectMapper;
 
     /*
      * Inhibit instantiation of this utility class.
      */
     private DittoBsonJson(final JsonValueToDbEntityMapper jsonValueToDbEntityMapper,
-            final Function<BsonDocument, JsonObject> bsonDocumentToJsonObjectMapper,
+            final JsonObjectCodec jsonObjectCodec,
             final Function<BsonArray, JsonArray> bsonArrayToJsonObjectMapper) {
 
         this.jsonValueToDbEntityMapper = jsonValueToDbEntityMapper;
-        this.bsonDocumentToJsonObjectMapper = bsonDocumentToJsonObjectMapper;
+        this.jsonObjectCodec = jsonObjectCodec;
         this.bsonArrayToJsonObjectMapper = bsonArrayToJsonObjectMapper;
     }
 
@@ -65,7 +66,7 @@ public final class DittoBsonJson {
         final KeyNameReviser jsonKeyNameReviser = KeyNameReviser.decodeKnownUnicodeChars();
 
         return new DittoBsonJson(JsonValueToDbEntityMapper.of(jsonToMongoDbKeyNameReviser),
-                BsonDocumentToJsonObjectMapper.getInstance(jsonKeyNameReviser),
+                JsonObjectCodec.of(jsonToMongoDbKeyNameReviser, jsonKeyNameReviser),
                 BsonArrayToJsonObjectMapper.getInstance(jsonKeyNameReviser));
     }
 
@@ -99,7 +100,7 @@ public final class DittoBsonJson {
      * @throws NullPointerException if {@code bsonDocument} is {@code null}.
      */
     public JsonObject serialize(final BsonDocument bsonDocument) {
-        return bsonDocumentToJsonObjectMapper.apply(checkNotNull(bsonDocument, "BsonDocument to be serialized"));
+        return jsonObjectCodec.fromBsonDocument(checkNotNull(bsonDocument, "BsonDocument to be serialized"));
     }
 
     /**
@@ -125,6 +126,19 @@ public final class DittoBsonJson {
         return jsonValueToDbEntityMapper.mapJsonObjectToBsonDocument(jsonObject);
     }
 
+    /**
+     * Parses the specified {@link JsonObject} directly into the binary representation of a BsonDocument without
+     * building a tree of {@link BsonValue}s.
+     * The returned document is immutable.
+     *
+     * @param jsonObject the JSON object to be parsed.
+     * @return the parsed JSON object as RawBsonDocument.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     */
+    public RawBsonDocument parseToRawBsonDocument(final JsonObject jsonObject) {
+        return jsonObjectCodec.toRawBsonDocument(jsonObject);
+    }
+
     /**
      * Parses the passed in {@link JsonArray} into an {@link BsonArray}.
      *
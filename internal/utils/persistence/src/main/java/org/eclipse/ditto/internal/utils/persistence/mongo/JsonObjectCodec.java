@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.mongo;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.time.Instant;
+import java.util.function.Function;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.bson.BsonBinaryReader;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+
+/**
+ * A MongoDB {@link Codec} which writes a {@link JsonObject} directly to a {@link BsonWriter} and reads it directly from
+ * a {@link BsonReader}, i.e. without building an intermediate {@link BsonDocument}.
+ * While encoding and decoding, the keys of all JSON objects are revised by the configured functions.
+ * <p>
+ * The mapping of values is the same as the one of {@link DittoBsonJson}:
+ * JSON numbers are written as BSON int32, int64 or double; BSON timestamps are read as ISO-8601 strings and all BSON
+ * types which have no JSON counterpart are read as JSON {@code null}.
+ * </p>
+ */
+@Immutable
+public final class JsonObjectCodec implements Codec<JsonObject> {
+
+    private static final JsonObjectCodec INSTANCE = new JsonObjectCodec(KeyNameReviser.escapeProblematicPlainChars(),
+            KeyNameReviser.decodeKnownUnicodeChars());
+
+    private static final EncoderContext ENCODER_CONTEXT = EncoderContext.builder().build();
+    private static final DecoderContext DECODER_CONTEXT = DecoderContext.builder().build();
+
+    private final Function<String, String> encodingKeyNameReviser;
+    private final Function<String, String> decodingKeyNameReviser;
+
+    private JsonObjectCodec(final Function<String, String> encodingKeyNameReviser,
+            final Function<String, String> decodingKeyNameReviser) {
+
+        this.encodingKeyNameReviser = encodingKeyNameReviser;
+        this.decodingKeyNameReviser = decodingKeyNameReviser;
+    }
+
+    /**
+     * Returns the codec which escapes dots {@code "."} and dollar signs {@code "$"} in keys with their unicode
+     * representations when encoding and reverts this when decoding, like {@link DittoBsonJson} does.
+     *
+     * @return the instance.
+     */
+    public static JsonObjectCodec getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns a codec with the specified key name revisers.
+     *
+     * @param encodingKeyNameReviser is used to revise the key names of JSON objects when encoding to BSON.
+     * @param decodingKeyNameReviser is used to revise the key names of BSON documents when decoding to JSON.
+     * @return the codec.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static JsonObjectCodec of(final Function<String, String> encodingKeyNameReviser,
+            final Function<String, String> decodingKeyNameReviser) {
+
+        return new JsonObjectCodec(checkNotNull(encodingKeyNameReviser, "encodingKeyNameReviser"),
+                checkNotNull(decodingKeyNameReviser, "decodingKeyNameReviser"));
+    }
+
+    /**
+     * Encodes the specified JsonObject to a {@link RawBsonDocument}, i.e. to the binary BSON representation which is
+     * written to MongoDB as is.
+     *
+     * @param jsonObject the JSON object to be encoded.
+     * @return the encoded document.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     */
+    public RawBsonDocument toRawBsonDocument(final JsonObject jsonObject) {
+        return new RawBsonDocument(checkNotNull(jsonObject, "jsonObject"), this);
+    }
+
+    /**
+     * Decodes the specified BsonDocument to a JsonObject.
+     * The bytes of a {@link RawBsonDocument} are read directly.
+     *
+     * @param bsonDocument the BSON document to be decoded.
+     * @return the decoded JSON object.
+     * @throws NullPointerException if {@code bsonDocument} is {@code null}.
+     */
+    public JsonObject fromBsonDocument(final BsonDocument bsonDocument) {
+        checkNotNull(bsonDocument, "bsonDocument");
+        try (final BsonReader reader = newReader(bsonDocument)) {
+            return decode(reader, DECODER_CONTEXT);
+        }
+    }
+
+    private static BsonReader newReader(final BsonDocument bsonDocument) {
+        final BsonReader result;
+        if (bsonDocument instanceof RawBsonDocument rawBsonDocument) {
+            result = new BsonBinaryReader(rawBsonDocument.getByteBuffer().asNIO());
+        } else {
+            result = new BsonDocumentReader(bsonDocument);
+        }
+        return result;
+    }
+
+    @Override
+    public void encode(final BsonWriter writer, final JsonObject jsonObject, final EncoderContext encoderContext) {
+        writer.writeStartDocument();
+        for (final JsonField jsonField : jsonObject) {
+            writer.writeName(encodingKeyNameReviser.apply(jsonField.getKeyName()));
+            writeValue(writer, jsonField.getValue());
+        }
+        writer.writeEndDocument();
+    }
+
+    private void writeValue(final BsonWriter writer, final JsonValue jsonValue) {
+        if (jsonValue.isNull()) {
+            writer.writeNull();
+        } else if (jsonValue.isString()) {
+            writer.writeString(jsonValue.asString());
+        } else if (jsonValue.isNumber()) {
+            writeNumber(writer, jsonValue);
+        } else if (jsonValue.isObject()) {
+            encode(writer, jsonValue.asObject(), ENCODER_CONTEXT);
+        } else if (jsonValue.isArray()) {
+            writer.writeStartArray();
+            for (final JsonValue element : jsonValue.asArray()) {
+                writeValue(writer, element);
+            }
+            writer.writeEndArray();
+        } else if (jsonValue.isBoolean()) {
+            writer.writeBoolean(jsonValue.asBoolean());
+        } else {
+            writer.writeNull();
+        }
+    }
+
+    private static void writeNumber(final BsonWriter writer, final JsonValue jsonNumberValue) {
+        if (jsonNumberValue.isInt()) {
+            writer.writeInt32(jsonNumberValue.asInt());
+        } else if (jsonNumberValue.isLong()) {
+            writer.writeInt64(jsonNumberValue.asLong());
+        } else {
+            writer.writeDouble(jsonNumberValue.asDouble());
+        }
+    }
+
+    @Override
+    public JsonObject decode(final BsonReader reader, final DecoderContext decoderContext) {
+        final JsonObjectBuilder builder = JsonFactory.newObjectBuilder();
+        reader.readStartDocument();
+        while (BsonType.END_OF_DOCUMENT != reader.readBsonType()) {
+            final String keyName = decodingKeyNameReviser.apply(reader.readName());
+            builder.set(JsonFactory.newField(JsonFactory.newKey(keyName), readValue(reader)));
+        }
+        reader.readEndDocument();
+        return builder.build();
+    }
+
+    private JsonValue readValue(final BsonReader reader) {
+        final JsonValue result;
+        switch (reader.getCurrentBsonType()) {
+            case STRING:
+                result = JsonFactory.newValue(reader.readString());
+                break;
+            case INT32:
+                result = JsonFactory.newValue(reader.readInt32());
+                break;
+            case INT64:
+                result = JsonFactory.newValue(reader.readInt64());
+                break;
+            case DOUBLE:
+                result = JsonFactory.newValue(reader.readDouble());
+                break;
+            case DOCUMENT:
+                result = decode(reader, DECODER_CONTEXT);
+                break;
+            case ARRAY:
+                result = readArray(reader);
+                break;
+            case BOOLEAN:
+                result = JsonFactory.newValue(reader.readBoolean());
+                break;
+            case TIMESTAMP:
+                result = JsonFactory.newValue(Instant.ofEpochSecond(reader.readTimestamp().getTime()).toString());
+                break;
+            case NULL:
+                reader.readNull();
+                result = JsonFactory.nullLiteral();
+                break;
+            default:
+                reader.skipValue();
+                result = JsonFactory.nullLiteral();
+        }
+        return result;
+    }
+
+    private JsonArray readArray(final BsonReader reader) {
+        final JsonArrayBuilder builder = JsonFactory.newArrayBuilder();
+        reader.readStartArray();
+        while (BsonType.END_OF_DOCUMENT != reader.readBsonType()) {
+            builder.add(readValue(reader));
+        }
+        reader.readEndArray();
+        return builder.build();
+    }
+
+    @Override
+    public Class<JsonObject> getEncoderClass() {
+        return JsonObject.class;
+    }
+
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.mongo;
+
+import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.eclipse.ditto.internal.utils.config.DittoConfigError;
+
+import com.typesafe.config.Config;
+
+/**
+ * Enumerates the formats in which a {@link AbstractMongoSnapshotAdapter} writes snapshots to the snapshot store.
+ * Snapshots of all formats can always be read, thus the format may be switched for running entities.
+ */
+public enum SnapshotFormat {
+
+    /**
+     * The snapshot is written as plain BSON document.
+     */
+    BSON("bson"),
+
+    /**
+     * Top-level fields with a simple value are written as plain BSON fields so that they remain queryable, all other
+     * fields are written as one LZ4 compressed CBOR binary.
+     */
+    CBOR_LZ4("cbor-lz4");
+
+    /**
+     * Key of the snapshot format within the config of a snapshot adapter extension.
+     */
+    public static final String CONFIG_KEY = "snapshot-format";
+
+    private final String name;
+
+    SnapshotFormat(final String name) {
+        this.name = name;
+    }
+
+    /**
+     * Returns the snapshot format with the given name.
+     *
+     * @param name the name of the format, e.g. {@code "cbor-lz4"}.
+     * @return the format or an empty Optional if the name is unknown.
+     */
+    public static Optional<SnapshotFormat> forName(final CharSequence name) {
+        return Arrays.stream(values())
+                .filter(format -> format.name.contentEquals(name))
+                .findAny();
+    }
+
+    /**
+     * Returns the snapshot format configured at {@value #CONFIG_KEY} of the given snapshot adapter config.
+     *
+     * @param config the config of the snapshot adapter extension.
+     * @return the configured format or {@link #BSON} if none is configured.
+     * @throws DittoConfigError if the configured format is unknown.
+     */
+    public static SnapshotFormat fromConfig(final Config config) {
+        if (!config.hasPath(CONFIG_KEY)) {
+            return BSON;
+        }
+        final String configuredName = config.getString(CONFIG_KEY);
+        return forName(configuredName).orElseThrow(() -> new DittoConfigError(
+                MessageFormat.format("Unknown snapshot format <{0}> at <{1}>! Supported formats are: {2}",
+                        configuredName, CONFIG_KEY, Arrays.toString(values()))));
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+}
@@ -32,10 +32,12 @@ public final class DefaultSnapshotConfig implements SnapshotConfig {
 
     private final Duration interval;
     private final long threshold;
+    private final long passivationThreshold;
 
     private DefaultSnapshotConfig(final ScopedConfig config) {
         interval = config.getNonNegativeAndNonZeroDurationOrThrow(SnapshotConfigValue.INTERVAL);
         threshold = config.getPositiveLongOrThrow((SnapshotConfigValue.THRESHOLD));
+        passivationThreshold = config.getNonNegativeLongOrThrow(SnapshotConfigValue.PASSIVATION_THRESHOLD);
     }
 
     /**
@@ -60,6 +62,11 @@ public final class DefaultSnapshotConfig implements SnapshotConfig {
         return threshold;
     }
 
+    @Override
+    public long getPassivationThreshold() {
+        return passivationThreshold;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -69,12 +76,14 @@ public final class DefaultSnapshotConfig implements SnapshotConfig {
             return false;
         }
         final DefaultSnapshotConfig that = (DefaultSnapshotConfig) o;
-        return threshold == that.threshold && Objects.equals(interval, that.interval);
+        return threshold == that.threshold &&
+                passivationThreshold == that.passivationThreshold &&
+                Objects.equals(interval, that.interval);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(interval, threshold);
+        return Objects.hash(interval, threshold, passivationThreshold);
     }
 
     @Override
@@ -82,6 +91,7 @@ public final class DefaultSnapshotConfig implements SnapshotConfig {
         return getClass().getSimpleName() + " [" +
                 "interval=" + interval +
                 ", threshold=" + threshold +
+                ", passivationThreshold=" + passivationThreshold +
                 "]";
     }
 
@@ -38,6 +38,15 @@ public interface SnapshotConfig {
      */
     long getThreshold();
 
+    /**
+     * Returns the number of changes since the last snapshot from which on a snapshot is taken when the entity is
+     * passivated.
+     * A value of {@code 0} disables snapshots on passivation.
+     *
+     * @return the passivation threshold.
+     */
+    long getPassivationThreshold();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code SnapshotConfig}.
@@ -52,7 +61,12 @@ public interface SnapshotConfig {
         /**
          * The threshold after how many changes to an entity to do a snapshot.
          */
-        THRESHOLD("threshold", 500L);
+        THRESHOLD("threshold", 500L),
+
+        /**
+         * The number of changes since the last snapshot from which on to do a snapshot when the entity is passivated.
+         */
+        PASSIVATION_THRESHOLD("passivation-threshold", 0L);
 
         private final String path;
         private final Object defaultValue;
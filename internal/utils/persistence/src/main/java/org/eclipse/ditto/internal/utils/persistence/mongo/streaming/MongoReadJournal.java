@@ -152,17 +152,32 @@ public final class MongoReadJournal implements CurrentEventsByPersistenceIdQuery
      */
     public static final String S_TS = SnapshottingFieldNames$.MODULE$.TIMESTAMP();
 
-    private static final String S_SERIALIZED_SNAPSHOT = "s2";
+    /**
+     * Document field of the serialized snapshot in snapshot stores.
+     */
+    public static final String S_SERIALIZED_SNAPSHOT = "s2";
 
     /**
      * Document field of lifecycle of snapshots.
      */
     public static final String LIFECYCLE = "__lifecycle";
 
-    private static final String J_EVENT = JournallingFieldNames$.MODULE$.EVENTS();
+    /**
+     * Document field of the array of events in journal entries.
+     */
+    public static final String J_EVENT = JournallingFieldNames$.MODULE$.EVENTS();
     public static final String J_EVENT_PID = JournallingFieldNames$.MODULE$.PROCESSOR_ID();
     public static final String J_EVENT_MANIFEST = JournallingFieldNames$.MODULE$.MANIFEST();
-    private static final String J_EVENT_SN = JournallingFieldNames$.MODULE$.SEQUENCE_NUMBER();
+
+    /**
+     * Document field of the sequence number of an event in the events array of journal entries.
+     */
+    public static final String J_EVENT_SN = JournallingFieldNames$.MODULE$.SEQUENCE_NUMBER();
+
+    /**
+     * Document field of the serialized payload of an event in the events array of journal entries.
+     */
+    public static final String J_EVENT_PAYLOAD = "p";
 
     private static final Duration MAX_BACK_OFF_DURATION = Duration.ofSeconds(128L);
 
@@ -527,6 +542,58 @@ public final class MongoReadJournal implements CurrentEventsByPersistenceIdQuery
         )).map(document -> document.getLong(S_SN));
     }
 
+    /**
+     * Retrieve for each of the passed {@code pids} the newest snapshot taken before the passed {@code timestamp} with
+     * one aggregation over the snapshot store.
+     * PIDs without such a snapshot are omitted.
+     *
+     * @param pids the persistenceIds to find the snapshots for.
+     * @param timestamp the timestamp to use as exclusive upper bound of the snapshot timestamps.
+     * @return source of documents containing the PID in {@code _id}, the sequence number in {@link #S_SN} and the
+     * serialized snapshot in {@link #S_SERIALIZED_SNAPSHOT}.
+     */
+    public Source<BsonDocument, NotUsed> getNewestSnapshotsBeforeTimestamp(final Collection<String> pids,
+            final Instant timestamp) {
+
+        if (pids.isEmpty()) {
+            return Source.empty();
+        }
+        final List<Bson> pipeline = List.of(
+                Aggregates.match(Filters.and(
+                        Filters.in(S_PROCESSOR_ID, pids),
+                        Filters.lt(S_TS, timestamp.toEpochMilli())
+                )),
+                Aggregates.sort(Sorts.orderBy(Sorts.ascending(S_PROCESSOR_ID), Sorts.descending(S_SN))),
+                Aggregates.group("$" + S_PROCESSOR_ID,
+                        Accumulators.first(S_SN, "$" + S_SN),
+                        Accumulators.first(S_SERIALIZED_SNAPSHOT, "$" + S_SERIALIZED_SNAPSHOT))
+        );
+        return getSnapshotStore().flatMapConcat(snaps ->
+                Source.fromPublisher(snaps.aggregate(pipeline, BsonDocument.class)));
+    }
+
+    /**
+     * Retrieve the journal entries of a PID which contain events with sequence numbers above a lower bound.
+     * The entries are streamed from the database without an upper bound, so callers should process them one by one
+     * and cancel the stream once they are not interested in further entries; cancelling closes the cursor.
+     *
+     * @param pid the persistenceId.
+     * @param lowerBoundSequenceNumber the exclusive lower-bound sequence number.
+     * @return source of the journal entries ordered by sequence number.
+     */
+    public Source<BsonDocument, NotUsed> getJournalEntriesAbove(final String pid,
+            final long lowerBoundSequenceNumber) {
+
+        final Bson filter = Filters.and(
+                Filters.eq(J_PROCESSOR_ID, pid),
+                Filters.gt(J_TO, lowerBoundSequenceNumber)
+        );
+        return getJournal().flatMapConcat(journal -> Source.fromPublisher(
+                journal.find(filter, BsonDocument.class)
+                        .sort(Sorts.ascending(J_TO))
+        ));
+    }
+
     /**
      * Retrieve all latest snapshots with unique PIDs in snapshot store above a lower bound.
      * Does not limit database access in any way.
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.mongo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonObject;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link CompressedCborSnapshot}.
+ */
+public final class CompressedCborSnapshotTest {
+
+    private static final JsonObject SNAPSHOT_JSON = JsonObject.newBuilder()
+            .set("thingId", "org.eclipse.ditto:thing")
+            .set("_revision", 42L)
+            .set("__lifecycle", "ACTIVE")
+            .set("attributes", JsonObject.newBuilder()
+                    .set("location", JsonObject.newBuilder().set("lat", 47.68).set("lon", 9.38).build())
+                    .set("key.with$problematic.chars", true)
+                    .build())
+            .set("tags", JsonArray.of("a", "b"))
+            .build();
+
+    @Test
+    public void simpleTopLevelFieldsRemainQueryable() {
+        final BsonDocument underTest = CompressedCborSnapshot.toBsonDocument(SNAPSHOT_JSON);
+
+        assertThat(underTest.get("_revision").asNumber().longValue()).isEqualTo(42L);
+        assertThat(underTest.get("__lifecycle")).isEqualTo(new BsonString("ACTIVE"));
+        assertThat(underTest.containsKey("attributes")).isFalse();
+        assertThat(underTest.containsKey("tags")).isFalse();
+        assertThat(CompressedCborSnapshot.isCompressed(underTest)).isTrue();
+    }
+
+    @Test
+    public void roundTripReturnsEqualJson() {
+        final BsonDocument compressed = CompressedCborSnapshot.toBsonDocument(SNAPSHOT_JSON);
+
+        assertThat(CompressedCborSnapshot.toJsonObject(compressed)).isEqualTo(SNAPSHOT_JSON);
+    }
+
+    @Test
+    public void snapshotWithoutNestedFieldsIsPlainBson() {
+        final JsonObject deletedSnapshot = JsonObject.newBuilder()
+                .set("__lifecycle", "DELETED")
+                .set("_revision", 3L)
+                .build();
+
+        final BsonDocument underTest = CompressedCborSnapshot.toBsonDocument(deletedSnapshot);
+
+        assertThat(CompressedCborSnapshot.isCompressed(underTest)).isFalse();
+        assertThat(DittoBsonJson.getInstance().serialize(underTest)).isEqualTo(deletedSnapshot);
+    }
+
+    @Test
+    public void plainBsonSnapshotIsNotCompressed() {
+        final BsonDocument bsonSnapshot = DittoBsonJson.getInstance().parse(SNAPSHOT_JSON);
+
+        assertThat(CompressedCborSnapshot.isCompressed(bsonSnapshot)).isFalse();
+    }
+
+}
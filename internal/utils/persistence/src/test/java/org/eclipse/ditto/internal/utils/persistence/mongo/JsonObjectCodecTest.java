@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.mongo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.bson.BsonDateTime;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonInt64;
+import org.bson.BsonTimestamp;
+import org.bson.RawBsonDocument;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link JsonObjectCodec}.
+ */
+public final class JsonObjectCodecTest {
+
+    private static final JsonObject JSON_OBJECT = JsonObject.newBuilder()
+            .set("thingId", "org.eclipse.ditto:thing")
+            .set("int", 42)
+            .set("long", Long.MAX_VALUE)
+            .set("double", 23.5)
+            .set("boolean", true)
+            .set("null", JsonValue.nullLiteral())
+            .set("array", JsonArray.newBuilder()
+                    .add(1)
+                    .add("two")
+                    .add(JsonObject.newBuilder().set("$three", 3).build())
+                    .add(JsonArray.empty())
+                    .build())
+            .set("attributes", JsonObject.newBuilder()
+                    .set("org.eclipse.ditto", JsonObject.newBuilder().set("$dollar", "value").build())
+                    .set("empty", JsonObject.empty())
+                    .build())
+            .build();
+
+    private final JsonObjectCodec underTest = JsonObjectCodec.getInstance();
+
+    @Test
+    public void encodesLikeDittoBsonJson() {
+        final RawBsonDocument encoded = underTest.toRawBsonDocument(JSON_OBJECT);
+
+        assertThat(encoded).isEqualTo(DittoBsonJson.getInstance().parse(JSON_OBJECT));
+    }
+
+    @Test
+    public void escapesKeysWhenEncoding() {
+        final RawBsonDocument encoded = underTest.toRawBsonDocument(JSON_OBJECT);
+
+        assertThat(encoded.getDocument("attributes").keySet())
+                .containsExactly("org．eclipse．ditto", "empty");
+        assertThat(encoded.getDocument("attributes").getDocument("org．eclipse．ditto").keySet())
+                .containsExactly("＄dollar");
+    }
+
+    @Test
+    public void writesNumbersWithNarrowestType() {
+        final RawBsonDocument encoded = underTest.toRawBsonDocument(JSON_OBJECT);
+
+        assertThat(encoded.get("int")).isEqualTo(new BsonInt32(42));
+        assertThat(encoded.get("long")).isEqualTo(new BsonInt64(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void rawDocumentRoundTrip() {
+        final JsonObject decoded = underTest.fromBsonDocument(underTest.toRawBsonDocument(JSON_OBJECT));
+
+        assertThat(decoded).isEqualTo(JSON_OBJECT);
+    }
+
+    @Test
+    public void decodesBsonDocumentTree() {
+        final BsonDocument bsonDocument = DittoBsonJson.getInstance().parse(JSON_OBJECT);
+
+        assertThat(underTest.fromBsonDocument(bsonDocument)).isEqualTo(JSON_OBJECT);
+    }
+
+    @Test
+    public void decodesTimestampsAsStringsAndUnsupportedTypesAsNull() {
+        final BsonDocument bsonDocument = new BsonDocument()
+                .append("timestamp", new BsonTimestamp(1_600_000_000, 1))
+                .append("date", new BsonDateTime(1L))
+                .append("after", new BsonInt32(1));
+
+        final JsonObject decoded = underTest.fromBsonDocument(bsonDocument);
+
+        assertThat(decoded).isEqualTo(JsonObject.newBuilder()
+                .set("timestamp", "2020-09-13T12:26:40Z")
+                .set("date", JsonValue.nullLiteral())
+                .set("after", 1)
+                .build());
+    }
+
+}
@@ -65,6 +65,9 @@ public final class DefaultSnapshotConfigTest {
         softly.assertThat(underTest.getThreshold())
                 .as(SnapshotConfig.SnapshotConfigValue.THRESHOLD.getConfigPath())
                 .isEqualTo(SnapshotConfig.SnapshotConfigValue.THRESHOLD.getDefaultValue());
+        softly.assertThat(underTest.getPassivationThreshold())
+                .as(SnapshotConfig.SnapshotConfigValue.PASSIVATION_THRESHOLD.getConfigPath())
+                .isEqualTo(SnapshotConfig.SnapshotConfigValue.PASSIVATION_THRESHOLD.getDefaultValue());
     }
 
     @Test
@@ -77,5 +80,8 @@ public final class DefaultSnapshotConfigTest {
         softly.assertThat(underTest.getThreshold())
                 .as(SnapshotConfig.SnapshotConfigValue.THRESHOLD.getConfigPath())
                 .isEqualTo(2);
+        softly.assertThat(underTest.getPassivationThreshold())
+                .as(SnapshotConfig.SnapshotConfigValue.PASSIVATION_THRESHOLD.getConfigPath())
+                .isEqualTo(1);
     }
 }
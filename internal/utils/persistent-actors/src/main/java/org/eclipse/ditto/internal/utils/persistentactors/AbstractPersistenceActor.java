@@ -14,6 +14,9 @@ package org.eclipse.ditto.internal.utils.persistentactors;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
@@ -65,6 +68,8 @@ import org.eclipse.ditto.internal.utils.persistence.mongo.config.ActivityCheckCo
 import org.eclipse.ditto.internal.utils.persistence.mongo.config.SnapshotConfig;
 import org.eclipse.ditto.internal.utils.persistence.mongo.streaming.MongoReadJournal;
 import org.eclipse.ditto.internal.utils.persistentactors.commands.CommandStrategy;
+import org.eclipse.ditto.internal.utils.persistentactors.config.DefaultGroupCommitConfig;
+import org.eclipse.ditto.internal.utils.persistentactors.config.GroupCommitConfig;
 import org.eclipse.ditto.internal.utils.persistentactors.events.EventStrategy;
 import org.eclipse.ditto.internal.utils.persistentactors.results.Result;
 import org.eclipse.ditto.internal.utils.persistentactors.results.ResultFactory;
@@ -77,6 +82,8 @@ import org.eclipse.ditto.json.JsonField;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonValue;
 
+import com.typesafe.config.ConfigFactory;
+
 import scala.Option;
 
 /**
@@ -103,6 +110,8 @@ public abstract class AbstractPersistenceActor<
      */
     public static final String JOURNAL_TAG_ALWAYS_ALIVE = "always-alive";
 
+    private static final GroupCommitConfig GROUP_COMMIT_DISABLED = DefaultGroupCommitConfig.of(ConfigFactory.empty());
+
     private final SnapshotAdapter<S> snapshotAdapter;
     private final Receive handleEvents;
     private final Receive handleCleanups;
@@ -124,6 +133,18 @@ public abstract class AbstractPersistenceActor<
     private long accessCounter = 0L;
     private final BlockedNamespaces blockedNamespaces;
 
+    /**
+     * Events which were already applied to the entity but not yet handed to the journal, in the order of their
+     * revisions.
+     */
+    private final List<GroupCommitEntry<E, S>> groupCommitBuffer = new ArrayList<>();
+
+    /**
+     * Number of events which were already applied to the entity but whose write was not yet confirmed.
+     */
+    private int unconfirmedEventCount = 0;
+    private int groupCommitWritesInFlight = 0;
+
     /**
      * Instantiate the actor.
      *
@@ -204,6 +225,16 @@ public abstract class AbstractPersistenceActor<
      */
     protected abstract SnapshotConfig getSnapshotConfig();
 
+    /**
+     * Returns the configuration for persisting events in groups.
+     * Group commit is disabled unless a subclass overrides this method.
+     *
+     * @return configuration for group commit.
+     */
+    protected GroupCommitConfig getGroupCommitConfig() {
+        return GROUP_COMMIT_DISABLED;
+    }
+
     /**
      * Check if the entity exists and is deleted. This is a sufficient condition to make a snapshot before stopping.
      *
@@ -284,10 +315,11 @@ public abstract class AbstractPersistenceActor<
     }
 
     /**
-     * @return the current revision number for event handling.
+     * @return the current revision number for event handling, including events of a group commit which were already
+     * applied to the entity but whose write was not yet confirmed.
      */
     protected long getRevisionNumber() {
-        return lastSequenceNr();
+        return lastSequenceNr() + unconfirmedEventCount;
     }
 
     @Override
@@ -306,6 +338,17 @@ public abstract class AbstractPersistenceActor<
         log.error(cause, "Recovery Failure for entity with ID <{}>", entityId);
     }
 
+    @Override
+    public void onPersistRejected(final Throwable cause, final Object event, final long seqNr) {
+        super.onPersistRejected(cause, event, seqNr);
+        if (unconfirmedEventCount > 0) {
+            // the in-memory entity already contains events which will never be persisted
+            log.error("Stopping entity with ID <{}> as <{}> events of a group commit are not persisted.", entityId,
+                    unconfirmedEventCount);
+            getContext().stop(getSelf());
+        }
+    }
+
     @Override
     public Receive createReceiveRecover() {
         // defines how state is updated during recovery
@@ -554,6 +597,8 @@ public abstract class AbstractPersistenceActor<
         if (modifiedEvent.getDittoHeaders().isDryRun()) {
             handler.accept(modifiedEvent, entity);
         } else {
+            // events of a group commit have lower revisions and therefore have to be written first
+            drainGroupCommitBuffer();
             persistEvent(modifiedEvent, persistedEvent -> {
                 // after the event was persisted, apply the event on the current actor state
                 applyEvent(persistedEvent);
@@ -562,6 +607,82 @@ public abstract class AbstractPersistenceActor<
         }
     }
 
+    /**
+     * Apply an event to the actor state right away, persist it together with the other events arriving while a
+     * journal write is in flight, then publish the event and invoke the handler.
+     * Commands processed before the write is confirmed already see the effect and revision of the event.
+     *
+     * @param event the event to apply and persist.
+     * @param handler what happens after the event was persisted.
+     */
+    private void persistAndApplyEventInGroup(final E event, final BiConsumer<E, S> handler) {
+
+        final E modifiedEvent = modifyEventBeforePersist(event);
+        if (modifiedEvent.getDittoHeaders().isDryRun()) {
+            handler.accept(modifiedEvent, entity);
+        } else {
+            final S previousEntity = entity;
+            unconfirmedEventCount++;
+            handleEvents.onMessage().apply(modifiedEvent);
+            groupCommitBuffer.add(new GroupCommitEntry<>(modifiedEvent, previousEntity, entity, handler));
+            if (groupCommitWritesInFlight == 0) {
+                flushGroupCommit();
+            }
+        }
+    }
+
+    /**
+     * Writes all buffered events of the group commit before an event is persisted outside of the group; the buffered
+     * events have lower revisions and must get the lower sequence numbers.
+     * The journal executes consecutive persist calls in the order in which they were made.
+     */
+    private void drainGroupCommitBuffer() {
+        while (!groupCommitBuffer.isEmpty()) {
+            flushGroupCommit();
+        }
+    }
+
+    private void flushGroupCommit() {
+        final List<GroupCommitEntry<E, S>> batchView =
+                groupCommitBuffer.subList(0, Math.min(groupCommitBuffer.size(),
+                        getGroupCommitConfig().getMaxBatchSize()));
+        final List<GroupCommitEntry<E, S>> batch = new ArrayList<>(batchView);
+        batchView.clear();
+
+        final List<E> tracedEvents = new ArrayList<>(batch.size());
+        final List<StartedSpan> persistOperationSpans = new ArrayList<>(batch.size());
+        batch.forEach(entry -> {
+            final StartedSpan persistOperationSpan = startPersistOperationSpan(entry.event());
+            persistOperationSpans.add(persistOperationSpan);
+            tracedEvents.add(setSpanContext(entry.event(), persistOperationSpan));
+        });
+        log.debug("Persisting <{}> Events of entity with ID <{}> with one write.", tracedEvents.size(), entityId);
+
+        // the journal confirms the events of one write in order, each event with its own sequence number
+        final Iterator<GroupCommitEntry<E, S>> entries = batch.iterator();
+        final Iterator<StartedSpan> spans = persistOperationSpans.iterator();
+        groupCommitWritesInFlight++;
+        persistAllAsync(tracedEvents, persistedEvent ->
+                handlePersistedGroupEvent(entries.next(), spans.next(), persistedEvent));
+        deferAsync(Control.GROUP_COMMIT_WRITTEN, written -> {
+            groupCommitWritesInFlight--;
+            if (groupCommitWritesInFlight == 0 && !groupCommitBuffer.isEmpty()) {
+                flushGroupCommit();
+            }
+        });
+    }
+
+    private void handlePersistedGroupEvent(final GroupCommitEntry<E, S> entry, final StartedSpan persistOperationSpan,
+            final E persistedEvent) {
+
+        unconfirmedEventCount--;
+        handlePersistedEvent(confirmedEvent -> {
+            // the event was already applied when it was added to the group; only publish it now
+            publishEvent(entry.previousEntity(), confirmedEvent);
+            entry.handler().accept(confirmedEvent, entry.resultingEntity());
+        }, log.withCorrelationId(persistedEvent), persistOperationSpan, persistedEvent);
+    }
+
     private record PersistEventAsync<
             E extends EventsourcedEvent<? extends E>,
             S extends Jsonifiable.WithFieldSelectorAndPredicate<JsonField>>(E event, BiConsumer<E, S> handler) {};
@@ -620,6 +741,8 @@ public abstract class AbstractPersistenceActor<
             takeSnapshot("the entity is deleted and has no up-to-date snapshot");
         } else if (accessCounter > message.accessCounter) {
             log.debug("Entity <{}> was accessed since last activity check, preventing Actor shutdown.", entityId);
+        } else if (unconfirmedEventCount > 0) {
+            log.debug("Entity <{}> has events which are not yet persisted, preventing Actor shutdown.", entityId);
         } else if (isEntityActive() && isEntityAlwaysAlive()) {
             log.debug("Entity <{}> is active and marked as 'always-alive', preventing Actor shutdown.", entityId);
         } else {
@@ -636,6 +759,7 @@ public abstract class AbstractPersistenceActor<
 
     private void handlePersistEmptyEvent(final PersistEmptyEvent persistEmptyEvent) {
         log.debug("Received PersistEmptyEvent: <{}>", persistEmptyEvent);
+        drainGroupCommitBuffer();
         persist(persistEmptyEvent.getEmptyEvent(), event -> log.debug("Persisted EmptyEvent: <{}>", event));
     }
 
@@ -734,7 +858,7 @@ public abstract class AbstractPersistenceActor<
             final boolean becomeCreated, final boolean becomeDeleted) {
 
         final ActorRef sender = getSender();
-        persistAndApplyEvent(event, (persistedEvent, resultingEntity) -> {
+        final BiConsumer<E, S> handler = (persistedEvent, resultingEntity) -> {
             if (shouldSendResponse(command.getDittoHeaders())) {
                 notifySender(sender, response);
             }
@@ -744,7 +868,13 @@ public abstract class AbstractPersistenceActor<
             if (becomeCreated) {
                 becomeCreatedHandler();
             }
-        });
+        };
+        if (!becomeCreated && !becomeDeleted && getGroupCommitConfig().isEnabled()) {
+            persistAndApplyEventInGroup(event, handler);
+        } else {
+            // changes of the lifecycle switch the behavior of the actor and thus must not be applied optimistically
+            persistAndApplyEvent(event, handler);
+        }
     }
 
     @Override
@@ -827,24 +957,33 @@ public abstract class AbstractPersistenceActor<
         final var l = log.withCorrelationId(event);
         l.debug("Persisting Event <{}>.", event.getType());
 
-        final var persistOperationSpan = DittoTracing.newPreparedSpan(
+        final var persistOperationSpan = startPersistOperationSpan(event);
+
+        persist(
+                setSpanContext(event, persistOperationSpan),
+                persistedEvent -> handlePersistedEvent(handler, l, persistOperationSpan, persistedEvent)
+        );
+    }
+
+    private static StartedSpan startPersistOperationSpan(final EventsourcedEvent<?> event) {
+        return DittoTracing.newPreparedSpan(
                         event.getDittoHeaders(),
                         SpanOperationName.of("persist_event")
                 )
                 .tag(SpanTagKey.SIGNAL_TYPE.getTagForValue(event.getType()))
                 .start();
+    }
 
-        persist(
-                event.setDittoHeaders(DittoHeaders.of(persistOperationSpan.propagateContext(event.getDittoHeaders()))),
-                persistedEvent -> handlePersistedEvent(handler, l, persistOperationSpan, persistedEvent)
-        );
+    private E setSpanContext(final E event, final StartedSpan persistOperationSpan) {
+        return event.setDittoHeaders(
+                DittoHeaders.of(persistOperationSpan.propagateContext(event.getDittoHeaders())));
     }
 
     private void handlePersistedEvent(final Consumer<E> handler, final DittoDiagnosticLoggingAdapter l,
             final StartedSpan persistOperationSpan, final E persistedEvent) {
         l.info("Successfully persisted Event <{}> w/ rev: <{}>.",
                 persistedEvent.getType(),
-                getRevisionNumber());
+                lastSequenceNr());
         persistOperationSpan.finish();
 
         /*
@@ -881,7 +1020,11 @@ public abstract class AbstractPersistenceActor<
 
     private void doTakeSnapshot(final String reason) {
         final long revision = getRevisionNumber();
-        if (entity != null && lastSnapshotRevision != revision) {
+        if (unconfirmedEventCount > 0) {
+            // the entity is ahead of the journal; a later confirmation of the group commit takes the snapshot
+            log.debug("Not taking snapshot for entity <{}> with <{}> unconfirmed events even if {}.", entityId,
+                    unconfirmedEventCount, reason);
+        } else if (entity != null && lastSnapshotRevision != revision) {
             log.debug("Taking snapshot for entity with ID <{}> and sequence number <{}> because {}.", entityId,
                     revision,
                     reason);
@@ -954,9 +1097,18 @@ public abstract class AbstractPersistenceActor<
 
     private void shutdown(final String shutdownLogTemplate, final I entityId) {
         log.info(shutdownLogTemplate, String.valueOf(entityId));
+        if (passivationSnapshotThresholdPassed()) {
+            // spare the replay of the events since the last snapshot when the entity is started again
+            takeSnapshot("the entity is passivated");
+        }
         passivate();
     }
 
+    private boolean passivationSnapshotThresholdPassed() {
+        final long passivationThreshold = getSnapshotConfig().getPassivationThreshold();
+        return passivationThreshold > 0 && getRevisionNumber() - lastSnapshotRevision >= passivationThreshold;
+    }
+
     private boolean isEntityActive() {
         return entity != null && !entityExistsAsDeleted();
     }
@@ -1035,9 +1187,17 @@ public abstract class AbstractPersistenceActor<
     }
 
     private enum Control {
-        TAKE_SNAPSHOT
+        TAKE_SNAPSHOT,
+        GROUP_COMMIT_WRITTEN
     }
 
+    private record GroupCommitEntry<
+            E extends EventsourcedEvent<? extends E>,
+            S extends Jsonifiable.WithFieldSelectorAndPredicate<JsonField>>(E event,
+            @Nullable S previousEntity,
+            @Nullable S resultingEntity,
+            BiConsumer<E, S> handler) {}
+
 
     /**
      * Local message this actor may send to itself in order to persist an {@link EmptyEvent} to the event journal,
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistentactors.config;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for the group commit of events by persistence actors.
+ * With group commit, mutations arriving while a journal write is in flight are applied to the entity optimistically
+ * and are persisted together with a single journal write once the previous write was confirmed.
+ */
+@Immutable
+public interface GroupCommitConfig {
+
+    /**
+     * Indicates whether group commit is enabled.
+     *
+     * @return {@code true} if events are persisted in groups, {@code false} if each event is persisted on its own.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the maximum number of events which are persisted with a single journal write.
+     *
+     * @return the maximum batch size.
+     */
+    int getMaxBatchSize();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code GroupCommitConfig}.
+     */
+    enum GroupCommitConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether group commit is enabled.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * The maximum number of events which are persisted with a single journal write.
+         */
+        MAX_BATCH_SIZE("max-batch-size", 100);
+
+        private final String path;
+        private final Object defaultValue;
+
+        GroupCommitConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistentactors.config;
+
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link DefaultGroupCommitConfig}.
+ */
+public final class DefaultGroupCommitConfigTest {
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultGroupCommitConfig.class, areImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultGroupCommitConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void underTestReturnsDefaultValuesIfBaseConfigWasEmpty() {
+        final DefaultGroupCommitConfig underTest = DefaultGroupCommitConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isEnabled())
+                .as(GroupCommitConfig.GroupCommitConfigValue.ENABLED.getConfigPath())
+                .isEqualTo(GroupCommitConfig.GroupCommitConfigValue.ENABLED.getDefaultValue());
+
+        softly.assertThat(underTest.getMaxBatchSize())
+                .as(GroupCommitConfig.GroupCommitConfigValue.MAX_BATCH_SIZE.getConfigPath())
+                .isEqualTo(GroupCommitConfig.GroupCommitConfigValue.MAX_BATCH_SIZE.getDefaultValue());
+    }
+
+    @Test
+    public void underTestReturnsValuesOfConfig() {
+        final DefaultGroupCommitConfig underTest = DefaultGroupCommitConfig.of(
+                ConfigFactory.parseString("group-commit { enabled = true, max-batch-size = 25 }"));
+
+        softly.assertThat(underTest.isEnabled())
+                .as(GroupCommitConfig.GroupCommitConfigValue.ENABLED.getConfigPath())
+                .isTrue();
+
+        softly.assertThat(underTest.getMaxBatchSize())
+                .as(GroupCommitConfig.GroupCommitConfigValue.MAX_BATCH_SIZE.getConfigPath())
+                .isEqualTo(25);
+    }
+
+}
@@ -0,0 +1,521 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.pubsub.actors;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.eclipse.ditto.base.model.signals.Signal;
+import org.eclipse.ditto.internal.utils.pubsub.PubSubFactory;
+import org.eclipse.ditto.internal.utils.pubsub.api.PublishSignal;
+import org.eclipse.ditto.internal.utils.pubsub.ddata.ack.Grouped;
+
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.japi.Pair;
+
+/**
+ * Index for publishing to a set of subscribers with groups by the hash codes of topics.
+ * <p>
+ * Subscribers and groups are interned into arrays. The hash codes are the keys of an open addressing hash table of
+ * primitive {@code long}s whose slots hold sorted arrays of entries. Each entry packs the indexes of a subscriber and
+ * of one of its groups into a {@code long}.
+ * </p>
+ * <p>
+ * The index is updated in place per subscriber whose subscriptions changed: only the slots of the old and new topic
+ * hashes of that subscriber are touched.
+ * Looking up the subscribers of a topic works on scratch arrays of the index; apart from the returned list it only
+ * allocates when a scratch array has to grow. The index is therefore confined to the actor owning it.
+ * </p>
+ * <p>
+ * Assigning groups to subscribers behaves exactly like {@link PublisherIndex#assignGroupsToSubscribers(Signal,
+ * Collection, CharSequence)}.
+ * </p>
+ */
+@NotThreadSafe
+final class LongPublisherIndex {
+
+    private static final int EMPTY_GROUP = 0;
+    private static final int INITIAL_CAPACITY = 16;
+    private static final long[] NO_HASHES = new long[0];
+
+    // subscribers and groups
+    private final Map<ActorRef, Integer> subscriberIndexes;
+    private final Map<String, Integer> groupIndexes;
+    private ActorRef[] subscribers;
+    private long[][] subscriberHashes;
+    private int[] freeSubscriberIndexes;
+    private int freeSubscriberIndexCount;
+    private int subscriberCount;
+    private String[] groups;
+    private int groupCount;
+
+    // hash table of topic hashes; a slot is occupied if its entries are not null
+    private long[] slotKeys;
+    private long[][] slotEntries;
+    private int mask;
+    private int size;
+
+    // scratch state of assignGroupsToSubscribers
+    private int[] subscriberMarks;
+    private int epoch;
+    private int[] receivingSubscribers;
+    private long[] candidates;
+    private int[] chosenSubscribers;
+    private int[] chosenGroups;
+    private int[] chosenGroupSizes;
+
+    private LongPublisherIndex() {
+        subscriberIndexes = new HashMap<>();
+        groupIndexes = new HashMap<>();
+        subscribers = new ActorRef[INITIAL_CAPACITY];
+        subscriberHashes = new long[INITIAL_CAPACITY][];
+        freeSubscriberIndexes = new int[INITIAL_CAPACITY];
+        groups = new String[INITIAL_CAPACITY];
+        internGroup("");
+        slotKeys = new long[INITIAL_CAPACITY];
+        slotEntries = new long[INITIAL_CAPACITY][];
+        mask = INITIAL_CAPACITY - 1;
+        subscriberMarks = new int[INITIAL_CAPACITY];
+        receivingSubscribers = new int[INITIAL_CAPACITY];
+        candidates = new long[INITIAL_CAPACITY];
+        chosenSubscribers = new int[INITIAL_CAPACITY];
+        chosenGroups = new int[INITIAL_CAPACITY];
+        chosenGroupSizes = new int[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Creates a new empty index.
+     *
+     * @return the empty index.
+     */
+    static LongPublisherIndex empty() {
+        return new LongPublisherIndex();
+    }
+
+    /**
+     * Builds the index of the grouped topic hashes of subscribers which may be spread over multiple distributed data
+     * keys.
+     * If a subscriber occurs in more than one map, the groups of all its occurrences are combined.
+     *
+     * @param groupedHashesMaps the deserialized grouped topic hashes of subscribers per distributed data key.
+     * @return the index.
+     */
+    static LongPublisherIndex of(final Collection<Map<ActorRef, List<Grouped<Long>>>> groupedHashesMaps) {
+        final Map<ActorRef, List<List<Grouped<Long>>>> groupedHashesBySubscriber = new LinkedHashMap<>();
+        for (final Map<ActorRef, List<Grouped<Long>>> groupedHashesMap : groupedHashesMaps) {
+            groupedHashesMap.forEach((subscriber, groupedList) ->
+                    groupedHashesBySubscriber.computeIfAbsent(subscriber, s -> new ArrayList<>()).add(groupedList));
+        }
+        final LongPublisherIndex index = new LongPublisherIndex();
+        groupedHashesBySubscriber.forEach(index::update);
+        return index;
+    }
+
+    /**
+     * Replaces the grouped topic hashes of one subscriber.
+     *
+     * @param subscriber the subscriber whose subscriptions changed.
+     * @param groupedHashesLists the grouped topic hashes of the subscriber under all distributed data keys; empty if
+     * the subscriber no longer subscribes to anything.
+     */
+    void update(final ActorRef subscriber, final Collection<List<Grouped<Long>>> groupedHashesLists) {
+        @Nullable final Integer existingIndex = subscriberIndexes.get(subscriber);
+        if (null != existingIndex) {
+            removeEntriesOf(existingIndex);
+        }
+        int entryCount = 0;
+        for (final List<Grouped<Long>> groupedList : groupedHashesLists) {
+            for (final Grouped<Long> grouped : groupedList) {
+                entryCount += grouped.getValues().size();
+            }
+        }
+        if (0 == entryCount) {
+            if (null != existingIndex) {
+                freeSubscriberIndex(subscriber, existingIndex);
+            }
+            return;
+        }
+
+        final int subscriberIndex = null != existingIndex ? existingIndex : internSubscriber(subscriber);
+        final long[] hashes = new long[entryCount];
+        int hashCount = 0;
+        for (final List<Grouped<Long>> groupedList : groupedHashesLists) {
+            for (final Grouped<Long> grouped : groupedList) {
+                final long entry = pack(subscriberIndex, internGroup(grouped.getGroup().orElse("")));
+                for (final Long hash : grouped.getValues()) {
+                    addEntry(hash, entry);
+                    hashes[hashCount++] = hash;
+                }
+            }
+        }
+        subscriberHashes[subscriberIndex] = distinct(hashes);
+    }
+
+    /**
+     * Returns the number of distinct topic hashes in this index.
+     *
+     * @return the number of topic hashes.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Assign groups to subscribers of the given topic hashes.
+     * Subscribers with the empty group receive the signal; for each other group one of its subscribers is chosen
+     * consistently according to the group index key.
+     *
+     * @param signal the signal to publish.
+     * @param topicHashes the hash codes of the topics of the signal.
+     * @param groupIndexKey the key to choose a subscriber of each group by.
+     * @return the subscribers together with the signal to send to them.
+     */
+    List<Pair<ActorRef, PublishSignal>> assignGroupsToSubscribers(final Signal<?> signal,
+            final long[] topicHashes, final CharSequence groupIndexKey) {
+
+        nextEpoch();
+        int receivingCount = 0;
+        int candidateCount = 0;
+        for (final long topicHash : topicHashes) {
+            final int slot = lookUpSlot(topicHash);
+            if (slot < 0) {
+                continue;
+            }
+            for (final long entry : slotEntries[slot]) {
+                final int subscriberIndex = subscriberIndexOf(entry);
+                final int groupIndex = groupIndexOf(entry);
+                if (EMPTY_GROUP == groupIndex) {
+                    receivingCount = markReceiving(subscriberIndex, receivingCount);
+                } else {
+                    if (candidateCount == candidates.length) {
+                        candidates = Arrays.copyOf(candidates, candidateCount * 2);
+                    }
+                    // group first so that sorting the candidates groups them
+                    candidates[candidateCount++] = packCandidate(groupIndex, subscriberIndex);
+                }
+            }
+        }
+
+        // choose a subscriber for each group consistently according to the group index key
+        Arrays.sort(candidates, 0, candidateCount);
+        final int groupIndexKeyHash = PubSubFactory.hashForPubSub(groupIndexKey);
+        int chosenCount = 0;
+        int start = 0;
+        while (start < candidateCount) {
+            final int groupIndex = groupIndexOfCandidate(candidates[start]);
+            int end = start + 1;
+            while (end < candidateCount && groupIndexOfCandidate(candidates[end]) == groupIndex) {
+                end++;
+            }
+            final int groupSize = end - start;
+            sortBySubscriber(start, end);
+            final int chosenSubscriber =
+                    subscriberIndexOfCandidate(candidates[start + groupIndexKeyHash % groupSize]);
+            receivingCount = markReceiving(chosenSubscriber, receivingCount);
+            if (chosenCount == chosenSubscribers.length) {
+                chosenSubscribers = Arrays.copyOf(chosenSubscribers, chosenCount * 2);
+                chosenGroups = Arrays.copyOf(chosenGroups, chosenCount * 2);
+                chosenGroupSizes = Arrays.copyOf(chosenGroupSizes, chosenCount * 2);
+            }
+            chosenSubscribers[chosenCount] = chosenSubscriber;
+            chosenGroups[chosenCount] = groupIndex;
+            chosenGroupSizes[chosenCount] = groupSize;
+            chosenCount++;
+            start = end;
+        }
+
+        final List<Pair<ActorRef, PublishSignal>> result = new ArrayList<>(receivingCount);
+        for (int i = 0; i < receivingCount; i++) {
+            final int subscriberIndex = receivingSubscribers[i];
+            Map<String, Integer> groupsOfSubscriber = Map.of();
+            for (int j = 0; j < chosenCount; j++) {
+                if (chosenSubscribers[j] == subscriberIndex) {
+                    if (groupsOfSubscriber.isEmpty()) {
+                        groupsOfSubscriber = new HashMap<>();
+                    }
+                    groupsOfSubscriber.put(groups[chosenGroups[j]], chosenGroupSizes[j]);
+                }
+            }
+            result.add(Pair.create(subscribers[subscriberIndex],
+                    PublishSignal.of(signal, groupsOfSubscriber, groupIndexKey)));
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "subscribers=" + subscriberCount +
+                ", groups=" + Arrays.toString(Arrays.copyOf(groups, groupCount)) +
+                ", topicHashes=" + size +
+                "]";
+    }
+
+    private int internSubscriber(final ActorRef subscriber) {
+        final int subscriberIndex;
+        if (freeSubscriberIndexCount > 0) {
+            subscriberIndex = freeSubscriberIndexes[--freeSubscriberIndexCount];
+        } else {
+            // without free indexes, all indexes below the number of subscribers are taken
+            subscriberIndex = subscriberCount;
+            if (subscriberIndex == subscribers.length) {
+                final int newLength = subscribers.length * 2;
+                subscribers = Arrays.copyOf(subscribers, newLength);
+                subscriberHashes = Arrays.copyOf(subscriberHashes, newLength);
+                subscriberMarks = Arrays.copyOf(subscriberMarks, newLength);
+                receivingSubscribers = Arrays.copyOf(receivingSubscribers, newLength);
+            }
+        }
+        subscribers[subscriberIndex] = subscriber;
+        subscriberIndexes.put(subscriber, subscriberIndex);
+        subscriberCount++;
+        return subscriberIndex;
+    }
+
+    private void freeSubscriberIndex(final ActorRef subscriber, final int subscriberIndex) {
+        subscriberIndexes.remove(subscriber);
+        subscribers[subscriberIndex] = null;
+        subscriberHashes[subscriberIndex] = null;
+        if (freeSubscriberIndexCount == freeSubscriberIndexes.length) {
+            freeSubscriberIndexes = Arrays.copyOf(freeSubscriberIndexes, freeSubscriberIndexCount * 2);
+        }
+        freeSubscriberIndexes[freeSubscriberIndexCount++] = subscriberIndex;
+        subscriberCount--;
+    }
+
+    private int internGroup(final String group) {
+        @Nullable final Integer existingIndex = groupIndexes.get(group);
+        if (null != existingIndex) {
+            return existingIndex;
+        }
+        if (groupCount == groups.length) {
+            groups = Arrays.copyOf(groups, groupCount * 2);
+        }
+        groups[groupCount] = group;
+        groupIndexes.put(group, groupCount);
+        return groupCount++;
+    }
+
+    private void removeEntriesOf(final int subscriberIndex) {
+        final long[] hashes = subscriberHashes[subscriberIndex];
+        for (final long hash : null != hashes ? hashes : NO_HASHES) {
+            final int slot = lookUpSlot(hash);
+            if (slot >= 0) {
+                final long[] entries = slotEntries[slot];
+                int remaining = 0;
+                for (final long entry : entries) {
+                    if (subscriberIndexOf(entry) != subscriberIndex) {
+                        remaining++;
+                    }
+                }
+                if (0 == remaining) {
+                    removeSlot(slot);
+                } else {
+                    final long[] remainingEntries = new long[remaining];
+                    int i = 0;
+                    for (final long entry : entries) {
+                        if (subscriberIndexOf(entry) != subscriberIndex) {
+                            remainingEntries[i++] = entry;
+                        }
+                    }
+                    slotEntries[slot] = remainingEntries;
+                }
+            }
+        }
+        subscriberHashes[subscriberIndex] = null;
+    }
+
+    private void addEntry(final long hash, final long entry) {
+        if (2 * (size + 1) > slotKeys.length) {
+            resize(slotKeys.length * 2);
+        }
+        final int slot = findSlot(slotKeys, slotEntries, mask, hash);
+        final long[] entries = slotEntries[slot];
+        if (null == entries) {
+            slotKeys[slot] = hash;
+            slotEntries[slot] = new long[]{entry};
+            size++;
+        } else {
+            final int position = Arrays.binarySearch(entries, entry);
+            if (position < 0) {
+                final int insertionPoint = -position - 1;
+                final long[] newEntries = new long[entries.length + 1];
+                System.arraycopy(entries, 0, newEntries, 0, insertionPoint);
+                newEntries[insertionPoint] = entry;
+                System.arraycopy(entries, insertionPoint, newEntries, insertionPoint + 1,
+                        entries.length - insertionPoint);
+                slotEntries[slot] = newEntries;
+            }
+        }
+    }
+
+    private void removeSlot(final int slot) {
+        // backward shift deletion keeps the probe sequences of linear probing intact without tombstones
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (null != slotEntries[next]) {
+            final int home = spread(slotKeys[next]) & mask;
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                slotKeys[hole] = slotKeys[next];
+                slotEntries[hole] = slotEntries[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        slotEntries[hole] = null;
+        size--;
+    }
+
+    private void resize(final int capacity) {
+        final long[] oldKeys = slotKeys;
+        final long[][] oldEntries = slotEntries;
+        slotKeys = new long[capacity];
+        slotEntries = new long[capacity][];
+        mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (null != oldEntries[i]) {
+                final int slot = findSlot(slotKeys, slotEntries, mask, oldKeys[i]);
+                slotKeys[slot] = oldKeys[i];
+                slotEntries[slot] = oldEntries[i];
+            }
+        }
+    }
+
+    private int lookUpSlot(final long hash) {
+        int slot = spread(hash) & mask;
+        while (null != slotEntries[slot]) {
+            if (slotKeys[slot] == hash) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void nextEpoch() {
+        epoch++;
+        if (0 == epoch) {
+            // marks of the previous round of epochs must not be mistaken for current ones
+            Arrays.fill(subscriberMarks, 0);
+            epoch = 1;
+        }
+    }
+
+    private int markReceiving(final int subscriberIndex, final int receivingCount) {
+        if (subscriberMarks[subscriberIndex] == epoch) {
+            return receivingCount;
+        }
+        subscriberMarks[subscriberIndex] = epoch;
+        receivingSubscribers[receivingCount] = subscriberIndex;
+        return receivingCount + 1;
+    }
+
+    /**
+     * Heap sort of the candidates {@code [start, end)} of one group by their subscribers, which is the order in
+     * which {@link PublisherIndex} chooses among the subscribers of a group.
+     */
+    private void sortBySubscriber(final int start, final int end) {
+        final int length = end - start;
+        for (int i = length / 2 - 1; i >= 0; i--) {
+            siftDown(start, i, length);
+        }
+        for (int last = length - 1; last > 0; last--) {
+            swapCandidates(start, start + last);
+            siftDown(start, 0, last);
+        }
+    }
+
+    private void siftDown(final int offset, final int root, final int length) {
+        int parent = root;
+        int child = 2 * parent + 1;
+        while (child < length) {
+            if (child + 1 < length && compareSubscribers(offset + child + 1, offset + child) > 0) {
+                child++;
+            }
+            if (compareSubscribers(offset + child, offset + parent) <= 0) {
+                return;
+            }
+            swapCandidates(offset + parent, offset + child);
+            parent = child;
+            child = 2 * parent + 1;
+        }
+    }
+
+    private int compareSubscribers(final int candidate1, final int candidate2) {
+        return subscribers[subscriberIndexOfCandidate(candidates[candidate1])]
+                .compareTo(subscribers[subscriberIndexOfCandidate(candidates[candidate2])]);
+    }
+
+    private void swapCandidates(final int i, final int j) {
+        final long candidate = candidates[i];
+        candidates[i] = candidates[j];
+        candidates[j] = candidate;
+    }
+
+    private static long[] distinct(final long[] hashes) {
+        Arrays.sort(hashes);
+        int distinctCount = 0;
+        for (int i = 0; i < hashes.length; i++) {
+            if (i == 0 || hashes[i] != hashes[i - 1]) {
+                hashes[distinctCount++] = hashes[i];
+            }
+        }
+        return Arrays.copyOf(hashes, distinctCount);
+    }
+
+    private static int findSlot(final long[] slotKeys, final long[][] slotEntries, final int mask, final long hash) {
+        int slot = spread(hash) & mask;
+        while (null != slotEntries[slot] && slotKeys[slot] != hash) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static int spread(final long hash) {
+        // the hashes are Murmur-3 hash codes already, folding the halves is enough
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    private static long pack(final int subscriberIndex, final int groupIndex) {
+        return ((long) subscriberIndex) << 32 | groupIndex & 0xffffffffL;
+    }
+
+    private static long packCandidate(final int groupIndex, final int subscriberIndex) {
+        return ((long) groupIndex) << 32 | subscriberIndex & 0xffffffffL;
+    }
+
+    private static int groupIndexOfCandidate(final long candidate) {
+        return (int) (candidate >>> 32);
+    }
+
+    private static int subscriberIndexOfCandidate(final long candidate) {
+        return (int) candidate;
+    }
+
+    private static int subscriberIndexOf(final long entry) {
+        return (int) (entry >>> 32);
+    }
+
+    private static int groupIndexOf(final long entry) {
+        return (int) entry;
+    }
+
+}
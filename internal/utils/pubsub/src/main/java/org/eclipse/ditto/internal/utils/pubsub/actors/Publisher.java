@@ -12,8 +12,11 @@
  */
 package org.eclipse.ditto.internal.utils.pubsub.actors;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -68,10 +71,12 @@ public final class Publisher extends AbstractActor {
     private final Counter messageCounter = DittoMetrics.counter("pubsub-published-messages");
     private final Counter topicCounter = DittoMetrics.counter("pubsub-published-topics");
     private final Counter sentMessagesCounter = DittoMetrics.counter("pubsub-sent-messages");
-    private final Map<Key<?>, PublisherIndex<Long>> publisherIndexes = new HashMap<>();
+    private final Map<Key<?>, Map<ActorRef, scala.collection.immutable.Set<String>>> serializedMMaps =
+            new HashMap<>();
+    private final Map<Key<?>, Map<ActorRef, List<Grouped<Long>>>> deserializedMMaps = new HashMap<>();
     private final int subscriberPoolSize;
 
-    private PublisherIndex<Long> publisherIndex = PublisherIndex.empty();
+    private final LongPublisherIndex publisherIndex = LongPublisherIndex.empty();
     private RemoteAcksChanged remoteAcks = RemoteAcksChanged.of(Map.of());
 
     @SuppressWarnings("unused")
@@ -182,14 +187,18 @@ public final class Publisher extends AbstractActor {
             final CharSequence groupIndexKey) {
         messageCounter.increment();
         topicCounter.increment(topics.size());
-        final List<Long> hashes = topics.stream().map(ddataReader::approximate).toList();
+        final long[] hashes = new long[topics.size()];
+        int i = 0;
+        for (final String topic : topics) {
+            hashes[i++] = ddataReader.approximate(topic);
+        }
         final ActorRef sender = getSender();
 
         final List<Pair<ActorRef, PublishSignal>> subscribers =
                 publisherIndex.assignGroupsToSubscribers(signal, hashes, groupIndexKey);
         final ThreadSafeDittoLoggingAdapter l = log.withCorrelationId(signal);
         if (l.isDebugEnabled()) {
-            l.debug("Calculated hashes for signal <{}>: <{}>", signal, hashes);
+            l.debug("Calculated hashes for signal <{}>: <{}>", signal, Arrays.toString(hashes));
             l.debug("Publishing PublishSignal to subscribers: <{}>",
                     subscribers.stream().map(Pair::first).toList());
         }
@@ -210,13 +219,40 @@ public final class Publisher extends AbstractActor {
         log.debug("Topics changed <{}>", event.key());
         final Map<ActorRef, scala.collection.immutable.Set<String>> mmap =
                 CollectionConverters.asJava(((ORMultiMap<ActorRef, String>) event.dataValue()).entries());
-        final Map<ActorRef, List<Grouped<Long>>> deserializedMMap = mmap.entrySet()
-                .stream()
-                .map(entry -> Pair.create(entry.getKey(), deserializeGroupedHashes(entry.getValue())))
-                .collect(Collectors.toMap(Pair::first, Pair::second));
-        final PublisherIndex<Long> thePublisherIndex = PublisherIndex.fromDeserializedMMap(deserializedMMap);
-        publisherIndexes.put(event.key(), thePublisherIndex);
-        publisherIndex = PublisherIndex.fromMultipleIndexes(publisherIndexes.values());
+        // only deserialize the entries of subscribers whose subscriptions changed since the last update
+        final Map<ActorRef, scala.collection.immutable.Set<String>> previousMMap =
+                serializedMMaps.getOrDefault(event.key(), Map.of());
+        final Map<ActorRef, List<Grouped<Long>>> previousDeserializedMMap =
+                deserializedMMaps.getOrDefault(event.key(), Map.of());
+        final Map<ActorRef, List<Grouped<Long>>> deserializedMMap = new HashMap<>();
+        final Set<ActorRef> changedSubscribers = new HashSet<>();
+        mmap.forEach((subscriber, strings) -> {
+            final List<Grouped<Long>> previous = previousDeserializedMMap.get(subscriber);
+            if (previous != null && strings.equals(previousMMap.get(subscriber))) {
+                deserializedMMap.put(subscriber, previous);
+            } else {
+                deserializedMMap.put(subscriber, deserializeGroupedHashes(strings));
+                changedSubscribers.add(subscriber);
+            }
+        });
+        previousDeserializedMMap.keySet().stream()
+                .filter(subscriber -> !mmap.containsKey(subscriber))
+                .forEach(changedSubscribers::add);
+        serializedMMaps.put(event.key(), mmap);
+        deserializedMMaps.put(event.key(), deserializedMMap);
+        // apply only the delta: the subscribers of this key whose subscriptions changed
+        changedSubscribers.forEach(subscriber -> publisherIndex.update(subscriber, getGroupedHashesOf(subscriber)));
+    }
+
+    private List<List<Grouped<Long>>> getGroupedHashesOf(final ActorRef subscriber) {
+        final List<List<Grouped<Long>>> groupedHashesLists = new ArrayList<>(deserializedMMaps.size());
+        for (final Map<ActorRef, List<Grouped<Long>>> deserializedMMap : deserializedMMaps.values()) {
+            final List<Grouped<Long>> groupedHashes = deserializedMMap.get(subscriber);
+            if (groupedHashes != null) {
+                groupedHashesLists.add(groupedHashes);
+            }
+        }
+        return groupedHashesLists;
     }
 
     private void logUnhandled(final Object message) {
@@ -56,23 +56,6 @@ final class PublisherIndex<T> {
         return new PublisherIndex<>(Map.of(), Map.of());
     }
 
-    static <T> PublisherIndex<T> fromMultipleIndexes(final Collection<PublisherIndex<T>> indexes) {
-        final Map<T, Map<ActorRef, Set<String>>> combinedIndex = new HashMap<>();
-        indexes.stream()
-                .map(p -> p.index)
-                .forEach(index -> index.forEach((t, map) ->
-                                combinedIndex.compute(t, (theT, existingMap) -> {
-                                    final Map<ActorRef, Set<String>> nonNullMap = existingMap == null ? new HashMap<>() :
-                                            existingMap;
-                                    nonNullMap.putAll(map);
-                                    return nonNullMap;
-                                })
-                        )
-                );
-
-        return new PublisherIndex<>(combinedIndex, Map.of());
-    }
-
     static PublisherIndex<Long> fromDeserializedMMap(final Map<ActorRef, List<Grouped<Long>>> mmap) {
         final Map<Long, Map<ActorRef, Set<String>>> index = new HashMap<>();
         mmap.forEach((subscriber, groupedList) ->
@@ -36,6 +36,7 @@ import org.apache.pekko.cluster.ddata.Replicator;
 import org.apache.pekko.japi.pf.ReceiveBuilder;
 import org.eclipse.ditto.base.model.acks.PubSubTerminatedException;
 import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
 import org.eclipse.ditto.internal.utils.metrics.instruments.gauge.Gauge;
 import org.eclipse.ditto.internal.utils.pekko.logging.DittoLoggerFactory;
 import org.eclipse.ditto.internal.utils.pekko.logging.ThreadSafeDittoLoggingAdapter;
@@ -46,6 +47,7 @@ import org.eclipse.ditto.internal.utils.pubsub.api.Subscribe;
 import org.eclipse.ditto.internal.utils.pubsub.api.Unsubscribe;
 import org.eclipse.ditto.internal.utils.pubsub.config.PubSubConfig;
 import org.eclipse.ditto.internal.utils.pubsub.ddata.DData;
+import org.eclipse.ditto.internal.utils.pubsub.ddata.DDataReader;
 import org.eclipse.ditto.internal.utils.pubsub.ddata.Subscriptions;
 import org.eclipse.ditto.internal.utils.pubsub.ddata.SubscriptionsReader;
 import org.eclipse.ditto.internal.utils.pubsub.ddata.compressed.CompressedDData;
@@ -58,6 +60,11 @@ import org.eclipse.ditto.internal.utils.pubsub.ddata.literal.LiteralUpdate;
  * acknowledgement from distributed data. There is no transaction---all subscriptions are eventually distributed in
  * the cluster once requested. Local subscribers should most likely not to get any published message before they
  * receive acknowledgement.
+ * <p>
+ * With delta replication, only the changes of local subscriptions are written after the initial write. Instead of
+ * occasionally resetting the distributed data, the replicated subscriptions are compared against the local replica
+ * and only reset if they deviate.
+ * </p>
  */
 public final class SubUpdater extends AbstractActorWithTimers
         implements ClusterStateSyncBehavior<ActorRef> {
@@ -75,9 +82,12 @@ public final class SubUpdater extends AbstractActorWithTimers
     private final Gauge topicSizeMetric;
     private final Gauge awaitUpdateMetric;
     private final Gauge awaitSubAckMetric;
+    private final Counter replicatedBytesMetric;
+    private final Counter replicationMismatchMetric;
     private final DData<ActorRef, ?, LiteralUpdate> ddata;
     private final Cluster cluster;
     private final double resetProbability;
+    private final boolean deltaReplication;
 
     /**
      * Queue of actors demanding SubAck whose subscriptions are not sent to the distributed data replicator.
@@ -95,8 +105,10 @@ public final class SubUpdater extends AbstractActorWithTimers
     private final Replicator.WriteConsistency writeConsistency;
 
     private int seqNr = 0;
+    private int writeSeqNr = 0;
     private LiteralUpdate previousUpdate = LiteralUpdate.empty();
     private int errorCounter = 0;
+    private boolean verifyOnNextTick = false;
 
     @SuppressWarnings("unused")
     private SubUpdater(final PubSubConfig config,
@@ -108,6 +120,7 @@ public final class SubUpdater extends AbstractActorWithTimers
         this.ddata = ddata;
         cluster = Cluster.get(getContext().getSystem());
         resetProbability = config.getResetProbability();
+        deltaReplication = config.isDeltaReplication();
         writeConsistency = ddata.getConfig().getSubscriptionWriteConsistency();
 
         // tag metrics by parent name + this name prefix
@@ -116,6 +129,8 @@ public final class SubUpdater extends AbstractActorWithTimers
         this.topicSizeMetric = DittoMetrics.gauge("pubsub-topics-size-bytes").tag("name", tagName);
         this.awaitUpdateMetric = DittoMetrics.gauge("pubsub-await-update").tag("name", tagName);
         this.awaitSubAckMetric = DittoMetrics.gauge("pubsub-await-acknowledge").tag("name", tagName);
+        this.replicatedBytesMetric = DittoMetrics.counter("pubsub-replicated-bytes").tag("name", tagName);
+        this.replicationMismatchMetric = DittoMetrics.counter("pubsub-replication-mismatches").tag("name", tagName);
 
         getTimers().startTimerAtFixedRate(Clock.TICK, Clock.TICK, config.getUpdateInterval());
         scheduleClusterStateSync(config);
@@ -143,6 +158,7 @@ public final class SubUpdater extends AbstractActorWithTimers
                 .match(RemoveSubscriber.class, this::removeSubscriber)
                 .matchEquals(Clock.TICK, this::tick)
                 .match(DDataOpSuccess.class, this::ddataOpSuccess)
+                .match(ReplicationMismatch.class, this::replicationMismatch)
                 .match(Status.Failure.class, this::updateFailure)
                 .matchEquals(ActorEvent.PUBSUB_TERMINATED, this::pubSubTerminated)
                 .build()
@@ -204,15 +220,19 @@ public final class SubUpdater extends AbstractActorWithTimers
         final CompletionStage<Void> ddataOp;
         log().debug("Tick seq=<{}> empty=<{}> writeConsistency=<{}>", seqNr, subscriptions.isEmpty(), writeConsistency);
         final boolean isReset = previousUpdate.isEmpty() && !subscriptions.isEmpty();
-        if (isReset || resetProbability > 0 && Math.random() < resetProbability) {
+        final boolean isRandomReset = resetProbability > 0 && Math.random() < resetProbability;
+        if (isReset || isRandomReset && !deltaReplication) {
             log().debug("Resetting ddata topics: <{}>", getSelf());
             final var nextUpdate = subscriptions.export();
             ddataOp = ddata.getWriter().reset(subscriber, nextUpdate, writeConsistency);
+            ++writeSeqNr;
             snapshot = subscriptions.snapshot();
             previousUpdate = nextUpdate;
             topicSizeMetric.set(subscriptions.estimateSize());
+            replicatedBytesMetric.increment(estimateBytes(nextUpdate));
         } else if (subscriptions.isEmpty()) {
             ddataOp = ddata.getWriter().removeSubscriber(subscriber, writeConsistency);
+            ++writeSeqNr;
             snapshot = subscriptions.snapshot();
             previousUpdate = LiteralUpdate.empty();
             topicSizeMetric.set(0L);
@@ -224,12 +244,18 @@ public final class SubUpdater extends AbstractActorWithTimers
             final var diff = nextUpdate.diff(previousUpdate);
             log().debug("diff.isEmpty=<{}>", diff.isEmpty());
             if (!diff.isEmpty()) {
-                ddataOp = ddata.getWriter().put(subscriber, nextUpdate.diff(previousUpdate), writeConsistency);
+                ddataOp = ddata.getWriter().put(subscriber, diff, writeConsistency);
+                ++writeSeqNr;
+                replicatedBytesMetric.increment(estimateBytes(diff));
             } else {
                 ddataOp = CompletableFuture.completedFuture(null);
             }
             previousUpdate = nextUpdate;
             topicSizeMetric.set(subscriptions.estimateSize());
+            if (deltaReplication && (isRandomReset || verifyOnNextTick)) {
+                verifyOnNextTick = false;
+                verifyReplication(ddataOp, nextUpdate);
+            }
         }
         return ddataOp.thenApply(unused -> snapshot);
     }
@@ -246,9 +272,70 @@ public final class SubUpdater extends AbstractActorWithTimers
         } else {
             log.warning("Failure updating Ditto pub/sub subscription - trying again next clock tick");
         }
+        if (deltaReplication) {
+            // the update may have reached the local replica nonetheless; only reset if it did not
+            verifyOnNextTick = true;
+        } else {
+            previousUpdate = LiteralUpdate.empty();
+        }
+    }
+
+    /**
+     * Compare the replicated subscriptions in the local replica against the last written update after the write
+     * completed. Deviations cause a reset at the next clock tick unless a newer write was started in the meantime.
+     *
+     * @param ddataOp the last write.
+     * @param writtenUpdate the full state of the local subscriptions at the last write.
+     */
+    private void verifyReplication(final CompletionStage<Void> ddataOp, final LiteralUpdate writtenUpdate) {
+        final ActorRef self = getSelf();
+        final var mismatch = new ReplicationMismatch(writeSeqNr);
+        ddataOp.thenCompose(unused ->
+                        isReplicated(ddata.getReader(), cluster.selfAddress(), subscriber, writtenUpdate.getInserts()))
+                .whenComplete((replicated, error) -> {
+                    // this function is called asynchronously. it must be thread-safe.
+                    if (error != null) {
+                        log.debug("Failed to verify replicated subscriptions: <{}>", error);
+                    } else if (!replicated) {
+                        self.tell(mismatch, ActorRef.noSender());
+                    }
+                });
+    }
+
+    private static <S> CompletionStage<Boolean> isReplicated(final DDataReader<ActorRef, S> reader,
+            final Address address, final ActorRef subscriber, final Set<String> expectedTopics) {
+
+        return reader.get(reader.getKey(address), (Replicator.ReadConsistency) Replicator.readLocal())
+                .thenApply(optionalMMap -> optionalMMap.map(mmap -> mmap.getEntries().get(subscriber))
+                        .map(expectedTopics::equals)
+                        .orElse(expectedTopics.isEmpty()));
+    }
+
+    private void replicationMismatch(final ReplicationMismatch mismatch) {
+        if (mismatch.writeSeqNr != writeSeqNr) {
+            // the local replica may already contain a newer write than the verified one
+            log.debug("Discarding replication mismatch of write <{}> superseded by write <{}>", mismatch.writeSeqNr,
+                    writeSeqNr);
+            verifyOnNextTick = true;
+            return;
+        }
+        log.info("Replicated subscriptions deviate from local subscriptions - resetting at next clock tick");
+        replicationMismatchMetric.increment();
         previousUpdate = LiteralUpdate.empty();
     }
 
+    private static long estimateBytes(final LiteralUpdate update) {
+        // serialized topics are ASCII JSON strings
+        long bytes = 0L;
+        for (final String insert : update.getInserts()) {
+            bytes += insert.length();
+        }
+        for (final String delete : update.getDeletes()) {
+            bytes += delete.length();
+        }
+        return bytes;
+    }
+
     /**
      * Add a request to the queue to be handled after cluster update.
      *
@@ -400,6 +487,18 @@ public final class SubUpdater extends AbstractActorWithTimers
         TICK
     }
 
+    /**
+     * Self-message to indicate that the replicated subscriptions deviate from the local subscriptions.
+     */
+    private static final class ReplicationMismatch {
+
+        private final int writeSeqNr;
+
+        private ReplicationMismatch(final int writeSeqNr) {
+            this.writeSeqNr = writeSeqNr;
+        }
+    }
+
     /**
      * Self-message to indicate success of a distributed data operation.
      *
@@ -41,6 +41,7 @@ final class DefaultPubSubConfig implements PubSubConfig {
     private final Duration updateInterval;
     private final Duration syncInterval;
     private final double resetProbability;
+    private final boolean deltaReplication;
 
     private DefaultPubSubConfig(final ConfigWithFallback config) {
         seed = config.getString(ConfigValue.SEED.getConfigPath());
@@ -48,6 +49,7 @@ final class DefaultPubSubConfig implements PubSubConfig {
         updateInterval = config.getDuration(ConfigValue.UPDATE_INTERVAL.getConfigPath());
         syncInterval = config.getDuration(ConfigValue.SYNC_INTERVAL.getConfigPath());
         resetProbability = config.getDouble(ConfigValue.RESET_PROBABILITY.getConfigPath());
+        deltaReplication = config.getBoolean(ConfigValue.DELTA_REPLICATION.getConfigPath());
     }
 
     static PubSubConfig of(final Config config) {
@@ -79,12 +81,18 @@ final class DefaultPubSubConfig implements PubSubConfig {
         return resetProbability;
     }
 
+    @Override
+    public boolean isDeltaReplication() {
+        return deltaReplication;
+    }
+
     private String[] getFieldNames() {
-        return new String[]{"seed", "restartDelay", "updateInterval", "syncInterval", "resetProbability"};
+        return new String[]{"seed", "restartDelay", "updateInterval", "syncInterval", "resetProbability",
+                "deltaReplication"};
     }
 
     private Object[] getFieldValues() {
-        return new Object[]{seed, restartDelay, updateInterval, syncInterval, resetProbability};
+        return new Object[]{seed, restartDelay, updateInterval, syncInterval, resetProbability, deltaReplication};
     }
 
     @Override
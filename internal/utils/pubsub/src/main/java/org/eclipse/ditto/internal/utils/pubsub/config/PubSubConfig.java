@@ -51,6 +51,13 @@ public interface PubSubConfig {
      */
     double getResetProbability();
 
+    /**
+     * @return Whether to only replicate incremental updates of subscriptions and to verify the replicated state
+     * instead of resetting it occasionally.
+     * @since 3.6.0
+     */
+    boolean isDeltaReplication();
+
     /**
      * Create a {@code PubSubConfig} object from a {@code Config} object at the key {@code pubsub}.
      *
@@ -106,7 +113,16 @@ public interface PubSubConfig {
         /**
          * Probability to reset the distributed data of a subscriber.
          */
-        RESET_PROBABILITY("reset-probability", 0.01);
+        RESET_PROBABILITY("reset-probability", 0.01),
+
+        /**
+         * Whether to verify the replicated subscriptions of a subscriber instead of resetting them occasionally.
+         * With delta replication, the full state of a subscriber is only written again if its entry in the local
+         * replica deviates from its local subscriptions.
+         *
+         * @since 3.6.0
+         */
+        DELTA_REPLICATION("delta-replication", true);
 
         private final String path;
         private final Object defaultValue;
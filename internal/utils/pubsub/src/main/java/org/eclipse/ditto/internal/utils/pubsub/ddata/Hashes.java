@@ -17,6 +17,7 @@ import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.CompletionException;
 
@@ -56,9 +57,12 @@ public interface Hashes {
      * @param topic the topic.
      * @return the hashed topic.
      */
-    default Long hashAsLong(final String topic) {
-        final List<Integer> hashes = getHashes(topic);
-        return ((long) hashes.get(0)) << 32 | hashes.get(1) & 0xffffffffL;
+    default long hashAsLong(final String topic) {
+        // avoid boxing and list allocation: this is computed for every topic of every published signal
+        final Iterator<Integer> seeds = getSeeds().iterator();
+        final int firstHash = murmurHash(topic, seeds.next());
+        final int secondHash = murmurHash(topic, seeds.next());
+        return ((long) firstHash) << 32 | secondHash & 0xffffffffL;
     }
 
     /**
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.pubsub.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.japi.Pair;
+import org.apache.pekko.testkit.TestProbe;
+import org.apache.pekko.testkit.javadsl.TestKit;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.signals.Signal;
+import org.eclipse.ditto.internal.utils.pubsub.api.PublishSignal;
+import org.eclipse.ditto.internal.utils.pubsub.ddata.ack.Grouped;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * Tests {@link LongPublisherIndex}.
+ */
+public final class LongPublisherIndexTest {
+
+    private ActorSystem system;
+    private Signal<?> signal;
+
+    @Before
+    public void setUp() {
+        system = ActorSystem.create("LongPublisherIndexTest");
+        signal = Mockito.mock(Signal.class);
+        Mockito.when(signal.getDittoHeaders()).thenReturn(DittoHeaders.empty());
+    }
+
+    @After
+    public void shutdown() {
+        TestKit.shutdownActorSystem(system);
+    }
+
+    @Test
+    public void emptyIndexHasNoSubscribers() {
+        final LongPublisherIndex underTest = LongPublisherIndex.empty();
+
+        assertThat(underTest.size()).isZero();
+        assertThat(underTest.assignGroupsToSubscribers(signal, new long[]{1L, 2L}, "key")).isEmpty();
+    }
+
+    @Test
+    public void subscribersWithoutGroupReceiveSignalOnce() {
+        final ActorRef subscriber1 = newSubscriber();
+        final ActorRef subscriber2 = newSubscriber();
+        final LongPublisherIndex underTest = LongPublisherIndex.of(List.of(Map.of(
+                subscriber1, List.of(Grouped.of(Set.of(1L, 2L))),
+                subscriber2, List.of(Grouped.of(Set.of(2L, 3L)))
+        )));
+
+        assertThat(underTest.size()).isEqualTo(3);
+        assertThat(underTest.assignGroupsToSubscribers(signal, new long[]{1L, 2L, 4L}, "key"))
+                .containsExactlyInAnyOrder(
+                        Pair.create(subscriber1, PublishSignal.of(signal, Map.of(), "key")),
+                        Pair.create(subscriber2, PublishSignal.of(signal, Map.of(), "key"))
+                );
+    }
+
+    @Test
+    public void subscriberInMultipleDistributedDataKeysKeepsAllGroups() {
+        final ActorRef subscriber = newSubscriber();
+        final LongPublisherIndex underTest = LongPublisherIndex.of(List.of(
+                Map.of(subscriber, List.of(Grouped.of("a", Set.of(1L)))),
+                Map.of(subscriber, List.of(Grouped.of("b", Set.of(1L))))
+        ));
+
+        assertThat(underTest.assignGroupsToSubscribers(signal, new long[]{1L}, "key"))
+                .containsExactly(Pair.create(subscriber, PublishSignal.of(signal, Map.of("a", 1, "b", 1), "key")));
+    }
+
+    @Test
+    public void assignsGroupsLikePublisherIndex() {
+        final Random random = new Random(42L);
+        final List<ActorRef> subscribers = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            subscribers.add(newSubscriber());
+        }
+        final List<String> groups = List.of("", "", "group1", "group2", "group3");
+        final Map<ActorRef, List<Grouped<Long>>> mmap = new HashMap<>();
+        for (final ActorRef subscriber : subscribers) {
+            final List<Grouped<Long>> groupedList = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                final Set<Long> hashes = random.longs(5, -10L, 10L).boxed().collect(Collectors.toSet());
+                final String group = groups.get(random.nextInt(groups.size()));
+                groupedList.add(Grouped.of(group.isEmpty() ? null : group, hashes));
+            }
+            mmap.put(subscriber, groupedList);
+        }
+
+        final PublisherIndex<Long> expectedIndex = PublisherIndex.fromDeserializedMMap(mmap);
+        final LongPublisherIndex underTest = LongPublisherIndex.of(List.of(mmap));
+
+        for (int i = 0; i < 200; i++) {
+            final long[] topicHashes = random.longs(1 + random.nextInt(4), -12L, 12L).toArray();
+            final String groupIndexKey = "thing:" + i;
+            final List<Long> topics = Arrays.stream(topicHashes).boxed().toList();
+
+            assertThat(new HashSet<>(underTest.assignGroupsToSubscribers(signal, topicHashes, groupIndexKey)))
+                    .as("topics %s", topics)
+                    .isEqualTo(new HashSet<>(expectedIndex.assignGroupsToSubscribers(signal, topics, groupIndexKey)));
+        }
+    }
+
+    @Test
+    public void updatesOfSubscribersAssignGroupsLikeRebuiltPublisherIndex() {
+        final Random random = new Random(7L);
+        final List<ActorRef> subscribers = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            subscribers.add(newSubscriber());
+        }
+        final List<String> groups = List.of("", "", "group1", "group2");
+        final Map<ActorRef, List<Grouped<Long>>> mmap = new HashMap<>();
+        final LongPublisherIndex underTest = LongPublisherIndex.empty();
+
+        for (int round = 0; round < 100; round++) {
+            final ActorRef subscriber = subscribers.get(random.nextInt(subscribers.size()));
+            if (random.nextInt(4) == 0) {
+                mmap.remove(subscriber);
+                underTest.update(subscriber, List.of());
+            } else {
+                final List<Grouped<Long>> groupedList = new ArrayList<>();
+                for (int i = 0; i < 1 + random.nextInt(3); i++) {
+                    final Set<Long> hashes = random.longs(1 + random.nextInt(5), -40L, 40L).boxed()
+                            .collect(Collectors.toSet());
+                    final String group = groups.get(random.nextInt(groups.size()));
+                    groupedList.add(Grouped.of(group.isEmpty() ? null : group, hashes));
+                }
+                mmap.put(subscriber, groupedList);
+                underTest.update(subscriber, List.of(groupedList));
+            }
+
+            final PublisherIndex<Long> expectedIndex = PublisherIndex.fromDeserializedMMap(mmap);
+            assertThat(underTest.size()).isEqualTo(LongPublisherIndex.of(List.of(mmap)).size());
+            for (int i = 0; i < 10; i++) {
+                final long[] topicHashes = random.longs(1 + random.nextInt(4), -45L, 45L).toArray();
+                final String groupIndexKey = "thing:" + round + ":" + i;
+                final List<Long> topics = Arrays.stream(topicHashes).boxed().toList();
+
+                assertThat(new HashSet<>(underTest.assignGroupsToSubscribers(signal, topicHashes, groupIndexKey)))
+                        .as("round %d, topics %s", round, topics)
+                        .isEqualTo(new HashSet<>(
+                                expectedIndex.assignGroupsToSubscribers(signal, topics, groupIndexKey)));
+            }
+        }
+    }
+
+    private ActorRef newSubscriber() {
+        return TestProbe.apply(system).ref();
+    }
+
+}
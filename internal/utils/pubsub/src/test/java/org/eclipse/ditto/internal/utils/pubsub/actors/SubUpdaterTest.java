@@ -19,8 +19,10 @@ import static org.mockito.ArgumentMatchers.eq;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.pekko.actor.ActorRef;
 import org.apache.pekko.actor.ActorSystem;
@@ -37,6 +39,7 @@ import org.eclipse.ditto.internal.utils.pubsub.config.PubSubConfig;
 import org.eclipse.ditto.internal.utils.pubsub.ddata.DDataReader;
 import org.eclipse.ditto.internal.utils.pubsub.ddata.DDataWriter;
 import org.eclipse.ditto.internal.utils.pubsub.ddata.compressed.CompressedDData;
+import org.eclipse.ditto.internal.utils.pubsub.ddata.compressed.CompressedSubscriptions;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -170,6 +173,86 @@ public final class SubUpdaterTest {
         }};
     }
 
+    @Test
+    public void failedUpdateIsVerifiedAgainstLocalReplica() {
+        new TestKit(system) {{
+            // GIVEN: the local replica deviates from the local subscriptions
+            final var subscriberRef = TestProbe.apply(system).ref();
+            final var config = PubSubConfig.of(system);
+            final var addressMap = Map.of(subscriberRef, Set.of("unknown-value"));
+            final CompressedDData ddata = mockDistributedData(addressMap);
+            final ActorRef underTest = system.actorOf(SubUpdater.props(config, subscriberRef, ddata));
+            underTest.tell(Subscribe.of(List.of("topic1"), subscriberRef, true, null), getRef());
+            expectMsgClass(SubAck.class);
+
+            // WHEN: an incremental update fails
+            Mockito.when(ddata.getWriter().put(any(), any(), any()))
+                    .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("expected")));
+            underTest.tell(Subscribe.of(List.of("topic2"), subscriberRef, false, null), getRef());
+
+            // THEN: SubUpdater compares against the local replica and resets the deviating subscriptions once
+            Mockito.verify(ddata.getReader(), Mockito.timeout(5000))
+                    .get(any(), eq((Replicator.ReadConsistency) Replicator.readLocal()));
+            Mockito.verify(ddata.getWriter(), Mockito.timeout(5000).times(2)).reset(any(), any(), any());
+        }};
+    }
+
+    @Test
+    public void verificationSupersededByNewerWriteDoesNotReset() {
+        new TestKit(system) {{
+            // GIVEN: replication is verified at every clock tick
+            final var subscriberRef = TestProbe.apply(system).ref();
+            final var config = PubSubConfig.of(ConfigFactory.parseString(
+                            "pubsub.reset-probability = 1.0\npubsub.delta-replication = true")
+                    .withFallback(getTestConf().getConfig("ditto")));
+            final AtomicReference<Set<String>> replica =
+                    new AtomicReference<>(exportTopics(subscriberRef, "topic1"));
+            final CompressedDData ddata = mockDistributedData(Map.of());
+            mockLocalReplica(ddata, subscriberRef, replica);
+            final ActorRef underTest = system.actorOf(SubUpdater.props(config, subscriberRef, ddata));
+            underTest.tell(Subscribe.of(List.of("topic1"), subscriberRef, true, null), getRef());
+            expectMsgClass(SubAck.class);
+
+            // GIVEN: the first incremental write completes only after a newer write reached the local replica
+            final CompletableFuture<Void> firstWrite = new CompletableFuture<>();
+            Mockito.when(ddata.getWriter().put(any(), any(), any()))
+                    .thenAnswer(invocation -> {
+                        replica.set(exportTopics(subscriberRef, "topic1", "topic2"));
+                        return firstWrite;
+                    })
+                    .thenAnswer(invocation -> {
+                        replica.set(exportTopics(subscriberRef, "topic1", "topic2", "topic3"));
+                        return CompletableFuture.completedFuture(null);
+                    });
+            underTest.tell(Subscribe.of(List.of("topic2"), subscriberRef, false, null), getRef());
+            Mockito.verify(ddata.getWriter(), Mockito.timeout(5000).times(1)).put(any(), any(), any());
+            underTest.tell(Subscribe.of(List.of("topic3"), subscriberRef, false, null), getRef());
+            Mockito.verify(ddata.getWriter(), Mockito.timeout(5000).times(2)).put(any(), any(), any());
+
+            // WHEN: the first write completes and its verification finds the newer state in the local replica
+            firstWrite.complete(null);
+
+            // THEN: the subscriptions are not reset again
+            Mockito.verify(ddata.getWriter(), Mockito.after(2000).times(1)).reset(any(), any(), any());
+        }};
+    }
+
+    private Set<String> exportTopics(final ActorRef subscriber, final String... topics) {
+        final var subscriptions = CompressedSubscriptions.of(List.of(1, 2));
+        subscriptions.subscribe(subscriber, Set.of(topics), null);
+        return subscriptions.export().getInserts();
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static void mockLocalReplica(final CompressedDData ddata, final ActorRef subscriber,
+            final AtomicReference<Set<String>> replica) {
+
+        final ORMultiMap map = Mockito.mock(ORMultiMap.class);
+        Mockito.when(map.getEntries()).thenAnswer(invocation -> Map.of(subscriber, replica.get()));
+        final DDataReader reader = ddata.getReader();
+        Mockito.when(reader.get(any(), any())).thenReturn(CompletableFuture.completedFuture(Optional.of(map)));
+    }
+
     private Config getTestConf() {
         return ConfigFactory.load("pubsub-factory-test.conf");
     }
@@ -181,7 +264,7 @@ public final class SubUpdaterTest {
     }
 
     @SuppressWarnings({"rawtypes", "unchecked"})
-    private CompressedDData mockDistributedData(final Map<ActorRef, String> result) {
+    private CompressedDData mockDistributedData(final Map<ActorRef, ?> result) {
         final DistributedDataConfig ddataConfig = DefaultDistributedDataConfig.of(getTestConf().getConfig("ditto"));
         final ORMultiMap map = Mockito.mock(ORMultiMap.class);
         Mockito.when(map.getEntries()).thenReturn(result);
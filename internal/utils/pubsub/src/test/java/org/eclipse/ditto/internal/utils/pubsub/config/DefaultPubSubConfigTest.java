@@ -76,6 +76,10 @@ public final class DefaultPubSubConfigTest {
         softly.assertThat(underTest.getResetProbability())
                 .as(PubSubConfig.ConfigValue.RESET_PROBABILITY.getConfigPath())
                 .isCloseTo(0.01, Percentage.withPercentage(0.1));
+
+        softly.assertThat(underTest.isDeltaReplication())
+                .as(PubSubConfig.ConfigValue.DELTA_REPLICATION.getConfigPath())
+                .isTrue();
     }
 
     @Test
@@ -101,6 +105,10 @@ public final class DefaultPubSubConfigTest {
         softly.assertThat(underTest.getResetProbability())
                 .as(PubSubConfig.ConfigValue.RESET_PROBABILITY.getConfigPath())
                 .isCloseTo(0.6, Percentage.withPercentage(0.1));
+
+        softly.assertThat(underTest.isDeltaReplication())
+                .as(PubSubConfig.ConfigValue.DELTA_REPLICATION.getConfigPath())
+                .isFalse();
     }
 
 }
@@ -24,13 +24,16 @@ import java.util.Collections;
 import java.util.Deque;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.ServiceLoader;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -116,6 +119,22 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         ));
     }
 
+    /**
+     * Returns a new {@code ImmutableJsonObject} instance which is backed by the JSON object located between
+     * {@code start} and {@code end} of the given source string.
+     * Only the top level of the object is indexed right away, the values of its fields are decoded when they are
+     * accessed.
+     *
+     * @param source the JSON string which contains the object.
+     * @param start the offset of the opening curly brace of the object.
+     * @param end the offset after the closing curly brace of the object.
+     * @return the lazily indexed JSON object.
+     * @see IndexedJsonFieldMap
+     */
+    static ImmutableJsonObject ofIndexed(final String source, final int start, final int end) {
+        return new ImmutableJsonObject(SoftReferencedFieldMap.ofIndexed(source, start, end));
+    }
+
     @Override
     public JsonObject setValue(final CharSequence key, final int value) {
         return setValue(key, JsonValue.of(value));
@@ -416,6 +435,91 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         }
     }
 
+    /**
+     * Returns a function which applies the given field selector like {@link #get(JsonFieldSelector)}.
+     * The trie of the field selector is built once and used for all objects which contain all of its pointers; for
+     * other objects it has to be built from the contained pointers only, thus {@code get} is used for them.
+     * Whether an object contains all pointers is checked by a single walk along the shared trie instead of resolving
+     * each pointer separately.
+     *
+     * @param fieldSelector the field selector to apply.
+     * @return the function.
+     * @throws NullPointerException if {@code fieldSelector} is {@code null}.
+     */
+    static UnaryOperator<JsonObject> fieldSelection(final JsonFieldSelector fieldSelector) {
+        requireNonNull(fieldSelector, "The JSON field selector must not be null!");
+        final Set<JsonPointer> pointers = new LinkedHashSet<>(fieldSelector.getPointers());
+        if (pointers.isEmpty()) {
+            return jsonObject -> jsonObject.get(fieldSelector);
+        }
+        final JsonFieldSelectorTrie sharedTrie = JsonFieldSelectorTrie.of(pointers);
+        if (countLeaves(sharedTrie) != pointers.size()) {
+            // some pointers are prefixes of others, thus the leaves of the trie do not represent all of them
+            return jsonObject -> {
+                if (jsonObject instanceof ImmutableJsonObject && !jsonObject.isEmpty() &&
+                        pointers.stream().allMatch(jsonObject::containsFlatteningArrays)) {
+                    return filterByTrie(jsonObject, sharedTrie);
+                }
+                return jsonObject.get(fieldSelector);
+            };
+        }
+        return jsonObject -> {
+            if (jsonObject instanceof ImmutableJsonObject && !jsonObject.isEmpty() &&
+                    containsAllFlatteningArrays(Collections.singletonList(jsonObject), sharedTrie)) {
+                return filterByTrie(jsonObject, sharedTrie);
+            }
+            return jsonObject.get(fieldSelector);
+        };
+    }
+
+    private static int countLeaves(final JsonFieldSelectorTrie trie) {
+        int result = 0;
+        for (final JsonKey key : trie.getKeys()) {
+            final JsonFieldSelectorTrie child = trie.descend(key);
+            result += child.isEmpty() ? 1 : countLeaves(child);
+        }
+        return result;
+    }
+
+    /**
+     * Checks whether the path to each leaf of the trie is contained in at least one of the passed objects like
+     * {@link #containsFlatteningArrays(CharSequence)} does for a single pointer.
+     */
+    private static boolean containsAllFlatteningArrays(final List<JsonObject> jsonObjects,
+            final JsonFieldSelectorTrie trie) {
+
+        for (final JsonKey key : trie.getKeys()) {
+            final JsonFieldSelectorTrie child = trie.descend(key);
+            final List<JsonObject> childObjects = new ArrayList<>();
+            boolean containsKey = false;
+            for (final JsonObject jsonObject : jsonObjects) {
+                final Optional<JsonField> field = jsonObject.getField(key);
+                if (field.isPresent()) {
+                    containsKey = true;
+                    if (!child.isEmpty()) {
+                        addObjectsFlatteningArrays(field.get().getValue(), childObjects);
+                    }
+                }
+            }
+            if (child.isEmpty() ? !containsKey : !containsAllFlatteningArrays(childObjects, child)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void addObjectsFlatteningArrays(final JsonValue value, final List<JsonObject> target) {
+        if (value.isObject()) {
+            target.add(value.asObject());
+        } else if (value.isArray()) {
+            for (final JsonValue element : value.asArray()) {
+                if (element.isObject()) {
+                    target.add(element.asObject());
+                }
+            }
+        }
+    }
+
     @SuppressWarnings({"rawtypes", "java:S3740"})
     private static JsonObject filterByTrie(final JsonObject self, final JsonFieldSelectorTrie trie) {
         if (trie.isEmpty()) {
@@ -598,6 +702,8 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
     static final class SoftReferencedFieldMap {
 
         private static final long CBOR_MAX_COMPRESSION_RATIO = 5; // "false" compressed to one byte
+        // only numbers grow in canonical form, at most from 3 chars (e.g. "1e2") to 24 chars (Double.toString)
+        private static final long INDEXED_SOURCE_MAX_EXPANSION_RATIO = 8;
         private static final CborFactory CBOR_FACTORY;
 
         static {
@@ -611,12 +717,18 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         private byte[] cborObjectRepresentation;
         private int hashCode;
         private SoftReference<Map<String, JsonField>> fieldsReference;
+        @Nullable private final String indexedSource;
+        private final int indexedStart;
+        private final int indexedEnd;
 
         private SoftReferencedFieldMap(final Map<String, JsonField> jsonFieldMap,
                 @Nullable final String stringRepresentation, @Nullable final byte[] cborObjectRepresentation) {
 
             requireNonNull(jsonFieldMap, "The fields of JSON object must not be null!");
             fieldsReference = new SoftReference<>(Collections.unmodifiableMap(new LinkedHashMap<>(jsonFieldMap)));
+            indexedSource = null;
+            indexedStart = 0;
+            indexedEnd = 0;
             jsonObjectStringRepresentation = stringRepresentation;
             this.cborObjectRepresentation = cborObjectRepresentation;
             if (jsonObjectStringRepresentation == null && cborObjectRepresentation == null) {
@@ -635,6 +747,17 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
             hashCode = 0;
         }
 
+        private SoftReferencedFieldMap(final String source, final int start, final int end) {
+            indexedSource = requireNonNull(source, "The JSON source string must not be null!");
+            indexedStart = start;
+            indexedEnd = end;
+            fieldsReference = new SoftReference<>(IndexedJsonFieldMap.index(source, start, end));
+            // the source is not necessarily canonical, thus the string representation is created on demand
+            jsonObjectStringRepresentation = null;
+            cborObjectRepresentation = null;
+            hashCode = 0;
+        }
+
         static SoftReferencedFieldMap empty() {
             return of(Collections.emptyMap(), "{}", new byte[]{(byte) 0xA0});
         }
@@ -659,6 +782,10 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
             return new SoftReferencedFieldMap(jsonFieldMap, stringRepresentation, cborObjectRepresentation);
         }
 
+        static SoftReferencedFieldMap ofIndexed(final String source, final int start, final int end) {
+            return new SoftReferencedFieldMap(source, start, end);
+        }
+
         private String createStringRepresentation(final Map<String, JsonField> jsonFieldMap) {
             final StringBuilder stringBuilder = new StringBuilder(guessSerializedSize());
             stringBuilder.append('{');
@@ -730,6 +857,9 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         }
 
         private Map<String, JsonField> recoverFields() {
+            if (null != indexedSource) {
+                return IndexedJsonFieldMap.index(indexedSource, indexedStart, indexedEnd);
+            }
             if (CBOR_FACTORY.isCborAvailable() && cborObjectRepresentation != null) {
                 return parseToMap(cborObjectRepresentation);
             }
@@ -811,6 +941,9 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
             if (cborObjectRepresentation != null) {
                 return cborObjectRepresentation.length;
             }
+            if (null != indexedSource) {
+                return indexedEnd - indexedStart;
+            }
             return 512;
         }
 
@@ -821,6 +954,9 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
             if (cborObjectRepresentation != null) {
                 return cborObjectRepresentation.length * CBOR_MAX_COMPRESSION_RATIO;
             }
+            if (null != indexedSource) {
+                return (long) (indexedEnd - indexedStart) * INDEXED_SOURCE_MAX_EXPANSION_RATIO;
+            }
             assert false; // this should never happen
             return Long.MAX_VALUE;
         }
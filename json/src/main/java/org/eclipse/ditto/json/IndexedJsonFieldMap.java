@@ -0,0 +1,560 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.text.MessageFormat;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A read-only map of the fields of one JSON object which is backed by the JSON string the object was parsed from.
+ * <p>
+ * Indexing only scans the top level of the object: it decodes the keys and remembers the start and end offsets of
+ * each value within the source string.
+ * A value is decoded on first access of its field.
+ * Nested JSON objects are decoded to {@link ImmutableJsonObject}s which are again backed by the same source string,
+ * thus only the path which is actually read gets materialized.
+ * </p>
+ * <p>
+ * Indexing expects a source whose syntax was already verified by {@link #validate(String, int, int)}, which checks the
+ * whole object in one pass without allocating, so decoding a value later cannot fail.
+ * Decoded fields are cached; concurrent first accesses might decode the same field twice which is harmless as
+ * decoding is idempotent.
+ * </p>
+ */
+@Immutable
+final class IndexedJsonFieldMap extends AbstractMap<String, JsonField> {
+
+    private static final int LINEAR_LOOKUP_THRESHOLD = 8;
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final String source;
+    private final String[] keys;
+    private final int[] valueStarts;
+    private final int[] valueEnds;
+    @Nullable private final Map<String, Integer> positions;
+    private final JsonField[] decodedFields;
+
+    private IndexedJsonFieldMap(final String source,
+            final String[] keys,
+            final int[] valueStarts,
+            final int[] valueEnds,
+            @Nullable final Map<String, Integer> positions) {
+
+        this.source = source;
+        this.keys = keys;
+        this.valueStarts = valueStarts;
+        this.valueEnds = valueEnds;
+        this.positions = positions;
+        decodedFields = new JsonField[keys.length];
+    }
+
+    /**
+     * Indexes the top level fields of the JSON object located between {@code start} and {@code end} of the given
+     * source string.
+     *
+     * @param source the JSON string which contains the object.
+     * @param start the offset of the opening curly brace of the object.
+     * @param end the offset after the closing curly brace of the object.
+     * @return the index.
+     * @throws JsonParseException if the top level of the object is not well-formed.
+     */
+    static IndexedJsonFieldMap index(final String source, final int start, final int end) {
+        if (end - start < 2 || '{' != source.charAt(start) || '}' != source.charAt(end - 1)) {
+            throw parseException(start, "expected a JSON object");
+        }
+
+        String[] keys = new String[INITIAL_CAPACITY];
+        int[] valueStarts = new int[INITIAL_CAPACITY];
+        int[] valueEnds = new int[INITIAL_CAPACITY];
+        @Nullable Map<String, Integer> positions = null;
+        int size = 0;
+
+        int pos = skipWhitespace(source, start + 1, end);
+        if ('}' == source.charAt(pos)) {
+            return finish(source, pos, end, keys, valueStarts, valueEnds, positions, size);
+        }
+        while (true) {
+            if ('"' != source.charAt(pos)) {
+                throw parseException(pos, "expected a key");
+            }
+            final int keyEnd = skipString(source, pos, end);
+            final String key = decodeString(source, pos + 1, keyEnd - 1);
+            if (key.isEmpty()) {
+                throw parseException(pos, "the key must not be empty");
+            }
+            pos = skipWhitespace(source, keyEnd, end);
+            if (':' != source.charAt(pos)) {
+                throw parseException(pos, "expected ':'");
+            }
+            final int valueStart = skipWhitespace(source, pos + 1, end);
+            final int valueEnd = skipValue(source, valueStart, end);
+
+            // like the eager parser, a duplicate key keeps its first position but gets the last value
+            final int existing = indexOf(key, keys, size, positions);
+            if (existing >= 0) {
+                valueStarts[existing] = valueStart;
+                valueEnds[existing] = valueEnd;
+            } else {
+                if (size == keys.length) {
+                    keys = Arrays.copyOf(keys, size * 2);
+                    valueStarts = Arrays.copyOf(valueStarts, size * 2);
+                    valueEnds = Arrays.copyOf(valueEnds, size * 2);
+                }
+                keys[size] = key;
+                valueStarts[size] = valueStart;
+                valueEnds[size] = valueEnd;
+                if (null != positions) {
+                    positions.put(key, size);
+                } else if (size == LINEAR_LOOKUP_THRESHOLD) {
+                    positions = new HashMap<>();
+                    for (int i = 0; i <= size; i++) {
+                        positions.put(keys[i], i);
+                    }
+                }
+                size++;
+            }
+
+            pos = skipWhitespace(source, valueEnd, end);
+            final char delimiter = source.charAt(pos);
+            if (',' == delimiter) {
+                pos = skipWhitespace(source, pos + 1, end);
+            } else if ('}' == delimiter) {
+                return finish(source, pos, end, keys, valueStarts, valueEnds, positions, size);
+            } else {
+                throw parseException(pos, "expected ',' or '}'");
+            }
+        }
+    }
+
+    /**
+     * Verifies that the given range of the source string contains exactly one syntactically valid JSON object, nested
+     * values included, without decoding any of its keys or values.
+     * Like the eager parser, empty keys are rejected.
+     *
+     * @param source the JSON string which contains the object.
+     * @param start the offset of the opening curly brace of the object.
+     * @param end the offset after the closing curly brace of the object.
+     * @throws JsonParseException if the range does not contain a valid JSON object.
+     */
+    static void validate(final String source, final int start, final int end) {
+        if (start >= end || '{' != source.charAt(start)) {
+            throw parseException(start, "expected a JSON object");
+        }
+        final int objectEnd = validateObject(source, start, end);
+        if (objectEnd != end) {
+            throw parseException(objectEnd, "unexpected content after the end of the object");
+        }
+    }
+
+    private static int validateValue(final String source, final int from, final int end) {
+        final int pos = skipWhitespace(source, from, end);
+        final char c = source.charAt(pos);
+        switch (c) {
+            case '{':
+                return validateObject(source, pos, end);
+            case '[':
+                return validateArray(source, pos, end);
+            case '"':
+                return validateString(source, pos, end);
+            case 't':
+                return validateLiteral(source, pos, end, "true");
+            case 'f':
+                return validateLiteral(source, pos, end, "false");
+            case 'n':
+                return validateLiteral(source, pos, end, "null");
+            default:
+                return validateNumber(source, pos, end);
+        }
+    }
+
+    private static int validateObject(final String source, final int from, final int end) {
+        int pos = skipWhitespace(source, from + 1, end);
+        if ('}' == source.charAt(pos)) {
+            return pos + 1;
+        }
+        while (true) {
+            if ('"' != source.charAt(pos)) {
+                throw parseException(pos, "expected a key");
+            }
+            final int keyEnd = validateString(source, pos, end);
+            if (keyEnd == pos + 2) {
+                throw parseException(pos, "the key must not be empty");
+            }
+            pos = skipWhitespace(source, keyEnd, end);
+            if (':' != source.charAt(pos)) {
+                throw parseException(pos, "expected ':'");
+            }
+            pos = skipWhitespace(source, validateValue(source, pos + 1, end), end);
+            final char delimiter = source.charAt(pos);
+            if ('}' == delimiter) {
+                return pos + 1;
+            } else if (',' != delimiter) {
+                throw parseException(pos, "expected ',' or '}'");
+            }
+            pos = skipWhitespace(source, pos + 1, end);
+        }
+    }
+
+    private static int validateArray(final String source, final int from, final int end) {
+        int pos = skipWhitespace(source, from + 1, end);
+        if (']' == source.charAt(pos)) {
+            return pos + 1;
+        }
+        while (true) {
+            pos = skipWhitespace(source, validateValue(source, pos, end), end);
+            final char delimiter = source.charAt(pos);
+            if (']' == delimiter) {
+                return pos + 1;
+            } else if (',' != delimiter) {
+                throw parseException(pos, "expected ',' or ']'");
+            }
+            pos++;
+        }
+    }
+
+    private static int validateString(final String source, final int from, final int end) {
+        int pos = from + 1;
+        while (pos < end) {
+            final char c = source.charAt(pos);
+            if ('"' == c) {
+                return pos + 1;
+            } else if ('\\' == c) {
+                pos = validateEscapeSequence(source, pos, end);
+            } else if (c < 0x20) {
+                throw parseException(pos, "unescaped control character");
+            } else {
+                pos++;
+            }
+        }
+        throw parseException(from, "unterminated string");
+    }
+
+    private static int validateEscapeSequence(final String source, final int backslashPos, final int end) {
+        if (backslashPos + 1 >= end) {
+            throw parseException(backslashPos, "invalid escape sequence");
+        }
+        switch (source.charAt(backslashPos + 1)) {
+            case '"':
+            case '\\':
+            case '/':
+            case 'b':
+            case 'f':
+            case 'n':
+            case 'r':
+            case 't':
+                return backslashPos + 2;
+            case 'u':
+                if (backslashPos + 6 > end) {
+                    throw parseException(backslashPos, "invalid unicode escape sequence");
+                }
+                for (int i = backslashPos + 2; i < backslashPos + 6; i++) {
+                    if (Character.digit(source.charAt(i), 16) < 0) {
+                        throw parseException(backslashPos, "invalid unicode escape sequence");
+                    }
+                }
+                return backslashPos + 6;
+            default:
+                throw parseException(backslashPos, "invalid escape sequence");
+        }
+    }
+
+    private static int validateLiteral(final String source, final int from, final int end, final String literal) {
+        if (from + literal.length() > end || !source.startsWith(literal, from)) {
+            throw parseException(from, "expected a value");
+        }
+        return from + literal.length();
+    }
+
+    private static int validateNumber(final String source, final int from, final int end) {
+        int pos = from;
+        if ('-' == source.charAt(pos)) {
+            pos++;
+        }
+        if (pos < end && '0' == source.charAt(pos)) {
+            pos++;
+        } else {
+            pos = validateDigits(source, pos, end, from);
+        }
+        if (pos < end && '.' == source.charAt(pos)) {
+            pos = validateDigits(source, pos + 1, end, from);
+        }
+        if (pos < end && ('e' == source.charAt(pos) || 'E' == source.charAt(pos))) {
+            pos++;
+            if (pos < end && ('+' == source.charAt(pos) || '-' == source.charAt(pos))) {
+                pos++;
+            }
+            pos = validateDigits(source, pos, end, from);
+        }
+        return pos;
+    }
+
+    private static int validateDigits(final String source, final int from, final int end, final int numberStart) {
+        int pos = from;
+        while (pos < end && isDigit(source.charAt(pos))) {
+            pos++;
+        }
+        if (pos == from) {
+            throw parseException(numberStart, "expected a value");
+        }
+        return pos;
+    }
+
+    private static boolean isDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static IndexedJsonFieldMap finish(final String source, final int closingBracePos, final int end,
+            final String[] keys, final int[] valueStarts, final int[] valueEnds,
+            @Nullable final Map<String, Integer> positions, final int size) {
+
+        if (closingBracePos != end - 1) {
+            throw parseException(closingBracePos, "unexpected content after the end of the object");
+        }
+        return new IndexedJsonFieldMap(source, Arrays.copyOf(keys, size), Arrays.copyOf(valueStarts, size),
+                Arrays.copyOf(valueEnds, size), positions);
+    }
+
+    private static int indexOf(final Object key, final String[] keys, final int size,
+            @Nullable final Map<String, Integer> positions) {
+
+        if (null != positions) {
+            final Integer position = positions.get(key);
+            return null != position ? position : -1;
+        }
+        for (int i = 0; i < size; i++) {
+            if (keys[i].equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int skipWhitespace(final String source, final int from, final int end) {
+        int pos = from;
+        while (pos < end && isWhitespace(source.charAt(pos))) {
+            pos++;
+        }
+        if (pos >= end) {
+            throw parseException(pos, "unexpected end of input");
+        }
+        return pos;
+    }
+
+    private static boolean isWhitespace(final char c) {
+        return ' ' == c || '\t' == c || '\n' == c || '\r' == c;
+    }
+
+    private static int skipValue(final String source, final int from, final int end) {
+        final char c = source.charAt(from);
+        if ('"' == c) {
+            return skipString(source, from, end);
+        } else if ('{' == c || '[' == c) {
+            return skipNested(source, from, end);
+        }
+        int pos = from;
+        while (pos < end && !isEndOfLiteral(source.charAt(pos))) {
+            pos++;
+        }
+        if (pos == from) {
+            throw parseException(from, "expected a value");
+        }
+        return pos;
+    }
+
+    private static boolean isEndOfLiteral(final char c) {
+        return ',' == c || '}' == c || ']' == c || isWhitespace(c);
+    }
+
+    private static int skipString(final String source, final int from, final int end) {
+        int pos = from + 1;
+        while (pos < end) {
+            final char c = source.charAt(pos);
+            if ('\\' == c) {
+                pos += 2;
+            } else if ('"' == c) {
+                return pos + 1;
+            } else {
+                pos++;
+            }
+        }
+        throw parseException(from, "unterminated string");
+    }
+
+    private static int skipNested(final String source, final int from, final int end) {
+        int depth = 0;
+        int pos = from;
+        while (pos < end) {
+            final char c = source.charAt(pos);
+            if ('"' == c) {
+                pos = skipString(source, pos, end);
+                continue;
+            } else if ('{' == c || '[' == c) {
+                depth++;
+            } else if ('}' == c || ']' == c) {
+                depth--;
+                if (0 == depth) {
+                    return pos + 1;
+                }
+            }
+            pos++;
+        }
+        throw parseException(from, "unterminated object or array");
+    }
+
+    private static String decodeString(final String source, final int from, final int to) {
+        final int firstBackslash = source.indexOf('\\', from);
+        if (firstBackslash < 0 || firstBackslash >= to) {
+            return source.substring(from, to);
+        }
+        final StringBuilder stringBuilder = new StringBuilder(to - from);
+        stringBuilder.append(source, from, firstBackslash);
+        int pos = firstBackslash;
+        while (pos < to) {
+            final char c = source.charAt(pos);
+            if ('\\' != c) {
+                stringBuilder.append(c);
+                pos++;
+                continue;
+            }
+            final char escaped = source.charAt(pos + 1);
+            switch (escaped) {
+                case '"':
+                case '\\':
+                case '/':
+                    stringBuilder.append(escaped);
+                    break;
+                case 'b':
+                    stringBuilder.append('\b');
+                    break;
+                case 'f':
+                    stringBuilder.append('\f');
+                    break;
+                case 'n':
+                    stringBuilder.append('\n');
+                    break;
+                case 'r':
+                    stringBuilder.append('\r');
+                    break;
+                case 't':
+                    stringBuilder.append('\t');
+                    break;
+                case 'u':
+                    if (pos + 6 > to) {
+                        throw parseException(pos, "invalid unicode escape sequence");
+                    }
+                    try {
+                        stringBuilder.append((char) Integer.parseInt(source.substring(pos + 2, pos + 6), 16));
+                    } catch (final NumberFormatException e) {
+                        throw parseException(pos, "invalid unicode escape sequence");
+                    }
+                    pos += 4;
+                    break;
+                default:
+                    throw parseException(pos, "invalid escape sequence");
+            }
+            pos += 2;
+        }
+        return stringBuilder.toString();
+    }
+
+    private static JsonParseException parseException(final int position, final String reason) {
+        return JsonParseException.newBuilder()
+                .message(MessageFormat.format("Failed to index JSON object at position <{0}>: {1}!", position,
+                        reason))
+                .build();
+    }
+
+    private JsonField getField(final int index) {
+        JsonField result = decodedFields[index];
+        if (null == result) {
+            result = JsonField.newInstance(keys[index], decodeValue(valueStarts[index], valueEnds[index]));
+            decodedFields[index] = result;
+        }
+        return result;
+    }
+
+    private JsonValue decodeValue(final int valueStart, final int valueEnd) {
+        if ('{' == source.charAt(valueStart)) {
+            return ImmutableJsonObject.ofIndexed(source, valueStart, valueEnd);
+        }
+        return JsonValueParser.fromString().apply(source.substring(valueStart, valueEnd));
+    }
+
+    @Override
+    public int size() {
+        return keys.length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return 0 == keys.length;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return indexOf(key, keys, keys.length, positions) >= 0;
+    }
+
+    @Override
+    @Nullable
+    public JsonField get(final Object key) {
+        final int index = indexOf(key, keys, keys.length, positions);
+        return index >= 0 ? getField(index) : null;
+    }
+
+    @Override
+    public Set<Entry<String, JsonField>> entrySet() {
+        return new EntrySet();
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<String, JsonField>> {
+
+        @Override
+        public Iterator<Entry<String, JsonField>> iterator() {
+            return new Iterator<Entry<String, JsonField>>() {
+                private int next = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return next < keys.length;
+                }
+
+                @Override
+                public Entry<String, JsonField> next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    final int index = next++;
+                    return new SimpleImmutableEntry<>(keys[index], getField(index));
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return keys.length;
+        }
+
+    }
+
+}
@@ -27,6 +27,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -259,6 +260,33 @@ public final class JsonFactory {
         }
     }
 
+    /**
+     * Creates a JSON object from the given string without materializing all of its fields up front.
+     * The returned object is backed by the string: its fields are decoded only when they are accessed.
+     * This pays off if only a few fields of the object are read, e. g. for routing or filtering by some pointers.
+     * The syntax of the whole string is verified right away, so only the decoding of the fields is deferred.
+     *
+     * @param jsonString the string that represents the JSON object.
+     * @return the JSON object that has been created from the string.
+     * @throws NullPointerException if {@code jsonString} is {@code null}.
+     * @throws IllegalArgumentException if {@code jsonString} is empty.
+     * @throws JsonParseException if {@code jsonString} does not contain a valid JSON object.
+     * @see JsonValueParser#fromStringLazily()
+     * @since 3.6.0
+     */
+    public static JsonObject newObjectLazily(final String jsonString) {
+        requireNonNull(jsonString, "The JSON string to create a JSON object from must not be null!");
+        if (jsonString.isEmpty()) {
+            throw new IllegalArgumentException("The JSON string to create a JSON object from must not be empty!");
+        }
+
+        if (isJsonNullLiteralString(jsonString)) {
+            return nullObject();
+        } else {
+            return newObject(JsonValueParser.fromStringLazily().apply(jsonString));
+        }
+    }
+
     public static JsonObject newObject(final JsonValue jsonValue) {
         if (!jsonValue.isObject()) {
             final String msgPattern = "<{0}> is not a valid JSON object!";
@@ -770,6 +798,22 @@ public final class JsonFactory {
         return ImmutableJsonFieldSelectorBuilder.newInstance();
     }
 
+    /**
+     * Returns a function which applies the given field selector to JSON objects with the same result as
+     * {@link JsonObject#get(JsonFieldSelector)}.
+     * The trie representation of the field selector is built only once and shared by all JSON objects which contain
+     * all pointers of the field selector.
+     * This pays off if the same field selector is applied to many similar JSON objects, e. g. to a page of things.
+     *
+     * @param fieldSelector the field selector to apply.
+     * @return the function.
+     * @throws NullPointerException if {@code fieldSelector} is {@code null}.
+     * @since 3.6.0
+     */
+    public static UnaryOperator<JsonObject> newFieldSelection(final JsonFieldSelector fieldSelector) {
+        return ImmutableJsonObject.fieldSelection(fieldSelector);
+    }
+
     /**
      * Returns a new definition of a JSON field which contains a String value.
      *
@@ -69,6 +69,49 @@ public final class JsonValueParser {
         return result;
     }
 
+    /**
+     * Returns a Function for parsing a String to an instance of {@link JsonValue} which does not materialize JSON
+     * objects up front.
+     * If the string represents a JSON object, the returned object is backed by the string: its fields are indexed on
+     * first access and each value is decoded only when it is accessed, nested objects being backed by the same
+     * string again.
+     * Thus reading a few fields of a large JSON object only decodes the fields along the read path.
+     * All other JSON values are parsed like {@link #fromString()} does.
+     * <p>
+     * The syntax of the whole string is verified when it is parsed, thus a malformed string causes a
+     * {@link JsonParseException} right away like with {@link #fromString()}; only the decoding of the values is
+     * deferred.
+     * Each returned JSON object keeps a reference to the whole source string.
+     * </p>
+     *
+     * @return the function.
+     * @since 3.6.0
+     */
+    public static Function<String, JsonValue> fromStringLazily() {
+        return JsonValueParser::parseJsonValueLazily;
+    }
+
+    private static JsonValue parseJsonValueLazily(final String jsonString) {
+        requireNonNull(jsonString, "The JSON string to be parsed must not be null!");
+        int start = 0;
+        int end = jsonString.length();
+        while (start < end && isJsonWhitespace(jsonString.charAt(start))) {
+            start++;
+        }
+        while (end > start && isJsonWhitespace(jsonString.charAt(end - 1))) {
+            end--;
+        }
+        if (start < end && '{' == jsonString.charAt(start)) {
+            IndexedJsonFieldMap.validate(jsonString, start, end);
+            return ImmutableJsonObject.ofIndexed(jsonString, start, end);
+        }
+        return fromString().apply(jsonString);
+    }
+
+    private static boolean isJsonWhitespace(final char c) {
+        return ' ' == c || '\t' == c || '\n' == c || '\r' == c;
+    }
+
     /**
      * Returns a Function for obtaining an instance of {@link JsonValue} from a {@code Reader}.
      *
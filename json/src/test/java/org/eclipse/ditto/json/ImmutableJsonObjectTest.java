@@ -23,6 +23,7 @@ import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable
 import java.lang.ref.SoftReference;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
@@ -31,6 +32,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.UnaryOperator;
 
 import org.assertj.core.api.Assertions;
 import org.junit.Test;
@@ -1312,6 +1314,44 @@ public final class ImmutableJsonObjectTest {
         assertThat(empty.get(fieldSelector)).isSameAs(empty);
     }
 
+    @Test
+    public void fieldSelectionReturnsSameAsGetWithFieldSelector() {
+        final JsonFieldSelector fieldSelector = selector("thingId,attributes/location,features/lamp/properties/on");
+        final List<JsonObject> jsonObjects = Arrays.asList(
+                JsonFactory.newObject("{\"thingId\":\"a\",\"attributes\":{\"location\":{\"lat\":1}," +
+                        "\"x\":2},\"features\":{\"lamp\":{\"properties\":{\"on\":true,\"dim\":3}}}}"),
+                JsonFactory.newObject("{\"thingId\":\"b\",\"attributes\":{\"x\":2}," +
+                        "\"features\":{\"lamp\":{\"definition\":[]}}}"),
+                JsonFactory.newObject("{\"attributes\":[{\"location\":1},{\"y\":2}]}"),
+                ImmutableJsonObject.empty(),
+                JsonFactory.nullObject());
+
+        final UnaryOperator<JsonObject> underTest = JsonFactory.newFieldSelection(fieldSelector);
+
+        for (final JsonObject jsonObject : jsonObjects) {
+            assertThat(underTest.apply(jsonObject)).isEqualTo(jsonObject.get(fieldSelector));
+        }
+    }
+
+    @Test
+    public void fieldSelectionFlattensArraysAndPrefixesLikeGetWithFieldSelector() {
+        final List<JsonObject> jsonObjects = Arrays.asList(
+                JsonFactory.newObject("{\"a\":[{\"b\":1},{\"c\":{\"d\":2}}],\"x\":3}"),
+                JsonFactory.newObject("{\"a\":[{\"b\":1},{\"c\":4}],\"x\":3}"),
+                JsonFactory.newObject("{\"a\":{\"b\":1,\"c\":{\"e\":5}},\"x\":3}"),
+                JsonFactory.newObject("{\"x\":3,\"a\":{\"c\":{\"d\":2}}}"));
+
+        for (final String selector : Arrays.asList("a/b,a/c/d,x", "a/c/d,x,a", "x,a/b,a/c", "a/b/c,x,a/b")) {
+            final JsonFieldSelector fieldSelector = selector(selector);
+            final UnaryOperator<JsonObject> underTest = JsonFactory.newFieldSelection(fieldSelector);
+            for (final JsonObject jsonObject : jsonObjects) {
+                assertThat(underTest.apply(jsonObject).toString())
+                        .as("%s of %s", selector, jsonObject)
+                        .isEqualTo(jsonObject.get(fieldSelector).toString());
+            }
+        }
+    }
+
     @Test
     public void toStringReturnsExpected() {
         final JsonObject underTest = ImmutableJsonObject.of(KNOWN_FIELDS);
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link IndexedJsonFieldMap}.
+ */
+public final class IndexedJsonFieldMapTest {
+
+    @Test
+    public void indexEmptyObject() {
+        final IndexedJsonFieldMap underTest = index("{ }");
+
+        assertThat(underTest).isEmpty();
+    }
+
+    @Test
+    public void keepsOrderOfKeys() {
+        final IndexedJsonFieldMap underTest = index("{\"c\":1,\"a\":\"x\",\"b\":null}");
+
+        assertThat(underTest.keySet()).containsExactly("c", "a", "b");
+        assertThat(underTest.get("a")).isEqualTo(JsonField.newInstance("a", JsonValue.of("x")));
+        assertThat(underTest.get("b")).isEqualTo(JsonField.newInstance("b", JsonValue.nullLiteral()));
+    }
+
+    @Test
+    public void decodesEscapedKeys() {
+        final IndexedJsonFieldMap underTest = index("{\"a\\\"b\\u0041\\n\":true}");
+
+        assertThat(underTest.containsKey("a\"bA\n")).isTrue();
+    }
+
+    @Test
+    public void duplicateKeyKeepsFirstPositionAndLastValue() {
+        final IndexedJsonFieldMap underTest = index("{\"a\":1,\"b\":2,\"a\":3}");
+
+        assertThat(underTest.keySet()).containsExactly("a", "b");
+        assertThat(underTest.get("a").getValue()).isEqualTo(JsonValue.of(3));
+    }
+
+    @Test
+    public void nestedObjectsAreIndexedLazily() {
+        final String source = "{\"attributes\":{\"location\":{\"lat\":1.5,\"tags\":[\"a\",\"}\"]}}}";
+        final IndexedJsonFieldMap underTest = index(source);
+
+        final JsonValue attributes = underTest.get("attributes").getValue();
+
+        assertThat(attributes).isInstanceOf(ImmutableJsonObject.class);
+        assertThat(attributes.asObject().getValue("location/lat")).contains(JsonValue.of(1.5));
+        assertThat(attributes.asObject().getValue("location/tags"))
+                .contains(JsonArray.newBuilder().add("a", "}").build());
+    }
+
+    @Test
+    public void largeObjectIsEqualToEagerlyParsedMap() {
+        final JsonObject jsonObject = IntStream.range(0, 50)
+                .mapToObj(i -> JsonField.newInstance("key" + i, JsonValue.of(i)))
+                .collect(JsonCollectors.fieldsToObject());
+        final Map<String, JsonField> expected = new LinkedHashMap<>();
+        jsonObject.forEach(field -> expected.put(field.getKeyName(), field));
+
+        final IndexedJsonFieldMap underTest = index(jsonObject.toString());
+
+        assertThat(underTest).isEqualTo(expected);
+        assertThat(underTest.get("key42")).isEqualTo(expected.get("key42"));
+        assertThat(underTest.keySet().stream().collect(Collectors.toList()))
+                .containsExactlyElementsOf(expected.keySet());
+    }
+
+    @Test
+    public void emptyKeyIsRejected() {
+        assertThatExceptionOfType(JsonParseException.class).isThrownBy(() -> index("{\"\":1}"));
+    }
+
+    @Test
+    public void missingColonIsRejected() {
+        assertThatExceptionOfType(JsonParseException.class).isThrownBy(() -> index("{\"a\" 1}"));
+    }
+
+    @Test
+    public void trailingContentIsRejected() {
+        assertThatExceptionOfType(JsonParseException.class).isThrownBy(() -> index("{\"a\":1}}"));
+    }
+
+    @Test
+    public void unterminatedStringIsRejected() {
+        assertThatExceptionOfType(JsonParseException.class).isThrownBy(() -> index("{\"a\":\"b}"));
+    }
+
+    @Test
+    public void validateAcceptsWellFormedObject() {
+        final String source = "{ \"a\" : [ 1, -0.5e+3, true, false, null, \"\\u00e9\\n\" ], \"b\" : { \"c\" : {} } }";
+
+        IndexedJsonFieldMap.validate(source, 0, source.length());
+    }
+
+    @Test
+    public void validateRejectsMalformedNestedValues() {
+        final String[] malformedSources = {
+                "{\"a\":{\"b\":[1,,2]}}",
+                "{\"a\":{\"\":1}}",
+                "{\"a\":[tru]}",
+                "{\"a\":01}",
+                "{\"a\":1.}",
+                "{\"a\":\"\\x\"}",
+                "{\"a\":[1}",
+                "{\"a\":1}x"
+        };
+        for (final String source : malformedSources) {
+            assertThatExceptionOfType(JsonParseException.class)
+                    .as(source)
+                    .isThrownBy(() -> IndexedJsonFieldMap.validate(source, 0, source.length()));
+        }
+    }
+
+    private static IndexedJsonFieldMap index(final String source) {
+        return IndexedJsonFieldMap.index(source, 0, source.length());
+    }
+
+}
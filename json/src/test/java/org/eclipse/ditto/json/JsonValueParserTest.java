@@ -171,4 +171,64 @@ public final class JsonValueParserTest {
                 .withCauseExactlyInstanceOf(java.lang.NullPointerException.class);
     }
 
+    @Test
+    public void parseStringToObjectLazily() {
+        final Function<String, JsonValue> underTest = JsonValueParser.fromStringLazily();
+
+        final JsonValue actual = underTest.apply(knownJsonObject.toString());
+
+        assertThat(actual).isEqualTo(knownJsonObject);
+        assertThat(knownJsonObject).isEqualTo(actual);
+        assertThat(actual.hashCode()).isEqualTo(knownJsonObject.hashCode());
+    }
+
+    @Test
+    public void parseStringToArrayLazily() {
+        final Function<String, JsonValue> underTest = JsonValueParser.fromStringLazily();
+
+        final JsonValue actual = underTest.apply(knownJsonArray.toString());
+
+        assertThat(actual).isEqualTo(knownJsonArray);
+    }
+
+    @Test
+    public void lazilyParsedObjectWithWhitespaceEqualsEagerlyParsedObject() {
+        final String jsonObjectString = " {\n  \"foo\" : \"bar\",\n  \"baz\" : { \"hubbl\" : 1, \"buggl\" : true }\n} ";
+        final JsonValue expected = JsonValueParser.fromString().apply(jsonObjectString);
+
+        final JsonValue actual = JsonValueParser.fromStringLazily().apply(jsonObjectString);
+
+        assertThat(actual).isEqualTo(expected);
+        assertThat(actual.asObject().getValue("baz/buggl")).contains(JsonValue.of(true));
+    }
+
+    @Test
+    public void lazilyParsedObjectIsSerializedLikeEagerlyParsedObject() {
+        final String jsonObjectString = " {\n  \"foo\" : 1e2,\n  \"baz\" : { \"hubbl\" : \"\\u0041\" , \"buggl\" : [ ] }\n} ";
+        final JsonValue expected = JsonValueParser.fromString().apply(jsonObjectString);
+
+        final JsonValue actual = JsonValueParser.fromStringLazily().apply(jsonObjectString);
+
+        assertThat(actual.toString()).isEqualTo(expected.toString());
+        assertThat(actual.asObject().getValue("baz").map(JsonValue::toString))
+                .isEqualTo(expected.asObject().getValue("baz").map(JsonValue::toString));
+        assertThat(actual.asObject().getUpperBoundForStringSize()).isGreaterThanOrEqualTo(expected.toString().length());
+    }
+
+    @Test
+    public void lazilyParsingMalformedObjectThrowsException() {
+        final Function<String, JsonValue> underTest = JsonValueParser.fromStringLazily();
+
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> underTest.apply("{\"foo\":123"));
+    }
+
+    @Test
+    public void lazilyParsingObjectWithMalformedNestedValueThrowsException() {
+        final Function<String, JsonValue> underTest = JsonValueParser.fromStringLazily();
+
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> underTest.apply("{\"foo\":\"bar\",\"baz\":{\"a\":[1,,2]}}"));
+    }
+
 }
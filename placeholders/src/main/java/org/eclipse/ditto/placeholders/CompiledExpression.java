@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.placeholders;
+
+import static org.eclipse.ditto.placeholders.Expression.SEPARATOR;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * A pipeline expression such as {@code thing:id | fn:substring-before(':') | fn:default('x')} which was split into its
+ * stages once: the placeholder of the first stage is split into prefix and name and the pipeline functions of the
+ * remaining stages are looked up.
+ * Compiled expressions are cached per expression string as connections and mappings resolve a fixed set of
+ * expressions for every message; the least recently used ones are evicted once the cache is full.
+ */
+@Immutable
+final class CompiledExpression {
+
+    private static final int MAX_CACHED_EXPRESSIONS = 4096;
+
+    private static final int MAX_COUNT_PIPELINE_FUNCTIONS = 10;
+
+    private static final String OR = "|";
+
+    private static final String NO_QUOTE = "[^|'\"]++";
+
+    private static final String SINGLE_QUOTED_STRING =
+            String.format("'%s'", PipelineFunction.SINGLE_QUOTED_STRING_CONTENT);
+
+    private static final String DOUBLE_QUOTED_STRING =
+            String.format("\"%s\"", PipelineFunction.DOUBLE_QUOTED_STRING_CONTENT);
+
+    private static final String PIPE_STAGE =
+            "(?:" + NO_QUOTE + OR + SINGLE_QUOTED_STRING + OR + DOUBLE_QUOTED_STRING + ")++";
+
+    private static final Pattern PIPE_STAGE_PATTERN = Pattern.compile(PIPE_STAGE);
+
+    private static final String PIPE_PATTERN_STR = PIPE_STAGE + "(?:\\|" + PIPE_STAGE + ")*+";
+
+    private static final Pattern PIPE_PATTERN = Pattern.compile(PIPE_PATTERN_STR);
+
+    private static final LruCache<String, CompiledExpression> CACHE = LruCache.of(MAX_CACHED_EXPRESSIONS);
+
+    private final String firstStage;
+    private final boolean startsWithFunction;
+    @Nullable private final String placeholderPrefix;
+    @Nullable private final String placeholderName;
+    private final List<ImmutableFunctionExpression.Stage> functionStages;
+
+    private CompiledExpression(final String firstStage,
+            final boolean startsWithFunction,
+            @Nullable final String placeholderPrefix,
+            @Nullable final String placeholderName,
+            final List<ImmutableFunctionExpression.Stage> functionStages) {
+
+        this.firstStage = firstStage;
+        this.startsWithFunction = startsWithFunction;
+        this.placeholderPrefix = placeholderPrefix;
+        this.placeholderName = placeholderName;
+        this.functionStages = functionStages;
+    }
+
+    /**
+     * Returns the compiled form of a pipeline expression.
+     * Expressions which fail to compile are not cached so that they fail each time they are resolved.
+     *
+     * @param expression the pipeline expression without the surrounding curly braces.
+     * @return the compiled expression.
+     * @throws UnresolvedPlaceholderException if the expression is no valid pipeline.
+     * @throws PlaceholderFunctionTooComplexException if the expression has too many pipeline stages.
+     */
+    static CompiledExpression of(final String expression) {
+        return CACHE.get(expression, CompiledExpression::compile);
+    }
+
+    private static CompiledExpression compile(final String expression) {
+        final List<String> stageExpressions = getPipelineStagesExpressions(expression);
+        final String firstStage = stageExpressions.isEmpty() ? "" : stageExpressions.get(0);
+        final boolean startsWithFunction = firstStage.startsWith(FunctionExpression.PREFIX + SEPARATOR);
+
+        final String placeholderPrefix;
+        final String placeholderName;
+        final int separatorIndex = firstStage.indexOf(SEPARATOR);
+        if (startsWithFunction || separatorIndex == -1) {
+            placeholderPrefix = null;
+            placeholderName = null;
+        } else {
+            placeholderPrefix = firstStage.substring(0, separatorIndex).trim();
+            placeholderName = firstStage.substring(placeholderPrefix.length() + 1);
+        }
+
+        final List<ImmutableFunctionExpression.Stage> functionStages = new ArrayList<>(stageExpressions.size());
+        for (int i = startsWithFunction ? 0 : 1; i < stageExpressions.size(); i++) {
+            functionStages.add(ImmutableFunctionExpression.INSTANCE.compile(stageExpressions.get(i)));
+        }
+
+        return new CompiledExpression(firstStage, startsWithFunction, placeholderPrefix, placeholderName,
+                Collections.unmodifiableList(functionStages));
+    }
+
+    private static List<String> getPipelineStagesExpressions(final String template) {
+
+        if (!PIPE_PATTERN.matcher(template).matches()) {
+            throw UnresolvedPlaceholderException.newBuilder(template).build();
+        }
+
+        final List<String> pipelineStagesExpressions = new ArrayList<>();
+        final Matcher matcher = PIPE_STAGE_PATTERN.matcher(template);
+
+        while (matcher.find()) {
+            pipelineStagesExpressions.add(matcher.group().trim());
+
+            // +1 for the starting placeholder
+            if (pipelineStagesExpressions.size() > MAX_COUNT_PIPELINE_FUNCTIONS + 1) {
+                throw PlaceholderFunctionTooComplexException.newBuilder(MAX_COUNT_PIPELINE_FUNCTIONS).build();
+            }
+        }
+        return pipelineStagesExpressions;
+    }
+
+    /**
+     * @return the first stage of the pipeline which is either a placeholder or a function expression.
+     */
+    String getFirstStage() {
+        return firstStage;
+    }
+
+    /**
+     * @return whether the first stage is a function expression rather than a placeholder.
+     */
+    boolean startsWithFunction() {
+        return startsWithFunction;
+    }
+
+    /**
+     * @return the prefix of the placeholder in the first stage, or {@code null} if it has none.
+     */
+    @Nullable
+    String getPlaceholderPrefix() {
+        return placeholderPrefix;
+    }
+
+    /**
+     * @return the name of the placeholder in the first stage, or {@code null} if it has no prefix.
+     */
+    @Nullable
+    String getPlaceholderName() {
+        return placeholderName;
+    }
+
+    /**
+     * Applies the function stages of the pipeline in order.
+     *
+     * @param pipelineInput the resolved placeholder of the first stage or an unresolved element if the pipeline
+     * starts with a function.
+     * @param expressionResolver the resolver for placeholders in function parameters.
+     * @return the result of the last stage.
+     */
+    PipelineElement executeFunctionStages(final PipelineElement pipelineInput,
+            final ExpressionResolver expressionResolver) {
+
+        PipelineElement element = pipelineInput;
+        for (final ImmutableFunctionExpression.Stage stage : functionStages) {
+            element = stage.apply(element, expressionResolver);
+        }
+        return element;
+    }
+
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.placeholders;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.base.model.common.Placeholders;
+
+/**
+ * A template such as {@code prefix/{{ thing:id }}/suffix} which was split once into its literal segments and the
+ * expressions of its placeholders.
+ * Compiled templates are cached per template string as connections and mappings resolve a fixed set of templates for
+ * every message; the least recently used ones are evicted once the cache is full.
+ */
+@Immutable
+final class CompiledTemplate {
+
+    private static final int MAX_CACHED_TEMPLATES = 4096;
+
+    private static final LruCache<String, CompiledTemplate> CACHE = LruCache.of(MAX_CACHED_TEMPLATES);
+
+    private final List<String> segments;
+    private final boolean[] isExpression;
+
+    private CompiledTemplate(final List<String> segments, final boolean[] isExpression) {
+        this.segments = segments;
+        this.isExpression = isExpression;
+    }
+
+    /**
+     * Returns the compiled form of a template.
+     *
+     * @param template the template.
+     * @return the compiled template.
+     */
+    static CompiledTemplate of(final String template) {
+        return CACHE.get(template, CompiledTemplate::compile);
+    }
+
+    private static CompiledTemplate compile(final String template) {
+        final Matcher matcher = Placeholders.pattern().matcher(template);
+        final List<String> segments = new ArrayList<>();
+        final List<Boolean> expressionFlags = new ArrayList<>();
+
+        int literalStart = 0;
+        while (matcher.find()) {
+            final String placeholderExpression = Placeholders.groupNames()
+                    .stream()
+                    .map(matcher::group)
+                    .filter(Objects::nonNull)
+                    .findAny()
+                    .orElse("");
+
+            if (matcher.start() > literalStart) {
+                segments.add(template.substring(literalStart, matcher.start()));
+                expressionFlags.add(false);
+            }
+            segments.add(placeholderExpression);
+            expressionFlags.add(true);
+            literalStart = matcher.end();
+        }
+        if (literalStart < template.length()) {
+            segments.add(template.substring(literalStart));
+            expressionFlags.add(false);
+        }
+
+        final boolean[] isExpression = new boolean[expressionFlags.size()];
+        for (int i = 0; i < isExpression.length; i++) {
+            isExpression[i] = expressionFlags.get(i);
+        }
+        return new CompiledTemplate(Collections.unmodifiableList(segments), isExpression);
+    }
+
+    /**
+     * Substitutes the placeholders of the template.
+     *
+     * @param substitutionFunction the function to resolve the expression of each placeholder.
+     * @return the substituted template; the cartesian product of all values if placeholders resolve to multiple
+     * values, or a deleted element if all placeholders were deleted and there are no literal segments.
+     */
+    PipelineElement substitute(final Function<String, PipelineElement> substitutionFunction) {
+        final List<PipelineElement> elements = new ArrayList<>(segments.size());
+        for (int i = 0; i < segments.size(); i++) {
+            final String segment = segments.get(i);
+            elements.add(isExpression[i]
+                    ? substitutionFunction.apply(segment)
+                    : PipelineElement.resolved(segment));
+        }
+
+        if (elements.isEmpty()) {
+            return PipelineElement.resolved("");
+        } else if (elements.stream().allMatch(PipelineElementDeleted.class::isInstance)) {
+            return PipelineElement.deleted();
+        } else {
+            return PipelineElement.resolved(elements.stream()
+                    .filter(e -> !(e instanceof PipelineElementDeleted))
+                    .reduce(Collections.singletonList(""), (results, nextElement) -> results.stream()
+                                    .flatMap(result -> nextElement.toStream().map(next -> result + next))
+                                    .collect(Collectors.toList()),
+                            (x, y) -> Stream.concat(x.stream(), y.stream()).collect(Collectors.toList())));
+        }
+    }
+
+}
@@ -13,17 +13,9 @@
 package org.eclipse.ditto.placeholders;
 
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.List;
-import java.util.Objects;
 import java.util.function.Function;
-import java.util.regex.Matcher;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
-import org.eclipse.ditto.base.model.common.Placeholders;
 
 /**
  * The ExpressionResolver is able to:
@@ -116,43 +108,6 @@ public interface ExpressionResolver {
             final String input,
             final Function<String, PipelineElement> substitutionFunction) {
 
-        final Matcher matcher = Placeholders.pattern().matcher(input);
-        final List<PipelineElement> elements = new ArrayList<>();
-
-        while (matcher.find()) {
-            final String placeholderExpression = Placeholders.groupNames()
-                    .stream()
-                    .map(matcher::group)
-                    .filter(Objects::nonNull)
-                    .findAny()
-                    .orElse("");
-
-            final StringBuffer replacementBuffer = new StringBuffer();
-            matcher.appendReplacement(replacementBuffer, "");
-            if (replacementBuffer.length() > 0) {
-                elements.add(PipelineElement.resolved(replacementBuffer.toString()));
-            }
-
-            elements.add(substitutionFunction.apply(placeholderExpression));
-        }
-
-        final StringBuffer tailBuffer = new StringBuffer();
-        matcher.appendTail(tailBuffer);
-        if (tailBuffer.length() > 0) {
-            elements.add(PipelineElement.resolved(tailBuffer.toString()));
-        }
-
-        if (elements.isEmpty()) {
-            return PipelineElement.resolved("");
-        } else if (elements.stream().allMatch(PipelineElementDeleted.class::isInstance)) {
-            return PipelineElement.deleted();
-        } else {
-            return PipelineElement.resolved(elements.stream()
-                    .filter(e -> !(e instanceof PipelineElementDeleted))
-                    .reduce(Collections.singletonList(""), (results, nextElement) -> results.stream()
-                                    .flatMap(result -> nextElement.toStream().map(next -> result + next))
-                                    .collect(Collectors.toList()),
-                            (x, y) -> Stream.concat(x.stream(), y.stream()).collect(Collectors.toList())));
-        }
+        return CompiledTemplate.of(input).substitute(substitutionFunction);
     }
 }
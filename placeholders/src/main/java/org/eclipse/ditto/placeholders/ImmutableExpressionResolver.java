@@ -12,55 +12,23 @@
  */
 package org.eclipse.ditto.placeholders;
 
-import static org.eclipse.ditto.placeholders.Expression.SEPARATOR;
-
-import java.util.AbstractMap;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
-import org.eclipse.ditto.base.model.exceptions.DittoRuntimeException;
-
 /**
  * Immutable implementation of {@link ExpressionResolver} containing the logic of how an expression is resolved.
  */
 @Immutable
 final class ImmutableExpressionResolver implements ExpressionResolver {
 
-    private static final int MAX_COUNT_PIPELINE_FUNCTIONS = 10;
-
-    private static final String OR = "|";
-
-    private static final String NO_QUOTE = "[^|'\"]++";
-
-    private static final String SINGLE_QUOTED_STRING =
-            String.format("'%s'", PipelineFunction.SINGLE_QUOTED_STRING_CONTENT);
-
-    private static final String DOUBLE_QUOTED_STRING =
-            String.format("\"%s\"", PipelineFunction.DOUBLE_QUOTED_STRING_CONTENT);
-
-    private static final String PIPE_STAGE =
-            "(?:" + NO_QUOTE + OR + SINGLE_QUOTED_STRING + OR + DOUBLE_QUOTED_STRING + ")++";
-
-    private static final Pattern PIPE_STAGE_PATTERN = Pattern.compile(PIPE_STAGE);
-
-    private static final String PIPE_PATTERN_STR = PIPE_STAGE + "(?:\\|" + PIPE_STAGE + ")*+";
-
-    private static final Pattern PIPE_PATTERN = Pattern.compile(PIPE_PATTERN_STR);
-
-    private static final Function<String, DittoRuntimeException> UNRESOLVED_INPUT_HANDLER = unresolvedInput ->
-            UnresolvedPlaceholderException.newBuilder(unresolvedInput).build();
-
     @Nullable private final String placeholderReplacementInValidation;
 
     private final Map<String, PlaceholderResolver<?>> placeholderResolvers;
@@ -79,34 +47,31 @@ final class ImmutableExpressionResolver implements ExpressionResolver {
 
     @Override
     public PipelineElement resolveAsPipelineElement(final String placeholderExpression) {
-        final List<String> pipelineStagesExpressions = getPipelineStagesExpressions(placeholderExpression);
-        final String firstPlaceholderInPipe = getFirstExpressionInPipe(pipelineStagesExpressions);
-        if (isFirstPlaceholderFunction(firstPlaceholderInPipe)) {
-            return getPipelineFromExpressions(pipelineStagesExpressions, 0).execute(PipelineElement.unresolved(), this);
-        } else {
-            final PipelineElement pipelineInput = resolveSinglePlaceholder(firstPlaceholderInPipe);
-            return getPipelineFromExpressions(pipelineStagesExpressions, 1).execute(pipelineInput, this);
-        }
+        final CompiledExpression compiledExpression = CompiledExpression.of(placeholderExpression);
+        final PipelineElement pipelineInput = compiledExpression.startsWithFunction()
+                ? PipelineElement.unresolved()
+                : resolveSinglePlaceholder(compiledExpression);
+        return compiledExpression.executeFunctionStages(pipelineInput, this);
     }
 
-    private Optional<Map.Entry<PlaceholderResolver<?>, String>> findPlaceholderResolver(
-            final String placeholderInPipeline) {
-        return getPlaceholderPrefix(placeholderInPipeline)
-                .flatMap(prefix -> {
-                    final String name = placeholderInPipeline.substring(prefix.length() + 1);
-                    return Optional.ofNullable(placeholderResolvers.get(prefix))
-                            .filter(resolver -> resolver.supports(name))
-                            .map(resolver -> new AbstractMap.SimpleImmutableEntry<>(resolver, name));
-                });
+    private Optional<PlaceholderResolver<?>> findPlaceholderResolver(final CompiledExpression compiledExpression) {
+        final String prefix = compiledExpression.getPlaceholderPrefix();
+        final String name = compiledExpression.getPlaceholderName();
+        if (null == prefix || null == name) {
+            return Optional.empty();
+        }
+        return Optional.<PlaceholderResolver<?>>ofNullable(placeholderResolvers.get(prefix))
+                .filter(resolver -> resolver.supports(name));
     }
 
-    private PipelineElement resolveSinglePlaceholder(final String placeholderInPipeline) {
-        final Map.Entry<PlaceholderResolver<?>, String> resolverPair = findPlaceholderResolver(placeholderInPipeline)
-                .orElseThrow(() -> UnresolvedPlaceholderException.newBuilder(placeholderInPipeline).build());
+    private PipelineElement resolveSinglePlaceholder(final CompiledExpression compiledExpression) {
+        final PlaceholderResolver<?> resolver = findPlaceholderResolver(compiledExpression)
+                .orElseThrow(() -> UnresolvedPlaceholderException.newBuilder(compiledExpression.getFirstStage())
+                        .build());
 
         if (placeholderReplacementInValidation == null) {
             // normal mode
-            final List<String> resolvedValues = resolverPair.getKey().resolveValues(resolverPair.getValue());
+            final List<String> resolvedValues = resolver.resolveValues(compiledExpression.getPlaceholderName());
             return PipelineElement.resolved(resolvedValues);
         } else {
             // validation mode: all placeholders resolve to dummy value.
@@ -114,49 +79,6 @@ final class ImmutableExpressionResolver implements ExpressionResolver {
         }
     }
 
-    private List<String> getPipelineStagesExpressions(final String template) {
-
-        if (!PIPE_PATTERN.matcher(template).matches()) {
-            throw UNRESOLVED_INPUT_HANDLER.apply(template);
-        }
-
-        final List<String> pipelineStagesExpressions = new ArrayList<>();
-        final Matcher matcher = PIPE_STAGE_PATTERN.matcher(template);
-
-        while (matcher.find()) {
-            pipelineStagesExpressions.add(matcher.group().trim());
-
-            // +1 for the starting placeholder
-            if (pipelineStagesExpressions.size() > MAX_COUNT_PIPELINE_FUNCTIONS + 1) {
-                throw PlaceholderFunctionTooComplexException.newBuilder(MAX_COUNT_PIPELINE_FUNCTIONS).build();
-            }
-        }
-        return pipelineStagesExpressions;
-    }
-
-    // the first expression can be a placeholder or a function expression
-    private String getFirstExpressionInPipe(final List<String> pipelineStagesExpressions) {
-        if (pipelineStagesExpressions.isEmpty()) {
-            return "";
-        }
-        return pipelineStagesExpressions.get(0);
-    }
-
-    private Pipeline getPipelineFromExpressions(final List<String> pipelineStagesExpressions, final int skip) {
-        final List<String> pipelineStages = pipelineStagesExpressions.stream()
-                .skip(skip) // ignore pre-processed expressions
-                .collect(Collectors.toList());
-        return new ImmutablePipeline(ImmutableFunctionExpression.INSTANCE, pipelineStages);
-    }
-
-    private Optional<String> getPlaceholderPrefix(final String placeholder) {
-        final int separatorIndex = placeholder.indexOf(SEPARATOR);
-        if (separatorIndex == -1) {
-            return Optional.empty();
-        }
-        return Optional.of(placeholder.substring(0, separatorIndex).trim());
-    }
-
     @Override
     public boolean equals(@Nullable final Object o) {
         if (this == o) {
@@ -183,7 +105,4 @@ final class ImmutableExpressionResolver implements ExpressionResolver {
                 "]";
     }
 
-    private static boolean isFirstPlaceholderFunction(final String firstPlaceholderInPipeline) {
-        return firstPlaceholderInPipeline.startsWith(FunctionExpression.PREFIX + SEPARATOR);
-    }
 }
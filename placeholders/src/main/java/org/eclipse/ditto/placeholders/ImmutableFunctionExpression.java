@@ -75,18 +75,49 @@ final class ImmutableFunctionExpression implements FunctionExpression {
     public PipelineElement resolve(final String expression, final PipelineElement resolvedInputValue,
             final ExpressionResolver expressionResolver) {
 
+        return compile(expression).apply(resolvedInputValue, expressionResolver);
+    }
+
+    /**
+     * Looks up the pipeline function of a function expression once so that it can be applied repeatedly.
+     * An unknown function is only reported when the stage is applied.
+     *
+     * @param expression the function expression including the prefix, e.g. {@code fn:default('x')}.
+     * @return the stage applying the function.
+     */
+    Stage compile(final String expression) {
         if (!supports(expression.replaceFirst(getPrefix() + ":", ""))) {
-            throw PlaceholderFunctionUnknownException.newBuilder(expression).build();
+            return (resolvedInputValue, expressionResolver) -> {
+                throw PlaceholderFunctionUnknownException.newBuilder(expression).build();
+            };
         }
 
-        return SUPPORTED.stream()
-                .filter(pf -> expression.startsWith(getPrefix() + ":" + pf.getName() + "("))
-                .map(pf -> pf.apply(resolvedInputValue,
-                        expression.replaceFirst(getPrefix() + ":" + pf.getName(), "").trim(),
-                        expressionResolver)
-                )
-                .findFirst()
-                .orElse(PipelineElement.unresolved());
+        for (final PipelineFunction pf : SUPPORTED) {
+            final String functionPrefix = getPrefix() + ":" + pf.getName();
+            if (expression.startsWith(functionPrefix + "(")) {
+                final String paramsIncludingParentheses = expression.substring(functionPrefix.length()).trim();
+                return (resolvedInputValue, expressionResolver) ->
+                        pf.apply(resolvedInputValue, paramsIncludingParentheses, expressionResolver);
+            }
+        }
+        return (resolvedInputValue, expressionResolver) -> PipelineElement.unresolved();
+    }
+
+    /**
+     * A function expression whose pipeline function was looked up already.
+     */
+    @FunctionalInterface
+    interface Stage {
+
+        /**
+         * Applies the function of this stage.
+         *
+         * @param resolvedInputValue the result of the previous stage.
+         * @param expressionResolver the resolver for placeholders in function parameters.
+         * @return the result of this stage.
+         */
+        PipelineElement apply(PipelineElement resolvedInputValue, ExpressionResolver expressionResolver);
+
     }
 
 }
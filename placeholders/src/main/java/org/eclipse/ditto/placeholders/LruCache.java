@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.placeholders;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A cache of bounded size which evicts the least recently used entries once it is full.
+ * This module has to stay free of third party dependencies, therefore the cache is backed by a
+ * {@link ConcurrentHashMap}: lookups are lock-free and only record the access time of the entry.
+ * Once the maximum size is exceeded, one thread evicts the least recently used entries in a batch so that the cost of
+ * eviction is amortized over many insertions; the size may exceed the maximum while other threads insert concurrently.
+ *
+ * @param <K> the type of the keys.
+ * @param <V> the type of the values.
+ */
+@ThreadSafe
+final class LruCache<K, V> {
+
+    private final int maximumSize;
+    private final int sizeAfterEviction;
+    private final ConcurrentHashMap<K, Entry<V>> entries;
+    private final AtomicLong clock;
+    private final ReentrantLock evictionLock;
+
+    private LruCache(final int maximumSize) {
+        this.maximumSize = maximumSize;
+        sizeAfterEviction = maximumSize - maximumSize / 8;
+        entries = new ConcurrentHashMap<>();
+        clock = new AtomicLong();
+        evictionLock = new ReentrantLock();
+    }
+
+    /**
+     * Creates a new cache.
+     *
+     * @param maximumSize the maximum number of entries.
+     * @param <K> the type of the keys.
+     * @param <V> the type of the values.
+     * @return the cache.
+     * @throws IllegalArgumentException if {@code maximumSize} is not positive.
+     */
+    static <K, V> LruCache<K, V> of(final int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("The maximum size must be positive but was <" + maximumSize + ">!");
+        }
+        return new LruCache<>(maximumSize);
+    }
+
+    /**
+     * Returns the value cached for a key, computing and caching it if absent.
+     * The value is computed without holding any lock so that a slow computation does not block other lookups;
+     * exceptions thrown by the computation are propagated and nothing is cached.
+     *
+     * @param key the key.
+     * @param computation computes the value of the key.
+     * @return the cached or computed value.
+     */
+    V get(final K key, final Function<K, V> computation) {
+        final Entry<V> cached = entries.get(key);
+        if (null != cached) {
+            cached.lastAccess = clock.incrementAndGet();
+            return cached.value;
+        }
+        final Entry<V> computed = new Entry<>(computation.apply(key), clock.incrementAndGet());
+        final Entry<V> concurrentlyCached = entries.putIfAbsent(key, computed);
+        if (null != concurrentlyCached) {
+            return concurrentlyCached.value;
+        }
+        // a thread which fails to acquire the lock leaves the eviction to the thread holding it, which checks the size
+        // again after releasing it
+        while (entries.size() > maximumSize && evictionLock.tryLock()) {
+            try {
+                evictLeastRecentlyUsed();
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+        return computed.value;
+    }
+
+    /**
+     * @return the number of cached entries.
+     */
+    int size() {
+        return entries.size();
+    }
+
+    private void evictLeastRecentlyUsed() {
+        final List<Map.Entry<K, Entry<V>>> snapshot = new ArrayList<>(entries.entrySet());
+        final int evictions = snapshot.size() - sizeAfterEviction;
+        if (evictions > 0) {
+            // access times change concurrently, so they are captured once; the clock makes them unique
+            final long[] accessTimes = new long[snapshot.size()];
+            for (int i = 0; i < accessTimes.length; i++) {
+                accessTimes[i] = snapshot.get(i).getValue().lastAccess;
+            }
+            final long[] sortedAccessTimes = accessTimes.clone();
+            Arrays.sort(sortedAccessTimes);
+            final long newestEvictedAccessTime = sortedAccessTimes[evictions - 1];
+            for (int i = 0; i < accessTimes.length; i++) {
+                if (accessTimes[i] <= newestEvictedAccessTime) {
+                    final Map.Entry<K, Entry<V>> evicted = snapshot.get(i);
+                    entries.remove(evicted.getKey(), evicted.getValue());
+                }
+            }
+        }
+    }
+
+    private static final class Entry<V> {
+
+        private final V value;
+        private volatile long lastAccess;
+
+        private Entry(final V value, final long lastAccess) {
+            this.value = value;
+            this.lastAccess = lastAccess;
+        }
+
+    }
+
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.placeholders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link CompiledExpression}.
+ */
+public final class CompiledExpressionTest {
+
+    private static final ExpressionResolver EXPRESSION_RESOLVER = PlaceholderFactory.newExpressionResolver();
+
+    @Test
+    public void compilePlaceholderWithFunctionStages() {
+        final CompiledExpression underTest =
+                CompiledExpression.of(" header:device-id | fn:substring-before(':') | fn:upper() ");
+
+        assertThat(underTest.startsWithFunction()).isFalse();
+        assertThat(underTest.getFirstStage()).isEqualTo("header:device-id");
+        assertThat(underTest.getPlaceholderPrefix()).isEqualTo("header");
+        assertThat(underTest.getPlaceholderName()).isEqualTo("device-id");
+        assertThat(underTest.executeFunctionStages(PipelineElement.resolved("abc:def"), EXPRESSION_RESOLVER))
+                .containsExactly("ABC");
+    }
+
+    @Test
+    public void compileFunctionAsFirstStage() {
+        final CompiledExpression underTest = CompiledExpression.of("fn:default('x') | fn:upper()");
+
+        assertThat(underTest.startsWithFunction()).isTrue();
+        assertThat(underTest.getPlaceholderPrefix()).isNull();
+        assertThat(underTest.executeFunctionStages(PipelineElement.unresolved(), EXPRESSION_RESOLVER)).containsExactly("X");
+    }
+
+    @Test
+    public void compiledExpressionsAreCached() {
+        assertThat(CompiledExpression.of("thing:id | fn:lower()"))
+                .isSameAs(CompiledExpression.of("thing:id | fn:lower()"));
+    }
+
+    @Test
+    public void unknownFunctionFailsOnExecution() {
+        final CompiledExpression underTest = CompiledExpression.of("thing:id | fn:unknown()");
+
+        assertThatExceptionOfType(PlaceholderFunctionUnknownException.class)
+                .isThrownBy(() -> underTest.executeFunctionStages(PipelineElement.resolved("id"), EXPRESSION_RESOLVER));
+    }
+
+    @Test
+    public void tooManyStagesAreRejected() {
+        assertThatExceptionOfType(PlaceholderFunctionTooComplexException.class)
+                .isThrownBy(() -> CompiledExpression.of("thing:id" + new String(new char[11])
+                        .replace("\0", " | fn:lower()")));
+    }
+
+}
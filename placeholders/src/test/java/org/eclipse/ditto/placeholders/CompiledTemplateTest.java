@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.placeholders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link CompiledTemplate}.
+ */
+public final class CompiledTemplateTest {
+
+    @Test
+    public void substituteLiteralsAndExpressionsInOrder() {
+        final List<String> expressions = new ArrayList<>();
+
+        final PipelineElement result = CompiledTemplate.of("a/{{ thing:id }}/b/{{ header:x }}")
+                .substitute(expression -> {
+                    expressions.add(expression);
+                    return PipelineElement.resolved(String.valueOf(expressions.size()));
+                });
+
+        assertThat(expressions).containsExactly(" thing:id ", " header:x ");
+        assertThat(result).containsExactly("a/1/b/2");
+    }
+
+    @Test
+    public void substituteTemplateWithoutPlaceholders() {
+        assertThat(CompiledTemplate.of("plain").substitute(expression -> PipelineElement.unresolved()))
+                .containsExactly("plain");
+        assertThat(CompiledTemplate.of("").substitute(expression -> PipelineElement.unresolved()))
+                .containsExactly("");
+    }
+
+    @Test
+    public void substituteMultipleValuesAsCartesianProduct() {
+        final PipelineElement result = CompiledTemplate.of("{{ a }}-{{ b }}")
+                .substitute(expression -> PipelineElement.resolved(Arrays.asList("1", "2")));
+
+        assertThat(result).containsExactly("1-1", "1-2", "2-1", "2-2");
+    }
+
+    @Test
+    public void substituteOnlyDeletedPlaceholders() {
+        final PipelineElement result = CompiledTemplate.of("{{ a }}{{ b }}")
+                .substitute(expression -> PipelineElement.deleted());
+
+        assertThat(result).isEqualTo(PipelineElement.deleted());
+    }
+
+    @Test
+    public void compiledTemplatesAreCached() {
+        assertThat(CompiledTemplate.of("x{{ thing:id }}")).isSameAs(CompiledTemplate.of("x{{ thing:id }}"));
+    }
+
+}
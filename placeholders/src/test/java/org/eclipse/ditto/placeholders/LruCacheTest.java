@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.placeholders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link LruCache}.
+ */
+public final class LruCacheTest {
+
+    @Test
+    public void computesEachKeyOnceWhileCached() {
+        final List<String> computedKeys = new ArrayList<>();
+        final LruCache<String, String> underTest = LruCache.of(2);
+
+        assertThat(underTest.get("a", key -> compute(key, computedKeys))).isEqualTo("A");
+        assertThat(underTest.get("a", key -> compute(key, computedKeys))).isEqualTo("A");
+
+        assertThat(computedKeys).containsExactly("a");
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsedEntryOnceFull() {
+        final List<String> computedKeys = new ArrayList<>();
+        final LruCache<String, String> underTest = LruCache.of(2);
+
+        underTest.get("a", key -> compute(key, computedKeys));
+        underTest.get("b", key -> compute(key, computedKeys));
+        underTest.get("a", key -> compute(key, computedKeys));
+        underTest.get("c", key -> compute(key, computedKeys));
+        underTest.get("a", key -> compute(key, computedKeys));
+        underTest.get("b", key -> compute(key, computedKeys));
+
+        assertThat(computedKeys).containsExactly("a", "b", "c", "b");
+        assertThat(underTest.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void doesNotCacheFailedComputations() {
+        final LruCache<String, String> underTest = LruCache.of(2);
+
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> underTest.get("a", key -> {
+            throw new IllegalStateException("expected");
+        }));
+
+        assertThat(underTest.size()).isZero();
+        assertThat(underTest.get("a", String::toUpperCase)).isEqualTo("A");
+    }
+
+    @Test
+    public void staysBoundedUnderConcurrentLookups() throws Exception {
+        final int maximumSize = 64;
+        final LruCache<Integer, Integer> underTest = LruCache.of(maximumSize);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                final int offset = thread;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        final int key = (i * 7 + offset) % 1000;
+                        assertThat(underTest.get(key, k -> k * 2)).isEqualTo(key * 2);
+                    }
+                }));
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(underTest.size()).isLessThanOrEqualTo(maximumSize);
+    }
+
+    @Test
+    public void rejectsNonPositiveMaximumSize() {
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> LruCache.of(0));
+    }
+
+    private static String compute(final String key, final List<String> computedKeys) {
+        computedKeys.add(key);
+        return key.toUpperCase();
+    }
+
+}
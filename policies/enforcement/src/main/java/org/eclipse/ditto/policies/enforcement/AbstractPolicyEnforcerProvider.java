@@ -12,8 +12,12 @@
  */
 package org.eclipse.ditto.policies.enforcement;
 
+import java.util.function.Function;
+
 import org.eclipse.ditto.internal.utils.cache.entry.Entry;
+import org.eclipse.ditto.policies.model.Policy;
 import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.enforcers.Enforcer;
 
 import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
 
@@ -30,10 +34,10 @@ abstract class AbstractPolicyEnforcerProvider implements PolicyEnforcerProvider
     }
 
     protected static AsyncCacheLoader<PolicyId, Entry<PolicyEnforcer>> policyEnforcerCacheLoader(
-            final ActorSystem actorSystem) {
+            final ActorSystem actorSystem, final Function<Policy, Enforcer> enforcerFactory) {
 
         final PolicyCacheLoader policyCacheLoader = PolicyCacheLoader.getSingletonInstance(actorSystem);
-        return new PolicyEnforcerCacheLoader(policyCacheLoader);
+        return new PolicyEnforcerCacheLoader(policyCacheLoader, enforcerFactory);
     }
 
     protected static MessageDispatcher enforcementCacheDispatcher(final ActorSystem actorSystem) {
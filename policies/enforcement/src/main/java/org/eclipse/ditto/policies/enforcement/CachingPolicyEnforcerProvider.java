@@ -16,6 +16,7 @@ import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 
 import javax.annotation.Nullable;
 
@@ -40,7 +41,9 @@ import org.eclipse.ditto.internal.utils.namespaces.BlockedNamespaces;
 import org.eclipse.ditto.internal.utils.pekko.logging.DittoDiagnosticLoggingAdapter;
 import org.eclipse.ditto.internal.utils.pekko.logging.DittoLoggerFactory;
 import org.eclipse.ditto.policies.api.PolicyTag;
+import org.eclipse.ditto.policies.model.Policy;
 import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.enforcers.Enforcer;
 import org.slf4j.Logger;
 
 import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
@@ -55,18 +58,21 @@ final class CachingPolicyEnforcerProvider extends AbstractPolicyEnforcerProvider
 
     private final ActorRef cachingPolicyEnforcerProviderActor;
 
-    CachingPolicyEnforcerProvider(final ActorSystem actorSystem) {
-        this(actorSystem, policyEnforcerCacheLoader(actorSystem), enforcementCacheDispatcher(actorSystem),
+    CachingPolicyEnforcerProvider(final ActorSystem actorSystem, final Function<Policy, Enforcer> enforcerFactory) {
+        this(actorSystem, PolicyCacheLoader.getSingletonInstance(actorSystem),
+                enforcementCacheDispatcher(actorSystem),
                 DefaultCacheConfig.of(actorSystem.settings().config(),
-                        PolicyEnforcerProvider.ENFORCER_CACHE_CONFIG_KEY));
+                        PolicyEnforcerProvider.ENFORCER_CACHE_CONFIG_KEY),
+                enforcerFactory);
     }
 
     private CachingPolicyEnforcerProvider(final ActorSystem actorSystem,
-            final AsyncCacheLoader<PolicyId, Entry<PolicyEnforcer>> policyEnforcerCacheLoader,
+            final AsyncCacheLoader<PolicyId, Entry<Policy>> policyCacheLoader,
             final MessageDispatcher cacheDispatcher,
-            final CacheConfig cacheConfig) {
+            final CacheConfig cacheConfig,
+            final Function<Policy, Enforcer> enforcerFactory) {
 
-        this(actorSystem, new PolicyEnforcerCache(policyEnforcerCacheLoader, cacheDispatcher, cacheConfig),
+        this(actorSystem, new PolicyEnforcerCache(policyCacheLoader, cacheDispatcher, cacheConfig, enforcerFactory),
                 BlockedNamespaces.of(actorSystem),
                 DistributedPubSub.get(actorSystem).mediator()
         );
@@ -15,6 +15,7 @@ package org.eclipse.ditto.policies.enforcement;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 
 import javax.annotation.Nullable;
 
@@ -23,7 +24,9 @@ import org.apache.pekko.dispatch.MessageDispatcher;
 import org.eclipse.ditto.internal.utils.cache.entry.Entry;
 import org.eclipse.ditto.internal.utils.pekko.logging.DittoLoggerFactory;
 import org.eclipse.ditto.internal.utils.pekko.logging.ThreadSafeDittoLogger;
+import org.eclipse.ditto.policies.model.Policy;
 import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.enforcers.Enforcer;
 
 import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
 
@@ -39,8 +42,8 @@ final class DefaultPolicyEnforcerProvider extends AbstractPolicyEnforcerProvider
     private final AsyncCacheLoader<PolicyId, Entry<PolicyEnforcer>> policyEnforcerCacheLoader;
     private final MessageDispatcher cacheDispatcher;
 
-    DefaultPolicyEnforcerProvider(final ActorSystem actorSystem) {
-        this(policyEnforcerCacheLoader(actorSystem), enforcementCacheDispatcher(actorSystem));
+    DefaultPolicyEnforcerProvider(final ActorSystem actorSystem, final Function<Policy, Enforcer> enforcerFactory) {
+        this(policyEnforcerCacheLoader(actorSystem, enforcerFactory), enforcementCacheDispatcher(actorSystem));
     }
 
     DefaultPolicyEnforcerProvider(
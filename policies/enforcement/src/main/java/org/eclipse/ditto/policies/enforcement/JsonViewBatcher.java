@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.enforcement;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.base.model.auth.AuthorizationContext;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.policies.model.Permissions;
+import org.eclipse.ditto.policies.model.ResourceKey;
+import org.eclipse.ditto.policies.model.enforcers.Enforcer;
+
+/**
+ * Builds the JSON views of one {@link Enforcer} in batches.
+ * Views requested while another thread builds views are queued and built together by that thread with
+ * {@link Enforcer#buildJsonViews(ResourceKey, List, AuthorizationContext, JsonFieldSelector, JsonFieldSelector,
+ * Permissions)}. No request waits for others to arrive: a request that finds no thread building views builds all
+ * queued views itself.
+ */
+@ThreadSafe
+final class JsonViewBatcher {
+
+    private final Enforcer enforcer;
+    private final Queue<Request> requests;
+    private final AtomicBoolean building;
+
+    JsonViewBatcher(final Enforcer enforcer) {
+        this.enforcer = enforcer;
+        requests = new ConcurrentLinkedQueue<>();
+        building = new AtomicBoolean(false);
+    }
+
+    /**
+     * Builds the view of a JSON object like
+     * {@link Enforcer#buildJsonView(ResourceKey, Iterable, AuthorizationContext, JsonFieldSelector, Permissions)}.
+     *
+     * @param resourceKey the ResourceKey to start from.
+     * @param jsonObject the full JSON object.
+     * @param authorizationContext the AuthorizationContext containing the AuthorizationSubjects.
+     * @param allowlist allowed fields to be present in the view as long as the authorization subjects are relevant.
+     * @param permissions the permissions.
+     * @return the future view, completed exceptionally if building the view failed.
+     */
+    CompletionStage<JsonObject> buildJsonView(final ResourceKey resourceKey,
+            final JsonObject jsonObject,
+            final AuthorizationContext authorizationContext,
+            final JsonFieldSelector allowlist,
+            final Permissions permissions) {
+
+        final var request = new Request(new BatchKey(resourceKey, authorizationContext, allowlist, permissions),
+                jsonObject, new CompletableFuture<>());
+        requests.add(request);
+        buildQueuedJsonViews();
+        return request.future();
+    }
+
+    private void buildQueuedJsonViews() {
+        // re-check the queue after releasing the flag: requests added during the last batch are left to this thread
+        while (!requests.isEmpty() && building.compareAndSet(false, true)) {
+            try {
+                for (final Map.Entry<BatchKey, List<Request>> batch : pollQueuedBatches().entrySet()) {
+                    buildJsonViews(batch.getKey(), batch.getValue());
+                }
+            } finally {
+                building.set(false);
+            }
+        }
+    }
+
+    private Map<BatchKey, List<Request>> pollQueuedBatches() {
+        final Map<BatchKey, List<Request>> batches = new LinkedHashMap<>();
+        Request request;
+        while ((request = requests.poll()) != null) {
+            batches.computeIfAbsent(request.key(), key -> new ArrayList<>()).add(request);
+        }
+        return batches;
+    }
+
+    private void buildJsonViews(final BatchKey key, final List<Request> batch) {
+        try {
+            final List<JsonObject> jsonObjects = new ArrayList<>(batch.size());
+            for (final Request request : batch) {
+                jsonObjects.add(request.jsonObject());
+            }
+            final List<JsonObject> views = enforcer.buildJsonViews(key.resourceKey(), jsonObjects,
+                    key.authorizationContext(), null, key.allowlist(), key.permissions());
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).future().complete(views.get(i));
+            }
+        } catch (final RuntimeException e) {
+            batch.forEach(request -> request.future().completeExceptionally(e));
+        }
+    }
+
+    private record BatchKey(ResourceKey resourceKey, AuthorizationContext authorizationContext,
+            JsonFieldSelector allowlist, Permissions permissions) {}
+
+    private record Request(BatchKey key, JsonObject jsonObject, CompletableFuture<JsonObject> future) {}
+
+}
@@ -17,26 +17,33 @@ import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
 
 import javax.annotation.Nullable;
-import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
 
+import org.eclipse.ditto.base.model.auth.AuthorizationContext;
 import org.eclipse.ditto.internal.utils.cache.entry.Entry;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.policies.model.Permissions;
 import org.eclipse.ditto.policies.model.Policy;
 import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.ResourceKey;
 import org.eclipse.ditto.policies.model.enforcers.Enforcer;
 import org.eclipse.ditto.policies.model.enforcers.PolicyEnforcers;
 
 /**
  * Policy together with its enforcer.
  */
-@Immutable
+@ThreadSafe
 public final class PolicyEnforcer {
 
     @Nullable private final Policy policy;
     private final Enforcer enforcer;
+    private final JsonViewBatcher jsonViewBatcher;
 
     private PolicyEnforcer(@Nullable final Policy policy, final Enforcer enforcer) {
         this.policy = policy;
         this.enforcer = enforcer;
+        jsonViewBatcher = new JsonViewBatcher(enforcer);
     }
 
     /**
@@ -47,9 +54,26 @@ public final class PolicyEnforcer {
      */
     public static CompletionStage<PolicyEnforcer> withResolvedImports(final Policy policy,
             final Function<PolicyId, CompletionStage<Optional<Policy>>> policyResolver) {
+        return withResolvedImports(policy, policyResolver, PolicyEnforcers::defaultEvaluator);
+    }
+
+    /**
+     * Create a policy enforcer from policy using the passed factory to create the enforcer of the policy with
+     * resolved imports.
+     *
+     * @param policy the policy
+     * @param policyResolver resolves the imported policies.
+     * @param enforcerFactory creates the enforcer of the policy with resolved imports, e.g.
+     * {@link PolicyEnforcers#compiledEvaluator(Iterable)}.
+     * @return the pair
+     * @since 3.6.0
+     */
+    public static CompletionStage<PolicyEnforcer> withResolvedImports(final Policy policy,
+            final Function<PolicyId, CompletionStage<Optional<Policy>>> policyResolver,
+            final Function<Policy, Enforcer> enforcerFactory) {
         return policy.withResolvedImports(policyResolver)
                 .thenApply(resolvedPolicy -> {
-                    final var enforcer = PolicyEnforcers.defaultEvaluator(resolvedPolicy);
+                    final var enforcer = enforcerFactory.apply(resolvedPolicy);
                     return new PolicyEnforcer(resolvedPolicy, enforcer);
                 });
     }
@@ -110,4 +134,29 @@ public final class PolicyEnforcer {
         return enforcer;
     }
 
+    /**
+     * Builds the view of a JSON object like
+     * {@link Enforcer#buildJsonView(ResourceKey, Iterable, AuthorizationContext, JsonFieldSelector, Permissions)}.
+     * Views requested concurrently from this policy enforcer, e.g. of the things of one "RetrieveThings" command
+     * sharing a policy, are built together with
+     * {@link Enforcer#buildJsonViews(ResourceKey, java.util.List, AuthorizationContext, JsonFieldSelector,
+     * JsonFieldSelector, Permissions)} without waiting for each other.
+     *
+     * @param resourceKey the ResourceKey (containing Resource type and path) to start from.
+     * @param jsonObject the full JSON object from which to build the view based on the permissions.
+     * @param authorizationContext the AuthorizationContext containing the AuthorizationSubjects.
+     * @param allowlist allowed fields to be present in the view as long as the authorization subjects are relevant.
+     * @param permissions the permissions.
+     * @return the future view of the passed {@code jsonObject}.
+     * @since 3.6.0
+     */
+    public CompletionStage<JsonObject> buildJsonView(final ResourceKey resourceKey,
+            final JsonObject jsonObject,
+            final AuthorizationContext authorizationContext,
+            final JsonFieldSelector allowlist,
+            final Permissions permissions) {
+
+        return jsonViewBatcher.buildJsonView(resourceKey, jsonObject, authorizationContext, allowlist, permissions);
+    }
+
 }
@@ -12,14 +12,12 @@
  */
 package org.eclipse.ditto.policies.enforcement;
 
-import java.util.Collection;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -29,41 +27,64 @@ import org.eclipse.ditto.internal.utils.cache.config.CacheConfig;
 import org.eclipse.ditto.internal.utils.cache.entry.Entry;
 import org.eclipse.ditto.policies.model.Policy;
 import org.eclipse.ditto.policies.model.PolicyId;
-import org.eclipse.ditto.policies.model.PolicyImport;
+import org.eclipse.ditto.policies.model.enforcers.Enforcer;
+import org.eclipse.ditto.policies.model.enforcers.PolicyEnforcers;
 
 import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
 
 import scala.concurrent.ExecutionContextExecutor;
 
+/**
+ * Cache of {@link PolicyEnforcer}s which keeps the enforcers of importing policies consistent with the policies they
+ * import.
+ * <p>
+ * Imported policies are resolved via a {@link PolicyImportGraph} which loads each imported policy once for all
+ * policies importing it.
+ * When an imported policy changes, exactly the enforcers of the policies importing it are invalidated and rebuilt in
+ * the background from their cached policies and the reloaded imported policy, so a change of a policy imported by
+ * many others does not cause a load of each importing policy.
+ * </p>
+ */
 final class PolicyEnforcerCache implements Cache<PolicyId, Entry<PolicyEnforcer>> {
 
     private final Cache<PolicyId, Entry<PolicyEnforcer>> delegate;
-    private final Map<PolicyId, Set<PolicyId>> policyIdToImportingMap;
+    private final PolicyEnforcerCacheLoader policyEnforcerCacheLoader;
+    private final PolicyImportGraph policyImportGraph;
+    private final Map<PolicyId, Entry<Policy>> pendingRebuilds;
 
-    PolicyEnforcerCache(final AsyncCacheLoader<PolicyId, Entry<PolicyEnforcer>> policyEnforcerCacheLoader,
+    PolicyEnforcerCache(final AsyncCacheLoader<PolicyId, Entry<Policy>> policyCacheLoader,
             final ExecutionContextExecutor cacheDispatcher,
             final CacheConfig cacheConfig) {
-        policyIdToImportingMap = new ConcurrentHashMap<>();
-        this.delegate = CacheFactory.createCache(
-                (policyId, executor) -> policyEnforcerCacheLoader.asyncLoad(policyId, executor)
-                        .whenComplete(((policyEnforcerEntry, throwable) -> policyEnforcerEntry.get()
-                                .flatMap(PolicyEnforcer::getPolicy)
-                                .map(Policy::getPolicyImports)
-                                .filter(imports -> !imports.isEmpty())
-                                .ifPresent(imports -> imports.stream()
-                                        .map(PolicyImport::getImportedPolicyId)
-                                        .forEach(importedPolicyId -> policyIdToImportingMap.compute(
-                                                importedPolicyId, (importedPolicyId1, importingPolicyIds) -> {
-                                                    final Set<PolicyId> newImportingPolicyIds =
-                                                            importingPolicyIds == null ? new HashSet<>() :
-                                                                    importingPolicyIds;
-                                                    newImportingPolicyIds.add(policyId);
-                                                    return newImportingPolicyIds;
-                                                }))))),
-                cacheConfig,
-                "policy_enforcer_cache",
-                cacheDispatcher
-        );
+
+        this(policyCacheLoader, cacheDispatcher, cacheConfig, PolicyEnforcers::defaultEvaluator);
+    }
+
+    PolicyEnforcerCache(final AsyncCacheLoader<PolicyId, Entry<Policy>> policyCacheLoader,
+            final ExecutionContextExecutor cacheDispatcher,
+            final CacheConfig cacheConfig,
+            final Function<Policy, Enforcer> enforcerFactory) {
+
+        policyImportGraph = new PolicyImportGraph(policyCacheLoader, cacheDispatcher, cacheConfig);
+        policyEnforcerCacheLoader = new PolicyEnforcerCacheLoader(policyCacheLoader,
+                policyImportGraph::resolveImportedPolicy, enforcerFactory);
+        pendingRebuilds = new ConcurrentHashMap<>();
+        delegate = CacheFactory.createCache(this::loadPolicyEnforcer, cacheConfig, "policy_enforcer_cache",
+                cacheDispatcher);
+    }
+
+    private CompletableFuture<Entry<PolicyEnforcer>> loadPolicyEnforcer(final PolicyId policyId,
+            final Executor executor) {
+
+        final Entry<Policy> policyToRebuild = pendingRebuilds.remove(policyId);
+        final CompletableFuture<Entry<PolicyEnforcer>> policyEnforcerEntry = null != policyToRebuild
+                ? policyEnforcerCacheLoader.resolveImports(policyToRebuild, executor)
+                : policyEnforcerCacheLoader.asyncLoad(policyId, executor);
+
+        return policyEnforcerEntry.whenComplete((entry, throwable) -> {
+            if (null != entry) {
+                policyImportGraph.updateImports(policyId, entry.get().flatMap(PolicyEnforcer::getPolicy));
+            }
+        });
     }
 
     @Override
@@ -89,37 +110,51 @@ final class PolicyEnforcerCache implements Cache<PolicyId, Entry<PolicyEnforcer>
 
     @Override
     public boolean invalidate(final PolicyId policyId) {
-        // Invalidate the changed policy
-        final boolean directlyCached = delegate.invalidate(policyId);
-
-        // Invalidate all policies that import the changed policy
-        final boolean indirectlyCachedViaImport = Optional.ofNullable(policyIdToImportingMap.remove(policyId))
-                .stream()
-                .flatMap(Collection::stream)
-                .map(delegate::invalidate)
-                .reduce((previous, next) -> previous || next)
-                .orElse(false);
-
-        return directlyCached || indirectlyCachedViaImport;
+        return invalidate(policyId, delegate::invalidate);
     }
 
     @Override
     public boolean invalidateConditionally(final PolicyId policyId,
             final Predicate<Entry<PolicyEnforcer>> valueCondition) {
+
+        return invalidate(policyId, id -> delegate.invalidateConditionally(id, valueCondition));
+    }
+
+    private boolean invalidate(final PolicyId policyId, final Predicate<PolicyId> invalidation) {
         // Invalidate the changed policy
-        final boolean directlyCached = delegate.invalidateConditionally(policyId, valueCondition);
+        pendingRebuilds.remove(policyId);
+        final boolean directlyCached = invalidation.test(policyId);
 
-        // Invalidate all policies that import the changed policy
-        final boolean indirectlyCachedViaImport = Optional.ofNullable(policyIdToImportingMap.remove(policyId))
+        // Invalidate and rebuild all policies that import the changed policy
+        final boolean indirectlyCachedViaImport = policyImportGraph.invalidate(policyId)
                 .stream()
-                .flatMap(Collection::stream)
-                .map(p -> delegate.invalidateConditionally(p, valueCondition))
+                .map(importingPolicyId -> invalidateAndRebuild(importingPolicyId, invalidation))
                 .reduce((previous, next) -> previous || next)
                 .orElse(false);
 
         return directlyCached || indirectlyCachedViaImport;
     }
 
+    private boolean invalidateAndRebuild(final PolicyId importingPolicyId, final Predicate<PolicyId> invalidation) {
+        final CompletableFuture<Optional<Entry<PolicyEnforcer>>> cachedEntry = delegate.getIfPresent(importingPolicyId);
+        final boolean invalidated = invalidation.test(importingPolicyId);
+        if (invalidated) {
+            cachedEntry.thenAccept(entry -> entry.filter(Entry::exists).ifPresent(policyEnforcerEntry ->
+                    policyEnforcerEntry.getValueOrThrow().getPolicy().ifPresent(resolvedPolicy ->
+                            rebuild(importingPolicyId, Entry.of(policyEnforcerEntry.getRevision(),
+                                    PolicyImportGraph.withoutImportedEntries(resolvedPolicy)))
+                    )
+            ));
+        }
+        return invalidated;
+    }
+
+    private void rebuild(final PolicyId importingPolicyId, final Entry<Policy> policyToRebuild) {
+        pendingRebuilds.put(importingPolicyId, policyToRebuild);
+        delegate.get(importingPolicyId)
+                .whenComplete((entry, throwable) -> pendingRebuilds.remove(importingPolicyId, policyToRebuild));
+    }
+
     @Override
     public void put(final PolicyId key, final Entry<PolicyEnforcer> value) {
         delegate.put(key, value);
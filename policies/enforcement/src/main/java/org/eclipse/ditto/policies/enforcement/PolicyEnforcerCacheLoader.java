@@ -18,11 +18,14 @@ import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
 import java.util.function.Function;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.internal.utils.cache.entry.Entry;
 import org.eclipse.ditto.policies.model.Policy;
 import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.enforcers.Enforcer;
+import org.eclipse.ditto.policies.model.enforcers.PolicyEnforcers;
 
 import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
 
@@ -34,7 +37,9 @@ public final class PolicyEnforcerCacheLoader implements AsyncCacheLoader<PolicyI
 
     public static final String ENFORCEMENT_CACHE_DISPATCHER = "enforcement-cache-dispatcher";
 
-    private final PolicyCacheLoader delegate;
+    private final AsyncCacheLoader<PolicyId, Entry<Policy>> delegate;
+    @Nullable private final Function<PolicyId, CompletionStage<Optional<Policy>>> importedPolicyResolver;
+    private final Function<Policy, Enforcer> enforcerFactory;
 
     /**
      * Constructor.
@@ -43,25 +48,84 @@ public final class PolicyEnforcerCacheLoader implements AsyncCacheLoader<PolicyI
      */
     public PolicyEnforcerCacheLoader(final PolicyCacheLoader policyCacheLoader) {
 
+        this(policyCacheLoader, PolicyEnforcers::defaultEvaluator);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param policyCacheLoader used to load the policies which should be transformed to a {@link PolicyEnforcer}.
+     * @param enforcerFactory creates the enforcers of the loaded policies.
+     */
+    PolicyEnforcerCacheLoader(final PolicyCacheLoader policyCacheLoader,
+            final Function<Policy, Enforcer> enforcerFactory) {
+
+        this(policyCacheLoader, null, enforcerFactory);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param policyCacheLoader used to load the policies which should be transformed to a {@link PolicyEnforcer}.
+     * @param importedPolicyResolver used to resolve imported policies or {@code null} to load them with
+     * {@code policyCacheLoader} as well.
+     * @param enforcerFactory creates the enforcers of the loaded policies.
+     */
+    PolicyEnforcerCacheLoader(final AsyncCacheLoader<PolicyId, Entry<Policy>> policyCacheLoader,
+            @Nullable final Function<PolicyId, CompletionStage<Optional<Policy>>> importedPolicyResolver,
+            final Function<Policy, Enforcer> enforcerFactory) {
+
         delegate = policyCacheLoader;
+        this.importedPolicyResolver = importedPolicyResolver;
+        this.enforcerFactory = enforcerFactory;
     }
 
     @Override
     public CompletableFuture<Entry<PolicyEnforcer>> asyncLoad(final PolicyId policyId, final Executor executor) {
 
         final Function<PolicyId, CompletionStage<Optional<Policy>>> policyResolver =
-                policyIdToResolve -> delegate.asyncLoad(policyIdToResolve, executor).thenApply(Entry::get);
+                getImportedPolicyResolver(executor);
 
-        return delegate.asyncLoad(policyId, executor)
+        return loadPolicy(policyId, executor)
                 .thenCompose(policyEntry -> evaluatePolicy(policyEntry, policyResolver));
     }
 
+    /**
+     * Builds the enforcer of an already loaded policy, resolving its imports.
+     *
+     * @param policyEntry the cache entry of the policy without resolved imports.
+     * @param executor the executor to load imported policies with.
+     * @return the cache entry of the enforcer.
+     */
+    CompletableFuture<Entry<PolicyEnforcer>> resolveImports(final Entry<Policy> policyEntry,
+            final Executor executor) {
+
+        return evaluatePolicy(policyEntry, getImportedPolicyResolver(executor)).toCompletableFuture();
+    }
+
+    private Function<PolicyId, CompletionStage<Optional<Policy>>> getImportedPolicyResolver(
+            final Executor executor) {
+
+        if (null != importedPolicyResolver) {
+            return importedPolicyResolver;
+        }
+        return policyIdToResolve -> loadPolicy(policyIdToResolve, executor).thenApply(Entry::get);
+    }
+
+    private CompletableFuture<Entry<Policy>> loadPolicy(final PolicyId policyId, final Executor executor) {
+        try {
+            return delegate.asyncLoad(policyId, executor).thenApply(policyEntry -> policyEntry);
+        } catch (final Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
     private CompletionStage<Entry<PolicyEnforcer>> evaluatePolicy(final Entry<Policy> entry,
             final Function<PolicyId, CompletionStage<Optional<Policy>>> policyResolver) {
         if (entry.exists()) {
             final var revision = entry.getRevision();
             final var policy = entry.getValueOrThrow();
-            return PolicyEnforcer.withResolvedImports(policy, policyResolver)
+            return PolicyEnforcer.withResolvedImports(policy, policyResolver, enforcerFactory)
                     .thenApply(enforcer -> Entry.of(revision, enforcer));
         } else {
             return CompletableFuture.completedFuture(Entry.nonexistent());
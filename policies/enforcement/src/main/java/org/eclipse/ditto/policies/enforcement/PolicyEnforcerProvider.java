@@ -31,6 +31,13 @@ public interface PolicyEnforcerProvider {
      */
     String ENFORCER_CACHE_CONFIG_KEY = "ditto.policies-enforcer-cache";
 
+    /**
+     * The configuration key used to configure how the policy enforcers are created.
+     *
+     * @since 3.6.0
+     */
+    String ENFORCER_CONFIG_KEY = "ditto.policies-enforcer";
+
     /**
      * Tries to retrieve a {@link PolicyEnforcer} for the passed {@code policyId}.
      *
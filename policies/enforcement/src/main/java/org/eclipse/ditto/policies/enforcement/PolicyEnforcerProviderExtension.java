@@ -12,10 +12,15 @@
  */
 package org.eclipse.ditto.policies.enforcement;
 
+import java.util.function.Function;
+
 import org.apache.pekko.actor.AbstractExtensionId;
 import org.apache.pekko.actor.ActorSystem;
 import org.apache.pekko.actor.ExtendedActorSystem;
 import org.apache.pekko.actor.Extension;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.enforcers.Enforcer;
+import org.eclipse.ditto.policies.model.enforcers.PolicyEnforcers;
 
 /**
  * Provides a singleton instance of a {@link org.eclipse.ditto.policies.enforcement.PolicyEnforcerProvider}.
@@ -27,10 +32,14 @@ public class PolicyEnforcerProviderExtension implements Extension {
     private PolicyEnforcerProviderExtension(final ActorSystem actorSystem) {
         final boolean withCaching = actorSystem.settings().config().getBoolean(
                 PolicyEnforcerProvider.ENFORCER_CACHE_CONFIG_KEY + ".enabled");
+        final boolean compiled = actorSystem.settings().config().getBoolean(
+                PolicyEnforcerProvider.ENFORCER_CONFIG_KEY + ".compiled");
+        final Function<Policy, Enforcer> enforcerFactory =
+                compiled ? PolicyEnforcers::compiledEvaluator : PolicyEnforcers::defaultEvaluator;
         if (withCaching) {
-            policyEnforcerProvider = new CachingPolicyEnforcerProvider(actorSystem);
+            policyEnforcerProvider = new CachingPolicyEnforcerProvider(actorSystem, enforcerFactory);
         } else {
-            policyEnforcerProvider = new DefaultPolicyEnforcerProvider(actorSystem);
+            policyEnforcerProvider = new DefaultPolicyEnforcerProvider(actorSystem, enforcerFactory);
         }
     }
 
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.enforcement;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+import org.eclipse.ditto.internal.utils.cache.Cache;
+import org.eclipse.ditto.internal.utils.cache.CacheFactory;
+import org.eclipse.ditto.internal.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.internal.utils.cache.entry.Entry;
+import org.eclipse.ditto.policies.model.PoliciesModelFactory;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.PolicyEntry;
+import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.PolicyImport;
+
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+
+/**
+ * Index of the imports between the policies of cached {@link PolicyEnforcer}s.
+ * <p>
+ * Tracks which importing policies depend on which imported policies and holds the imported policies in a cache
+ * which is shared by all importing policies, so an imported policy is loaded once no matter how many policies import
+ * it.
+ * </p>
+ */
+final class PolicyImportGraph {
+
+    private static final String IMPORTED_LABEL_DUMMY = "label";
+
+    private final Cache<PolicyId, Entry<Policy>> importedPolicyCache;
+    private final Map<PolicyId, Set<PolicyId>> importedToImportingPolicyIds;
+    private final Map<PolicyId, Set<PolicyId>> importingToImportedPolicyIds;
+
+    PolicyImportGraph(final AsyncCacheLoader<PolicyId, Entry<Policy>> policyCacheLoader,
+            final Executor cacheDispatcher,
+            final CacheConfig cacheConfig) {
+
+        importedPolicyCache = CacheFactory.createCache(policyCacheLoader, cacheConfig, "policy_import_cache",
+                cacheDispatcher);
+        importedToImportingPolicyIds = new ConcurrentHashMap<>();
+        importingToImportedPolicyIds = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Resolves an imported policy from the shared cache, loading it if it is not cached yet.
+     * Concurrent resolutions of the same policy share one load.
+     *
+     * @param importedPolicyId the ID of the imported policy.
+     * @return the imported policy or an empty optional if it does not exist.
+     */
+    CompletionStage<Optional<Policy>> resolveImportedPolicy(final PolicyId importedPolicyId) {
+        return importedPolicyCache.get(importedPolicyId)
+                .thenApply(entry -> entry.flatMap(Entry::get));
+    }
+
+    /**
+     * Replaces the imports tracked for an importing policy by the imports of its current version.
+     *
+     * @param importingPolicyId the ID of the importing policy.
+     * @param policy the current version of the policy or an empty optional if it does not exist.
+     */
+    void updateImports(final PolicyId importingPolicyId, final Optional<Policy> policy) {
+        final Set<PolicyId> importedPolicyIds = policy.map(Policy::getPolicyImports)
+                .map(imports -> imports.stream()
+                        .map(PolicyImport::getImportedPolicyId)
+                        .collect(Collectors.toSet()))
+                .orElseGet(Collections::emptySet);
+
+        removeImports(importingPolicyId);
+        if (!importedPolicyIds.isEmpty()) {
+            importingToImportedPolicyIds.put(importingPolicyId, importedPolicyIds);
+            importedPolicyIds.forEach(importedPolicyId ->
+                    importedToImportingPolicyIds.computeIfAbsent(importedPolicyId,
+                            id -> ConcurrentHashMap.newKeySet()).add(importingPolicyId));
+        }
+    }
+
+    /**
+     * Drops the cached version of a changed policy from the shared cache and removes the policies importing it from
+     * the index; they are added again once they were rebuilt.
+     *
+     * @param changedPolicyId the ID of the changed policy.
+     * @return the IDs of the policies which import the changed policy.
+     */
+    Set<PolicyId> invalidate(final PolicyId changedPolicyId) {
+        importedPolicyCache.invalidate(changedPolicyId);
+        final Set<PolicyId> importingPolicyIds = importedToImportingPolicyIds.remove(changedPolicyId);
+        if (null == importingPolicyIds) {
+            return Collections.emptySet();
+        }
+        importingPolicyIds.forEach(this::removeImports);
+        return importingPolicyIds;
+    }
+
+    private void removeImports(final PolicyId importingPolicyId) {
+        final Set<PolicyId> previouslyImported = importingToImportedPolicyIds.remove(importingPolicyId);
+        if (null != previouslyImported) {
+            previouslyImported.forEach(importedPolicyId ->
+                    importedToImportingPolicyIds.computeIfPresent(importedPolicyId, (id, importingPolicyIds) -> {
+                        importingPolicyIds.remove(importingPolicyId);
+                        return importingPolicyIds.isEmpty() ? null : importingPolicyIds;
+                    }));
+        }
+    }
+
+    /**
+     * Restores a policy as it was persisted from the policy with resolved imports of a cached enforcer by removing
+     * the entries which were merged in from imported policies.
+     * Labels of imported entries are prefixed with the ID of the imported policy; the labels of a policy's own
+     * entries must not carry that prefix.
+     *
+     * @param resolvedPolicy the policy with resolved imports.
+     * @return the policy without imported entries.
+     */
+    static Policy withoutImportedEntries(final Policy resolvedPolicy) {
+        final Set<String> importedLabelPrefixes = resolvedPolicy.getPolicyImports()
+                .stream()
+                .map(PolicyImport::getImportedPolicyId)
+                .map(PolicyImportGraph::getImportedLabelPrefix)
+                .collect(Collectors.toSet());
+
+        Policy result = resolvedPolicy;
+        for (final PolicyEntry entry : resolvedPolicy) {
+            final String label = entry.getLabel().toString();
+            if (importedLabelPrefixes.stream().anyMatch(label::startsWith)) {
+                result = result.removeEntry(entry.getLabel());
+            }
+        }
+        return result;
+    }
+
+    private static String getImportedLabelPrefix(final PolicyId importedPolicyId) {
+        final String importedLabel =
+                PoliciesModelFactory.newImportedLabel(importedPolicyId, IMPORTED_LABEL_DUMMY).toString();
+        return importedLabel.substring(0, importedLabel.length() - IMPORTED_LABEL_DUMMY.length());
+    }
+
+}
@@ -15,20 +15,30 @@ package org.eclipse.ditto.policies.enforcement;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
-import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.concurrent.CompletableFuture;
 
+import org.eclipse.ditto.base.model.auth.AuthorizationContext;
+import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
+import org.eclipse.ditto.base.model.auth.DittoAuthorizationContextType;
 import org.eclipse.ditto.internal.utils.cache.config.DefaultCacheConfig;
 import org.eclipse.ditto.internal.utils.cache.entry.Entry;
+import org.eclipse.ditto.policies.model.Permissions;
 import org.eclipse.ditto.policies.model.PoliciesModelFactory;
+import org.eclipse.ditto.policies.model.PoliciesResourceType;
 import org.eclipse.ditto.policies.model.Policy;
 import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.SubjectType;
+import org.eclipse.ditto.policies.model.enforcers.Enforcer;
+import org.eclipse.ditto.policies.model.enforcers.PolicyEnforcers;
+import org.eclipse.ditto.policies.model.enforcers.trie.CompiledPolicyEnforcer;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -42,11 +52,20 @@ import scala.concurrent.ExecutionContextExecutor;
 public final class PolicyEnforcerCacheTest {
 
     private ActorSystem actorSystem;
-
+    private AsyncCacheLoader<PolicyId, Entry<Policy>> cacheLoader;
+    private PolicyEnforcerCache underTest;
 
     @Before
+    @SuppressWarnings("unchecked")
     public void setup() {
         actorSystem = ActorSystem.create();
+        cacheLoader = mock(AsyncCacheLoader.class);
+        final ExecutionContextExecutor executor = actorSystem.dispatcher();
+        underTest = new PolicyEnforcerCache(
+                cacheLoader,
+                executor,
+                DefaultCacheConfig.of(actorSystem.settings().config(), "ditto.policies-enforcer-cache")
+        );
     }
 
     @After
@@ -59,96 +78,152 @@ public final class PolicyEnforcerCacheTest {
 
     @Test
     public void getPolicyEnforcerFromCacheLoader() throws Exception {
+        final Policy policy = Policy.newBuilder(PolicyId.generateRandom()).build();
+        stubLoad(policy, 1L);
 
-        final AsyncCacheLoader<PolicyId, Entry<PolicyEnforcer>> cacheLoader = mock(AsyncCacheLoader.class);
-        final ExecutionContextExecutor executor = actorSystem.dispatcher();
-        final var underTest = new PolicyEnforcerCache(
-                cacheLoader,
-                executor,
-                DefaultCacheConfig.of(actorSystem.settings().config(), "ditto.policies-enforcer-cache")
-        );
-
-        new TestKit(actorSystem) {{
-            final PolicyId policyId = PolicyId.generateRandom();
-            verifyLoadedFromCacheLoader(Policy.newBuilder(policyId).build(), underTest, cacheLoader);
-        }};
-
+        assertThat(getPolicy(policy.getEntityId().orElseThrow())).isEqualTo(policy);
+        verify(cacheLoader).asyncLoad(eq(policy.getEntityId().orElseThrow()), any());
     }
 
     @Test
-    public void policyTagInvalidatesCacheOfPolicyAndPoliciesWhichImportedThePolicy() throws Exception {
-        final AsyncCacheLoader<PolicyId, Entry<PolicyEnforcer>> cacheLoader = mock(AsyncCacheLoader.class);
-        final ExecutionContextExecutor executor = actorSystem.dispatcher();
-        final var underTest = new PolicyEnforcerCache(
-                cacheLoader,
-                executor,
-                DefaultCacheConfig.of(actorSystem.settings().config(), "ditto.policies-enforcer-cache")
-        );
+    public void importedPolicyIsLoadedOnceForAllImportingPolicies() throws Exception {
+        final var importedPolicyId = PolicyId.generateRandom();
+        final Policy importedPolicy = templatePolicy(importedPolicyId, "template");
+        final Policy importingPolicy = importingPolicy(importedPolicyId);
+        final Policy otherImportingPolicy = importingPolicy(importedPolicyId);
+        stubLoad(importedPolicy, 1L);
+        stubLoad(importingPolicy, 1L);
+        stubLoad(otherImportingPolicy, 1L);
+
+        assertThat(getPolicy(importingPolicy.getEntityId().orElseThrow()).getLabels())
+                .contains(PoliciesModelFactory.newImportedLabel(importedPolicyId, "template"));
+        assertThat(getPolicy(otherImportingPolicy.getEntityId().orElseThrow()).getLabels())
+                .contains(PoliciesModelFactory.newImportedLabel(importedPolicyId, "template"));
+
+        verify(cacheLoader, times(1)).asyncLoad(eq(importedPolicyId), any());
+    }
 
+    @Test
+    public void policyTagInvalidatesCacheOfPolicyAndRebuildsPoliciesWhichImportedThePolicy() throws Exception {
         final var otherPolicyId = PolicyId.generateRandom();
-        final var importingPolicyId = PolicyId.generateRandom();
-        final var otherImportingPolicyId = PolicyId.generateRandom();
         final var changedImportedPolicyId = PolicyId.generateRandom();
 
-        new TestKit(actorSystem) {{
-            //When
-            final Policy changedImportedPolicy = Policy.newBuilder(changedImportedPolicyId)
-                    .build();
-            final Policy importingPolicy = Policy.newBuilder(importingPolicyId)
-                    .setPolicyImport(PoliciesModelFactory.newPolicyImport(changedImportedPolicyId))
-                    .build();
-            final Policy otherImportingPolicy = Policy.newBuilder(otherImportingPolicyId)
-                    .setPolicyImport(PoliciesModelFactory.newPolicyImport(changedImportedPolicyId))
-                    .build();
-            final Policy otherPolicy = Policy.newBuilder(otherPolicyId)
-                    .build();
-
-            verifyLoadedFromCacheLoader(changedImportedPolicy, underTest, cacheLoader);
-            verifyLoadedFromCacheLoader(importingPolicy, underTest, cacheLoader);
-            verifyLoadedFromCacheLoader(otherImportingPolicy, underTest, cacheLoader);
-            verifyLoadedFromCacheLoader(otherPolicy, underTest, cacheLoader);
-            reset(cacheLoader);
-
-            verifyLoadedFromCache(changedImportedPolicy, underTest, cacheLoader);
-            verifyLoadedFromCache(importingPolicy, underTest, cacheLoader);
-            verifyLoadedFromCache(otherImportingPolicy, underTest, cacheLoader);
-            verifyLoadedFromCache(otherPolicy, underTest, cacheLoader);
-            reset(cacheLoader);
-
-            underTest.invalidate(changedImportedPolicyId);
-
-            verifyLoadedFromCacheLoader(changedImportedPolicy, underTest, cacheLoader);
-            verifyLoadedFromCacheLoader(importingPolicy, underTest, cacheLoader);
-            verifyLoadedFromCacheLoader(otherImportingPolicy, underTest, cacheLoader);
-            verifyLoadedFromCache(otherPolicy, underTest, cacheLoader);
-        }};
+        final Policy changedImportedPolicy = templatePolicy(changedImportedPolicyId, "template");
+        final Policy importingPolicy = importingPolicy(changedImportedPolicyId);
+        final Policy otherImportingPolicy = importingPolicy(changedImportedPolicyId);
+        final Policy otherPolicy = Policy.newBuilder(otherPolicyId).build();
+        final var importingPolicyId = importingPolicy.getEntityId().orElseThrow();
+        final var otherImportingPolicyId = otherImportingPolicy.getEntityId().orElseThrow();
+
+        stubLoad(changedImportedPolicy, 1L);
+        stubLoad(importingPolicy, 1L);
+        stubLoad(otherImportingPolicy, 1L);
+        stubLoad(otherPolicy, 1L);
+        getPolicy(changedImportedPolicyId);
+        getPolicy(importingPolicyId);
+        getPolicy(otherImportingPolicyId);
+        getPolicy(otherPolicyId);
+        clearInvocations(cacheLoader);
+
+        getPolicy(changedImportedPolicyId);
+        getPolicy(importingPolicyId);
+        getPolicy(otherImportingPolicyId);
+        getPolicy(otherPolicyId);
+        verifyNoInteractions(cacheLoader);
+
+        final Policy modifiedImportedPolicy = templatePolicy(changedImportedPolicyId, "modified");
+        stubLoad(modifiedImportedPolicy, 2L);
+
+        assertThat(underTest.invalidate(changedImportedPolicyId)).isTrue();
+
+        final var expectedImportedLabel = PoliciesModelFactory.newImportedLabel(changedImportedPolicyId, "modified");
+        final var outdatedImportedLabel = PoliciesModelFactory.newImportedLabel(changedImportedPolicyId, "template");
+        assertThat(getPolicy(importingPolicyId).getLabels())
+                .contains(expectedImportedLabel)
+                .doesNotContain(outdatedImportedLabel);
+        assertThat(getPolicy(otherImportingPolicyId).getLabels())
+                .contains(expectedImportedLabel)
+                .doesNotContain(outdatedImportedLabel);
+        assertThat(getPolicy(changedImportedPolicyId)).isEqualTo(modifiedImportedPolicy);
+        assertThat(getPolicy(otherPolicyId)).isEqualTo(otherPolicy);
+
+        // the importing policies were rebuilt from their cached state without loading them again:
+        verify(cacheLoader, never()).asyncLoad(eq(importingPolicyId), any());
+        verify(cacheLoader, never()).asyncLoad(eq(otherImportingPolicyId), any());
+        verify(cacheLoader, never()).asyncLoad(eq(otherPolicyId), any());
+    }
 
+    @Test
+    public void policyTagOfImportingPolicyLoadsItAgain() throws Exception {
+        final var importedPolicyId = PolicyId.generateRandom();
+        final Policy importedPolicy = templatePolicy(importedPolicyId, "template");
+        final Policy importingPolicy = importingPolicy(importedPolicyId);
+        final var importingPolicyId = importingPolicy.getEntityId().orElseThrow();
+        stubLoad(importedPolicy, 1L);
+        stubLoad(importingPolicy, 1L);
+        getPolicy(importingPolicyId);
+        clearInvocations(cacheLoader);
+
+        assertThat(underTest.invalidate(importingPolicyId)).isTrue();
+        getPolicy(importingPolicyId);
+
+        verify(cacheLoader).asyncLoad(eq(importingPolicyId), any());
+        verify(cacheLoader, never()).asyncLoad(eq(importedPolicyId), any());
     }
 
-    private void verifyLoadedFromCacheLoader(final Policy policy,
-            final PolicyEnforcerCache cache,
-            final AsyncCacheLoader<PolicyId, Entry<PolicyEnforcer>> cacheLoader) throws Exception {
-        final PolicyEnforcer enforcer = PolicyEnforcer.of(policy);
-        final PolicyId policyId = policy.getEntityId().orElseThrow();
+    @Test
+    public void enforcersAreCreatedByEnforcerFactoryFromPoliciesWithResolvedImports() throws Exception {
+        final var compilingCache = new PolicyEnforcerCache(cacheLoader, actorSystem.dispatcher(),
+                DefaultCacheConfig.of(actorSystem.settings().config(), "ditto.policies-enforcer-cache"),
+                PolicyEnforcers::compiledEvaluator);
+        final var importedPolicyId = PolicyId.generateRandom();
+        final Policy importingPolicy = importingPolicy(importedPolicyId);
+        stubLoad(templatePolicy(importedPolicyId, "template"), 1L);
+        stubLoad(importingPolicy, 1L);
+
+        final Enforcer enforcer = compilingCache.get(importingPolicy.getEntityId().orElseThrow())
+                .join()
+                .flatMap(Entry::get)
+                .map(PolicyEnforcer::getEnforcer)
+                .orElseThrow();
+
+        assertThat(enforcer).isInstanceOf(CompiledPolicyEnforcer.class);
+        assertThat(enforcer.hasUnrestrictedPermissions(PoliciesResourceType.thingResource("/"),
+                AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                        AuthorizationSubject.newInstance("integration:template")),
+                Permissions.newInstance("READ"))).isTrue();
+    }
 
-        final CompletableFuture enforcerResponseFromCache =
-                CompletableFuture.completedFuture(Entry.of(1L, enforcer));
-        when(cacheLoader.asyncLoad(eq(policyId), any())).thenReturn(enforcerResponseFromCache);
+    private void stubLoad(final Policy policy, final long revision) throws Exception {
+        final CompletableFuture<Entry<Policy>> policyResponse =
+                CompletableFuture.completedFuture(Entry.of(revision, policy));
+        when(cacheLoader.asyncLoad(eq(policy.getEntityId().orElseThrow()), any()))
+                .thenAnswer(invocation -> policyResponse);
+    }
 
-        final var policyEnforcer = cache.get(policyId).toCompletableFuture();
-        assertThat(policyEnforcer.join().flatMap(Entry::get)).contains(enforcer);
-        verify(cacheLoader).asyncLoad(eq(policyId), any());
+    private Policy getPolicy(final PolicyId policyId) {
+        return underTest.get(policyId)
+                .join()
+                .flatMap(Entry::get)
+                .flatMap(PolicyEnforcer::getPolicy)
+                .orElseThrow();
     }
 
-    private void verifyLoadedFromCache(final Policy policy,
-            final PolicyEnforcerCache cache,
-            final AsyncCacheLoader<PolicyId, Entry<PolicyEnforcer>> cacheLoader) throws Exception {
-        final PolicyId policyId = policy.getEntityId().orElseThrow();
+    private static Policy templatePolicy(final PolicyId policyId, final String label) {
+        return Policy.newBuilder(policyId)
+                .forLabel(label)
+                .setSubject("integration:" + label, SubjectType.GENERATED)
+                .setGrantedPermissions("thing", "/", Permissions.newInstance("READ"))
+                .build();
+    }
 
-        final var policyEnforcer = cache.get(policyId).toCompletableFuture();
-        assertThat(policyEnforcer.join().flatMap(Entry::get).flatMap(PolicyEnforcer::getPolicy)).contains(policy);
-        verifyNoMoreInteractions(cacheLoader);
-        verify(cacheLoader, never()).asyncLoad(eq(policyId), any());
+    private static Policy importingPolicy(final PolicyId importedPolicyId) {
+        return Policy.newBuilder(PolicyId.generateRandom())
+                .forLabel("owner")
+                .setSubject("integration:owner", SubjectType.GENERATED)
+                .setGrantedPermissions("thing", "/", Permissions.newInstance("WRITE"))
+                .setPolicyImport(PoliciesModelFactory.newPolicyImport(importedPolicyId))
+                .build();
     }
 
 }
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.enforcement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.base.model.auth.AuthorizationContext;
+import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
+import org.eclipse.ditto.base.model.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.policies.model.Permissions;
+import org.eclipse.ditto.policies.model.PoliciesResourceType;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.ResourceKey;
+import org.eclipse.ditto.policies.model.SubjectType;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link PolicyEnforcer}.
+ */
+public final class PolicyEnforcerTest {
+
+    private static final ResourceKey THING_ROOT = PoliciesResourceType.thingResource("/");
+    private static final JsonFieldSelector ALLOWLIST = JsonFactory.newFieldSelector("thingId");
+    private static final Permissions READ = Permissions.newInstance("READ");
+
+    @Test
+    public void concurrentlyBuiltJsonViewsEqualSingleJsonViews() throws Exception {
+        final PolicyEnforcer underTest = PolicyEnforcer.of(Policy.newBuilder(PolicyId.of("namespace", "id"))
+                .forLabel("reader")
+                .setSubject("dummy:reader", SubjectType.GENERATED)
+                .setGrantedPermissions(PoliciesResourceType.thingResource("/attributes"), READ)
+                .setRevokedPermissions(PoliciesResourceType.thingResource("/attributes/secret"), READ)
+                .build());
+        final AuthorizationContext reader = AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                AuthorizationSubject.newInstance("dummy:reader"));
+        final AuthorizationContext stranger = AuthorizationContext.newInstance(
+                DittoAuthorizationContextType.UNSPECIFIED, AuthorizationSubject.newInstance("dummy:stranger"));
+
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<CompletableFuture<Void>> checks = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                final JsonObject thing = JsonObject.newBuilder()
+                        .set("thingId", "namespace:thing-" + i)
+                        .set("attributes", JsonObject.newBuilder().set("index", i).set("secret", "s" + i).build())
+                        .set("features", JsonObject.newBuilder().set("lamp", JsonObject.empty()).build())
+                        .build();
+                final AuthorizationContext authorizationContext = i % 5 == 0 ? stranger : reader;
+                final JsonObject expected = underTest.getEnforcer()
+                        .buildJsonView(THING_ROOT, thing, authorizationContext, ALLOWLIST, READ);
+                checks.add(CompletableFuture.supplyAsync(() -> underTest.buildJsonView(THING_ROOT, thing,
+                                        authorizationContext, ALLOWLIST, READ), executor)
+                        .thenCompose(view -> view)
+                        .thenAccept(view -> assertThat(view).isEqualTo(expected)));
+            }
+            CompletableFuture.allOf(checks.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void jsonViewContainsOnlyReadableFieldsAndAllowlist() {
+        final PolicyEnforcer underTest = PolicyEnforcer.of(Policy.newBuilder(PolicyId.of("namespace", "id"))
+                .forLabel("reader")
+                .setSubject("dummy:reader", SubjectType.GENERATED)
+                .setGrantedPermissions(PoliciesResourceType.thingResource("/attributes"), READ)
+                .build());
+        final JsonObject thing = JsonObject.newBuilder()
+                .set("thingId", "namespace:thing")
+                .set("attributes", JsonObject.newBuilder().set("on", true).build())
+                .set("policyId", "namespace:id")
+                .build();
+
+        final JsonObject view = underTest.buildJsonView(THING_ROOT, thing,
+                        AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                                AuthorizationSubject.newInstance("dummy:reader")), ALLOWLIST, READ)
+                .toCompletableFuture()
+                .join();
+
+        assertThat(view).isEqualTo(JsonObject.newBuilder()
+                .set("thingId", "namespace:thing")
+                .set("attributes", JsonObject.newBuilder().set("on", true).build())
+                .build());
+    }
+
+}
@@ -12,7 +12,12 @@
  */
 package org.eclipse.ditto.policies.model.enforcers;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
+import java.util.function.UnaryOperator;
+
+import javax.annotation.Nullable;
 
 import org.eclipse.ditto.base.model.auth.AuthorizationContext;
 import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
@@ -313,4 +318,90 @@ public interface Enforcer {
     JsonObject buildJsonView(ResourceKey resourceKey, Iterable<JsonField> jsonFields,
             AuthorizationContext authorizationContext, Permissions permissions);
 
+    /**
+     * Builds views of all passed {@code jsonFields} for {@code authorizationContext} and {@code permissions}, e.g. of a
+     * page of things which share the policy of this enforcer. The result is the same as building the view of each
+     * element with {@link #buildJsonView(ResourceKey, Iterable, AuthorizationContext, Permissions)}, but
+     * implementations may resolve the resource and the authorization context only once for all elements.
+     *
+     * @param resourceKey the ResourceKey (containing Resource type and path) to start from for building the views.
+     * @param jsonFieldsList the full JsonFields from which to build the views based on the permissions.
+     * @param authorizationContext the AuthorizationContext containing the AuthorizationSubjects.
+     * @param permissions the permissions.
+     * @return the views of the passed {@code jsonFieldsList} in the same order.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @since 3.6.0
+     */
+    default List<JsonObject> buildJsonViews(final ResourceKey resourceKey,
+            final List<? extends Iterable<JsonField>> jsonFieldsList,
+            final AuthorizationContext authorizationContext,
+            final Permissions permissions) {
+
+        final List<JsonObject> result = new ArrayList<>(jsonFieldsList.size());
+        for (final Iterable<JsonField> jsonFields : jsonFieldsList) {
+            result.add(buildJsonView(resourceKey, jsonFields, authorizationContext, permissions));
+        }
+        return result;
+    }
+
+    /**
+     * Builds views of all passed {@code jsonObjects} like
+     * {@link #buildJsonView(ResourceKey, Iterable, AuthorizationContext, JsonFieldSelector, Permissions)} after
+     * optionally applying the field selector {@code selectedFields} to each of them.
+     * The field selectors are prepared only once for all JSON objects and whether the authorization subjects are
+     * relevant at all is only evaluated once.
+     *
+     * @param resourceKey the ResourceKey (containing Resource type and path) to start from.
+     * @param jsonObjects the full JSON objects, e.g. things sharing the policy of this enforcer.
+     * @param authorizationContext the AuthorizationContext containing the AuthorizationSubjects.
+     * @param selectedFields the fields to select from each JSON object before building its view or {@code null} to
+     * select all fields.
+     * @param allowlist allowed fields to be present in the output as long as the authorization subjects are
+     * relevant, i.e., some of them are granted the required permissions on some resource.
+     * @param permissions the permissions.
+     * @return the views of the passed {@code jsonObjects} in the same order.
+     * @throws NullPointerException if any argument but {@code selectedFields} is {@code null}.
+     * @since 3.6.0
+     */
+    default List<JsonObject> buildJsonViews(final ResourceKey resourceKey,
+            final List<JsonObject> jsonObjects,
+            final AuthorizationContext authorizationContext,
+            @Nullable final JsonFieldSelector selectedFields,
+            final JsonFieldSelector allowlist,
+            final Permissions permissions) {
+
+        final List<JsonObject> selectedJsonObjects;
+        if (null != selectedFields) {
+            final UnaryOperator<JsonObject> fieldSelection = JsonFactory.newFieldSelection(selectedFields);
+            selectedJsonObjects = new ArrayList<>(jsonObjects.size());
+            for (final JsonObject jsonObject : jsonObjects) {
+                selectedJsonObjects.add(fieldSelection.apply(jsonObject));
+            }
+        } else {
+            selectedJsonObjects = jsonObjects;
+        }
+
+        final List<JsonObject> enforcedJsonViews =
+                buildJsonViews(resourceKey, selectedJsonObjects, authorizationContext, permissions);
+
+        final ResourceKey rootResourceKey = ResourceKey.newInstance(resourceKey.getResourceType(),
+                JsonFactory.emptyPointer());
+        final boolean isAuthorizationSubjectRelevant =
+                hasPartialPermissions(rootResourceKey, authorizationContext, permissions);
+        if (isAuthorizationSubjectRelevant) {
+            final UnaryOperator<JsonObject> allowlistSelection = JsonFactory.newFieldSelection(allowlist);
+            final List<JsonObject> result = new ArrayList<>(enforcedJsonViews.size());
+            for (int i = 0; i < enforcedJsonViews.size(); i++) {
+                final JsonObject inputJsonObject = selectedJsonObjects.get(i);
+                final JsonObject allowedJsonView = inputJsonObject.isNull()
+                        ? JsonFactory.newObject()
+                        : allowlistSelection.apply(inputJsonObject);
+                result.add(JsonFactory.newObject(allowedJsonView, enforcedJsonViews.get(i)));
+            }
+            return result;
+        } else {
+            return enforcedJsonViews;
+        }
+    }
+
 }
@@ -16,6 +16,7 @@ import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.policies.model.PolicyEntry;
 import org.eclipse.ditto.policies.model.enforcers.tree.TreeBasedPolicyEnforcer;
+import org.eclipse.ditto.policies.model.enforcers.trie.CompiledPolicyEnforcer;
 import org.eclipse.ditto.policies.model.enforcers.trie.TrieBasedPolicyEnforcer;
 
 /**
@@ -55,6 +56,21 @@ public final class PolicyEnforcers {
         return TrieBasedPolicyEnforcer.newInstance(policyEntries);
     }
 
+    /**
+     * Returns an Enforcer with the same semantics as {@link #throughputOptimizedEvaluator(Iterable)} which compiles
+     * the Policy once into bit sets of subjects per resource and permission. It requires a higher effort to be
+     * created, but evaluates permission checks and subject queries with bitwise operations, especially good for
+     * Policies with many subjects which are used for many checks.
+     *
+     * @param policyEntries the Policy entries to initialize the evaluator with.
+     * @return the initialized compiled Enforcer.
+     * @throws NullPointerException if {@code policyEntries} is {@code null}.
+     * @since 3.6.0
+     */
+    public static Enforcer compiledEvaluator(final Iterable<PolicyEntry> policyEntries) {
+        return CompiledPolicyEnforcer.newInstance(policyEntries);
+    }
+
     /**
      * Returns an Enforcer which requires little memory and delivers good performance for most of the Policies.
      *
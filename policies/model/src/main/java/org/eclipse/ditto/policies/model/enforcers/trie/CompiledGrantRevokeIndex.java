@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.model.enforcers.trie;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Compiled form of a {@link GrantRevokeIndex} where the granted and revoked subjects of each permission are stored as
+ * {@link BitSet}s of {@link SubjectIndex} indexes grouped by their weight.
+ * Checks against an authorization context are thus reduced to bitwise intersections with the bit set of the subjects
+ * of the authorization context.
+ */
+@Immutable
+final class CompiledGrantRevokeIndex {
+
+    private static final int NO_WEIGHT = Integer.MIN_VALUE;
+
+    private final Map<String, WeightedSubjects> granted;
+    private final Map<String, WeightedSubjects> revoked;
+
+    private CompiledGrantRevokeIndex(final Map<String, WeightedSubjects> granted,
+            final Map<String, WeightedSubjects> revoked) {
+
+        this.granted = granted;
+        this.revoked = revoked;
+    }
+
+    /**
+     * Compiles the given {@code GrantRevokeIndex}.
+     *
+     * @param grantRevokeIndex the index to compile.
+     * @param subjectIndex the dictionary of all subjects of the policy.
+     * @return the compiled index.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    static CompiledGrantRevokeIndex compile(final GrantRevokeIndex grantRevokeIndex, final SubjectIndex subjectIndex) {
+        checkNotNull(grantRevokeIndex, "grant revoke index");
+        checkNotNull(subjectIndex, "subject index");
+        return new CompiledGrantRevokeIndex(compile(grantRevokeIndex.getGranted(), subjectIndex),
+                compile(grantRevokeIndex.getRevoked(), subjectIndex));
+    }
+
+    private static Map<String, WeightedSubjects> compile(final PermissionSubjectsMap permissionSubjectsMap,
+            final SubjectIndex subjectIndex) {
+
+        if (permissionSubjectsMap.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        // permissions without any subjects are kept on purpose as they are relevant for the subject queries
+        final Map<String, WeightedSubjects> result = new HashMap<>(permissionSubjectsMap.size());
+        permissionSubjectsMap.forEach((permission, subjectWeights) ->
+                result.put(permission, WeightedSubjects.of(subjectWeights, subjectIndex)));
+        return result;
+    }
+
+    /**
+     * Check whether each of the given permissions is granted to some of the given subjects such that none of the
+     * permissions is revoked from any of the subjects with the same or a greater weight.
+     *
+     * @param subjects bit set of the subjects to check.
+     * @param permissions the permissions to check.
+     * @return the result of the check.
+     * @see GrantRevokeIndex#hasPermissions(Collection, Collection)
+     */
+    boolean hasPermissions(final BitSet subjects, final Collection<String> permissions) {
+        int grantWeight = NO_WEIGHT;
+        for (final String permission : permissions) {
+            final WeightedSubjects grantedSubjects = granted.get(permission);
+            final int weight = null != grantedSubjects ? grantedSubjects.getMaxWeight(subjects) : NO_WEIGHT;
+            if (NO_WEIGHT == weight) {
+                return false;
+            }
+            grantWeight = Math.max(grantWeight, weight);
+        }
+        if (NO_WEIGHT == grantWeight) {
+            return false;
+        }
+
+        int revokeWeight = NO_WEIGHT;
+        for (final String permission : permissions) {
+            final WeightedSubjects revokedSubjects = revoked.get(permission);
+            if (null != revokedSubjects) {
+                revokeWeight = Math.max(revokeWeight, revokedSubjects.getMaxWeight(subjects));
+            }
+        }
+        return revokeWeight < grantWeight;
+    }
+
+    /**
+     * Returns the bit set of subjects which are granted all of the given permissions known to this index.
+     *
+     * @param permissions the permissions to check.
+     * @return a new bit set of the granted subjects.
+     * @throws NullPointerException if {@code permissions} is {@code null}.
+     * @see GrantRevokeIndex#getGrantedSubjects(Set)
+     */
+    BitSet getGrantedSubjects(final Set<String> permissions) {
+        checkNotNull(permissions, "permissions to check");
+        @Nullable BitSet result = null;
+        for (final String permission : permissions) {
+            final WeightedSubjects grantedSubjects = granted.get(permission);
+            if (null != grantedSubjects) {
+                if (null == result) {
+                    result = grantedSubjects.getAll();
+                } else {
+                    result.and(grantedSubjects.all);
+                }
+            }
+        }
+        return null != result ? result : new BitSet();
+    }
+
+    /**
+     * Returns the bit set of subjects from which any of the given permissions is revoked.
+     *
+     * @param permissions the permissions to check.
+     * @return a new bit set of the revoked subjects.
+     * @throws NullPointerException if {@code permissions} is {@code null}.
+     * @see GrantRevokeIndex#getRevokedSubjects(Set)
+     */
+    BitSet getRevokedSubjects(final Set<String> permissions) {
+        checkNotNull(permissions, "permissions to check");
+        final BitSet result = new BitSet();
+        for (final String permission : permissions) {
+            final WeightedSubjects revokedSubjects = revoked.get(permission);
+            if (null != revokedSubjects) {
+                result.or(revokedSubjects.all);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * The subjects related to one permission grouped by descending weight.
+     */
+    @Immutable
+    private static final class WeightedSubjects {
+
+        private final int[] weights;
+        private final BitSet[] subjectsPerWeight;
+        private final BitSet all;
+
+        private WeightedSubjects(final int[] weights, final BitSet[] subjectsPerWeight, final BitSet all) {
+            this.weights = weights;
+            this.subjectsPerWeight = subjectsPerWeight;
+            this.all = all;
+        }
+
+        private static WeightedSubjects of(final Map<String, Integer> subjectWeights,
+                final SubjectIndex subjectIndex) {
+
+            final Map<Integer, BitSet> subjectsByWeight = new TreeMap<>(Comparator.reverseOrder());
+            final BitSet all = new BitSet(subjectIndex.size());
+            subjectWeights.forEach((subjectId, weight) -> {
+                final int index = subjectIndex.indexOf(subjectId);
+                subjectsByWeight.computeIfAbsent(weight, w -> new BitSet(subjectIndex.size())).set(index);
+                all.set(index);
+            });
+
+            final int[] weights = new int[subjectsByWeight.size()];
+            final BitSet[] subjectsPerWeight = new BitSet[subjectsByWeight.size()];
+            int i = 0;
+            for (final Map.Entry<Integer, BitSet> entry : subjectsByWeight.entrySet()) {
+                weights[i] = entry.getKey();
+                subjectsPerWeight[i] = entry.getValue();
+                i++;
+            }
+            return new WeightedSubjects(weights, subjectsPerWeight, all);
+        }
+
+        private int getMaxWeight(final BitSet subjects) {
+            for (int i = 0; i < weights.length; i++) {
+                if (subjectsPerWeight[i].intersects(subjects)) {
+                    return weights[i];
+                }
+            }
+            return NO_WEIGHT;
+        }
+
+        private BitSet getAll() {
+            return (BitSet) all.clone();
+        }
+
+    }
+
+}
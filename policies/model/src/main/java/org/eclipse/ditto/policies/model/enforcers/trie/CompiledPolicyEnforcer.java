@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.model.enforcers.trie;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.base.model.auth.AuthorizationContext;
+import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.policies.model.Permissions;
+import org.eclipse.ditto.policies.model.PolicyEntry;
+import org.eclipse.ditto.policies.model.ResourceKey;
+import org.eclipse.ditto.policies.model.enforcers.DefaultEffectedSubjects;
+import org.eclipse.ditto.policies.model.enforcers.EffectedSubjects;
+import org.eclipse.ditto.policies.model.enforcers.Enforcer;
+
+/**
+ * Enforcer which has the same semantics as {@link TrieBasedPolicyEnforcer} but compiles the tries of a policy once
+ * into a representation which is optimized for evaluation.
+ * <p>
+ * The subject IDs of the policy are interned into a {@link SubjectIndex}, and the granted and revoked subjects of each
+ * permission at each resource are stored as bit sets of subject indexes.
+ * A permission check translates the authorization context into a bit set once and then only intersects bit sets
+ * along the resource path; subject queries are unions and intersections of bit sets.
+ * As the inherited, bottom-up-grant and bottom-up-revoke tries are merged into one trie, only one traversal of the
+ * resource path is needed for each check.
+ * <p>
+ * This enforcer is best suited for policies with many subjects where the same enforcer is used for many checks.
+ *
+ * @since 3.6.0
+ */
+@Immutable
+public final class CompiledPolicyEnforcer implements Enforcer {
+
+    private final SubjectIndex subjectIndex;
+    private final CompiledPolicyTrie compiledTrie;
+
+    private CompiledPolicyEnforcer(final Iterable<PolicyEntry> policy) {
+        subjectIndex = SubjectIndex.of(policy);
+        final PolicyTrie inheritedTrie = PolicyTrie.fromPolicy(policy).getTransitiveClosure();
+        compiledTrie = CompiledPolicyTrie.compile(inheritedTrie, inheritedTrie.getBottomUpGrantTrie(),
+                inheritedTrie.getBottomUpRevokeTrie(), subjectIndex);
+    }
+
+    /**
+     * Constructs a compiled policy enforcer from a policy.
+     *
+     * @param policyEntries The policy entries to interpret.
+     * @return The policy enforcer.
+     * @throws NullPointerException if {@code policyEntries} is {@code null}.
+     */
+    public static CompiledPolicyEnforcer newInstance(final Iterable<PolicyEntry> policyEntries) {
+        return new CompiledPolicyEnforcer(checkNotNull(policyEntries, "policy entries to interpret"));
+    }
+
+    @Override
+    public boolean hasUnrestrictedPermissions(final ResourceKey resourceKey,
+            final AuthorizationContext authorizationContext, final Permissions permissions) {
+
+        final CompiledGrantRevokeIndex index =
+                compiledTrie.seekUnrestrictedPermissionIndex(PolicyTrie.getJsonKeyIterator(resourceKey));
+
+        return index.hasPermissions(getSubjects(authorizationContext), checkPermissions(permissions));
+    }
+
+    @Override
+    public boolean hasPartialPermissions(final ResourceKey resourceKey, final AuthorizationContext authorizationContext,
+            final Permissions permissions) {
+
+        final CompiledGrantRevokeIndex index =
+                compiledTrie.seekPartialPermissionIndex(PolicyTrie.getJsonKeyIterator(resourceKey));
+
+        return index.hasPermissions(getSubjects(authorizationContext), checkPermissions(permissions));
+    }
+
+    @Override
+    public EffectedSubjects getSubjectsWithPermission(final ResourceKey resourceKey, final Permissions permissions) {
+        checkResourceKey(resourceKey);
+        checkPermissions(permissions);
+        final CompiledGrantRevokeIndex index =
+                compiledTrie.seekInheritedIndex(PolicyTrie.getJsonKeyIterator(resourceKey));
+
+        return DefaultEffectedSubjects.of(
+                subjectIndex.toAuthorizationSubjects(index.getGrantedSubjects(permissions)),
+                subjectIndex.toAuthorizationSubjects(index.getRevokedSubjects(permissions)));
+    }
+
+    @Override
+    public Set<AuthorizationSubject> getSubjectsWithPartialPermission(final ResourceKey resourceKey,
+            final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkPermissions(permissions);
+        final CompiledGrantRevokeIndex index =
+                compiledTrie.seekPartialPermissionIndex(PolicyTrie.getJsonKeyIterator(resourceKey));
+
+        return subjectIndex.toAuthorizationSubjects(index.getGrantedSubjects(permissions));
+    }
+
+    @Override
+    public Set<AuthorizationSubject> getSubjectsWithUnrestrictedPermission(final ResourceKey resourceKey,
+            final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkPermissions(permissions);
+        final CompiledGrantRevokeIndex index =
+                compiledTrie.seekUnrestrictedPermissionIndex(PolicyTrie.getJsonKeyIterator(resourceKey));
+        final BitSet grantedSubjects = index.getGrantedSubjects(permissions);
+        grantedSubjects.andNot(index.getRevokedSubjects(permissions));
+
+        return subjectIndex.toAuthorizationSubjects(grantedSubjects);
+    }
+
+    @Override
+    public JsonObject buildJsonView(final ResourceKey resourceKey,
+            final Iterable<JsonField> jsonFields,
+            final AuthorizationContext authorizationContext,
+            final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkNotNull(jsonFields, "JSON fields");
+        checkPermissions(permissions);
+
+        final JsonKey typeKey = JsonKey.of(resourceKey.getResourceType());
+
+        if (compiledTrie.hasChild(typeKey)) {
+            final CompiledPolicyTrie start =
+                    compiledTrie.seekToLeastAncestor(PolicyTrie.getJsonKeyIterator(resourceKey));
+            return start.buildJsonView(jsonFields, getSubjects(authorizationContext), permissions);
+        } else {
+            return JsonFactory.newObject();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The start node and the bit set of the authorization subjects are resolved only once for all elements.
+     */
+    @Override
+    public List<JsonObject> buildJsonViews(final ResourceKey resourceKey,
+            final List<? extends Iterable<JsonField>> jsonFieldsList,
+            final AuthorizationContext authorizationContext,
+            final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkNotNull(jsonFieldsList, "list of JSON fields");
+        checkPermissions(permissions);
+
+        final List<JsonObject> result = new ArrayList<>(jsonFieldsList.size());
+        final JsonKey typeKey = JsonKey.of(resourceKey.getResourceType());
+        if (compiledTrie.hasChild(typeKey)) {
+            final CompiledPolicyTrie start =
+                    compiledTrie.seekToLeastAncestor(PolicyTrie.getJsonKeyIterator(resourceKey));
+            final BitSet subjects = getSubjects(authorizationContext);
+            for (final Iterable<JsonField> jsonFields : jsonFieldsList) {
+                result.add(start.buildJsonView(checkNotNull(jsonFields, "JSON fields"), subjects, permissions));
+            }
+        } else {
+            for (int i = 0; i < jsonFieldsList.size(); i++) {
+                result.add(JsonFactory.newObject());
+            }
+        }
+        return result;
+    }
+
+    private BitSet getSubjects(final AuthorizationContext authorizationContext) {
+        checkNotNull(authorizationContext, "authorization context");
+        return subjectIndex.toBitSet(authorizationContext.getAuthorizationSubjectIds());
+    }
+
+    private static void checkResourceKey(final ResourceKey resourceKey) {
+        checkNotNull(resourceKey, "resource key");
+    }
+
+    private static Permissions checkPermissions(final Permissions permissions) {
+        return checkNotNull(permissions, "permissions to check");
+    }
+
+}
@@ -0,0 +1,287 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.model.enforcers.trie;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.json.JsonValueContainer;
+
+/**
+ * Compiled form of the inherited, bottom-up-grant and bottom-up-revoke {@link PolicyTrie}s of a policy.
+ * <p>
+ * As the three tries have the same shape, each node of a {@code CompiledPolicyTrie} holds the
+ * {@link CompiledGrantRevokeIndex}es of all three tries for its resource, so each check needs to traverse the
+ * resource path only once.
+ */
+@Immutable
+final class CompiledPolicyTrie {
+
+    private final CompiledGrantRevokeIndex inherited;
+    private final CompiledGrantRevokeIndex bottomUpGrant;
+    private final CompiledGrantRevokeIndex bottomUpRevoke;
+    private final Map<JsonKey, CompiledPolicyTrie> children;
+
+    private CompiledPolicyTrie(final CompiledGrantRevokeIndex inherited,
+            final CompiledGrantRevokeIndex bottomUpGrant,
+            final CompiledGrantRevokeIndex bottomUpRevoke,
+            final Map<JsonKey, CompiledPolicyTrie> children) {
+
+        this.inherited = inherited;
+        this.bottomUpGrant = bottomUpGrant;
+        this.bottomUpRevoke = bottomUpRevoke;
+        this.children = children;
+    }
+
+    /**
+     * Compiles the given tries which must have been derived from the same raw trie.
+     *
+     * @param inheritedTrie the transitive closure of the raw trie.
+     * @param bottomUpGrantTrie the bottom-up-grant trie of {@code inheritedTrie}.
+     * @param bottomUpRevokeTrie the bottom-up-revoke trie of {@code inheritedTrie}.
+     * @param subjectIndex the dictionary of all subjects of the policy.
+     * @return the compiled trie.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    static CompiledPolicyTrie compile(final PolicyTrie inheritedTrie,
+            final PolicyTrie bottomUpGrantTrie,
+            final PolicyTrie bottomUpRevokeTrie,
+            final SubjectIndex subjectIndex) {
+
+        checkNotNull(inheritedTrie, "inherited trie");
+        checkNotNull(bottomUpGrantTrie, "bottom up grant trie");
+        checkNotNull(bottomUpRevokeTrie, "bottom up revoke trie");
+        checkNotNull(subjectIndex, "subject index");
+
+        final Map<JsonKey, PolicyTrie> inheritedChildren = inheritedTrie.getChildren();
+        final Map<JsonKey, CompiledPolicyTrie> compiledChildren;
+        if (inheritedChildren.isEmpty()) {
+            compiledChildren = Collections.emptyMap();
+        } else {
+            compiledChildren = new HashMap<>(inheritedChildren.size());
+            inheritedChildren.forEach((key, inheritedChild) -> compiledChildren.put(key,
+                    compile(inheritedChild, bottomUpGrantTrie.getChildren().get(key),
+                            bottomUpRevokeTrie.getChildren().get(key), subjectIndex)));
+        }
+
+        return new CompiledPolicyTrie(
+                CompiledGrantRevokeIndex.compile(inheritedTrie.getGrantRevokeIndex(), subjectIndex),
+                CompiledGrantRevokeIndex.compile(bottomUpGrantTrie.getGrantRevokeIndex(), subjectIndex),
+                CompiledGrantRevokeIndex.compile(bottomUpRevokeTrie.getGrantRevokeIndex(), subjectIndex),
+                compiledChildren);
+    }
+
+    /**
+     * Returns whether a child exists for the given key.
+     *
+     * @param childKey key of the child to check.
+     * @return {@code true} if a child with the given key exists, {@code false} otherwise.
+     */
+    boolean hasChild(final JsonKey childKey) {
+        return children.containsKey(childKey);
+    }
+
+    /**
+     * Returns the bottom-up-grant index of the node matching the given path exactly if it exists, otherwise the
+     * inherited index of the node matching the path the best.
+     *
+     * @param path the resource path to seek.
+     * @return the index to check partial permissions with.
+     */
+    CompiledGrantRevokeIndex seekPartialPermissionIndex(final Iterator<JsonKey> path) {
+        return seek(path, node -> node.bottomUpGrant, node -> node.inherited);
+    }
+
+    /**
+     * Returns the bottom-up-revoke index of the node matching the given path exactly if it exists, otherwise the
+     * inherited index of the node matching the path the best.
+     *
+     * @param path the resource path to seek.
+     * @return the index to check unrestricted permissions with.
+     */
+    CompiledGrantRevokeIndex seekUnrestrictedPermissionIndex(final Iterator<JsonKey> path) {
+        return seek(path, node -> node.bottomUpRevoke, node -> node.inherited);
+    }
+
+    /**
+     * Returns the inherited index of the node matching the given path the best.
+     *
+     * @param path the resource path to seek.
+     * @return the inherited index.
+     */
+    CompiledGrantRevokeIndex seekInheritedIndex(final Iterator<JsonKey> path) {
+        return seekToLeastAncestor(path).inherited;
+    }
+
+    /**
+     * Seek to a trie node whose path from root matches {@code path} as much as possible.
+     *
+     * @param path the path to match.
+     * @return the best matched node.
+     */
+    CompiledPolicyTrie seekToLeastAncestor(final Iterator<JsonKey> path) {
+        return seek(path, Function.identity(), Function.identity());
+    }
+
+    private <T> T seek(final Iterator<JsonKey> path, final Function<CompiledPolicyTrie, T> endOfPath,
+            final Function<CompiledPolicyTrie, T> endOfTrie) {
+
+        CompiledPolicyTrie node = this;
+        while (path.hasNext()) {
+            final CompiledPolicyTrie child = node.children.get(path.next());
+            if (null == child) {
+                return endOfTrie.apply(node);
+            }
+            node = child;
+        }
+        return endOfPath.apply(node);
+    }
+
+    /**
+     * Builds the view of the given JSON fields based on the inherited indexes of this node and its descendants.
+     *
+     * @param jsonFields the JSON fields to build the view of.
+     * @param subjects bit set of the subjects of the authorization context.
+     * @param permissions the permissions which are required to see a field.
+     * @return the view.
+     * @see PolicyTrie#buildJsonView(Iterable, Collection, org.eclipse.ditto.policies.model.Permissions)
+     */
+    JsonObject buildJsonView(final Iterable<JsonField> jsonFields, final BitSet subjects,
+            final Collection<String> permissions) {
+
+        if (jsonFields instanceof JsonObject && ((JsonObject) jsonFields).isNull()) {
+            return (JsonObject) jsonFields;
+        }
+
+        final JsonObjectBuilder outputObjectBuilder = JsonFactory.newObjectBuilder();
+        for (final JsonField field : jsonFields) {
+            final CompiledPolicyTrie child = children.get(field.getKey());
+            final JsonValue jsonView;
+            if (null != child) {
+                jsonView = child.getViewForJsonValueOrNull(field.getValue(), subjects, permissions);
+            } else {
+                jsonView = getInheritedViewForJsonValueOrNull(inherited, field.getValue(), subjects, permissions);
+            }
+            if (null != jsonView) {
+                outputObjectBuilder.set(field.getKey(), jsonView);
+            }
+        }
+
+        return outputObjectBuilder.build();
+    }
+
+    @Nullable
+    private JsonValue getViewForJsonValueOrNull(final JsonValue jsonValue, final BitSet subjects,
+            final Collection<String> permissions) {
+
+        final JsonValue result;
+        if (jsonValue.isObject()) {
+            result = filterCandidate(inherited, buildJsonView(jsonValue.asObject(), subjects, permissions), subjects,
+                    permissions);
+        } else if (jsonValue.isArray()) {
+            result = getInheritedViewForJsonArrayOrNull(inherited, jsonValue.asArray(), subjects, permissions);
+        } else if (inherited.hasPermissions(subjects, permissions)) {
+            result = jsonValue;
+        } else {
+            result = null;
+        }
+
+        return result;
+    }
+
+    /*
+     * Below a node without matching child all values are evaluated against the same inherited index, thus there is no
+     * need to keep track of trie nodes any longer.
+     */
+    @Nullable
+    private static JsonValue getInheritedViewForJsonValueOrNull(final CompiledGrantRevokeIndex index,
+            final JsonValue jsonValue, final BitSet subjects, final Collection<String> permissions) {
+
+        final JsonValue result;
+        if (jsonValue.isObject()) {
+            result = getInheritedViewForJsonObjectOrNull(index, jsonValue.asObject(), subjects, permissions);
+        } else if (jsonValue.isArray()) {
+            result = getInheritedViewForJsonArrayOrNull(index, jsonValue.asArray(), subjects, permissions);
+        } else if (index.hasPermissions(subjects, permissions)) {
+            result = jsonValue;
+        } else {
+            result = null;
+        }
+
+        return result;
+    }
+
+    @Nullable
+    private static JsonValue getInheritedViewForJsonObjectOrNull(final CompiledGrantRevokeIndex index,
+            final JsonObject jsonObject, final BitSet subjects, final Collection<String> permissions) {
+
+        final JsonObject candidate;
+        if (jsonObject.isNull()) {
+            candidate = jsonObject;
+        } else {
+            final JsonObjectBuilder outputObjectBuilder = JsonFactory.newObjectBuilder();
+            for (final JsonField field : jsonObject) {
+                final JsonValue jsonView =
+                        getInheritedViewForJsonValueOrNull(index, field.getValue(), subjects, permissions);
+                if (null != jsonView) {
+                    outputObjectBuilder.set(field.getKey(), jsonView);
+                }
+            }
+            candidate = outputObjectBuilder.build();
+        }
+        return filterCandidate(index, candidate, subjects, permissions);
+    }
+
+    @Nullable
+    private static JsonValue getInheritedViewForJsonArrayOrNull(final CompiledGrantRevokeIndex index,
+            final JsonValueContainer<JsonValue> jsonArray, final BitSet subjects,
+            final Collection<String> permissions) {
+
+        final JsonArray candidate = jsonArray.stream()
+                .map(value -> getInheritedViewForJsonValueOrNull(index, value, subjects, permissions))
+                .filter(Objects::nonNull)
+                .collect(JsonCollectors.valuesToArray());
+
+        return filterCandidate(index, candidate, subjects, permissions);
+    }
+
+    @Nullable
+    private static <T extends JsonValue & JsonValueContainer> T filterCandidate(final CompiledGrantRevokeIndex index,
+            final T candidate, final BitSet subjects, final Collection<String> permissions) {
+
+        if (!candidate.isEmpty() || index.hasPermissions(subjects, permissions)) {
+            return candidate;
+        }
+        return null;
+    }
+
+}
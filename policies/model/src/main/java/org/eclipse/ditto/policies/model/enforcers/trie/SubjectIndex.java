@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.model.enforcers.trie;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
+import org.eclipse.ditto.policies.model.PolicyEntry;
+import org.eclipse.ditto.policies.model.Subject;
+
+/**
+ * Dictionary which interns each subject ID of a policy to a dense integer index so that sets of subjects can be
+ * represented as {@link BitSet}s.
+ */
+@Immutable
+final class SubjectIndex {
+
+    private final Map<String, Integer> indexes;
+    private final AuthorizationSubject[] subjects;
+
+    private SubjectIndex(final Map<String, Integer> indexes, final AuthorizationSubject[] subjects) {
+        this.indexes = indexes;
+        this.subjects = subjects;
+    }
+
+    /**
+     * Interns the IDs of all subjects of the given policy entries.
+     *
+     * @param policyEntries the policy entries to collect the subject IDs of.
+     * @return the subject index.
+     * @throws NullPointerException if {@code policyEntries} is {@code null}.
+     */
+    static SubjectIndex of(final Iterable<PolicyEntry> policyEntries) {
+        checkNotNull(policyEntries, "policy entries");
+        final Map<String, Integer> indexes = new HashMap<>();
+        final List<AuthorizationSubject> subjects = new ArrayList<>();
+        for (final PolicyEntry policyEntry : policyEntries) {
+            for (final Subject subject : policyEntry.getSubjects()) {
+                final String subjectId = subject.getId().toString();
+                if (!indexes.containsKey(subjectId)) {
+                    indexes.put(subjectId, subjects.size());
+                    subjects.add(AuthorizationSubject.newInstance(subjectId));
+                }
+            }
+        }
+        return new SubjectIndex(indexes, subjects.toArray(new AuthorizationSubject[0]));
+    }
+
+    /**
+     * Returns the number of interned subject IDs.
+     *
+     * @return the number of subjects.
+     */
+    int size() {
+        return subjects.length;
+    }
+
+    /**
+     * Returns the index of the given subject ID.
+     *
+     * @param subjectId the subject ID to look up.
+     * @return the index of the subject ID or {@code -1} if it is not part of the policy.
+     */
+    int indexOf(final String subjectId) {
+        final Integer index = indexes.get(subjectId);
+        return null != index ? index : -1;
+    }
+
+    /**
+     * Converts the given subject IDs to a bit set of their indexes.
+     * Subject IDs which are not part of the policy are ignored as they cannot be granted or revoked anything.
+     *
+     * @param subjectIds the subject IDs to convert.
+     * @return the bit set.
+     * @throws NullPointerException if {@code subjectIds} is {@code null}.
+     */
+    BitSet toBitSet(final Collection<String> subjectIds) {
+        checkNotNull(subjectIds, "subject IDs to check");
+        final BitSet result = new BitSet(subjects.length);
+        for (final String subjectId : subjectIds) {
+            final int index = indexOf(subjectId);
+            if (index >= 0) {
+                result.set(index);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Converts the given bit set of subject indexes back to authorization subjects.
+     *
+     * @param subjectBits the bit set to convert.
+     * @return a mutable set of the authorization subjects.
+     */
+    Set<AuthorizationSubject> toAuthorizationSubjects(final BitSet subjectBits) {
+        final Set<AuthorizationSubject> result = new HashSet<>();
+        for (int i = subjectBits.nextSetBit(0); i >= 0; i = subjectBits.nextSetBit(i + 1)) {
+            result.add(subjects[i]);
+        }
+        return result;
+    }
+
+}
@@ -14,6 +14,9 @@ package org.eclipse.ditto.policies.model.enforcers.trie;
 
 import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 
 import org.eclipse.ditto.base.model.auth.AuthorizationContext;
@@ -204,6 +207,38 @@ public final class TrieBasedPolicyEnforcer implements Enforcer {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The start node in {@code inheritedTrie} and the authorization subject IDs are resolved only once for all
+     * elements.
+     */
+    @Override
+    public List<JsonObject> buildJsonViews(final ResourceKey resourceKey,
+            final List<? extends Iterable<JsonField>> jsonFieldsList,
+            final AuthorizationContext authorizationContext,
+            final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkNotNull(jsonFieldsList, "list of JSON fields");
+        checkPermissions(permissions);
+
+        final List<JsonObject> result = new ArrayList<>(jsonFieldsList.size());
+        final JsonKey typeKey = JsonKey.of(resourceKey.getResourceType());
+        if (inheritedTrie.hasChild(typeKey)) {
+            final PolicyTrie start = inheritedTrie.seekToLeastAncestor(PolicyTrie.getJsonKeyIterator(resourceKey));
+            final Collection<String> subjectIds = authorizationContext.getAuthorizationSubjectIds();
+            for (final Iterable<JsonField> jsonFields : jsonFieldsList) {
+                result.add(start.buildJsonView(checkNotNull(jsonFields, "JSON fields"), subjectIds, permissions));
+            }
+        } else {
+            for (int i = 0; i < jsonFieldsList.size(); i++) {
+                result.add(JsonFactory.newObject());
+            }
+        }
+        return result;
+    }
+
     /**
      * Returns a node in the trie {@code firstTry} whose path from root matches the given resource key exactly if it
      * exists, otherwise seek to the node in the trie {@code fallback} whose path from root matches the resource key the
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.model.enforcers.trie;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.eclipse.ditto.base.model.auth.AuthorizationContext;
+import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
+import org.eclipse.ditto.base.model.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.policies.model.Permissions;
+import org.eclipse.ditto.policies.model.PoliciesResourceType;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.ResourceKey;
+import org.eclipse.ditto.policies.model.SubjectType;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link CompiledPolicyEnforcer}.
+ */
+public final class CompiledPolicyEnforcerTest {
+
+    private static final Permissions READ = Permissions.newInstance("READ");
+    private static final Permissions WRITE = Permissions.newInstance("WRITE");
+    private static final Permissions READ_WRITE = Permissions.newInstance("READ", "WRITE");
+
+    private static final List<ResourceKey> RESOURCE_KEYS = Arrays.asList(
+            PoliciesResourceType.thingResource("/"),
+            PoliciesResourceType.thingResource("/attributes"),
+            PoliciesResourceType.thingResource("/attributes/location"),
+            PoliciesResourceType.thingResource("/attributes/location/latitude"),
+            PoliciesResourceType.thingResource("/features"),
+            PoliciesResourceType.thingResource("/features/lamp"),
+            PoliciesResourceType.thingResource("/features/lamp/properties/on"),
+            PoliciesResourceType.thingResource("/features/unknown"),
+            PoliciesResourceType.policyResource("/"),
+            PoliciesResourceType.messageResource("/inbox"));
+
+    private static final List<AuthorizationContext> AUTHORIZATION_CONTEXTS = Arrays.asList(
+            context("dummy:owner"),
+            context("dummy:reader"),
+            context("dummy:restricted"),
+            context("dummy:reader", "dummy:restricted"),
+            context("dummy:owner", "dummy:restricted"),
+            context("dummy:unknown"),
+            context());
+
+    private static final Policy POLICY = Policy.newBuilder(PolicyId.of("namespace", "id"))
+            .forLabel("owner")
+            .setSubject("dummy:owner", SubjectType.GENERATED)
+            .setGrantedPermissions(PoliciesResourceType.thingResource("/"), READ_WRITE)
+            .setGrantedPermissions(PoliciesResourceType.policyResource("/"), READ_WRITE)
+            .forLabel("reader")
+            .setSubject("dummy:reader", SubjectType.GENERATED)
+            .setSubject("dummy:restricted", SubjectType.GENERATED)
+            .setGrantedPermissions(PoliciesResourceType.thingResource("/"), READ)
+            .setGrantedPermissions(PoliciesResourceType.thingResource("/features/lamp"), WRITE)
+            .forLabel("restricted")
+            .setSubject("dummy:restricted", SubjectType.GENERATED)
+            .setRevokedPermissions(PoliciesResourceType.thingResource("/attributes/location"), READ)
+            .setGrantedPermissions(PoliciesResourceType.thingResource("/attributes/location/latitude"), READ)
+            .setRevokedPermissions(PoliciesResourceType.thingResource("/features/lamp/properties"), WRITE)
+            .build();
+
+    @Test
+    public void permissionChecksAreEqualToTrieBasedPolicyEnforcer() {
+        final TrieBasedPolicyEnforcer expected = TrieBasedPolicyEnforcer.newInstance(POLICY);
+        final CompiledPolicyEnforcer underTest = CompiledPolicyEnforcer.newInstance(POLICY);
+
+        for (final ResourceKey resourceKey : RESOURCE_KEYS) {
+            for (final Permissions permissions : Arrays.asList(READ, WRITE, READ_WRITE, Permissions.none())) {
+                for (final AuthorizationContext authorizationContext : AUTHORIZATION_CONTEXTS) {
+                    assertThat(underTest.hasUnrestrictedPermissions(resourceKey, authorizationContext, permissions))
+                            .as("unrestricted %s %s %s", resourceKey, permissions, authorizationContext)
+                            .isEqualTo(expected.hasUnrestrictedPermissions(resourceKey, authorizationContext,
+                                    permissions));
+                    assertThat(underTest.hasPartialPermissions(resourceKey, authorizationContext, permissions))
+                            .as("partial %s %s %s", resourceKey, permissions, authorizationContext)
+                            .isEqualTo(expected.hasPartialPermissions(resourceKey, authorizationContext,
+                                    permissions));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void subjectQueriesAreEqualToTrieBasedPolicyEnforcer() {
+        final TrieBasedPolicyEnforcer expected = TrieBasedPolicyEnforcer.newInstance(POLICY);
+        final CompiledPolicyEnforcer underTest = CompiledPolicyEnforcer.newInstance(POLICY);
+
+        for (final ResourceKey resourceKey : RESOURCE_KEYS) {
+            for (final Permissions permissions : Arrays.asList(READ, WRITE, READ_WRITE)) {
+                assertThat(underTest.getSubjectsWithPermission(resourceKey, permissions))
+                        .as("effected subjects %s %s", resourceKey, permissions)
+                        .isEqualTo(expected.getSubjectsWithPermission(resourceKey, permissions));
+                assertThat(underTest.getSubjectsWithPartialPermission(resourceKey, permissions))
+                        .as("partial subjects %s %s", resourceKey, permissions)
+                        .isEqualTo(expected.getSubjectsWithPartialPermission(resourceKey, permissions));
+                assertThat(underTest.getSubjectsWithUnrestrictedPermission(resourceKey, permissions))
+                        .as("unrestricted subjects %s %s", resourceKey, permissions)
+                        .isEqualTo(expected.getSubjectsWithUnrestrictedPermission(resourceKey, permissions));
+            }
+        }
+    }
+
+    @Test
+    public void jsonViewIsEqualToTrieBasedPolicyEnforcer() {
+        final TrieBasedPolicyEnforcer expected = TrieBasedPolicyEnforcer.newInstance(POLICY);
+        final CompiledPolicyEnforcer underTest = CompiledPolicyEnforcer.newInstance(POLICY);
+        final JsonObject thingJson = JsonFactory.newObject("{\"thingId\":\"namespace:id\"," +
+                "\"attributes\":{\"location\":{\"latitude\":44.67,\"longitude\":8.35},\"tags\":[\"a\",{\"b\":1}]}," +
+                "\"features\":{\"lamp\":{\"properties\":{\"on\":true}},\"other\":{\"properties\":null}}}");
+        final ResourceKey root = PoliciesResourceType.thingResource("/");
+
+        for (final AuthorizationContext authorizationContext : AUTHORIZATION_CONTEXTS) {
+            for (final Permissions permissions : Arrays.asList(READ, WRITE)) {
+                assertThat(underTest.buildJsonView(root, thingJson, authorizationContext, permissions))
+                        .as("view %s %s", permissions, authorizationContext)
+                        .isEqualTo(expected.buildJsonView(root, thingJson, authorizationContext, permissions));
+            }
+        }
+    }
+
+    @Test
+    public void buildJsonViewsIsEqualToBuildJsonViewOfEachElement() {
+        final CompiledPolicyEnforcer underTest = CompiledPolicyEnforcer.newInstance(POLICY);
+        final List<JsonObject> things = Arrays.asList(
+                JsonFactory.newObject("{\"attributes\":{\"location\":{\"latitude\":1,\"longitude\":2}}}"),
+                JsonFactory.newObject("{\"features\":{\"lamp\":{\"properties\":{\"on\":false}}}}"),
+                JsonFactory.nullObject());
+        final ResourceKey root = PoliciesResourceType.thingResource("/");
+
+        for (final AuthorizationContext authorizationContext : AUTHORIZATION_CONTEXTS) {
+            final List<JsonObject> expected = things.stream()
+                    .map(thing -> underTest.buildJsonView(root, thing, authorizationContext, READ))
+                    .collect(Collectors.toList());
+
+            assertThat(underTest.buildJsonViews(root, things, authorizationContext, READ))
+                    .as("views %s", authorizationContext)
+                    .isEqualTo(expected);
+        }
+    }
+
+    @Test
+    public void getSubjectsWithUnrestrictedPermissionDoesNotIncludeRevoked() {
+        final CompiledPolicyEnforcer underTest = CompiledPolicyEnforcer.newInstance(POLICY);
+
+        final Set<AuthorizationSubject> subjects =
+                underTest.getSubjectsWithUnrestrictedPermission(PoliciesResourceType.thingResource("/"), READ);
+
+        assertThat(subjects).containsOnly(AuthorizationSubject.newInstance("dummy:owner"),
+                AuthorizationSubject.newInstance("dummy:reader"));
+    }
+
+    @Test
+    public void unknownSubjectHasNoPermissions() {
+        final CompiledPolicyEnforcer underTest = CompiledPolicyEnforcer.newInstance(POLICY);
+
+        assertThat(underTest.hasPartialPermissions(PoliciesResourceType.thingResource("/"),
+                context("dummy:unknown"), READ)).isFalse();
+    }
+
+    private static AuthorizationContext context(final String... subjectIds) {
+        return AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                Arrays.stream(subjectIds).map(AuthorizationSubject::newInstance).collect(Collectors.toList()));
+    }
+
+}
@@ -14,6 +14,8 @@ package org.eclipse.ditto.policies.model.enforcers.trie;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Set;
 
 import org.eclipse.ditto.json.JsonFactory;
@@ -81,6 +83,32 @@ public class TrieBasedPolicyEnforcerTest {
                 .doesNotContain(someRevokedSubject);
     }
 
+    @Test
+    public void buildJsonViewsWithSelectedFieldsAndAllowlist() {
+        final TrieBasedPolicyEnforcer underTest = TrieBasedPolicyEnforcer.newInstance(Policy.newBuilder(
+                        PolicyId.of("namespace", "id"))
+                .forLabel("DEFAULT")
+                .setSubject("dummy:test", SubjectType.GENERATED)
+                .setGrantedPermissions(PoliciesResourceType.thingResource("/attributes"),
+                        Permissions.newInstance("READ"))
+                .build());
+        final AuthorizationContext authorizationContext =
+                AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                        AuthorizationSubject.newInstance("dummy:test"));
+        final List<JsonObject> things = Arrays.asList(
+                JsonFactory.newObject("{\"thingId\":\"namespace:a\",\"attributes\":{\"x\":1,\"y\":2}," +
+                        "\"features\":{}}"),
+                JsonFactory.newObject("{\"thingId\":\"namespace:b\",\"features\":{}}"));
+
+        final List<JsonObject> views = underTest.buildJsonViews(PoliciesResourceType.thingResource("/"), things,
+                authorizationContext, JsonFactory.newFieldSelector("thingId", "attributes/x", "features"),
+                JsonFactory.newFieldSelector("thingId"), Permissions.newInstance("READ"));
+
+        assertThat(views).containsExactly(
+                JsonFactory.newObject("{\"thingId\":\"namespace:a\",\"attributes\":{\"x\":1}}"),
+                JsonFactory.newObject("{\"thingId\":\"namespace:b\"}"));
+    }
+
     private static Policy defaultPolicy(final PolicyId policyId) {
         final Permissions permissions = Permissions.newInstance("READ", "WRITE");
         return PoliciesModelFactory.newPolicyBuilder(policyId)
@@ -17,6 +17,7 @@ import java.util.Optional;
 import javax.annotation.concurrent.ThreadSafe;
 
 import org.eclipse.ditto.internal.utils.persistence.mongo.AbstractMongoSnapshotAdapter;
+import org.eclipse.ditto.internal.utils.persistence.mongo.SnapshotFormat;
 import org.eclipse.ditto.json.JsonField;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonValue;
@@ -42,14 +43,23 @@ public final class PolicyMongoSnapshotAdapter extends AbstractMongoSnapshotAdapt
      */
     @SuppressWarnings("unused")
     public PolicyMongoSnapshotAdapter(final ActorSystem actorSystem, final Config config) {
-        this();
+        this(SnapshotFormat.fromConfig(config));
     }
 
     /**
      * Constructs a new {@code PolicyMongoSnapshotAdapter}.
      */
     public PolicyMongoSnapshotAdapter() {
-        super(LoggerFactory.getLogger(PolicyMongoSnapshotAdapter.class));
+        this(SnapshotFormat.BSON);
+    }
+
+    /**
+     * Constructs a new {@code PolicyMongoSnapshotAdapter} writing snapshots in the given format.
+     *
+     * @param snapshotFormat the format in which to write snapshots.
+     */
+    public PolicyMongoSnapshotAdapter(final SnapshotFormat snapshotFormat) {
+        super(LoggerFactory.getLogger(PolicyMongoSnapshotAdapter.class), snapshotFormat);
     }
 
     @Override
@@ -0,0 +1,292 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.api.commands.sudo;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.json.FieldType;
+import org.eclipse.ditto.base.model.json.JsonParsableCommand;
+import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
+import org.eclipse.ditto.base.model.signals.commands.AbstractCommand;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.utils.jsr305.annotations.AllValuesAreNonnullByDefault;
+
+/**
+ * Command which retrieves the states of several {@link org.eclipse.ditto.things.model.Thing}s had at a historical
+ * timestamp without authorization.
+ * The Things are either selected by a List of Thing IDs or by a namespace.
+ * The states are reconstructed from the snapshots and events in the persistence and are answered as stream of
+ * {@link SudoRetrieveThingResponse}s, omitting Things which did not exist at the requested timestamp.
+ */
+@Immutable
+@AllValuesAreNonnullByDefault
+@JsonParsableCommand(typePrefix = ThingSudoCommand.TYPE_PREFIX, name = SudoRetrieveHistoricalThings.NAME)
+public final class SudoRetrieveHistoricalThings extends AbstractCommand<SudoRetrieveHistoricalThings>
+        implements ThingSudoCommand<SudoRetrieveHistoricalThings> {
+
+    /**
+     * Name of the "Sudo Retrieve Historical Things" command.
+     */
+    public static final String NAME = "sudoRetrieveHistoricalThings";
+
+    /**
+     * Type of this command.
+     */
+    public static final String TYPE = TYPE_PREFIX + NAME;
+
+    static final JsonFieldDefinition<JsonArray> JSON_THING_IDS =
+            JsonFactory.newJsonArrayFieldDefinition("payload/thingIds", FieldType.REGULAR,
+                    JsonSchemaVersion.V_2);
+
+    static final JsonFieldDefinition<String> JSON_NAMESPACE =
+            JsonFactory.newStringFieldDefinition("payload/namespace", FieldType.REGULAR,
+                    JsonSchemaVersion.V_2);
+
+    static final JsonFieldDefinition<String> JSON_TIMESTAMP =
+            JsonFactory.newStringFieldDefinition("payload/timestamp", FieldType.REGULAR,
+                    JsonSchemaVersion.V_2);
+
+    private final List<ThingId> thingIds;
+    @Nullable private final String namespace;
+    private final Instant timestamp;
+    @Nullable private final JsonFieldSelector selectedFields;
+
+    private SudoRetrieveHistoricalThings(final List<ThingId> thingIds,
+            @Nullable final String namespace,
+            final Instant timestamp,
+            @Nullable final JsonFieldSelector selectedFields,
+            final DittoHeaders dittoHeaders) {
+
+        super(TYPE, dittoHeaders);
+
+        this.thingIds = Collections.unmodifiableList(new ArrayList<>(thingIds));
+        this.namespace = namespace;
+        this.timestamp = requireNonNull(timestamp, "The timestamp must not be null!");
+        this.selectedFields = selectedFields;
+    }
+
+    /**
+     * Creates a new {@code SudoRetrieveHistoricalThings} for a List of Thing IDs.
+     *
+     * @param thingIds one or more Thing IDs to be retrieved.
+     * @param timestamp the historical timestamp to retrieve the states of the Things at.
+     * @param selectedFields the Fields which should be included in the Things' JSON representations.
+     * @param dittoHeaders the command headers of the request.
+     * @return a command for retrieving historical Things without authorization.
+     * @throws NullPointerException if any argument but {@code selectedFields} is {@code null}.
+     */
+    public static SudoRetrieveHistoricalThings of(final List<ThingId> thingIds,
+            final Instant timestamp,
+            @Nullable final JsonFieldSelector selectedFields,
+            final DittoHeaders dittoHeaders) {
+
+        requireNonNull(thingIds, "The Thing IDs must not be null!");
+        return new SudoRetrieveHistoricalThings(thingIds, null, timestamp, selectedFields, dittoHeaders);
+    }
+
+    /**
+     * Creates a new {@code SudoRetrieveHistoricalThings} for all Things of a namespace.
+     *
+     * @param namespace the namespace of the Things to be retrieved.
+     * @param timestamp the historical timestamp to retrieve the states of the Things at.
+     * @param selectedFields the Fields which should be included in the Things' JSON representations.
+     * @param dittoHeaders the command headers of the request.
+     * @return a command for retrieving historical Things without authorization.
+     * @throws NullPointerException if any argument but {@code selectedFields} is {@code null}.
+     */
+    public static SudoRetrieveHistoricalThings ofNamespace(final String namespace,
+            final Instant timestamp,
+            @Nullable final JsonFieldSelector selectedFields,
+            final DittoHeaders dittoHeaders) {
+
+        requireNonNull(namespace, "The namespace must not be null!");
+        return new SudoRetrieveHistoricalThings(Collections.emptyList(), namespace, timestamp, selectedFields,
+                dittoHeaders);
+    }
+
+    /**
+     * Creates a new {@code SudoRetrieveHistoricalThings} from a JSON string.
+     *
+     * @param jsonString the JSON string of which a new SudoRetrieveHistoricalThings is to be created.
+     * @param dittoHeaders the optional command headers of the request.
+     * @return the SudoRetrieveHistoricalThings which was created from the given JSON string.
+     * @throws NullPointerException if {@code jsonString} is {@code null}.
+     * @throws IllegalArgumentException if {@code jsonString} is empty.
+     * @throws org.eclipse.ditto.json.JsonParseException if the passed in {@code jsonString} does not contain a JSON
+     * object or if it is not valid JSON.
+     * @throws org.eclipse.ditto.json.JsonMissingFieldException if the passed in {@code jsonString} was not in the
+     * expected format.
+     */
+    public static SudoRetrieveHistoricalThings fromJson(final String jsonString, final DittoHeaders dittoHeaders) {
+        return fromJson(JsonFactory.newObject(jsonString), dittoHeaders);
+    }
+
+    /**
+     * Creates a new {@code SudoRetrieveHistoricalThings} from a JSON object.
+     *
+     * @param jsonObject the JSON object of which a new SudoRetrieveHistoricalThings is to be created.
+     * @param dittoHeaders the optional command headers of the request.
+     * @return the SudoRetrieveHistoricalThings which was created from the given JSON object.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     * @throws org.eclipse.ditto.json.JsonMissingFieldException if the passed in {@code jsonObject} was not in the
+     * expected format.
+     */
+    public static SudoRetrieveHistoricalThings fromJson(final JsonObject jsonObject,
+            final DittoHeaders dittoHeaders) {
+
+        final List<ThingId> extractedThingIds = jsonObject.getValue(JSON_THING_IDS)
+                .map(thingIdsArray -> thingIdsArray.stream()
+                        .filter(JsonValue::isString)
+                        .map(JsonValue::asString)
+                        .map(ThingId::of)
+                        .toList())
+                .orElseGet(Collections::emptyList);
+
+        final String extractedNamespace = jsonObject.getValue(JSON_NAMESPACE).orElse(null);
+
+        final Instant extractedTimestamp = Instant.parse(jsonObject.getValueOrThrow(JSON_TIMESTAMP));
+
+        final JsonFieldSelector extractedFieldSelector = jsonObject.getValue(ThingSudoCommand.JsonFields.SELECTED_FIELDS)
+                .map(str -> JsonFactory.newFieldSelector(str, JsonFactory.newParseOptionsBuilder()
+                        .withoutUrlDecoding()
+                        .build()))
+                .orElse(null);
+
+        return new SudoRetrieveHistoricalThings(extractedThingIds, extractedNamespace, extractedTimestamp,
+                extractedFieldSelector, dittoHeaders);
+    }
+
+    /**
+     * Returns the IDs of the Things to be retrieved by this command.
+     *
+     * @return an unmodifiable list containing the IDs of Things to be retrieved by this command (in order how they
+     * were requested), empty if the Things are selected by namespace.
+     */
+    public List<ThingId> getThingIds() {
+        return thingIds;
+    }
+
+    /**
+     * Returns the namespace of the Things to be retrieved by this command.
+     *
+     * @return the namespace if the Things are selected by namespace.
+     */
+    public Optional<String> getNamespace() {
+        return Optional.ofNullable(namespace);
+    }
+
+    /**
+     * Returns the historical timestamp to retrieve the states of the Things at.
+     *
+     * @return the timestamp.
+     */
+    public Instant getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Returns the JSON field selector which is to be included in the JSON of each retrieved Thing.
+     *
+     * @return the JSON field selector if specified.
+     */
+    public Optional<JsonFieldSelector> getSelectedFields() {
+        return Optional.ofNullable(selectedFields);
+    }
+
+    @Override
+    protected void appendPayload(final JsonObjectBuilder jsonObjectBuilder, final JsonSchemaVersion schemaVersion,
+            final Predicate<JsonField> thePredicate) {
+
+        final Predicate<JsonField> predicate = schemaVersion.and(thePredicate);
+
+        if (null != namespace) {
+            jsonObjectBuilder.set(JSON_NAMESPACE, namespace, predicate);
+        } else {
+            final JsonArray thingIdsJsonArray = thingIds.stream()
+                    .map(String::valueOf)
+                    .map(JsonFactory::newValue)
+                    .collect(JsonCollectors.valuesToArray());
+            jsonObjectBuilder.set(JSON_THING_IDS, thingIdsJsonArray, predicate);
+        }
+        jsonObjectBuilder.set(JSON_TIMESTAMP, timestamp.toString(), predicate);
+
+        if (null != selectedFields) {
+            jsonObjectBuilder.set(ThingSudoCommand.JsonFields.SELECTED_FIELDS, selectedFields.toString(), predicate);
+        }
+    }
+
+    @Override
+    public Category getCategory() {
+        return Category.QUERY;
+    }
+
+    @Override
+    public SudoRetrieveHistoricalThings setDittoHeaders(final DittoHeaders dittoHeaders) {
+        return new SudoRetrieveHistoricalThings(thingIds, namespace, timestamp, selectedFields, dittoHeaders);
+    }
+
+    @SuppressWarnings("squid:S109")
+    @Override
+    public int hashCode() {
+        return Objects.hash(thingIds, namespace, timestamp, selectedFields, super.hashCode());
+    }
+
+    @SuppressWarnings({"squid:MethodCyclomaticComplexity", "squid:S1067", "pmd:SimplifyConditional"})
+    @Override
+    public boolean equals(@Nullable final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final SudoRetrieveHistoricalThings that = (SudoRetrieveHistoricalThings) obj;
+        return that.canEqual(this) && Objects.equals(thingIds, that.thingIds)
+                && Objects.equals(namespace, that.namespace)
+                && Objects.equals(timestamp, that.timestamp)
+                && Objects.equals(selectedFields, that.selectedFields) && super.equals(that);
+    }
+
+    @Override
+    protected boolean canEqual(@Nullable final Object other) {
+        return other instanceof SudoRetrieveHistoricalThings;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" + super.toString() + ", thingIds=" + thingIds + ", namespace="
+                + namespace + ", timestamp=" + timestamp + ", selectedFields=" + selectedFields + "]";
+    }
+
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.api.commands.sudo;
+
+import static org.eclipse.ditto.json.assertions.DittoJsonAssertions.assertThat;
+import static org.mutabilitydetector.unittesting.AllowedReason.provided;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.ditto.base.model.auth.AuthorizationContext;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.json.FieldType;
+import org.eclipse.ditto.base.model.signals.commands.Command;
+import org.eclipse.ditto.base.model.signals.commands.GlobalCommandRegistry;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.things.api.TestConstants;
+import org.eclipse.ditto.things.model.ThingId;
+import org.junit.Test;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link SudoRetrieveHistoricalThings}.
+ */
+public final class SudoRetrieveHistoricalThingsTest {
+
+    private static final ThingId OTHER_THING_ID =
+            ThingId.of(TestConstants.Thing.THING_ID.getNamespace(), "otherThingId");
+
+    private static final JsonArray THING_IDS = JsonFactory.newArrayBuilder()
+            .add(TestConstants.Thing.THING_ID.toString(), OTHER_THING_ID.toString())
+            .build();
+
+    private static final String NAMESPACE = TestConstants.Thing.THING_ID.getNamespace();
+
+    private static final Instant TIMESTAMP = Instant.parse("2024-03-01T12:00:00Z");
+
+    private static final String SELECTED_FIELDS = "field1,field2,field3";
+
+    private static final JsonObject KNOWN_JSON = JsonFactory.newObjectBuilder()
+            .set(Command.JsonFields.TYPE, SudoRetrieveHistoricalThings.TYPE)
+            .set(SudoRetrieveHistoricalThings.JSON_THING_IDS, THING_IDS)
+            .set(SudoRetrieveHistoricalThings.JSON_TIMESTAMP, TIMESTAMP.toString())
+            .build();
+
+    private static final JsonObject KNOWN_JSON_WITH_NAMESPACE_AND_FIELD_SELECTION = JsonFactory.newObjectBuilder()
+            .set(Command.JsonFields.TYPE, SudoRetrieveHistoricalThings.TYPE)
+            .set(SudoRetrieveHistoricalThings.JSON_NAMESPACE, NAMESPACE)
+            .set(SudoRetrieveHistoricalThings.JSON_TIMESTAMP, TIMESTAMP.toString())
+            .set(ThingSudoCommand.JsonFields.SELECTED_FIELDS, SELECTED_FIELDS)
+            .build();
+
+    private static final DittoHeaders EMPTY_DITTO_HEADERS = DittoHeaders.empty();
+
+    private static List<ThingId> getThingIds() {
+        return List.of(TestConstants.Thing.THING_ID, OTHER_THING_ID);
+    }
+
+    private static JsonFieldSelector getJsonFieldSelector() {
+        return JsonFactory.newFieldSelector(SELECTED_FIELDS,
+                JsonFactory.newParseOptionsBuilder().withoutUrlDecoding().build());
+    }
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(SudoRetrieveHistoricalThings.class,
+                areImmutable(),
+                provided(AuthorizationContext.class, JsonFieldSelector.class, ThingId.class).isAlsoImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(SudoRetrieveHistoricalThings.class)
+                .withRedefinedSuperclass()
+                .verify();
+    }
+
+    @Test
+    public void toJsonReturnsExpected() {
+        final SudoRetrieveHistoricalThings underTest =
+                SudoRetrieveHistoricalThings.of(getThingIds(), TIMESTAMP, null, EMPTY_DITTO_HEADERS);
+        final JsonObject actualJson = underTest.toJson(FieldType.regularOrSpecial());
+
+        assertThat(actualJson).isEqualTo(KNOWN_JSON);
+    }
+
+    @Test
+    public void createInstanceFromValidJson() {
+        final SudoRetrieveHistoricalThings underTest =
+                SudoRetrieveHistoricalThings.fromJson(KNOWN_JSON.toString(), EMPTY_DITTO_HEADERS);
+
+        assertThat(underTest.getThingIds()).isEqualTo(getThingIds());
+        assertThat(underTest.getNamespace()).isEqualTo(Optional.empty());
+        assertThat(underTest.getTimestamp()).isEqualTo(TIMESTAMP);
+        assertThat(underTest.getSelectedFields()).isEqualTo(Optional.empty());
+    }
+
+    @Test
+    public void toJsonWithNamespaceAndSelectedFieldsReturnsExpected() {
+        final SudoRetrieveHistoricalThings underTest = SudoRetrieveHistoricalThings.ofNamespace(NAMESPACE,
+                TIMESTAMP, getJsonFieldSelector(), EMPTY_DITTO_HEADERS);
+        final JsonObject actualJson = underTest.toJson(FieldType.regularOrSpecial());
+
+        assertThat(actualJson).isEqualTo(KNOWN_JSON_WITH_NAMESPACE_AND_FIELD_SELECTION);
+    }
+
+    @Test
+    public void createInstanceFromValidJsonWithNamespaceAndSelectedFields() {
+        final SudoRetrieveHistoricalThings underTest = SudoRetrieveHistoricalThings.fromJson(
+                KNOWN_JSON_WITH_NAMESPACE_AND_FIELD_SELECTION.toString(), EMPTY_DITTO_HEADERS);
+
+        assertThat(underTest.getThingIds()).isEmpty();
+        assertThat(underTest.getNamespace()).isEqualTo(Optional.of(NAMESPACE));
+        assertThat(underTest.getTimestamp()).isEqualTo(TIMESTAMP);
+        assertThat(underTest.getSelectedFields()).isEqualTo(Optional.of(getJsonFieldSelector()));
+    }
+
+    @Test
+    public void checkSudoCommandTypeWorks() {
+        final SudoRetrieveHistoricalThings sudoRetrieveHistoricalThings =
+                SudoRetrieveHistoricalThings.fromJson(KNOWN_JSON.toString(), EMPTY_DITTO_HEADERS);
+
+        final Command sudoCommand = GlobalCommandRegistry.getInstance().parse(KNOWN_JSON, EMPTY_DITTO_HEADERS);
+
+        assertThat(sudoRetrieveHistoricalThings).isEqualTo(sudoCommand);
+    }
+
+}
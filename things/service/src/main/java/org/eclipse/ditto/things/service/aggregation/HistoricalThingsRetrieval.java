@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.service.aggregation;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+import org.apache.pekko.NotUsed;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.actor.ExtendedActorSystem;
+import org.apache.pekko.persistence.SnapshotMetadata;
+import org.apache.pekko.persistence.SnapshotOffer;
+import org.apache.pekko.persistence.journal.EventSeq;
+import org.apache.pekko.stream.Materializer;
+import org.apache.pekko.stream.javadsl.Source;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.eclipse.ditto.internal.utils.config.ScopedConfig;
+import org.eclipse.ditto.internal.utils.persistence.SnapshotAdapter;
+import org.eclipse.ditto.internal.utils.persistence.mongo.streaming.MongoReadJournal;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingConstants;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.ThingLifecycle;
+import org.eclipse.ditto.things.model.signals.events.ThingEvent;
+import org.eclipse.ditto.things.service.persistence.actors.strategies.events.ThingEventStrategies;
+import org.eclipse.ditto.things.service.persistence.serializer.ThingMongoEventAdapter;
+
+/**
+ * Reconstructs the states of several Things had at a historical timestamp directly from the snapshot store and the
+ * journal.
+ * <p>
+ * Instead of replaying the history of each Thing separately, the persistence IDs are processed in batches: the newest
+ * snapshot before the timestamp of all Things of a batch is retrieved by one aggregation on the snapshot store.
+ * The events following each snapshot are then streamed by a scan of the journal per Thing, of which a bounded number
+ * run in parallel.
+ * The events are applied to the snapshots while the stream passes them and the scan of a Thing is cancelled as soon as
+ * it reaches an event at or after the timestamp, so neither the history after the timestamp is read nor more than the
+ * reconstructed Things of one batch are held in memory.
+ * </p>
+ */
+final class HistoricalThingsRetrieval {
+
+    private static final String PERSISTENCE_ID_PREFIX = ThingConstants.ENTITY_TYPE + ":";
+    private static final String SNAPSHOT_PID = "_id";
+
+    private final MongoReadJournal readJournal;
+    private final SnapshotAdapter<Thing> snapshotAdapter;
+    private final ThingMongoEventAdapter eventAdapter;
+    private final int batchSize;
+    private final int parallelism;
+
+    HistoricalThingsRetrieval(final MongoReadJournal readJournal,
+            final SnapshotAdapter<Thing> snapshotAdapter,
+            final ThingMongoEventAdapter eventAdapter,
+            final int batchSize,
+            final int parallelism) {
+
+        this.readJournal = readJournal;
+        this.snapshotAdapter = snapshotAdapter;
+        this.eventAdapter = eventAdapter;
+        this.batchSize = batchSize;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Creates a new {@code HistoricalThingsRetrieval}.
+     *
+     * @param readJournal the read journal to access the snapshot store and the journal with.
+     * @param actorSystem the actor system to load the snapshot and event adapters in.
+     * @param batchSize how many Things to reconstruct together.
+     * @param parallelism how many journal scans of a batch to run in parallel.
+     * @return the instance.
+     */
+    static HistoricalThingsRetrieval of(final MongoReadJournal readJournal, final ActorSystem actorSystem,
+            final int batchSize, final int parallelism) {
+
+        final var dittoExtensionsConfig = ScopedConfig.dittoExtension(actorSystem.settings().config());
+        return new HistoricalThingsRetrieval(readJournal,
+                SnapshotAdapter.get(actorSystem, dittoExtensionsConfig),
+                new ThingMongoEventAdapter((ExtendedActorSystem) actorSystem),
+                batchSize,
+                parallelism);
+    }
+
+    /**
+     * Retrieves the states the passed Things had at the passed timestamp.
+     *
+     * @param thingIds the IDs of the Things.
+     * @param timestamp the historical timestamp.
+     * @return source of the Things which existed at the timestamp in the order of the passed IDs per batch.
+     */
+    Source<Thing, NotUsed> retrieveThings(final List<ThingId> thingIds, final Instant timestamp) {
+        return Source.from(thingIds)
+                .map(thingId -> PERSISTENCE_ID_PREFIX + thingId)
+                .grouped(batchSize)
+                .flatMapConcat(pids -> retrieveBatch(pids, timestamp));
+    }
+
+    /**
+     * Retrieves the states all Things of the passed namespace had at the passed timestamp.
+     *
+     * @param namespace the namespace of the Things.
+     * @param timestamp the historical timestamp.
+     * @param materializer the materializer to list the persistence IDs of the namespace with.
+     * @return source of the Things of the namespace which existed at the timestamp ordered by their IDs.
+     */
+    Source<Thing, NotUsed> retrieveThingsOfNamespace(final String namespace, final Instant timestamp,
+            final Materializer materializer) {
+
+        final String pidPrefix = PERSISTENCE_ID_PREFIX + namespace + ":";
+        return readJournal.getJournalPidsAbove(pidPrefix, batchSize, materializer)
+                .takeWhile(pid -> pid.startsWith(pidPrefix))
+                .grouped(batchSize)
+                .flatMapConcat(pids -> retrieveBatch(pids, timestamp));
+    }
+
+    private Source<Thing, NotUsed> retrieveBatch(final List<String> pids, final Instant timestamp) {
+        return readJournal.getNewestSnapshotsBeforeTimestamp(pids, timestamp)
+                .fold(new HashMap<String, BsonDocument>(), (snapshots, snapshot) -> {
+                    snapshots.put(snapshot.getString(SNAPSHOT_PID).getValue(), snapshot);
+                    return snapshots;
+                })
+                .flatMapConcat(snapshots -> {
+                    final Batch batch = new Batch(timestamp);
+                    pids.forEach(pid -> batch.add(pid, snapshots.get(pid)));
+                    return Source.from(batch.getReconstructions())
+                            .flatMapMerge(parallelism, reconstruction -> readJournal
+                                    .getJournalEntriesAbove(reconstruction.pid, reconstruction.snapshotSequenceNumber)
+                                    // cancels the scan of the Thing once it passed the timestamp
+                                    .takeWhile(journalEntry -> !reconstruction.complete)
+                                    .fold(reconstruction, batch::apply))
+                            .fold(batch, (b, reconstruction) -> b)
+                            .mapConcat(Batch::getExistingThings);
+                });
+    }
+
+    @Nullable
+    private ThingEvent<?> toEvent(final BsonDocument eventDocument) {
+        final String manifest = eventDocument.getString(MongoReadJournal.J_EVENT_MANIFEST, new BsonString(""))
+                .getValue();
+        final EventSeq eventSeq =
+                eventAdapter.fromJournal(eventDocument.get(MongoReadJournal.J_EVENT_PAYLOAD), manifest);
+        if (eventSeq.events().isEmpty() || !(eventSeq.events().head() instanceof ThingEvent<?> event)) {
+            return null;
+        }
+        return event;
+    }
+
+    /**
+     * The reconstructions of the Things of one batch.
+     * Journal entries are applied as they are streamed, so only the reconstructed Things are held in memory.
+     */
+    private final class Batch {
+
+        private final Instant timestamp;
+        private final Map<String, Reconstruction> reconstructions;
+
+        private Batch(final Instant timestamp) {
+            this.timestamp = timestamp;
+            reconstructions = new LinkedHashMap<>();
+        }
+
+        private void add(final String pid, @Nullable final BsonDocument snapshot) {
+            if (reconstructions.containsKey(pid)) {
+                return;
+            }
+            long snapshotSequenceNumber = 0L;
+            @Nullable Thing thing = null;
+            if (null != snapshot) {
+                snapshotSequenceNumber = snapshot.get(MongoReadJournal.S_SN).asNumber().longValue();
+                final var metadata = new SnapshotMetadata(pid, snapshotSequenceNumber, 0L);
+                thing = snapshotAdapter.fromSnapshotStore(
+                        new SnapshotOffer(metadata, snapshot.get(MongoReadJournal.S_SERIALIZED_SNAPSHOT)));
+            }
+            reconstructions.put(pid, new Reconstruction(pid, snapshotSequenceNumber, thing));
+        }
+
+        private List<Reconstruction> getReconstructions() {
+            return List.copyOf(reconstructions.values());
+        }
+
+        private Reconstruction apply(final Reconstruction reconstruction, final BsonDocument journalEntry) {
+            final ThingEventStrategies eventStrategies = ThingEventStrategies.getInstance();
+            for (final BsonValue eventValue : journalEntry.getArray(MongoReadJournal.J_EVENT)) {
+                final BsonDocument eventDocument = eventValue.asDocument();
+                final long sequenceNumber = eventDocument.get(MongoReadJournal.J_EVENT_SN).asNumber().longValue();
+                if (sequenceNumber <= reconstruction.snapshotSequenceNumber) {
+                    continue;
+                }
+                final ThingEvent<?> event = toEvent(eventDocument);
+                if (null == event || event.getTimestamp().filter(ts -> ts.isBefore(timestamp)).isEmpty()) {
+                    // events are streamed ordered by sequence number, so no later event happened before the timestamp
+                    reconstruction.complete = true;
+                    return reconstruction;
+                }
+                reconstruction.thing = eventStrategies.handle(event, reconstruction.thing, sequenceNumber);
+            }
+            return reconstruction;
+        }
+
+        private List<Thing> getExistingThings() {
+            return reconstructions.values()
+                    .stream()
+                    .map(reconstruction -> reconstruction.thing)
+                    .filter(thing -> null != thing && !thing.hasLifecycle(ThingLifecycle.DELETED))
+                    .toList();
+        }
+
+    }
+
+    private static final class Reconstruction {
+
+        private final String pid;
+        private final long snapshotSequenceNumber;
+        @Nullable private Thing thing;
+        private boolean complete;
+
+        private Reconstruction(final String pid, final long snapshotSequenceNumber, @Nullable final Thing thing) {
+            this.pid = pid;
+            this.snapshotSequenceNumber = snapshotSequenceNumber;
+            this.thing = thing;
+            complete = false;
+        }
+
+    }
+
+}
@@ -23,6 +23,8 @@ import java.util.concurrent.TimeUnit;
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.json.FieldType;
+import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
 import org.eclipse.ditto.base.model.json.Jsonifiable;
 import org.eclipse.ditto.base.model.signals.SignalWithEntityId;
 import org.eclipse.ditto.base.model.signals.commands.Command;
@@ -30,20 +32,28 @@ import org.eclipse.ditto.internal.utils.pekko.actors.AbstractActorWithShutdownBe
 import org.eclipse.ditto.internal.utils.pekko.logging.DittoLoggerFactory;
 import org.eclipse.ditto.internal.utils.pekko.logging.ThreadSafeDittoLoggingAdapter;
 import org.eclipse.ditto.internal.utils.cluster.DistPubSubAccess;
+import org.eclipse.ditto.internal.utils.persistence.mongo.streaming.MongoReadJournal;
 import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.things.api.commands.sudo.SudoRetrieveHistoricalThings;
 import org.eclipse.ditto.things.api.commands.sudo.SudoRetrieveThing;
+import org.eclipse.ditto.things.api.commands.sudo.SudoRetrieveThingResponse;
 import org.eclipse.ditto.things.api.commands.sudo.SudoRetrieveThings;
+import org.eclipse.ditto.things.model.Thing;
 import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.ThingsModelFactory;
 import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThing;
 import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThings;
 
 import org.apache.pekko.Done;
+import org.apache.pekko.NotUsed;
 import org.apache.pekko.actor.ActorRef;
 import org.apache.pekko.actor.CoordinatedShutdown;
 import org.apache.pekko.actor.Props;
 import org.apache.pekko.cluster.pubsub.DistributedPubSub;
 import org.apache.pekko.japi.pf.ReceiveBuilder;
 import org.apache.pekko.pattern.Patterns;
+import org.apache.pekko.stream.Materializer;
 import org.apache.pekko.stream.SourceRef;
 import org.apache.pekko.stream.SystemMaterializer;
 import org.apache.pekko.stream.javadsl.Source;
@@ -65,25 +75,30 @@ public final class ThingsAggregatorActor extends AbstractActorWithShutdownBehavi
     private final java.time.Duration retrieveSingleThingTimeout;
     private final int maxParallelism;
     private final ActorRef pubSubMediator;
+    private final HistoricalThingsRetrieval historicalThingsRetrieval;
 
     @SuppressWarnings("unused")
     private ThingsAggregatorActor(final ActorRef targetActor, final ThingsAggregatorConfig aggregatorConfig,
-            final ActorRef pubSubMediator) {
+            final ActorRef pubSubMediator, final MongoReadJournal mongoReadJournal) {
         this.targetActor = targetActor;
         this.pubSubMediator = pubSubMediator;
         retrieveSingleThingTimeout = aggregatorConfig.getSingleRetrieveThingTimeout();
         maxParallelism = aggregatorConfig.getMaxParallelism();
+        historicalThingsRetrieval = HistoricalThingsRetrieval.of(mongoReadJournal, getContext().getSystem(),
+                aggregatorConfig.getHistoricalBatchSize(), maxParallelism);
     }
 
     /**
      * Creates Pekko configuration object Props for this ThingsAggregatorActor.
      *
      * @param targetActor the Actor selection to delegate "asks" for the aggregation to.
+     * @param mongoReadJournal the read journal to reconstruct historical Things from.
      * @return the Pekko configuration Props object
      */
     public static Props props(final ActorRef targetActor, final ThingsAggregatorConfig aggregatorConfig,
-            final ActorRef pubSubMediator) {
-        return Props.create(ThingsAggregatorActor.class, targetActor, aggregatorConfig, pubSubMediator);
+            final ActorRef pubSubMediator, final MongoReadJournal mongoReadJournal) {
+        return Props.create(ThingsAggregatorActor.class, targetActor, aggregatorConfig, pubSubMediator,
+                mongoReadJournal);
     }
 
     @Override
@@ -94,6 +109,7 @@ public final class ThingsAggregatorActor extends AbstractActorWithShutdownBehavi
         // register on pub/sub so that others may send "RetrieveThings" messages to the aggregator:
         mediator.tell(DistPubSubAccess.subscribeViaGroup(RetrieveThings.TYPE, ACTOR_NAME, self), self);
         mediator.tell(DistPubSubAccess.subscribeViaGroup(SudoRetrieveThings.TYPE, ACTOR_NAME, self), self);
+        mediator.tell(DistPubSubAccess.subscribeViaGroup(SudoRetrieveHistoricalThings.TYPE, ACTOR_NAME, self), self);
 
         final var coordinatedShutdown = CoordinatedShutdown.get(getContext().getSystem());
         final var serviceUnbindTask = "service-unbind-" + ACTOR_NAME;
@@ -124,6 +140,16 @@ public final class ThingsAggregatorActor extends AbstractActorWithShutdownBehavi
                     retrieveThings(rt, getSender());
                 })
 
+                // # handle "SudoRetrieveHistoricalThings" command
+                .match(SudoRetrieveHistoricalThings.class, rt -> {
+                    log.withCorrelationId(rt)
+                            .info("Got '{}' message. Retrieving Things of <{}> at <{}>..",
+                                    SudoRetrieveHistoricalThings.class.getSimpleName(),
+                                    rt.getNamespace().orElseGet(() -> rt.getThingIds().size() + " IDs"),
+                                    rt.getTimestamp());
+                    retrieveHistoricalThings(rt, getSender());
+                })
+
                 // # handle unknown message
                 .matchAny(m -> {
                     log.warning("Got unknown message: {}", m);
@@ -146,6 +172,11 @@ public final class ThingsAggregatorActor extends AbstractActorWithShutdownBehavi
                         Patterns.ask(pubSubMediator,
                                         DistPubSubAccess.unsubscribeViaGroup(SudoRetrieveThings.TYPE, ACTOR_NAME, getSelf()),
                                         SHUTDOWN_ASK_TIMEOUT)
+                                .toCompletableFuture(),
+                        Patterns.ask(pubSubMediator,
+                                        DistPubSubAccess.unsubscribeViaGroup(SudoRetrieveHistoricalThings.TYPE,
+                                                ACTOR_NAME, getSelf()),
+                                        SHUTDOWN_ASK_TIMEOUT)
                                 .toCompletableFuture())
                 .thenApply(ack -> {
                     log.info("Unsubscribed successfully from pubsub for {} actor", ACTOR_NAME);
@@ -204,6 +235,37 @@ public final class ThingsAggregatorActor extends AbstractActorWithShutdownBehavi
         resultReceiver.tell(commandResponseSource, getSelf());
     }
 
+    private void retrieveHistoricalThings(final SudoRetrieveHistoricalThings command,
+            final ActorRef resultReceiver) {
+
+        final Materializer materializer = SystemMaterializer.get(getContext().getSystem()).materializer();
+        final Source<Thing, NotUsed> historicalThings = command.getNamespace()
+                .map(namespace -> historicalThingsRetrieval.retrieveThingsOfNamespace(namespace,
+                        command.getTimestamp(), materializer))
+                .orElseGet(() -> historicalThingsRetrieval.retrieveThings(command.getThingIds(),
+                        command.getTimestamp()));
+
+        final DittoHeaders dittoHeaders = command.getDittoHeaders();
+        final JsonFieldSelector selectedFields = command.getSelectedFields().orElse(null);
+        final SourceRef<Jsonifiable> commandResponseSource = historicalThings
+                .<Jsonifiable>map(thing -> {
+                    final JsonSchemaVersion schemaVersion = command.getImplementedSchemaVersion();
+                    final JsonObject thingJson;
+                    if (null != selectedFields) {
+                        final JsonFieldSelector expandedFieldSelector = ThingsModelFactory.expandFeatureIdWildcards(
+                                thing.getFeatures().orElse(ThingsModelFactory.emptyFeatures()), selectedFields);
+                        thingJson = thing.toJson(schemaVersion, expandedFieldSelector, FieldType.regularOrSpecial());
+                    } else {
+                        thingJson = thing.toJson(schemaVersion, FieldType.regularOrSpecial());
+                    }
+                    return SudoRetrieveThingResponse.of(thingJson, dittoHeaders);
+                })
+                .log("historical-command-response", log)
+                .runWith(StreamRefs.sourceRef(), materializer);
+
+        resultReceiver.tell(commandResponseSource, getSelf());
+    }
+
     private int calculateParallelism(final Collection<ThingId> thingIds) {
         final int size = thingIds.size();
         if (size < maxParallelism / 2) {
@@ -39,6 +39,14 @@ public interface ThingsAggregatorConfig {
      */
     int getMaxParallelism();
 
+    /**
+     * Returns how many Things are reconstructed together when retrieving historical Things, that is how many
+     * persistence IDs are selected by one aggregation on the snapshot store and one range scan on the journal.
+     *
+     * @return the batch size of historical Thing retrieval.
+     */
+    int getHistoricalBatchSize();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code ThingsAggregatorConfig}.
@@ -53,7 +61,12 @@ public interface ThingsAggregatorConfig {
         /**
          * The maximum parallelism.
          */
-        MAX_PARALLELISM("max-parallelism", 20);
+        MAX_PARALLELISM("max-parallelism", 20),
+
+        /**
+         * The batch size of historical Thing retrieval.
+         */
+        HISTORICAL_BATCH_SIZE("historical-batch-size", 100);
 
         private final String path;
         private final Object defaultValue;
@@ -28,6 +28,8 @@ import org.eclipse.ditto.internal.utils.persistence.mongo.config.DefaultSnapshot
 import org.eclipse.ditto.internal.utils.persistence.mongo.config.EventConfig;
 import org.eclipse.ditto.internal.utils.persistence.mongo.config.SnapshotConfig;
 import org.eclipse.ditto.internal.utils.persistentactors.cleanup.CleanupConfig;
+import org.eclipse.ditto.internal.utils.persistentactors.config.DefaultGroupCommitConfig;
+import org.eclipse.ditto.internal.utils.persistentactors.config.GroupCommitConfig;
 
 import com.typesafe.config.Config;
 
@@ -45,6 +47,7 @@ public final class DefaultThingConfig implements ThingConfig {
     private final SnapshotConfig snapshotConfig;
     private final EventConfig eventConfig;
     private final CleanupConfig cleanupConfig;
+    private final GroupCommitConfig groupCommitConfig;
 
     private DefaultThingConfig(final ScopedConfig scopedConfig) {
         shutdownTimeout = scopedConfig.getDuration(ConfigValue.SHUTDOWN_TIMEOUT.getConfigPath());
@@ -53,6 +56,7 @@ public final class DefaultThingConfig implements ThingConfig {
         snapshotConfig = DefaultSnapshotConfig.of(scopedConfig);
         eventConfig = DefaultEventConfig.of(scopedConfig);
         cleanupConfig = CleanupConfig.of(scopedConfig);
+        groupCommitConfig = DefaultGroupCommitConfig.of(scopedConfig);
     }
 
     /**
@@ -91,6 +95,11 @@ public final class DefaultThingConfig implements ThingConfig {
         return eventConfig;
     }
 
+    @Override
+    public GroupCommitConfig getGroupCommitConfig() {
+        return groupCommitConfig;
+    }
+
     @Override
     public Duration getShutdownTimeout() {
         return shutdownTimeout;
@@ -110,13 +119,14 @@ public final class DefaultThingConfig implements ThingConfig {
                 Objects.equals(snapshotConfig, that.snapshotConfig) &&
                 Objects.equals(eventConfig, that.eventConfig) &&
                 Objects.equals(cleanupConfig, that.cleanupConfig) &&
+                Objects.equals(groupCommitConfig, that.groupCommitConfig) &&
                 Objects.equals(shutdownTimeout, that.shutdownTimeout);
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(supervisorConfig, activityCheckConfig, snapshotConfig, eventConfig, cleanupConfig,
-                shutdownTimeout);
+                groupCommitConfig, shutdownTimeout);
     }
 
     @Override
@@ -127,6 +137,7 @@ public final class DefaultThingConfig implements ThingConfig {
                 ", snapshotConfig=" + snapshotConfig +
                 ", eventConfig=" + eventConfig +
                 ", cleanupConfig=" + cleanupConfig +
+                ", groupCommitConfig=" + groupCommitConfig +
                 ", shutdownTimeout=" + shutdownTimeout +
                 "]";
     }
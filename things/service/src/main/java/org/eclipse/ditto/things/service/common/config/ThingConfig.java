@@ -22,6 +22,7 @@ import org.eclipse.ditto.internal.utils.persistence.mongo.config.EventConfig;
 import org.eclipse.ditto.internal.utils.persistence.mongo.config.WithActivityCheckConfig;
 import org.eclipse.ditto.internal.utils.persistence.mongo.config.WithSnapshotConfig;
 import org.eclipse.ditto.internal.utils.persistentactors.cleanup.WithCleanupConfig;
+import org.eclipse.ditto.internal.utils.persistentactors.config.GroupCommitConfig;
 
 /**
  * Provides configuration settings for thing entities.
@@ -37,6 +38,13 @@ public interface ThingConfig extends WithSupervisorConfig, WithActivityCheckConf
      */
     EventConfig getEventConfig();
 
+    /**
+     * Returns the config of the group commit of thing events.
+     *
+     * @return the config.
+     */
+    GroupCommitConfig getGroupCommitConfig();
+
     /**
      * Get the timeout waiting for responses and acknowledgements during coordinated shutdown.
      *
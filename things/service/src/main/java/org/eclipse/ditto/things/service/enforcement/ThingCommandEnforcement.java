@@ -211,14 +211,10 @@ final class ThingCommandEnforcement
             final PolicyEnforcer policyEnforcer) {
 
         if (commandResponse instanceof ThingQueryCommandResponse<?> thingQueryCommandResponse) {
-            try {
-                final ThingQueryCommandResponse<?> filteredResponse =
-                        buildJsonViewForThingQueryCommandResponse(thingQueryCommandResponse,
-                                policyEnforcer.getEnforcer());
-                return CompletableFuture.completedFuture(filteredResponse);
-            } catch (final RuntimeException e) {
-                throw reportError("Error after building JsonView", e, commandResponse.getDittoHeaders());
-            }
+            return buildJsonViewForThingQueryCommandResponse(thingQueryCommandResponse, policyEnforcer)
+                    .exceptionally(error -> {
+                        throw reportError("Error after building JsonView", error, commandResponse.getDittoHeaders());
+                    });
         } else {
             // no filtering required for non ThingQueryCommandResponse:
             return CompletableFuture.completedFuture(commandResponse);
@@ -236,22 +232,25 @@ final class ThingCommandEnforcement
     }
 
     /**
-     * Limit view on entity of {@code ThingQueryCommandResponse} by enforcer.
+     * Limit view on entity of {@code ThingQueryCommandResponse} by policy enforcer. The views of responses filtered
+     * concurrently by the same policy enforcer, e.g. of the things of one "RetrieveThings" command, are built together.
      *
      * @param response the response.
-     * @param enforcer the enforcer.
-     * @return response with view on entity restricted by enforcer.
+     * @param policyEnforcer the policy enforcer.
+     * @return future response with view on entity restricted by the policy enforcer.
      */
-    @SuppressWarnings("unchecked")
-    <T extends ThingQueryCommandResponse<T>> T buildJsonViewForThingQueryCommandResponse(
-            final ThingQueryCommandResponse<T> response, final Enforcer enforcer) {
+    private static CompletionStage<ThingCommandResponse<?>> buildJsonViewForThingQueryCommandResponse(
+            final ThingQueryCommandResponse<?> response, final PolicyEnforcer policyEnforcer) {
 
         final JsonValue entity = response.getEntity();
         if (entity.isObject()) {
-            final var filteredView = getJsonViewForCommandResponse(entity.asObject(), response, enforcer);
-            return response.setEntity(filteredView);
+            final var resourceKey = ResourceKey.newInstance(ThingConstants.ENTITY_TYPE, response.getResourcePath());
+            final var authorizationContext = response.getDittoHeaders().getAuthorizationContext();
+            return policyEnforcer.buildJsonView(resourceKey, entity.asObject(), authorizationContext,
+                            THING_QUERY_COMMAND_RESPONSE_ALLOWLIST, Permissions.newInstance(Permission.READ))
+                    .<ThingCommandResponse<?>>thenApply(response::setEntity);
         } else {
-            return (T) response;
+            return CompletableFuture.completedFuture(response);
         }
     }
 
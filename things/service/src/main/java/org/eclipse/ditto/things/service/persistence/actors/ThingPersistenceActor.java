@@ -31,6 +31,7 @@ import org.eclipse.ditto.internal.utils.persistence.mongo.streaming.MongoReadJou
 import org.eclipse.ditto.internal.utils.persistentactors.AbstractPersistenceActor;
 import org.eclipse.ditto.internal.utils.persistentactors.commands.CommandStrategy;
 import org.eclipse.ditto.internal.utils.persistentactors.commands.DefaultContext;
+import org.eclipse.ditto.internal.utils.persistentactors.config.GroupCommitConfig;
 import org.eclipse.ditto.internal.utils.persistentactors.events.EventStrategy;
 import org.eclipse.ditto.internal.utils.pubsub.DistributedPub;
 import org.eclipse.ditto.internal.utils.pubsub.extractors.AckExtractor;
@@ -198,6 +199,11 @@ public final class ThingPersistenceActor
         return thingConfig.getSnapshotConfig();
     }
 
+    @Override
+    protected GroupCommitConfig getGroupCommitConfig() {
+        return thingConfig.getGroupCommitConfig();
+    }
+
     @Override
     protected boolean entityExistsAsDeleted() {
         return null != entity && entity.hasLifecycle(ThingLifecycle.DELETED);
@@ -109,7 +109,8 @@ public final class ThingsRootActor extends DittoRootActor {
                 DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config())
         );
 
-        final Props props = ThingsAggregatorActor.props(thingsShardRegion, thingsAggregatorConfig, pubSubMediator);
+        final Props props = ThingsAggregatorActor.props(thingsShardRegion, thingsAggregatorConfig, pubSubMediator,
+                mongoReadJournal);
         startChildActor(ThingsAggregatorActor.ACTOR_NAME, props);
 
         retrieveStatisticsDetailsResponseSupplier = RetrieveStatisticsDetailsResponseSupplier.of(thingsShardRegion,
@@ -65,6 +65,10 @@ public final class DefaultThingsAggregatorConfigTest {
         softly.assertThat(underTest.getMaxParallelism())
                 .as(ThingsAggregatorConfig.ThingsAggregatorConfigValue.MAX_PARALLELISM.getConfigPath())
                 .isEqualTo(ThingsAggregatorConfig.ThingsAggregatorConfigValue.MAX_PARALLELISM.getDefaultValue());
+
+        softly.assertThat(underTest.getHistoricalBatchSize())
+                .as(ThingsAggregatorConfig.ThingsAggregatorConfigValue.HISTORICAL_BATCH_SIZE.getConfigPath())
+                .isEqualTo(ThingsAggregatorConfig.ThingsAggregatorConfigValue.HISTORICAL_BATCH_SIZE.getDefaultValue());
     }
 
     @Test
@@ -78,6 +82,10 @@ public final class DefaultThingsAggregatorConfigTest {
         softly.assertThat(underTest.getMaxParallelism())
                 .as(ThingsAggregatorConfig.ThingsAggregatorConfigValue.MAX_PARALLELISM.getConfigPath())
                 .isEqualTo(10);
+
+        softly.assertThat(underTest.getHistoricalBatchSize())
+                .as(ThingsAggregatorConfig.ThingsAggregatorConfigValue.HISTORICAL_BATCH_SIZE.getConfigPath())
+                .isEqualTo(50);
     }
 
 }
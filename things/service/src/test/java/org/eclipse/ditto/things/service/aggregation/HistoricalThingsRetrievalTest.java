@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.service.aggregation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.actor.ExtendedActorSystem;
+import org.apache.pekko.persistence.journal.Tagged;
+import org.apache.pekko.stream.javadsl.Sink;
+import org.apache.pekko.stream.javadsl.Source;
+import org.apache.pekko.testkit.TestProbe;
+import org.apache.pekko.testkit.javadsl.TestKit;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonInt64;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.internal.utils.persistence.mongo.streaming.MongoReadJournal;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.ThingLifecycle;
+import org.eclipse.ditto.things.model.signals.events.AttributeModified;
+import org.eclipse.ditto.things.model.signals.events.ThingCreated;
+import org.eclipse.ditto.things.model.signals.events.ThingEvent;
+import org.eclipse.ditto.things.service.persistence.serializer.ThingMongoEventAdapter;
+import org.eclipse.ditto.things.service.persistence.serializer.ThingMongoSnapshotAdapter;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Unit test for {@link HistoricalThingsRetrieval}.
+ */
+public final class HistoricalThingsRetrievalTest {
+
+    private static final Instant TIMESTAMP = Instant.parse("2024-05-01T12:00:00Z");
+    private static final ThingId THING_ID = ThingId.of("org.eclipse.ditto:historical");
+    private static final ThingId CREATED_LATER_THING_ID = ThingId.of("org.eclipse.ditto:created-later");
+    private static final JsonPointer ATTRIBUTE_A = JsonPointer.of("a");
+    private static final JsonPointer ATTRIBUTE_B = JsonPointer.of("b");
+
+    private ActorSystem system;
+    private MongoReadJournal readJournal;
+    private ThingMongoSnapshotAdapter snapshotAdapter;
+    private ThingMongoEventAdapter eventAdapter;
+    private HistoricalThingsRetrieval underTest;
+
+    @Before
+    public void setUp() {
+        system = ActorSystem.create("test", ConfigFactory.load("test"));
+        readJournal = mock(MongoReadJournal.class);
+        snapshotAdapter = new ThingMongoSnapshotAdapter(TestProbe.apply(system).ref(), ConfigFactory.parseMap(
+                Map.of("thing-snapshot-taken-event-publishing-enabled", false)));
+        eventAdapter = new ThingMongoEventAdapter((ExtendedActorSystem) system);
+        underTest = new HistoricalThingsRetrieval(readJournal, snapshotAdapter, eventAdapter, 10, 2);
+    }
+
+    @After
+    public void tearDown() {
+        if (null != system) {
+            TestKit.shutdownActorSystem(system);
+        }
+    }
+
+    @Test
+    public void reconstructsThingAtTimestampFromSnapshotAndEventsBeforeTimestamp() throws Exception {
+        final Thing snapshotThing = Thing.newBuilder()
+                .setId(THING_ID)
+                .setLifecycle(ThingLifecycle.ACTIVE)
+                .setRevision(2L)
+                .setAttribute(ATTRIBUTE_A, JsonValue.of(1))
+                .build();
+        final BsonDocument snapshot = new BsonDocument()
+                .append("_id", new BsonString(pid(THING_ID)))
+                .append(MongoReadJournal.S_SN, new BsonInt64(2L))
+                .append(MongoReadJournal.S_SERIALIZED_SNAPSHOT,
+                        (BsonValue) snapshotAdapter.toSnapshotStore(snapshotThing));
+        when(readJournal.getNewestSnapshotsBeforeTimestamp(any(), eq(TIMESTAMP)))
+                .thenReturn(Source.single(snapshot));
+
+        final BsonDocument journalEntry = journalEntry(THING_ID,
+                attributeModified(ATTRIBUTE_A, 2, 2L, TIMESTAMP.minusSeconds(3)),
+                attributeModified(ATTRIBUTE_A, 3, 3L, TIMESTAMP.minusSeconds(2)),
+                attributeModified(ATTRIBUTE_B, 4, 4L, TIMESTAMP.minusSeconds(1)),
+                attributeModified(ATTRIBUTE_A, 5, 5L, TIMESTAMP),
+                attributeModified(ATTRIBUTE_B, 6, 6L, TIMESTAMP.plusSeconds(1)));
+        final BsonDocument laterJournalEntry = journalEntry(THING_ID,
+                attributeModified(ATTRIBUTE_A, 7, 7L, TIMESTAMP.plusSeconds(2)));
+        final Thing createdLater = Thing.newBuilder()
+                .setId(CREATED_LATER_THING_ID)
+                .setLifecycle(ThingLifecycle.ACTIVE)
+                .build();
+        final BsonDocument createdLaterEntry = journalEntry(CREATED_LATER_THING_ID,
+                ThingCreated.of(createdLater, 1L, TIMESTAMP.plusSeconds(1), DittoHeaders.empty(), null));
+        // the scan of a Thing must be cancelled once it passed the timestamp and never reach the failure
+        when(readJournal.getJournalEntriesAbove(pid(THING_ID), 2L))
+                .thenReturn(Source.from(List.of(journalEntry, laterJournalEntry))
+                        .concat(Source.failed(new IllegalStateException("scanned past the timestamp"))));
+        when(readJournal.getJournalEntriesAbove(pid(CREATED_LATER_THING_ID), 0L))
+                .thenReturn(Source.single(createdLaterEntry));
+
+        final List<Thing> things = underTest.retrieveThings(List.of(THING_ID, CREATED_LATER_THING_ID), TIMESTAMP)
+                .runWith(Sink.seq(), system)
+                .toCompletableFuture()
+                .get(10, TimeUnit.SECONDS);
+
+        verify(readJournal).getJournalEntriesAbove(pid(THING_ID), 2L);
+        verify(readJournal).getJournalEntriesAbove(pid(CREATED_LATER_THING_ID), 0L);
+        assertThat(things).hasSize(1);
+        final Thing thing = things.get(0);
+        assertThat(thing.getEntityId()).contains(THING_ID);
+        assertThat(thing.getRevision()).hasValueSatisfying(revision -> assertThat(revision.toLong()).isEqualTo(4L));
+        assertThat(thing.getAttributes()).hasValueSatisfying(attributes -> {
+            assertThat(attributes.getValue(ATTRIBUTE_A)).contains(JsonValue.of(3));
+            assertThat(attributes.getValue(ATTRIBUTE_B)).contains(JsonValue.of(4));
+        });
+    }
+
+    private BsonDocument journalEntry(final ThingId thingId, final ThingEvent<?>... events) {
+        final BsonArray eventDocuments = new BsonArray();
+        for (final ThingEvent<?> event : events) {
+            final BsonValue payload = (BsonValue) ((Tagged) eventAdapter.toJournal(event)).payload();
+            eventDocuments.add(new BsonDocument()
+                    .append(MongoReadJournal.J_EVENT_SN, new BsonInt64(event.getRevision()))
+                    .append(MongoReadJournal.J_EVENT_MANIFEST, new BsonString(eventAdapter.manifest(event)))
+                    .append(MongoReadJournal.J_EVENT_PAYLOAD, payload));
+        }
+        return new BsonDocument()
+                .append(MongoReadJournal.J_EVENT_PID, new BsonString(pid(thingId)))
+                .append(MongoReadJournal.J_EVENT, eventDocuments);
+    }
+
+    private static AttributeModified attributeModified(final JsonPointer attribute, final int value,
+            final long revision, final Instant timestamp) {
+
+        return AttributeModified.of(THING_ID, attribute, JsonValue.of(value), revision, timestamp,
+                DittoHeaders.empty(), null);
+    }
+
+    private static String pid(final ThingId thingId) {
+        return "thing:" + thingId;
+    }
+
+}
@@ -48,6 +48,7 @@ import org.eclipse.ditto.base.model.entity.metadata.MetadataModelFactory;
 import org.eclipse.ditto.base.model.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.base.model.headers.DittoHeaderDefinition;
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.headers.entitytag.EntityTagMatchers;
 import org.eclipse.ditto.base.model.headers.metadata.MetadataHeader;
 import org.eclipse.ditto.base.model.headers.metadata.MetadataHeaderKey;
 import org.eclipse.ditto.base.model.headers.metadata.MetadataHeaders;
@@ -97,6 +98,7 @@ import org.eclipse.ditto.things.model.signals.commands.ThingCommand;
 import org.eclipse.ditto.things.model.signals.commands.exceptions.FeatureNotAccessibleException;
 import org.eclipse.ditto.things.model.signals.commands.exceptions.MetadataHeadersConflictException;
 import org.eclipse.ditto.things.model.signals.commands.exceptions.ThingNotAccessibleException;
+import org.eclipse.ditto.things.model.signals.commands.exceptions.ThingPreconditionFailedException;
 import org.eclipse.ditto.things.model.signals.commands.exceptions.ThingUnavailableException;
 import org.eclipse.ditto.things.model.signals.commands.modify.CreateThing;
 import org.eclipse.ditto.things.model.signals.commands.modify.CreateThingResponse;
@@ -107,6 +109,7 @@ import org.eclipse.ditto.things.model.signals.commands.modify.DeleteThingRespons
 import org.eclipse.ditto.things.model.signals.commands.modify.MergeThing;
 import org.eclipse.ditto.things.model.signals.commands.modify.MergeThingResponse;
 import org.eclipse.ditto.things.model.signals.commands.modify.ModifyAttribute;
+import org.eclipse.ditto.things.model.signals.commands.modify.ModifyAttributeResponse;
 import org.eclipse.ditto.things.model.signals.commands.modify.ModifyAttributes;
 import org.eclipse.ditto.things.model.signals.commands.modify.ModifyFeature;
 import org.eclipse.ditto.things.model.signals.commands.modify.ModifyFeatureProperty;
@@ -768,6 +771,168 @@ public final class ThingPersistenceActorTest extends PersistenceActorTestBase {
         };
     }
 
+    @Test
+    public void modifyAttributesConcurrentlyWithGroupCommit() {
+        TestKit.shutdownActorSystem(actorSystem);
+        setup(ConfigFactory.parseString("ditto.things.thing.group-commit.enabled = true")
+                .withValue("pekko.actor.provider",
+                        ConfigValueFactory.fromAnyRef("org.apache.pekko.cluster.ClusterActorRefProvider")));
+
+        final Thing thing = createThingV2WithRandomId();
+        final ThingId thingId = getIdOrThrow(thing);
+        final int modifications = 10;
+
+        new TestKit(actorSystem) {
+            {
+                final ActorRef underTest = createPersistenceActorFor(thing);
+                underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+                final CreateThingResponse createThingResponse = expectMsgClass(CreateThingResponse.class);
+                final long createdRevision = createThingResponse.getThingCreated()
+                        .flatMap(Thing::getRevision)
+                        .map(ThingRevision::toLong)
+                        .orElseThrow();
+
+                // send all modifications without waiting so that they arrive while the first write is in flight
+                for (int i = 0; i < modifications; i++) {
+                    underTest.tell(ModifyAttribute.of(thingId, JsonPointer.of("counter" + i), JsonValue.of(i),
+                            dittoHeadersV2), getRef());
+                }
+                for (int i = 0; i < modifications; i++) {
+                    final ModifyAttributeResponse response = expectMsgClass(ModifyAttributeResponse.class);
+                    Assertions.assertThat(response.getAttributePointer()).isEqualTo(JsonPointer.of("counter" + i));
+                }
+
+                underTest.tell(RetrieveThing.of(thingId, dittoHeadersV2), getRef());
+                final RetrieveThingResponse retrieveThingResponse = expectMsgClass(RetrieveThingResponse.class);
+                final Thing retrievedThing = retrieveThingResponse.getThing();
+                Assertions.assertThat(retrievedThing.getRevision())
+                        .contains(ThingRevision.newInstance(createdRevision + modifications));
+                for (int i = 0; i < modifications; i++) {
+                    final String attributeKey = "counter" + i;
+                    Assertions.assertThat(retrievedThing.getAttributes().flatMap(a -> a.getValue(attributeKey)))
+                            .contains(JsonValue.of(i));
+                }
+            }
+        };
+    }
+
+    @Test
+    public void deleteThingAfterMoreModificationsThanFitIntoOneGroupCommit() {
+        TestKit.shutdownActorSystem(actorSystem);
+        setup(ConfigFactory.parseString("ditto.things.thing.group-commit.enabled = true\n" +
+                        "ditto.things.thing.group-commit.max-batch-size = 3")
+                .withValue("pekko.actor.provider",
+                        ConfigValueFactory.fromAnyRef("org.apache.pekko.cluster.ClusterActorRefProvider")));
+
+        final Thing thing = createThingV2WithRandomId();
+        final ThingId thingId = getIdOrThrow(thing);
+        final int modifications = 10;
+
+        new TestKit(actorSystem) {
+            {
+                ActorRef underTest = createPersistenceActorFor(thing);
+                underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+                final CreateThingResponse createThingResponse = expectMsgClass(CreateThingResponse.class);
+                final long createdRevision = createThingResponse.getThingCreated()
+                        .flatMap(Thing::getRevision)
+                        .map(ThingRevision::toLong)
+                        .orElseThrow();
+
+                // the modifications are buffered in several group commits when the deletion arrives
+                for (int i = 0; i < modifications; i++) {
+                    underTest.tell(ModifyAttribute.of(thingId, JsonPointer.of("counter" + i), JsonValue.of(i),
+                            dittoHeadersV2), getRef());
+                }
+                underTest.tell(DeleteThing.of(thingId, dittoHeadersV2), getRef());
+                for (int i = 0; i < modifications; i++) {
+                    final ModifyAttributeResponse response = expectMsgClass(ModifyAttributeResponse.class);
+                    Assertions.assertThat(response.getAttributePointer()).isEqualTo(JsonPointer.of("counter" + i));
+                }
+                expectMsgEquals(DeleteThingResponse.of(thingId, dittoHeadersV2));
+
+                // restart actor to recover thing state from the journal
+                watch(underTest);
+                underTest.tell(PoisonPill.getInstance(), getRef());
+                expectTerminated(underTest);
+                underTest = Retry.untilSuccess(() -> createPersistenceActorFor(thing));
+
+                underTest.tell(RetrieveThing.of(thingId, dittoHeadersV2), getRef());
+                expectMsgClass(ThingNotAccessibleException.class);
+
+                // the deletion was journaled after all modifications, so the next revision follows all of them
+                underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+                final CreateThingResponse recreateThingResponse = expectMsgClass(CreateThingResponse.class);
+                Assertions.assertThat(recreateThingResponse.getThingCreated().flatMap(Thing::getRevision))
+                        .contains(ThingRevision.newInstance(createdRevision + modifications + 2));
+            }
+        };
+    }
+
+    @Test
+    public void rejectedCommandBetweenModificationsWithGroupCommit() {
+        TestKit.shutdownActorSystem(actorSystem);
+        setup(ConfigFactory.parseString("ditto.things.thing.group-commit.enabled = true")
+                .withValue("pekko.actor.provider",
+                        ConfigValueFactory.fromAnyRef("org.apache.pekko.cluster.ClusterActorRefProvider")));
+
+        final Thing thing = createThingV2WithRandomId();
+        final ThingId thingId = getIdOrThrow(thing);
+        final int modifications = 6;
+        final int rejectedModification = 3;
+        final DittoHeaders nonMatchingHeaders = dittoHeadersV2.toBuilder()
+                .ifMatch(EntityTagMatchers.fromCommaSeparatedString("\"rev:9999\""))
+                .build();
+
+        new TestKit(actorSystem) {
+            {
+                ActorRef underTest = createPersistenceActorFor(thing);
+                underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+                final CreateThingResponse createThingResponse = expectMsgClass(CreateThingResponse.class);
+                final long createdRevision = createThingResponse.getThingCreated()
+                        .flatMap(Thing::getRevision)
+                        .map(ThingRevision::toLong)
+                        .orElseThrow();
+
+                for (int i = 0; i < modifications; i++) {
+                    final DittoHeaders headers = i == rejectedModification ? nonMatchingHeaders : dittoHeadersV2;
+                    underTest.tell(ModifyAttribute.of(thingId, JsonPointer.of("counter" + i), JsonValue.of(i),
+                            headers), getRef());
+                }
+                for (int i = 0; i < modifications; i++) {
+                    if (i == rejectedModification) {
+                        expectMsgClass(ThingPreconditionFailedException.class);
+                    } else {
+                        final ModifyAttributeResponse response = expectMsgClass(ModifyAttributeResponse.class);
+                        Assertions.assertThat(response.getAttributePointer())
+                                .isEqualTo(JsonPointer.of("counter" + i));
+                    }
+                }
+
+                // restart actor to recover thing state from the journal
+                watch(underTest);
+                underTest.tell(PoisonPill.getInstance(), getRef());
+                expectTerminated(underTest);
+                underTest = Retry.untilSuccess(() -> createPersistenceActorFor(thing));
+
+                underTest.tell(RetrieveThing.of(thingId, dittoHeadersV2), getRef());
+                final RetrieveThingResponse retrieveThingResponse = expectMsgClass(RetrieveThingResponse.class);
+                final Thing retrievedThing = retrieveThingResponse.getThing();
+                Assertions.assertThat(retrievedThing.getRevision())
+                        .contains(ThingRevision.newInstance(createdRevision + modifications - 1));
+                for (int i = 0; i < modifications; i++) {
+                    final String attributeKey = "counter" + i;
+                    if (i == rejectedModification) {
+                        Assertions.assertThat(retrievedThing.getAttributes().flatMap(a -> a.getValue(attributeKey)))
+                                .isEmpty();
+                    } else {
+                        Assertions.assertThat(retrievedThing.getAttributes().flatMap(a -> a.getValue(attributeKey)))
+                                .contains(JsonValue.of(i));
+                    }
+                }
+            }
+        };
+    }
+
     @Test
     public void retrieveAttribute() {
         final JsonPointer attributeKey = JsonFactory.newPointer("isValid");
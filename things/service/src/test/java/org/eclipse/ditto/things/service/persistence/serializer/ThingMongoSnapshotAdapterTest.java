@@ -29,6 +29,7 @@ import org.bson.BsonDocument;
 import org.eclipse.ditto.base.api.persistence.PersistenceLifecycle;
 import org.eclipse.ditto.base.model.json.FieldType;
 import org.eclipse.ditto.internal.utils.cluster.DistPubSubAccess;
+import org.eclipse.ditto.internal.utils.persistence.mongo.SnapshotFormat;
 import org.eclipse.ditto.things.api.ThingSnapshotTaken;
 import org.eclipse.ditto.things.model.TestConstants;
 import org.eclipse.ditto.things.model.Thing;
@@ -77,6 +78,31 @@ public final class ThingMongoSnapshotAdapterTest {
         expectSnapshotPublished(thingV2);
     }
 
+    @Test
+    public void compressedCborSnapshotRoundTripReturnsExpected() {
+        underTest = new ThingMongoSnapshotAdapter(pubSubProbe.ref(), ConfigFactory.parseMap(Map.of(
+                ThingMongoSnapshotAdapter.THING_SNAPSHOT_TAKEN_EVENT_PUBLISHING_ENABLED, false,
+                SnapshotFormat.CONFIG_KEY, SnapshotFormat.CBOR_LZ4.toString()
+        )));
+
+        toSnapshotStoreFromSnapshotStoreRoundTripReturnsExpected(TestConstants.Thing.THING_V2);
+    }
+
+    @Test
+    public void bsonSnapshotIsReadWhenCompressedCborSnapshotsAreWritten() {
+        final Object bsonSnapshot = underTest.toSnapshotStore(TestConstants.Thing.THING_V2);
+        final ThingMongoSnapshotAdapter compressingAdapter = new ThingMongoSnapshotAdapter(pubSubProbe.ref(),
+                ConfigFactory.parseMap(Map.of(
+                        ThingMongoSnapshotAdapter.THING_SNAPSHOT_TAKEN_EVENT_PUBLISHING_ENABLED, false,
+                        SnapshotFormat.CONFIG_KEY, SnapshotFormat.CBOR_LZ4.toString()
+                )));
+
+        final Thing restoredThing =
+                compressingAdapter.fromSnapshotStore(new SnapshotOffer(SNAPSHOT_METADATA, bsonSnapshot));
+
+        softly.assertThat(restoredThing).as("restored Thing").isEqualTo(TestConstants.Thing.THING_V2);
+    }
+
     private void toSnapshotStoreFromSnapshotStoreRoundTripReturnsExpected(final Thing thing) {
         final Object rawSnapshotEntity = underTest.toSnapshotStore(thing);
 
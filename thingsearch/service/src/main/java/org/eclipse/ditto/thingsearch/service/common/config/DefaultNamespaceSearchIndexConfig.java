@@ -12,10 +12,12 @@
  */
 package org.eclipse.ditto.thingsearch.service.common.config;
 
+import java.text.MessageFormat;
 import java.util.List;
 import java.util.Objects;
 
 import org.eclipse.ditto.internal.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.internal.utils.config.DittoConfigError;
 
 import com.typesafe.config.Config;
 
@@ -29,6 +31,8 @@ public final class DefaultNamespaceSearchIndexConfig implements NamespaceSearchI
 
     private final List<String> includedFields;
 
+    private final List<String> sortKeys;
+
     private DefaultNamespaceSearchIndexConfig(final ConfigWithFallback configWithFallback) {
 
         this.namespacePattern =
@@ -41,6 +45,14 @@ public final class DefaultNamespaceSearchIndexConfig implements NamespaceSearchI
         } else {
             this.includedFields = List.of();
         }
+
+        sortKeys = List.copyOf(
+                configWithFallback.getStringList(NamespaceSearchIndexConfigValue.SORT_KEYS.getConfigPath()));
+        if (sortKeys.size() > MAX_SORT_KEYS) {
+            throw new DittoConfigError(MessageFormat.format(
+                    "At most <{0}> sort keys are supported for namespace pattern <{1}>, but got: <{2}>",
+                    MAX_SORT_KEYS, namespacePattern, sortKeys));
+        }
     }
 
     /**
@@ -64,6 +76,11 @@ public final class DefaultNamespaceSearchIndexConfig implements NamespaceSearchI
         return includedFields;
     }
 
+    @Override
+    public List<String> getSortKeys() {
+        return sortKeys;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -74,12 +91,13 @@ public final class DefaultNamespaceSearchIndexConfig implements NamespaceSearchI
         }
         final DefaultNamespaceSearchIndexConfig that = (DefaultNamespaceSearchIndexConfig) o;
         return Objects.equals(namespacePattern, that.namespacePattern) &&
-                includedFields.equals(that.includedFields);
+                includedFields.equals(that.includedFields) &&
+                sortKeys.equals(that.sortKeys);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(namespacePattern, includedFields);
+        return Objects.hash(namespacePattern, includedFields, sortKeys);
     }
 
     @Override
@@ -87,6 +105,7 @@ public final class DefaultNamespaceSearchIndexConfig implements NamespaceSearchI
         return getClass().getSimpleName() + " [" +
                 "namespacePattern=" + namespacePattern +
                 ", searchIncludeFields=" + includedFields +
+                ", sortKeys=" + sortKeys +
                 "]";
     }
 }
\ No newline at end of file
@@ -37,6 +37,9 @@ public final class DefaultPersistenceStreamConfig implements PersistenceStreamCo
 
     private final Duration ackDelay;
     private final WriteConcern withAcknowledgementsWriteConcern;
+    private final int maxBulkSize;
+    private final long maxBulkBytes;
+    private final Duration targetBulkLatency;
     private final DefaultStreamStageConfig defaultStreamStageConfig;
 
     private DefaultPersistenceStreamConfig(final ConfigWithFallback persistenceStreamScopedConfig,
@@ -52,6 +55,11 @@ public final class DefaultPersistenceStreamConfig implements PersistenceStreamCo
                                     writeConcernString);
                     return new DittoConfigError(msg);
                 });
+        maxBulkSize = persistenceStreamScopedConfig.getPositiveIntOrThrow(PersistenceStreamConfigValue.MAX_BULK_SIZE);
+        maxBulkBytes =
+                persistenceStreamScopedConfig.getNonNegativeBytesOrThrow(PersistenceStreamConfigValue.MAX_BULK_BYTES);
+        targetBulkLatency = persistenceStreamScopedConfig.getNonNegativeAndNonZeroDurationOrThrow(
+                PersistenceStreamConfigValue.TARGET_BULK_LATENCY);
         this.defaultStreamStageConfig = defaultStreamStageConfig;
     }
 
@@ -78,6 +86,21 @@ public final class DefaultPersistenceStreamConfig implements PersistenceStreamCo
         return withAcknowledgementsWriteConcern;
     }
 
+    @Override
+    public int getMaxBulkSize() {
+        return maxBulkSize;
+    }
+
+    @Override
+    public long getMaxBulkBytes() {
+        return maxBulkBytes;
+    }
+
+    @Override
+    public Duration getTargetBulkLatency() {
+        return targetBulkLatency;
+    }
+
     @Override
     public int getParallelism() {
         return defaultStreamStageConfig.getParallelism();
@@ -99,12 +122,16 @@ public final class DefaultPersistenceStreamConfig implements PersistenceStreamCo
         final DefaultPersistenceStreamConfig that = (DefaultPersistenceStreamConfig) o;
         return Objects.equals(ackDelay, that.ackDelay) &&
                 Objects.equals(withAcknowledgementsWriteConcern, that.withAcknowledgementsWriteConcern) &&
+                maxBulkSize == that.maxBulkSize &&
+                maxBulkBytes == that.maxBulkBytes &&
+                Objects.equals(targetBulkLatency, that.targetBulkLatency) &&
                 Objects.equals(defaultStreamStageConfig, that.defaultStreamStageConfig);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(ackDelay, withAcknowledgementsWriteConcern, defaultStreamStageConfig);
+        return Objects.hash(ackDelay, withAcknowledgementsWriteConcern, maxBulkSize, maxBulkBytes, targetBulkLatency,
+                defaultStreamStageConfig);
     }
 
     @Override
@@ -112,6 +139,9 @@ public final class DefaultPersistenceStreamConfig implements PersistenceStreamCo
         return getClass().getSimpleName() + " [" +
                 "ackDelay=" + ackDelay +
                 ", withAcknowledgementsWriteConcern=" + withAcknowledgementsWriteConcern +
+                ", maxBulkSize=" + maxBulkSize +
+                ", maxBulkBytes=" + maxBulkBytes +
+                ", targetBulkLatency=" + targetBulkLatency +
                 ", defaultStreamStageConfig=" + defaultStreamStageConfig +
                 "]";
     }
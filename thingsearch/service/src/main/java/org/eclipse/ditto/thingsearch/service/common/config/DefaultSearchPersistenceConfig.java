@@ -17,6 +17,8 @@ import java.util.Objects;
 
 import javax.annotation.concurrent.Immutable;
 
+import org.eclipse.ditto.internal.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.internal.utils.cache.config.DefaultCacheConfig;
 import org.eclipse.ditto.internal.utils.config.ConfigWithFallback;
 import org.eclipse.ditto.internal.utils.config.DittoConfigError;
 import org.eclipse.ditto.internal.utils.persistence.mongo.config.MongoDbConfig;
@@ -32,9 +34,14 @@ import com.typesafe.config.Config;
 public final class DefaultSearchPersistenceConfig implements SearchPersistenceConfig {
 
     private static final String CONFIG_PATH = "persistence";
+    private static final String COUNT_CACHE_CONFIG_PATH = "count-cache";
+    private static final String SORT_KEYS_CHECK_CACHE_CONFIG_PATH = "sort-keys-check-cache";
 
     private final ReadPreference readPreference;
     private final ReadConcern readConcern;
+    private final boolean countCacheEnabled;
+    private final CacheConfig countCacheConfig;
+    private final CacheConfig sortKeysCheckCacheConfig;
 
 
     private DefaultSearchPersistenceConfig(final ConfigWithFallback config) {
@@ -56,6 +63,9 @@ public final class DefaultSearchPersistenceConfig implements SearchPersistenceCo
                                     readConcernString);
                     return new DittoConfigError(msg);
                 });
+        countCacheEnabled = config.getBoolean(ConfigValue.COUNT_CACHE_ENABLED.getConfigPath());
+        countCacheConfig = DefaultCacheConfig.of(config, COUNT_CACHE_CONFIG_PATH);
+        sortKeysCheckCacheConfig = DefaultCacheConfig.of(config, SORT_KEYS_CHECK_CACHE_CONFIG_PATH);
     }
 
     /**
@@ -80,6 +90,21 @@ public final class DefaultSearchPersistenceConfig implements SearchPersistenceCo
         return readConcern;
     }
 
+    @Override
+    public boolean isCountCacheEnabled() {
+        return countCacheEnabled;
+    }
+
+    @Override
+    public CacheConfig getCountCacheConfig() {
+        return countCacheConfig;
+    }
+
+    @Override
+    public CacheConfig getSortKeysCheckCacheConfig() {
+        return sortKeysCheckCacheConfig;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -89,12 +114,16 @@ public final class DefaultSearchPersistenceConfig implements SearchPersistenceCo
             return false;
         }
         final DefaultSearchPersistenceConfig that = (DefaultSearchPersistenceConfig) o;
-        return readPreference == that.readPreference && readConcern == that.readConcern;
+        return readPreference == that.readPreference && readConcern == that.readConcern &&
+                countCacheEnabled == that.countCacheEnabled &&
+                Objects.equals(countCacheConfig, that.countCacheConfig) &&
+                Objects.equals(sortKeysCheckCacheConfig, that.sortKeysCheckCacheConfig);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(readPreference, readConcern);
+        return Objects.hash(readPreference, readConcern, countCacheEnabled, countCacheConfig,
+                sortKeysCheckCacheConfig);
     }
 
     @Override
@@ -102,6 +131,9 @@ public final class DefaultSearchPersistenceConfig implements SearchPersistenceCo
         return getClass().getSimpleName() + " [" +
                 "readPreference=" + readPreference +
                 ", readConcern=" + readConcern +
+                ", countCacheEnabled=" + countCacheEnabled +
+                ", countCacheConfig=" + countCacheConfig +
+                ", sortKeysCheckCacheConfig=" + sortKeysCheckCacheConfig +
                 "]";
     }
 }
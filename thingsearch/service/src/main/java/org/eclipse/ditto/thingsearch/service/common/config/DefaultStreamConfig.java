@@ -40,6 +40,8 @@ public final class DefaultStreamConfig implements StreamConfig {
     private final int maxArraySize;
     private final Duration writeInterval;
     private final Duration thingDeletionTimeout;
+    private final Duration coalescingWindow;
+    private final Duration coalescingMaxDelay;
     private final AskWithRetryConfig askWithRetryConfig;
     private final StreamStageConfig retrievalConfig;
     private final PersistenceStreamConfig persistenceStreamConfig;
@@ -51,6 +53,8 @@ public final class DefaultStreamConfig implements StreamConfig {
         writeInterval = streamScopedConfig.getNonNegativeDurationOrThrow(StreamConfigValue.WRITE_INTERVAL);
         thingDeletionTimeout =
                 streamScopedConfig.getNonNegativeDurationOrThrow(StreamConfigValue.THING_DELETION_TIMEOUT);
+        coalescingWindow = streamScopedConfig.getNonNegativeDurationOrThrow(StreamConfigValue.COALESCING_WINDOW);
+        coalescingMaxDelay = streamScopedConfig.getNonNegativeDurationOrThrow(StreamConfigValue.COALESCING_MAX_DELAY);
         askWithRetryConfig = DefaultAskWithRetryConfig.of(streamScopedConfig, ASK_WITH_RETRY_CONFIG_PATH);
         retrievalConfig = DefaultStreamStageConfig.getInstance(streamScopedConfig, RETRIEVAL_CONFIG_PATH);
         persistenceStreamConfig = DefaultPersistenceStreamConfig.of(streamScopedConfig);
@@ -84,6 +88,16 @@ public final class DefaultStreamConfig implements StreamConfig {
         return thingDeletionTimeout;
     }
 
+    @Override
+    public Duration getCoalescingWindow() {
+        return coalescingWindow;
+    }
+
+    @Override
+    public Duration getCoalescingMaxDelay() {
+        return coalescingMaxDelay;
+    }
+
     @Override
     public AskWithRetryConfig getAskWithRetryConfig() {
         return askWithRetryConfig;
@@ -121,6 +135,8 @@ public final class DefaultStreamConfig implements StreamConfig {
         return maxArraySize == that.maxArraySize &&
                 writeInterval.equals(that.writeInterval) &&
                 thingDeletionTimeout.equals(that.thingDeletionTimeout) &&
+                coalescingWindow.equals(that.coalescingWindow) &&
+                coalescingMaxDelay.equals(that.coalescingMaxDelay) &&
                 askWithRetryConfig.equals(that.askWithRetryConfig) &&
                 retrievalConfig.equals(that.retrievalConfig) &&
                 persistenceStreamConfig.equals(that.persistenceStreamConfig) &&
@@ -131,7 +147,8 @@ public final class DefaultStreamConfig implements StreamConfig {
     @Override
     public int hashCode() {
         return Objects.hash(maxArraySize, writeInterval, askWithRetryConfig, retrievalConfig,
-                persistenceStreamConfig, policyCacheConfig, thingCacheConfig, thingDeletionTimeout);
+                persistenceStreamConfig, policyCacheConfig, thingCacheConfig, thingDeletionTimeout, coalescingWindow,
+                coalescingMaxDelay);
     }
 
     @Override
@@ -140,6 +157,8 @@ public final class DefaultStreamConfig implements StreamConfig {
                 "maxArraySize=" + maxArraySize +
                 ", writeInterval=" + writeInterval +
                 ", thingDeletionTimeout=" + thingDeletionTimeout +
+                ", coalescingWindow=" + coalescingWindow +
+                ", coalescingMaxDelay=" + coalescingMaxDelay +
                 ", askWithRetryConfig=" + askWithRetryConfig +
                 ", retrievalConfig=" + retrievalConfig +
                 ", persistenceStreamConfig=" + persistenceStreamConfig +
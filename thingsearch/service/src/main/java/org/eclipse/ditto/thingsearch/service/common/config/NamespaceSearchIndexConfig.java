@@ -39,6 +39,23 @@ public interface NamespaceSearchIndexConfig {
      */
     List<String> getIndexedFields();
 
+    /**
+     * Returns the thing fields whose values are copied into dedicated sort key fields of the search index.
+     * Searches restricted to matching namespaces which sort by exactly these fields followed by the thing ID are
+     * paged by keyset over a compound index instead of the wildcard index.
+     *
+     * @return the sort keys, at most {@link #MAX_SORT_KEYS}.
+     * @since 3.6.0
+     */
+    List<String> getSortKeys();
+
+    /**
+     * The maximum number of sort keys per namespace.
+     *
+     * @since 3.6.0
+     */
+    int MAX_SORT_KEYS = 3;
+
     enum NamespaceSearchIndexConfigValue implements KnownConfigValue {
 
         /**
@@ -49,7 +66,14 @@ public interface NamespaceSearchIndexConfig {
         /**
          * The list of fields that will be included in the search DB.
          */
-        INDEXED_FIELDS("indexed-fields", List.of());
+        INDEXED_FIELDS("indexed-fields", List.of()),
+
+        /**
+         * The list of fields to materialize as sort keys.
+         *
+         * @since 3.6.0
+         */
+        SORT_KEYS("sort-keys", List.of());
 
         private final String configPath;
         private final Object defaultValue;
@@ -41,6 +41,31 @@ public interface PersistenceStreamConfig extends StreamStageConfig {
      */
     WriteConcern getWithAcknowledgementsWriteConcern();
 
+    /**
+     * Returns the maximum number of write models to combine into one bulk write.
+     * A value of 1 writes each write model on its own.
+     *
+     * @return the maximum bulk size.
+     * @since 3.6.0
+     */
+    int getMaxBulkSize();
+
+    /**
+     * Returns the maximum estimated size in bytes of the write models combined into one bulk write.
+     *
+     * @return the maximum bulk size in bytes.
+     * @since 3.6.0
+     */
+    long getMaxBulkBytes();
+
+    /**
+     * Returns the bulk write latency to aim for when adapting the number of write models per bulk write.
+     *
+     * @return the target latency of bulk writes.
+     * @since 3.6.0
+     */
+    Duration getTargetBulkLatency();
+
     /**
      * An enumeration of known config path expressions and their associated default values for
      * {@code PersistenceStreamConfig}.
@@ -57,7 +82,22 @@ public interface PersistenceStreamConfig extends StreamStageConfig {
          * The write concern used for search index updates requiring acknowledgements.
          * See {@link com.mongodb.WriteConcern} for available options.
          */
-        WITH_ACKS_WRITE_CONCERN("with-acks-writeConcern", "journaled");
+        WITH_ACKS_WRITE_CONCERN("with-acks-writeConcern", "journaled"),
+
+        /**
+         * The maximum number of write models per bulk write.
+         */
+        MAX_BULK_SIZE("max-bulk-size", 250),
+
+        /**
+         * The maximum estimated size of the write models per bulk write.
+         */
+        MAX_BULK_BYTES("max-bulk-bytes", "4m"),
+
+        /**
+         * The latency of bulk writes to aim for; slower bulk writes reduce the number of write models per bulk write.
+         */
+        TARGET_BULK_LATENCY("target-bulk-latency", Duration.ofMillis(500L));
 
         private final String configPath;
         private final Object defaultValue;
@@ -14,6 +14,7 @@ package org.eclipse.ditto.thingsearch.service.common.config;
 
 import javax.annotation.concurrent.Immutable;
 
+import org.eclipse.ditto.internal.utils.cache.config.CacheConfig;
 import org.eclipse.ditto.internal.utils.config.KnownConfigValue;
 import org.eclipse.ditto.internal.utils.persistence.mongo.config.ReadConcern;
 import org.eclipse.ditto.internal.utils.persistence.mongo.config.ReadPreference;
@@ -38,6 +39,34 @@ public interface SearchPersistenceConfig {
      */
     ReadConcern readConcern();
 
+    /**
+     * Indicates whether the results of count queries are cached.
+     *
+     * @return whether count results are cached.
+     * @since 3.6.0
+     */
+    boolean isCountCacheEnabled();
+
+    /**
+     * Returns the configuration of the cache for count results.
+     * Entries are keyed by the query filter including the authorization subjects, thus the expiry defines how long a
+     * count may lag behind the search index.
+     *
+     * @return the count cache config.
+     * @since 3.6.0
+     */
+    CacheConfig getCountCacheConfig();
+
+    /**
+     * Returns the configuration of the cache for the results of checking whether all things of a namespace carry
+     * the materialized sort keys, which is required to page queries by keyset over the sort keys.
+     * The expiry defines how long a namespace keeps using or not using the sort keys after the result changed.
+     *
+     * @return the sort keys check cache config.
+     * @since 3.6.0
+     */
+    CacheConfig getSortKeysCheckCacheConfig();
+
     /**
      * An enumeration of known config path expressions and their associated default values for {@code SearchPersistenceConfig}.
      */
@@ -51,7 +80,14 @@ public interface SearchPersistenceConfig {
         /**
          * Determines the read concern used for MongoDB connections. See {@link ReadConcern} for available options.
          */
-        READ_CONCERN("readConcern", "default");
+        READ_CONCERN("readConcern", "default"),
+
+        /**
+         * Determines whether the results of count queries are cached.
+         *
+         * @since 3.6.0
+         */
+        COUNT_CACHE_ENABLED("count-cache.enabled", false);
 
         private final String configPath;
         private final Object defaultValue;
@@ -44,6 +44,26 @@ public interface StreamConfig {
      */
     Duration getThingDeletionTimeout();
 
+    /**
+     * Returns the quiet period after the last change of a thing before its search index entry is updated.
+     * Changes arriving within the window are coalesced into a single update.
+     * A zero duration disables coalescing; updates are then written every {@link #getWriteInterval()}.
+     *
+     * @return the coalescing window.
+     * @since 3.6.0
+     */
+    Duration getCoalescingWindow();
+
+    /**
+     * Returns the maximum delay of the search index update of a thing whose changes are coalesced, measured from its
+     * first change not yet written.
+     * It bounds the delay for things which change more often than the coalescing window.
+     *
+     * @return the maximum delay of coalesced updates.
+     * @since 3.6.0
+     */
+    Duration getCoalescingMaxDelay();
+
     /**
      * Returns the configuration for the used "ask with retry" pattern in the search updater for retrieval of things and
      * policies.
@@ -98,7 +118,21 @@ public interface StreamConfig {
         /**
          * The delay before the updater actor is stopped after receiving a ThingDeleted event.
          */
-        THING_DELETION_TIMEOUT("thing-deletion-timeout", Duration.ofMinutes(5));
+        THING_DELETION_TIMEOUT("thing-deletion-timeout", Duration.ofMinutes(5)),
+
+        /**
+         * The quiet period after the last change of a thing before its update is written; zero disables coalescing.
+         *
+         * @since 3.6.0
+         */
+        COALESCING_WINDOW("coalescing-window", Duration.ZERO),
+
+        /**
+         * The maximum delay of a coalesced update since the first change not yet written.
+         *
+         * @since 3.6.0
+         */
+        COALESCING_MAX_DELAY("coalescing-max-delay", Duration.ofSeconds(5L));
 
         private final String configPath;
         private final Object defaultValue;
@@ -84,6 +84,13 @@ public final class Indices {
     private static final Index NAMESPACE =
             IndexFactory.newInstance("_namespace", List.of(FIELD_NAMESPACE, FIELD_ID), false);
 
+    /**
+     * Index for keyset pagination over the materialized sort keys of namespaces with configured sort keys.
+     * Sparse so that things without sort keys do not occupy it.
+     */
+    static final Index SORT_KEYS = IndexFactory.newInstance(SortKeys.INDEX_NAME, SortKeys.getIndexedFields(), false,
+            true);
+
     /**
      * Index for namespace purging.
      */
@@ -99,9 +106,9 @@ public final class Indices {
     public static List<Index> all(final boolean documentDbCompatibilityMode) {
         if (documentDbCompatibilityMode) {
             // no wildcard index supported in DocumentDB (which is a MongoDB 4.2 feature):
-            return List.of(NAMESPACE, GLOBAL_READ, POLICY, REFERENCED_POLICIES, DELETE_AT);
+            return List.of(NAMESPACE, GLOBAL_READ, POLICY, REFERENCED_POLICIES, SORT_KEYS, DELETE_AT);
         } else {
-            return List.of(NAMESPACE, GLOBAL_READ, WILDCARD, POLICY, REFERENCED_POLICIES, DELETE_AT);
+            return List.of(NAMESPACE, GLOBAL_READ, WILDCARD, POLICY, REFERENCED_POLICIES, SORT_KEYS, DELETE_AT);
         }
     }
 
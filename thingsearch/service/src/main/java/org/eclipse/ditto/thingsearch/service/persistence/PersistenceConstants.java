@@ -189,6 +189,27 @@ public final class PersistenceConstants {
      */
     public static final String FIELD_DELETE_AT = "deleteAt";
 
+    /**
+     * Field name for the materialized sort keys of things in namespaces with configured sort keys.
+     *
+     * @since 3.6.0
+     */
+    public static final String FIELD_SORT_KEYS = "__sortKeys";
+
+    /**
+     * Field name of the thing ID inside the materialized sort keys.
+     *
+     * @since 3.6.0
+     */
+    public static final String FIELD_SORT_KEY_ID = "id";
+
+    /**
+     * Field name of the sort key paths inside the materialized sort keys, which define the meaning of the slots.
+     *
+     * @since 3.6.0
+     */
+    public static final String FIELD_SORT_KEY_PATHS = "k";
+
     /**
      * Field name for the last modified timestamp under FIELD_SORTING.
      */
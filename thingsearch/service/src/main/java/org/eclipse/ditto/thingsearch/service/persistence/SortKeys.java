@@ -0,0 +1,362 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence;
+
+import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.DOT;
+import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.FIELD_ID;
+import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.FIELD_NAMESPACE;
+import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.FIELD_SORT_KEYS;
+import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.FIELD_SORT_KEY_ID;
+import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.FIELD_SORT_KEY_PATHS;
+import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.FIELD_THING;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.eclipse.ditto.base.model.common.LikeHelper;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.rql.query.SortDirection;
+import org.eclipse.ditto.rql.query.SortOption;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.thingsearch.service.common.config.NamespaceSearchIndexConfig;
+import org.eclipse.ditto.thingsearch.service.persistence.read.expression.visitors.GetSortBsonVisitor;
+
+/**
+ * Sort keys configured per namespace pattern.
+ * <p>
+ * On the write side, the values of the sort key fields of a thing are copied verbatim into the field
+ * {@value PersistenceConstants#FIELD_SORT_KEYS} together with the thing ID and the sort key paths, which define the
+ * meaning of the positional slots of the copies.
+ * Things whose sort key fields lie below an array get no copies: MongoDB matches and sorts such fields by the elements
+ * of the array, which a verbatim copy cannot reproduce.
+ * On the read side, queries restricted to namespaces with identical sort keys which sort by exactly these fields
+ * followed by the thing ID are rewritten to filter and sort on the copies, so that MongoDB pages through the compound
+ * index {@value #INDEX_NAME} by keyset instead of sorting the results of the wildcard index in memory.
+ * The rewrite is only correct once all things of the namespaces carry copies for the current sort key paths, which
+ * callers check with {@link #outdatedFilter(String, String)} before using it.
+ * </p>
+ *
+ * @since 3.6.0
+ */
+@Immutable
+public final class SortKeys {
+
+    /**
+     * Name of the compound index over the materialized sort keys.
+     */
+    static final String INDEX_NAME = "sort_keys";
+
+    private static final SortKeys EMPTY = new SortKeys(List.of());
+
+    private static final List<String> SLOTS = IntStream.range(0, NamespaceSearchIndexConfig.MAX_SORT_KEYS)
+            .mapToObj(String::valueOf)
+            .toList();
+
+    private final List<NamespaceSortKeys> namespaceSortKeys;
+
+    private SortKeys(final List<NamespaceSortKeys> namespaceSortKeys) {
+        this.namespaceSortKeys = namespaceSortKeys;
+    }
+
+    /**
+     * Create sort keys from the namespace search index configurations.
+     * The first configuration with sort keys whose pattern matches a namespace applies to it.
+     *
+     * @param namespaceSearchIndexConfigs the namespace search index configurations.
+     * @return the sort keys.
+     */
+    public static SortKeys of(final List<NamespaceSearchIndexConfig> namespaceSearchIndexConfigs) {
+        final List<NamespaceSortKeys> namespaceSortKeys = namespaceSearchIndexConfigs.stream()
+                .filter(config -> !config.getSortKeys().isEmpty())
+                .map(NamespaceSortKeys::of)
+                .toList();
+        return namespaceSortKeys.isEmpty() ? EMPTY : new SortKeys(namespaceSortKeys);
+    }
+
+    /**
+     * @return sort keys which do not apply to any namespace.
+     */
+    public static SortKeys empty() {
+        return EMPTY;
+    }
+
+    /**
+     * @return the fields of the sort keys index.
+     */
+    static List<String> getIndexedFields() {
+        return Stream.concat(Stream.of(FIELD_SORT_KEY_PATHS), getSortedFields().stream()).toList();
+    }
+
+    private static List<String> getSortedFields() {
+        return Stream.concat(SLOTS.stream(), Stream.of(FIELD_SORT_KEY_ID))
+                .map(SortKeys::toSlotPath)
+                .toList();
+    }
+
+    /**
+     * Copy the values of the sort key fields of a thing into a sort keys document.
+     *
+     * @param thingId the ID of the thing.
+     * @param thingDocument the thing as stored in the search index.
+     * @return the sort keys document, or an empty optional if no sort keys are configured for the namespace or if a
+     * sort key field of the thing lies below an array.
+     */
+    public Optional<BsonDocument> materialize(final ThingId thingId, final BsonDocument thingDocument) {
+        return find(thingId.getNamespace()).flatMap(sortKeys -> {
+            final BsonDocument document = new BsonDocument();
+            for (int i = 0; i < sortKeys.paths().size(); ++i) {
+                final SeekResult seekResult = seekToPath(thingDocument, sortKeys.paths().get(i));
+                if (seekResult.belowArray()) {
+                    return Optional.empty();
+                } else if (seekResult.value() != null) {
+                    document.append(SLOTS.get(i), seekResult.value());
+                }
+            }
+            return Optional.of(document.append(FIELD_SORT_KEY_ID, new BsonString(thingId.toString()))
+                    .append(FIELD_SORT_KEY_PATHS, new BsonString(sortKeys.tag())));
+        });
+    }
+
+    /**
+     * Create the filter for the search index documents of a namespace which do not carry copies of the given sort
+     * keys, e.g. because they were not updated since the sort keys were configured or because their sort key fields
+     * lie below an array.
+     * As long as such documents exist, keyset queries over the sort keys would miss them.
+     *
+     * @param namespace the namespace.
+     * @param sortKeyPaths the sort key paths of a keyset query.
+     * @return the filter.
+     */
+    public static BsonDocument outdatedFilter(final String namespace, final String sortKeyPaths) {
+        return new BsonDocument()
+                .append(FIELD_NAMESPACE, new BsonString(namespace))
+                .append(toSlotPath(FIELD_SORT_KEY_PATHS), new BsonDocument("$ne", new BsonString(sortKeyPaths)));
+    }
+
+    /**
+     * Rewrite a query to filter and sort on the materialized sort keys.
+     *
+     * @param namespaces the namespaces the query is restricted to, or null if it is not restricted.
+     * @param sortOptions the sort options of the query.
+     * @param filter the filter of the query.
+     * @return the rewritten query, or an empty optional if the sort keys do not cover the query.
+     */
+    public Optional<KeysetQuery> toKeysetQuery(@Nullable final Set<String> namespaces,
+            final List<SortOption> sortOptions,
+            final BsonDocument filter) {
+
+        if (namespaceSortKeys.isEmpty() || namespaces == null || namespaces.isEmpty() || sortOptions.isEmpty()) {
+            return Optional.empty();
+        }
+        final Set<List<String>> distinctPaths = namespaces.stream()
+                .map(namespace -> find(namespace).map(NamespaceSortKeys::paths).orElse(List.of()))
+                .collect(Collectors.toSet());
+        if (distinctPaths.size() != 1) {
+            return Optional.empty();
+        }
+        final List<String> paths = distinctPaths.iterator().next();
+        if (paths.isEmpty() || !isCoveredBy(paths, sortOptions)) {
+            return Optional.empty();
+        }
+
+        final int direction = sortOptions.get(0).getSortDirection() == SortDirection.ASC ? 1 : -1;
+        final BsonDocument sort = new BsonDocument();
+        getSortedFields().forEach(field -> sort.append(field, new BsonInt32(direction)));
+        final BsonDocument hint = new BsonDocument();
+        getIndexedFields().forEach(field -> hint.append(field, new BsonInt32(1)));
+
+        // copies of other sort key paths have a different meaning and are never selected
+        final String sortKeyPaths = toTag(paths);
+        final BsonDocument keysetFilter = new BsonDocument("$and", new BsonArray(List.of(
+                new BsonDocument(toSlotPath(FIELD_SORT_KEY_PATHS), new BsonString(sortKeyPaths)),
+                renameFields(filter, paths))));
+
+        return Optional.of(new KeysetQuery(keysetFilter, sort, hint, sortKeyPaths, Set.copyOf(namespaces)));
+    }
+
+    private Optional<NamespaceSortKeys> find(final String namespace) {
+        return namespaceSortKeys.stream()
+                .filter(sortKeys -> sortKeys.namespacePattern().matcher(namespace).matches())
+                .findFirst();
+    }
+
+    private static boolean isCoveredBy(final List<String> paths, final List<SortOption> sortOptions) {
+        if (sortOptions.size() != paths.size() + 1) {
+            return false;
+        }
+        final SortDirection direction = sortOptions.get(0).getSortDirection();
+        for (int i = 0; i < sortOptions.size(); ++i) {
+            final SortOption sortOption = sortOptions.get(i);
+            final String expected = i < paths.size() ? paths.get(i) : FIELD_ID;
+            if (sortOption.getSortDirection() != direction ||
+                    !expected.equals(GetSortBsonVisitor.path(sortOption.getSortExpression()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Rename the sort key fields and the thing ID to their copies on the top level of a filter and inside logical
+     * operators. Fields inside other operators such as $elemMatch are left untouched; as the copies are verbatim, the
+     * renamed filter selects the same documents.
+     */
+    private static BsonDocument renameFields(final BsonDocument filter, final List<String> paths) {
+        final BsonDocument renamed = new BsonDocument();
+        filter.forEach((key, value) -> {
+            if (isLogicalOperator(key) && value.isArray()) {
+                final BsonArray operands = new BsonArray();
+                value.asArray().forEach(operand ->
+                        operands.add(operand.isDocument() ? renameFields(operand.asDocument(), paths) : operand));
+                renamed.append(key, operands);
+            } else {
+                renamed.append(renameField(key, paths), value);
+            }
+        });
+        return renamed;
+    }
+
+    private static boolean isLogicalOperator(final String key) {
+        return "$and".equals(key) || "$or".equals(key) || "$nor".equals(key);
+    }
+
+    private static String renameField(final String key, final List<String> paths) {
+        if (FIELD_ID.equals(key)) {
+            return toSlotPath(FIELD_SORT_KEY_ID);
+        }
+        final int index = paths.indexOf(key);
+        return index >= 0 ? toSlotPath(SLOTS.get(index)) : key;
+    }
+
+    private static String toSlotPath(final String slot) {
+        return FIELD_SORT_KEYS + DOT + slot;
+    }
+
+    private static String toTag(final List<String> paths) {
+        // '$' is escaped inside the mapped paths and therefore separates them unambiguously
+        return String.join("$", paths);
+    }
+
+    private static SeekResult seekToPath(final BsonDocument thingDocument, final String path) {
+        final String[] segments = path.split("\\.");
+        BsonValue value = thingDocument;
+        // the first segment is the field of the thing document itself
+        for (int i = 1; i < segments.length; ++i) {
+            if (value.isArray()) {
+                return SeekResult.BELOW_ARRAY;
+            } else if (!value.isDocument()) {
+                return SeekResult.MISSING;
+            }
+            value = value.asDocument().get(segments[i]);
+            if (value == null) {
+                return SeekResult.MISSING;
+            }
+        }
+        // arrays as sort key values are copied as a whole; MongoDB treats the copy exactly like the original
+        if (value.isDocument()) {
+            return new SeekResult(value.asDocument().clone(), false);
+        } else if (value.isArray()) {
+            return new SeekResult(value.asArray().clone(), false);
+        }
+        return new SeekResult(value, false);
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final SortKeys that = (SortKeys) o;
+        return namespaceSortKeys.equals(that.namespaceSortKeys);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(namespaceSortKeys);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "namespaceSortKeys=" + namespaceSortKeys +
+                "]";
+    }
+
+    /**
+     * A query rewritten to page by keyset over the sort keys index.
+     *
+     * @param filter the filter on the materialized sort keys.
+     * @param sort the sort on the materialized sort keys.
+     * @param hint the key pattern of the sort keys index.
+     * @param sortKeyPaths the sort key paths the materialized sort keys must have been copied from.
+     * @param namespaces the namespaces whose things must all carry copies of the sort key paths.
+     */
+    public record KeysetQuery(BsonDocument filter, BsonDocument sort, BsonDocument hint, String sortKeyPaths,
+                              Set<String> namespaces) {}
+
+    private record SeekResult(@Nullable BsonValue value, boolean belowArray) {
+
+        private static final SeekResult MISSING = new SeekResult(null, false);
+        private static final SeekResult BELOW_ARRAY = new SeekResult(null, true);
+    }
+
+    private record NamespaceSortKeys(Pattern namespacePattern, List<String> paths) {
+
+        private String tag() {
+            return toTag(paths);
+        }
+
+        private static NamespaceSortKeys of(final NamespaceSearchIndexConfig config) {
+            final Pattern pattern = Pattern.compile(
+                    Objects.requireNonNull(LikeHelper.convertToRegexSyntax(config.getNamespacePattern())));
+            final List<String> paths = new ArrayList<>(config.getSortKeys().size());
+            for (final String sortKey : config.getSortKeys()) {
+                final JsonPointer pointer = JsonPointer.of(sortKey);
+                paths.add(MongoSortKeyMappingFunction.mapSortKey(FIELD_THING,
+                        pointer.toString().substring(1)));
+            }
+            return new NamespaceSortKeys(pattern, List.copyOf(paths));
+        }
+
+        @Override
+        public boolean equals(@Nullable final Object o) {
+            return o instanceof NamespaceSortKeys that &&
+                    namespacePattern.pattern().equals(that.namespacePattern.pattern()) &&
+                    paths.equals(that.paths);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(namespacePattern.pattern(), paths);
+        }
+    }
+
+}
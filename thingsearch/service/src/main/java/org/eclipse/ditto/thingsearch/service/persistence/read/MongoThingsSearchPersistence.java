@@ -21,6 +21,8 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
@@ -33,12 +35,15 @@ import org.apache.pekko.event.Logging;
 import org.apache.pekko.event.LoggingAdapter;
 import org.apache.pekko.japi.pf.PFBuilder;
 import org.apache.pekko.stream.SystemMaterializer;
+import org.apache.pekko.stream.javadsl.Sink;
 import org.apache.pekko.stream.javadsl.Source;
 import org.bson.BsonDocument;
 import org.bson.Document;
 import org.bson.conversions.Bson;
 import org.eclipse.ditto.base.model.entity.id.EntityId;
 import org.eclipse.ditto.internal.models.streaming.LowerBound;
+import org.eclipse.ditto.internal.utils.cache.Cache;
+import org.eclipse.ditto.internal.utils.cache.CacheFactory;
 import org.eclipse.ditto.internal.utils.persistence.mongo.BsonUtil;
 import org.eclipse.ditto.internal.utils.persistence.mongo.DittoBsonJson;
 import org.eclipse.ditto.internal.utils.persistence.mongo.DittoMongoClient;
@@ -58,6 +63,7 @@ import org.eclipse.ditto.thingsearch.service.common.model.ResultListImpl;
 import org.eclipse.ditto.thingsearch.service.common.model.TimestampedThingId;
 import org.eclipse.ditto.thingsearch.service.persistence.Indices;
 import org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants;
+import org.eclipse.ditto.thingsearch.service.persistence.SortKeys;
 import org.eclipse.ditto.thingsearch.service.persistence.read.criteria.visitors.CreateBsonVisitor;
 import org.eclipse.ditto.thingsearch.service.persistence.read.expression.visitors.GetSortBsonVisitor;
 import org.eclipse.ditto.thingsearch.service.persistence.read.query.MongoQuery;
@@ -68,6 +74,7 @@ import org.eclipse.ditto.thingsearch.service.persistence.write.model.ThingWriteM
 import org.mongodb.scala.MongoClient;
 import org.reactivestreams.Publisher;
 
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
 import com.mongodb.MongoExecutionTimeoutException;
 import com.mongodb.client.model.CountOptions;
 import com.mongodb.client.model.Filters;
@@ -92,6 +99,9 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
     private final Duration maxQueryTime;
     private final boolean documentDbCompatibilityMode;
     private final MongoHints hints;
+    private final SortKeys sortKeys;
+    private final Cache<SortKeysCheckKey, Boolean> sortKeysCheckCache;
+    @Nullable private final Cache<CountKey, Long> countCache;
 
     /**
      * Initializes the things search persistence with a passed in {@code persistence}.
@@ -112,7 +122,11 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
         maxQueryTime = mongoClient.getDittoSettings().getMaxQueryTime();
         documentDbCompatibilityMode = mongoClient.getDittoSettings().isDocumentDbCompatibilityMode();
         hints = MongoHints.empty();
-        log.info("Query readConcern=<{}> readPreference=<{}>", readConcern, readPreference);
+        sortKeys = SortKeys.empty();
+        sortKeysCheckCache = createSortKeysCheckCache(collection, persistenceConfig, maxQueryTime, actorSystem);
+        countCache = createCountCache(collection, persistenceConfig, maxQueryTime, actorSystem);
+        log.info("Query readConcern=<{}> readPreference=<{}> countCacheEnabled=<{}>", readConcern, readPreference,
+                persistenceConfig.isCountCacheEnabled());
     }
 
     private MongoThingsSearchPersistence(
@@ -121,7 +135,10 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
             final IndexInitializer indexInitializer,
             final Duration maxQueryTime,
             final boolean documentDbCompatibilityMode,
-            final MongoHints hints) {
+            final MongoHints hints,
+            final SortKeys sortKeys,
+            final Cache<SortKeysCheckKey, Boolean> sortKeysCheckCache,
+            @Nullable final Cache<CountKey, Long> countCache) {
 
         this.collection = collection;
         this.log = log;
@@ -129,6 +146,45 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
         this.maxQueryTime = maxQueryTime;
         this.documentDbCompatibilityMode = documentDbCompatibilityMode;
         this.hints = hints;
+        this.sortKeys = sortKeys;
+        this.sortKeysCheckCache = sortKeysCheckCache;
+        this.countCache = countCache;
+    }
+
+    private static Cache<SortKeysCheckKey, Boolean> createSortKeysCheckCache(
+            final MongoCollection<Document> collection,
+            final SearchPersistenceConfig persistenceConfig,
+            final Duration maxQueryTime,
+            final ActorSystem actorSystem) {
+
+        final var materializer = SystemMaterializer.get(actorSystem).materializer();
+        final AsyncCacheLoader<SortKeysCheckKey, Boolean> sortKeysCheckLoader = (checkKey, executor) ->
+                Source.fromPublisher(collection.countDocuments(
+                                SortKeys.outdatedFilter(checkKey.namespace(), checkKey.sortKeyPaths()),
+                                new CountOptions().limit(1).maxTime(maxQueryTime.getSeconds(), TimeUnit.SECONDS)))
+                        .map(outdatedCount -> outdatedCount == 0L)
+                        .runWith(Sink.head(), materializer)
+                        .toCompletableFuture();
+        return CacheFactory.createCache(sortKeysCheckLoader, persistenceConfig.getSortKeysCheckCacheConfig(),
+                "things-search_sort_keys_check_cache", actorSystem.dispatcher());
+    }
+
+    @Nullable
+    private static Cache<CountKey, Long> createCountCache(final MongoCollection<Document> collection,
+            final SearchPersistenceConfig persistenceConfig,
+            final Duration maxQueryTime,
+            final ActorSystem actorSystem) {
+
+        if (!persistenceConfig.isCountCacheEnabled()) {
+            return null;
+        }
+        final var materializer = SystemMaterializer.get(actorSystem).materializer();
+        final AsyncCacheLoader<CountKey, Long> countLoader = (countKey, executor) ->
+                Source.fromPublisher(collection.countDocuments(countKey.filter(), countKey.toCountOptions(maxQueryTime)))
+                        .runWith(Sink.head(), materializer)
+                        .toCompletableFuture();
+        return CacheFactory.createCache(countLoader, persistenceConfig.getCountCacheConfig(),
+                "things-search_count_cache", actorSystem.dispatcher());
     }
 
     /**
@@ -140,7 +196,20 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
     public MongoThingsSearchPersistence withHintsByNamespace(final String jsonString) {
         final MongoHints theHints = MongoHints.byNamespace(jsonString);
         return new MongoThingsSearchPersistence(collection, log, indexInitializer, maxQueryTime,
-                documentDbCompatibilityMode, theHints);
+                documentDbCompatibilityMode, theHints, sortKeys, sortKeysCheckCache, countCache);
+    }
+
+    /**
+     * Create a copy of this object which pages queries covered by the sort keys configured per namespace by keyset
+     * over the sort keys index, once all things of the queried namespaces carry the sort keys.
+     *
+     * @param theSortKeys the sort keys configured per namespace.
+     * @return copy of this object with sort keys configured.
+     * @since 3.6.0
+     */
+    public MongoThingsSearchPersistence withSortKeys(final SortKeys theSortKeys) {
+        return new MongoThingsSearchPersistence(collection, log, indexInitializer, maxQueryTime,
+                documentDbCompatibilityMode, hints, theSortKeys, sortKeysCheckCache, countCache);
     }
 
     @Override
@@ -189,12 +258,21 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
         final BsonDocument queryFilter = getMongoFilter(query, authorizationSubjectIds);
         log.debug("count with query filter <{}>.", queryFilter);
 
-        final CountOptions countOptions = new CountOptions()
-                .skip(query.getSkip())
-                .limit(query.getLimit())
-                .maxTime(maxQueryTime.getSeconds(), TimeUnit.SECONDS);
+        final var countKey = new CountKey(queryFilter, query.getSkip(), query.getLimit());
+        if (countCache != null && authorizationSubjectIds != null) {
+            // the filter contains the authorization subjects, thus cached counts are never shared between subjects
+            return Source.completionStage(countCache.get(countKey))
+                    .map(Optional::orElseThrow)
+                    .mapError(new PFBuilder<Throwable, Throwable>()
+                            .match(CompletionException.class, error -> error.getCause() != null
+                                    ? error.getCause()
+                                    : error)
+                            .build())
+                    .mapError(handleMongoExecutionTimeExceededException())
+                    .log("count");
+        }
 
-        return Source.fromPublisher(collection.countDocuments(queryFilter, countOptions))
+        return Source.fromPublisher(collection.countDocuments(queryFilter, countKey.toCountOptions(maxQueryTime)))
                 .mapError(handleMongoExecutionTimeExceededException())
                 .log("count");
     }
@@ -261,13 +339,47 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
             log.debug("findAll with query filter <{}>.", queryFilter);
         }
 
-        final Bson sortOptions = getMongoSort(query);
+        final Bson hint = hints.getHint(namespaces).orElse(null);
+        final Optional<SortKeys.KeysetQuery> keysetQuery =
+                sortKeys.toKeysetQuery(namespaces, query.getSortOptions(), queryFilter);
+
+        // things without sort keys would be missing from the results of a keyset query
+        return keysetQuery.map(theKeysetQuery -> Source.completionStage(areSortKeysComplete(theKeysetQuery))
+                        .flatMapConcat(complete -> complete
+                                ? find(query, theKeysetQuery.filter(), theKeysetQuery.sort(), theKeysetQuery.hint(),
+                                limit, maxQueryTime)
+                                : find(query, queryFilter, getMongoSort(query), hint, limit, maxQueryTime)))
+                .orElseGet(() -> find(query, queryFilter, getMongoSort(query), hint, limit, maxQueryTime));
+    }
+
+    private CompletionStage<Boolean> areSortKeysComplete(final SortKeys.KeysetQuery keysetQuery) {
+        final List<CompletableFuture<Boolean>> checks = keysetQuery.namespaces()
+                .stream()
+                .map(namespace -> sortKeysCheckCache.get(new SortKeysCheckKey(namespace, keysetQuery.sortKeyPaths()))
+                        .thenApply(complete -> complete.orElse(false)))
+                .toList();
+        return CompletableFuture.allOf(checks.toArray(CompletableFuture[]::new))
+                .thenApply(unused -> checks.stream().allMatch(CompletableFuture::join))
+                .exceptionally(error -> {
+                    log.warning("Failed to check sort keys <{}> of namespaces <{}>: {}", keysetQuery.sortKeyPaths(),
+                            keysetQuery.namespaces(), error.getMessage());
+                    return false;
+                });
+    }
+
+    private Source<Document, NotUsed> find(final Query query,
+            final Bson filter,
+            final Bson sortOptions,
+            @Nullable final Bson hint,
+            @Nullable final Integer limit,
+            @Nullable final Duration maxQueryTime) {
 
         final int skip = query.getSkip();
+        // the projection keeps the original sort fields as the cursor of the next page is computed from them
         final Bson projection = GetSortBsonVisitor.projections(query.getSortOptions());
         final FindPublisher<Document> findPublisher =
-                collection.find(queryFilter, Document.class)
-                        .hint(hints.getHint(namespaces).orElse(null))
+                collection.find(filter, Document.class)
+                        .hint(hint)
                         .sort(sortOptions)
                         .skip(skip)
                         .projection(projection);
@@ -410,4 +522,23 @@ public final class MongoThingsSearchPersistence implements ThingsSearchPersisten
         final Metadata actualMetadata = readAsMetadata(document);
         return ThingWriteModel.of(actualMetadata, bsonDocument);
     }
+
+    /**
+     * Key of a cached check whether all things of a namespace carry copies of the given sort key paths.
+     */
+    private record SortKeysCheckKey(String namespace, String sortKeyPaths) {}
+
+    /**
+     * Key of a cached count: the complete MongoDB filter including authorization subjects plus skip and limit.
+     */
+    private record CountKey(BsonDocument filter, int skip, int limit) {
+
+        private CountOptions toCountOptions(final Duration maxQueryTime) {
+            return new CountOptions()
+                    .skip(skip)
+                    .limit(limit)
+                    .maxTime(maxQueryTime.getSeconds(), TimeUnit.SECONDS);
+        }
+    }
+
 }
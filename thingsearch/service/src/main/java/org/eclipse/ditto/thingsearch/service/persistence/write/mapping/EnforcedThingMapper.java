@@ -22,6 +22,7 @@ import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConst
 import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.FIELD_POLICY_REVISION;
 import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.FIELD_REFERENCED_POLICIES;
 import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.FIELD_REVISION;
+import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.FIELD_SORT_KEYS;
 import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.FIELD_THING;
 
 import java.util.LinkedHashSet;
@@ -47,6 +48,7 @@ import org.eclipse.ditto.things.model.Thing;
 import org.eclipse.ditto.things.model.ThingId;
 import org.eclipse.ditto.thingsearch.api.UpdateReason;
 import org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants;
+import org.eclipse.ditto.thingsearch.service.persistence.SortKeys;
 import org.eclipse.ditto.thingsearch.service.persistence.write.model.Metadata;
 import org.eclipse.ditto.thingsearch.service.persistence.write.model.ThingWriteModel;
 
@@ -77,6 +79,31 @@ public final class EnforcedThingMapper {
             final long policyRevision,
             @Nullable final Metadata oldMetadata, final int maxArraySize) {
 
+        return toWriteModel(thing, policy, referencedPolicies, policyRevision, oldMetadata, maxArraySize,
+                SortKeys.empty());
+    }
+
+    /**
+     * Map a Thing JSON into a search index write model including the materialized sort keys of its namespace.
+     *
+     * @param thing the Thing in JSON format.
+     * @param policy the policy-enforcer of the Thing.
+     * @param policyRevision revision of the policy for a policy enforcer.
+     * @param referencedPolicies all policies referenced by the policy.
+     * @param oldMetadata the metadata that triggered the search update, possibly containing sender information.
+     * @param maxArraySize only arrays smaller than this are indexed.
+     * @param sortKeys the sort keys configured per namespace.
+     * @return BSON document to write into the search index.
+     * @throws org.eclipse.ditto.json.JsonMissingFieldException if Thing ID or revision is missing.
+     * @since 3.6.0
+     */
+    public static ThingWriteModel toWriteModel(final JsonObject thing,
+            final Policy policy,
+            final Set<PolicyTag> referencedPolicies,
+            final long policyRevision,
+            @Nullable final Metadata oldMetadata, final int maxArraySize,
+            final SortKeys sortKeys) {
+
         final String extractedThing = thing.getValueOrThrow(Thing.JsonFields.ID);
         final var thingId = ThingId.of(extractedThing);
         final long thingRevision = thing.getValueOrThrow(Thing.JsonFields.REVISION);
@@ -108,7 +135,7 @@ public final class EnforcedThingMapper {
                                 .orElse(List.of(UpdateReason.UNKNOWN))
                 );
 
-        return ThingWriteModel.of(metadata, toBsonDocument(thing, policy, metadata, maxArraySize));
+        return ThingWriteModel.of(metadata, toBsonDocument(thing, policy, metadata, maxArraySize, sortKeys));
     }
 
     static BsonDocument toBsonDocument(final JsonObject thing, final Policy policy, final Metadata metadata) {
@@ -118,6 +145,12 @@ public final class EnforcedThingMapper {
     static BsonDocument toBsonDocument(final JsonObject thing, final Policy policy, final Metadata metadata,
             final int maxArraySize) {
 
+        return toBsonDocument(thing, policy, metadata, maxArraySize, SortKeys.empty());
+    }
+
+    static BsonDocument toBsonDocument(final JsonObject thing, final Policy policy, final Metadata metadata,
+            final int maxArraySize, final SortKeys sortKeys) {
+
         final var enforced = IndexLengthRestrictionEnforcerVisitor.enforce(thing, maxArraySize);
         final var thingId = metadata.getThingId();
         final var thingRevision = metadata.getThingRevision();
@@ -128,7 +161,8 @@ public final class EnforcedThingMapper {
         final var featureArray = getFeatureArray(thing, evaluatedPolicy);
         final BsonArray referencedPolicies = getReferencedPolicies(metadata.getAllReferencedPolicyTags());
 
-        return new BsonDocument().append(PersistenceConstants.FIELD_ID, new BsonString(thingId.toString()))
+        final BsonDocument document = new BsonDocument()
+                .append(PersistenceConstants.FIELD_ID, new BsonString(thingId.toString()))
                 .append(FIELD_NAMESPACE, new BsonString(thingId.getNamespace()))
                 .append(FIELD_GLOBAL_READ, evaluatedPolicy.getGlobalRead())
                 .append(FIELD_REVISION, new BsonInt64(thingRevision))
@@ -138,6 +172,9 @@ public final class EnforcedThingMapper {
                 .append(FIELD_THING, thingBson)
                 .append(FIELD_POLICY, evaluatedPolicy.forThing())
                 .append(FIELD_F_ARRAY, featureArray);
+        sortKeys.materialize(thingId, thingBson)
+                .ifPresent(sortKeysDocument -> document.append(FIELD_SORT_KEYS, sortKeysDocument));
+        return document;
     }
 
     private static BsonArray getReferencedPolicies(final Set<PolicyTag> referencedPolicyTags) {
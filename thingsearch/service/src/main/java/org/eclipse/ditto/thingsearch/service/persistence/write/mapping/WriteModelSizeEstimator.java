@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.write.mapping;
+
+import java.util.List;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.bson.BsonDocument;
+import org.bson.conversions.Bson;
+
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.WriteModel;
+
+/**
+ * Estimates the size of the documents which MongoDB write models carry.
+ *
+ * @since 3.6.0
+ */
+@Immutable
+public final class WriteModelSizeEstimator {
+
+    /**
+     * Estimated size of a filter and of the framing of a write model.
+     */
+    private static final int WRITE_MODEL_OVERHEAD = 128;
+
+    private WriteModelSizeEstimator() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Estimate the size of a write model in bytes.
+     * Replacement documents and update documents or pipelines are measured; filters are accounted for by a constant.
+     *
+     * @param writeModel the write model.
+     * @return the estimated size.
+     */
+    public static int estimate(final WriteModel<BsonDocument> writeModel) {
+        if (writeModel instanceof final ReplaceOneModel<BsonDocument> replaceOneModel) {
+            return WRITE_MODEL_OVERHEAD + estimate(replaceOneModel.getReplacement());
+        } else if (writeModel instanceof final UpdateOneModel<BsonDocument> updateOneModel) {
+            final List<? extends Bson> pipeline = updateOneModel.getUpdatePipeline();
+            return WRITE_MODEL_OVERHEAD + (pipeline != null
+                    ? pipeline.stream().mapToInt(WriteModelSizeEstimator::estimate).sum()
+                    : estimate(updateOneModel.getUpdate()));
+        } else {
+            return WRITE_MODEL_OVERHEAD;
+        }
+    }
+
+    private static int estimate(final Bson bson) {
+        // documents created by the search updater are BSON documents; others are not worth converting
+        return bson instanceof final BsonDocument document ? new BsonSizeVisitor().eval(document) : 0;
+    }
+
+}
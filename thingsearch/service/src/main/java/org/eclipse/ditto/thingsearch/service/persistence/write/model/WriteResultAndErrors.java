@@ -83,6 +83,24 @@ public final class WriteResultAndErrors {
                 mongoBulkWriteException.getWriteErrors(), null, bulkWriteCorrelationId);
     }
 
+    /**
+     * Create a WriteResultAndErrors from a bulk write result and the errors of individual write models.
+     *
+     * @param writeModels the requested write models.
+     * @param bulkWriteResult the bulk write result.
+     * @param bulkWriteErrors the errors of individual write models; their indexes refer to {@code writeModels}.
+     * @param bulkWriteCorrelationId a correlationId to use for correlating bulk write log statements.
+     * @return the write result with the errors.
+     * @since 3.6.0
+     */
+    public static WriteResultAndErrors of(final Collection<MongoWriteModel> writeModels,
+            final BulkWriteResult bulkWriteResult,
+            final List<BulkWriteError> bulkWriteErrors,
+            final String bulkWriteCorrelationId) {
+        return new WriteResultAndErrors(writeModels, bulkWriteResult, List.copyOf(bulkWriteErrors), null,
+                bulkWriteCorrelationId);
+    }
+
     public static WriteResultAndErrors failure(final Throwable error) {
         return new WriteResultAndErrors(List.of(), BulkWriteResult.unacknowledged(), List.of(), error, "");
     }
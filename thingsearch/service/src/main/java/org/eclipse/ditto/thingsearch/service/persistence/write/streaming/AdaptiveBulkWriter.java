@@ -0,0 +1,331 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.write.streaming;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.bson.BsonValue;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.gauge.Gauge;
+import org.eclipse.ditto.internal.utils.metrics.instruments.timer.StartedTimer;
+import org.eclipse.ditto.internal.utils.pekko.logging.DittoLoggerFactory;
+import org.eclipse.ditto.internal.utils.pekko.logging.ThreadSafeDittoLogger;
+import org.eclipse.ditto.thingsearch.service.common.config.PersistenceStreamConfig;
+import org.eclipse.ditto.thingsearch.service.persistence.write.mapping.WriteModelSizeEstimator;
+import org.eclipse.ditto.thingsearch.service.persistence.write.model.ThingDeleteModel;
+import org.eclipse.ditto.thingsearch.service.persistence.write.model.WriteResultAndErrors;
+import org.eclipse.ditto.thingsearch.service.updater.actors.MongoWriteModel;
+
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteInsert;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.BulkWriteUpsert;
+
+import org.apache.pekko.NotUsed;
+import org.apache.pekko.japi.pf.PFBuilder;
+import org.apache.pekko.stream.Materializer;
+import org.apache.pekko.stream.javadsl.MergeHub;
+import org.apache.pekko.stream.javadsl.Sink;
+import org.apache.pekko.stream.javadsl.Source;
+
+/**
+ * Groups the write models of concurrently updated things into MongoDB bulk writes.
+ * <p>
+ * Write models are distributed over a fixed number of lanes by their thing ID, so that writes of the same thing keep
+ * their order.
+ * Each lane executes one bulk write at a time; write models arriving while a lane is busy are collected into the next
+ * bulk, limited by the configured maximum bulk size and the estimated size in bytes.
+ * Write models are never rejected: while a lane is saturated, further write models wait for it and thus backpressure
+ * the thing updaters waiting for their results.
+ * The number of write models per bulk adapts to the observed latency: it grows while bulks are full and complete
+ * faster than the target latency and is halved whenever a bulk is slower or fails.
+ * </p>
+ * <p>
+ * The result of a bulk write is split into one result per write model, thus consumers are not aware of the batching.
+ * </p>
+ */
+@ThreadSafe
+final class AdaptiveBulkWriter {
+
+    private static final String QUEUE_DEPTH_GAUGE = "things_search_updater_bulk_queue_depth";
+    private static final String BULK_SIZE_LIMIT_GAUGE = "things_search_updater_bulk_size_limit";
+    private static final String LANE_LATENCY_TIMER = "things_search_updater_bulk_lane_latency";
+    private static final String LANE_TAG = "lane";
+    private static final int INITIAL_BULK_SIZE_LIMIT = 16;
+    private static final int PER_WRITE_BUFFER_SIZE = 1;
+
+    private static final ThreadSafeDittoLogger LOGGER = DittoLoggerFactory.getThreadSafeLogger(AdaptiveBulkWriter.class);
+
+    private final List<Lane> lanes;
+
+    private AdaptiveBulkWriter(final List<Lane> lanes) {
+        this.lanes = lanes;
+    }
+
+    /**
+     * Create an adaptive bulk writer and start its lanes.
+     *
+     * @param bulkWrite function executing one bulk write; it must not fail but express errors as results.
+     * @param persistenceConfig the persistence configuration defining lanes, bulk size limits and target latency.
+     * @param materializer the materializer to run the lanes with.
+     * @return the bulk writer.
+     */
+    static AdaptiveBulkWriter of(
+            final Function<Collection<MongoWriteModel>, Source<WriteResultAndErrors, NotUsed>> bulkWrite,
+            final PersistenceStreamConfig persistenceConfig,
+            final Materializer materializer) {
+
+        final int laneCount = Math.max(1, persistenceConfig.getParallelism());
+        final List<Lane> lanes = new ArrayList<>(laneCount);
+        for (int i = 0; i < laneCount; i++) {
+            lanes.add(new Lane(i, bulkWrite, persistenceConfig, materializer));
+        }
+        return new AdaptiveBulkWriter(List.copyOf(lanes));
+    }
+
+    /**
+     * Enqueue a write model for the next bulk write of its lane.
+     *
+     * @param writeModel the write model.
+     * @return future of the result of the write model alone.
+     */
+    CompletionStage<WriteResultAndErrors> write(final MongoWriteModel writeModel) {
+        final var thingId = writeModel.getDitto().getMetadata().getThingId();
+        return lanes.get(Math.floorMod(thingId.hashCode(), lanes.size())).offer(writeModel);
+    }
+
+    /**
+     * Compute the bulk size limit for the next bulk of a lane (additive increase, multiplicative decrease).
+     *
+     * @param bulkSizeLimit the current limit.
+     * @param bulkSize the number of write models of the completed bulk.
+     * @param latency the latency of the completed bulk.
+     * @param targetLatency the target latency of bulk writes.
+     * @param failed whether the completed bulk failed as a whole.
+     * @param maxBulkSize the configured maximum bulk size.
+     * @return the new limit.
+     */
+    static int adaptBulkSizeLimit(final int bulkSizeLimit, final int bulkSize, final Duration latency,
+            final Duration targetLatency, final boolean failed, final int maxBulkSize) {
+
+        if (failed || latency.compareTo(targetLatency) > 0) {
+            return Math.max(1, bulkSizeLimit / 2);
+        } else if (bulkSize >= bulkSizeLimit) {
+            return Math.min(maxBulkSize, bulkSizeLimit + Math.max(1, bulkSizeLimit / 4));
+        } else {
+            return Math.min(maxBulkSize, bulkSizeLimit);
+        }
+    }
+
+    /**
+     * Split the result of a bulk write into the results of its individual write models.
+     * <p>
+     * MongoDB reports matched counts per bulk only. If fewer updates matched than expected, all patch updates
+     * without error of the bulk are reported as unmatched so that their things get a full update; a superfluous
+     * full update is harmless whereas a lost patch is not.
+     * </p>
+     *
+     * @param bulkResult the result of a bulk write.
+     * @return the results of the individual write models in the order of the write models.
+     */
+    static List<WriteResultAndErrors> splitByWriteModel(final WriteResultAndErrors bulkResult) {
+        final List<MongoWriteModel> writeModels = bulkResult.getWriteModels();
+        final String correlationId = bulkResult.getBulkWriteCorrelationId();
+        final List<WriteResultAndErrors> results = new ArrayList<>(writeModels.size());
+        final var unexpectedError = bulkResult.getUnexpectedError();
+        final BulkWriteResult bulkWriteResult = bulkResult.getBulkWriteResult();
+        if (unexpectedError.isPresent() || !bulkWriteResult.wasAcknowledged()) {
+            for (final MongoWriteModel writeModel : writeModels) {
+                results.add(unexpectedError
+                        .map(error -> WriteResultAndErrors.unexpectedError(List.of(writeModel), error, correlationId))
+                        .orElseGet(() -> WriteResultAndErrors.of(List.of(writeModel),
+                                BulkWriteResult.unacknowledged(), List.of(), correlationId)));
+            }
+            return results;
+        }
+
+        final int size = writeModels.size();
+        final BulkWriteError[] errors = new BulkWriteError[size];
+        for (final BulkWriteError error : bulkResult.getBulkWriteErrors()) {
+            if (error.getIndex() >= 0 && error.getIndex() < size) {
+                errors[error.getIndex()] = error;
+            }
+        }
+        final BsonValue[] upsertedIds = new BsonValue[size];
+        for (final BulkWriteUpsert upsert : bulkWriteResult.getUpserts()) {
+            if (upsert.getIndex() >= 0 && upsert.getIndex() < size) {
+                upsertedIds[upsert.getIndex()] = upsert.getId();
+            }
+        }
+        long expectedMatches = 0;
+        for (int i = 0; i < size; i++) {
+            if (errors[i] == null && upsertedIds[i] == null && !isDelete(writeModels.get(i))) {
+                expectedMatches++;
+            }
+        }
+        final boolean updatesMissing = bulkWriteResult.getMatchedCount() < expectedMatches;
+
+        for (int i = 0; i < size; i++) {
+            final MongoWriteModel writeModel = writeModels.get(i);
+            final List<BulkWriteError> modelErrors;
+            final List<BulkWriteUpsert> upserts;
+            int matched = 0;
+            int removed = 0;
+            if (errors[i] != null) {
+                final BulkWriteError error = errors[i];
+                modelErrors = List.of(new BulkWriteError(error.getCode(), error.getMessage(), error.getDetails(), 0));
+                upserts = List.of();
+            } else if (upsertedIds[i] != null) {
+                modelErrors = List.of();
+                upserts = List.of(new BulkWriteUpsert(0, upsertedIds[i]));
+            } else {
+                modelErrors = List.of();
+                upserts = List.of();
+                if (isDelete(writeModel)) {
+                    removed = 1;
+                } else if (!updatesMissing || !writeModel.isPatchUpdate()) {
+                    matched = 1;
+                }
+            }
+            final BulkWriteResult result = BulkWriteResult.acknowledged(0, matched, removed, matched, upserts,
+                    List.<BulkWriteInsert>of());
+            results.add(WriteResultAndErrors.of(List.of(writeModel), result, modelErrors, correlationId));
+        }
+        return results;
+    }
+
+    private static boolean isDelete(final MongoWriteModel writeModel) {
+        return writeModel.getDitto() instanceof ThingDeleteModel;
+    }
+
+    private static List<PendingWrite> newBulk(final PendingWrite pendingWrite) {
+        final List<PendingWrite> bulk = new ArrayList<>();
+        bulk.add(pendingWrite);
+        return bulk;
+    }
+
+    private static List<PendingWrite> addToBulk(final List<PendingWrite> bulk, final PendingWrite pendingWrite) {
+        bulk.add(pendingWrite);
+        return bulk;
+    }
+
+    private record PendingWrite(MongoWriteModel writeModel, long bytes,
+                                CompletableFuture<WriteResultAndErrors> result) {}
+
+    private static final class Lane {
+
+        private final Function<Collection<MongoWriteModel>, Source<WriteResultAndErrors, NotUsed>> bulkWrite;
+        private final int maxBulkSize;
+        private final long maxBulkBytes;
+        private final Duration targetLatency;
+        private final AtomicInteger bulkSizeLimit;
+        private final Gauge queueDepth;
+        private final Gauge bulkSizeLimitGauge;
+        private final String laneTag;
+        private final Materializer materializer;
+        private final Sink<PendingWrite, NotUsed> laneSink;
+
+        private Lane(final int index,
+                final Function<Collection<MongoWriteModel>, Source<WriteResultAndErrors, NotUsed>> bulkWrite,
+                final PersistenceStreamConfig persistenceConfig,
+                final Materializer materializer) {
+
+            this.bulkWrite = bulkWrite;
+            maxBulkSize = Math.max(1, persistenceConfig.getMaxBulkSize());
+            maxBulkBytes = Math.max(1L, persistenceConfig.getMaxBulkBytes());
+            targetLatency = persistenceConfig.getTargetBulkLatency();
+            bulkSizeLimit = new AtomicInteger(Math.min(INITIAL_BULK_SIZE_LIMIT, maxBulkSize));
+            laneTag = String.valueOf(index);
+            queueDepth = DittoMetrics.gauge(QUEUE_DEPTH_GAUGE).tag(LANE_TAG, laneTag);
+            bulkSizeLimitGauge = DittoMetrics.gauge(BULK_SIZE_LIMIT_GAUGE).tag(LANE_TAG, laneTag);
+            bulkSizeLimitGauge.set((long) bulkSizeLimit.get());
+            this.materializer = materializer;
+            // the hub backpressures each offered write model until the lane accepts it instead of dropping it
+            laneSink = MergeHub.of(PendingWrite.class, PER_WRITE_BUFFER_SIZE)
+                    // every write weighs at least a share of the byte limit so that a bulk never exceeds the
+                    // current bulk size limit
+                    .batchWeighted(maxBulkBytes,
+                            pendingWrite -> Math.max(pendingWrite.bytes(), maxBulkBytes / bulkSizeLimit.get()),
+                            AdaptiveBulkWriter::newBulk,
+                            AdaptiveBulkWriter::addToBulk)
+                    .flatMapConcat(this::writeBulk)
+                    .to(Sink.ignore())
+                    .run(materializer);
+        }
+
+        private CompletionStage<WriteResultAndErrors> offer(final MongoWriteModel writeModel) {
+            final var pendingWrite = new PendingWrite(writeModel,
+                    WriteModelSizeEstimator.estimate(writeModel.getBson()), new CompletableFuture<>());
+            queueDepth.increment();
+            Source.single(pendingWrite).runWith(laneSink, materializer);
+            return pendingWrite.result();
+        }
+
+        private Source<NotUsed, NotUsed> writeBulk(final List<PendingWrite> bulk) {
+            final List<MongoWriteModel> writeModels = bulk.stream().map(PendingWrite::writeModel).toList();
+            final StartedTimer timer = DittoMetrics.timer(LANE_LATENCY_TIMER).tag(LANE_TAG, laneTag).start();
+            return bulkWrite.apply(writeModels)
+                    .map(bulkResult -> {
+                        final Duration latency = timer.stop().getDuration();
+                        final boolean failed = bulkResult.getUnexpectedError().isPresent() ||
+                                !bulkResult.getBulkWriteResult().wasAcknowledged();
+                        adaptBulkSizeLimit(bulk.size(), latency, failed);
+                        final List<WriteResultAndErrors> results = splitByWriteModel(bulkResult);
+                        for (int i = 0; i < bulk.size(); i++) {
+                            bulk.get(i).result().complete(results.get(i));
+                        }
+                        return NotUsed.getInstance();
+                    })
+                    .recover(new PFBuilder<Throwable, NotUsed>()
+                            .matchAny(error -> {
+                                LOGGER.error("Bulk write lane <{}> failed unexpectedly: {}", laneTag, error.toString());
+                                completeUnfinished(bulk, error);
+                                return NotUsed.getInstance();
+                            })
+                            .build())
+                    .watchTermination((notUsed, done) -> {
+                        done.whenComplete((d, error) -> {
+                            bulk.forEach(pendingWrite -> queueDepth.decrement());
+                            // the lane must never leave a thing updater waiting
+                            completeUnfinished(bulk, new IllegalStateException("Bulk write yielded no result"));
+                        });
+                        return NotUsed.getInstance();
+                    });
+        }
+
+        private static void completeUnfinished(final List<PendingWrite> bulk, final Throwable error) {
+            bulk.stream()
+                    .filter(pendingWrite -> !pendingWrite.result().isDone())
+                    .forEach(pendingWrite -> pendingWrite.result().complete(
+                            WriteResultAndErrors.unexpectedError(List.of(pendingWrite.writeModel()), error, "")));
+        }
+
+        private void adaptBulkSizeLimit(final int bulkSize, final Duration latency, final boolean failed) {
+            final int limit = bulkSizeLimit.updateAndGet(current ->
+                    AdaptiveBulkWriter.adaptBulkSizeLimit(current, bulkSize, latency, targetLatency, failed,
+                            maxBulkSize));
+            bulkSizeLimitGauge.set((long) limit);
+        }
+
+    }
+
+}
@@ -60,6 +60,7 @@ import org.eclipse.ditto.thingsearch.service.common.config.DittoSearchConfig;
 import org.eclipse.ditto.thingsearch.service.common.config.SearchConfig;
 import org.eclipse.ditto.thingsearch.service.common.config.StreamCacheConfig;
 import org.eclipse.ditto.thingsearch.service.common.config.StreamConfig;
+import org.eclipse.ditto.thingsearch.service.persistence.SortKeys;
 import org.eclipse.ditto.thingsearch.service.persistence.write.mapping.EnforcedThingMapper;
 import org.eclipse.ditto.thingsearch.service.persistence.write.model.AbstractWriteModel;
 import org.eclipse.ditto.thingsearch.service.persistence.write.model.Metadata;
@@ -84,6 +85,7 @@ final class EnforcementFlow {
     private final Duration cacheRetryDelay;
     private final SearchUpdateObserver searchUpdateObserver;
     private final int maxArraySize;
+    private final SortKeys sortKeys;
 
     private EnforcementFlow(final ActorSystem actorSystem,
             final ActorRef thingsShardRegion,
@@ -101,6 +103,7 @@ final class EnforcementFlow {
         final SearchConfig searchConfig =
                 DittoSearchConfig.of(DefaultScopedConfig.dittoScoped(actorSystem.settings().config()));
         maxArraySize = searchConfig.getUpdaterConfig().getStreamConfig().getMaxArraySize();
+        sortKeys = SortKeys.of(searchConfig.getNamespaceIndexedFields());
     }
 
     /**
@@ -276,7 +279,7 @@ final class EnforcementFlow {
                             try {
                                 final Pair<Policy, Set<PolicyTag>> pair = entry.getValueOrThrow();
                                 return EnforcedThingMapper.toWriteModel(thing, pair.first(), pair.second(),
-                                        entry.getRevision(), metadata, maxArraySize);
+                                        entry.getRevision(), metadata, maxArraySize, sortKeys);
                             } catch (final JsonRuntimeException e) {
                                 log.error(e.getMessage(), e);
                                 log.info(
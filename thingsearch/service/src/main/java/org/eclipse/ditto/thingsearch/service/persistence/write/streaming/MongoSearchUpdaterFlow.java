@@ -17,6 +17,8 @@ import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import javax.annotation.Nullable;
+
 import org.bson.BsonDocument;
 import org.eclipse.ditto.internal.utils.pekko.logging.DittoLoggerFactory;
 import org.eclipse.ditto.internal.utils.pekko.logging.ThreadSafeDittoLogger;
@@ -40,7 +42,10 @@ import com.mongodb.reactivestreams.client.MongoCollection;
 import com.mongodb.reactivestreams.client.MongoDatabase;
 
 import org.apache.pekko.NotUsed;
+import org.apache.pekko.actor.ActorSystem;
 import org.apache.pekko.japi.pf.PFBuilder;
+import org.apache.pekko.stream.Materializer;
+import org.apache.pekko.stream.SystemMaterializer;
 import org.apache.pekko.stream.javadsl.Flow;
 import org.apache.pekko.stream.javadsl.Source;
 
@@ -57,13 +62,23 @@ final class MongoSearchUpdaterFlow {
             DittoLoggerFactory.getThreadSafeLogger(MongoSearchUpdaterFlow.class);
 
     private final MongoCollection<BsonDocument> collection;
+    @Nullable private final AdaptiveBulkWriter bulkWriter;
 
     private MongoSearchUpdaterFlow(final MongoCollection<BsonDocument> collection,
-            final PersistenceStreamConfig persistenceConfig) {
+            final PersistenceStreamConfig persistenceConfig,
+            @Nullable final Materializer materializer) {
 
         final var writeConcern = persistenceConfig.getWithAcknowledgementsWriteConcern();
         LOGGER.info("Update writeConcern=<{}>", writeConcern);
         this.collection = collection.withWriteConcern(writeConcern);
+        if (materializer != null && persistenceConfig.getMaxBulkSize() > 1) {
+            LOGGER.info("Bulk writes with <{}> lanes, maxBulkSize=<{}>, maxBulkBytes=<{}>, targetBulkLatency=<{}>",
+                    persistenceConfig.getParallelism(), persistenceConfig.getMaxBulkSize(),
+                    persistenceConfig.getMaxBulkBytes(), persistenceConfig.getTargetBulkLatency());
+            bulkWriter = AdaptiveBulkWriter.of(this::executeBulkWrite, persistenceConfig, materializer);
+        } else {
+            bulkWriter = null;
+        }
     }
 
     /**
@@ -78,7 +93,29 @@ final class MongoSearchUpdaterFlow {
 
         return new MongoSearchUpdaterFlow(
                 database.getCollection(PersistenceConstants.THINGS_COLLECTION_NAME, BsonDocument.class),
-                persistenceConfig
+                persistenceConfig,
+                null
+        );
+    }
+
+    /**
+     * Create a MongoSearchUpdaterFlow object which groups the write models of concurrently updated things into bulk
+     * writes as configured by {@link PersistenceStreamConfig#getMaxBulkSize()}.
+     *
+     * @param database the MongoDB database.
+     * @param persistenceConfig the persistence configuration for the search updater stream.
+     * @param actorSystem the actor system to run the bulk write lanes in.
+     * @return the MongoSearchUpdaterFlow object.
+     * @since 3.6.0
+     */
+    public static MongoSearchUpdaterFlow of(final MongoDatabase database,
+            final PersistenceStreamConfig persistenceConfig,
+            final ActorSystem actorSystem) {
+
+        return new MongoSearchUpdaterFlow(
+                database.getCollection(PersistenceConstants.THINGS_COLLECTION_NAME, BsonDocument.class),
+                persistenceConfig,
+                SystemMaterializer.get(actorSystem).materializer()
         );
     }
 
@@ -88,6 +125,11 @@ final class MongoSearchUpdaterFlow {
      * @return The flow.
      */
     public Flow<MongoWriteModel, ThingUpdater.Result, NotUsed> create() {
+        if (bulkWriter != null) {
+            return Flow.<MongoWriteModel>create()
+                    .mapAsync(1, writeModel -> bulkWriter.write(writeModel)
+                            .thenApply(resultOrErrors -> new ThingUpdater.Result(writeModel, resultOrErrors)));
+        }
         return Flow.<MongoWriteModel>create()
                 .flatMapConcat(writeModel -> executeBulkWrite(List.of(writeModel))
                         .map(resultOrErrors -> new ThingUpdater.Result(writeModel, resultOrErrors)));
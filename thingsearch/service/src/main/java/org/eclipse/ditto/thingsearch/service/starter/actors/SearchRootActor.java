@@ -31,6 +31,7 @@ import org.eclipse.ditto.rql.query.QueryBuilderFactory;
 import org.eclipse.ditto.rql.query.expression.ThingsFieldExpressionFactory;
 import org.eclipse.ditto.thingsearch.api.ThingsSearchConstants;
 import org.eclipse.ditto.thingsearch.service.common.config.SearchConfig;
+import org.eclipse.ditto.thingsearch.service.persistence.SortKeys;
 import org.eclipse.ditto.thingsearch.service.persistence.query.QueryParser;
 import org.eclipse.ditto.thingsearch.service.persistence.query.validation.QueryCriteriaValidator;
 import org.eclipse.ditto.thingsearch.service.persistence.read.MongoThingsSearchPersistence;
@@ -103,12 +104,20 @@ public final class SearchRootActor extends DittoRootActor {
             log.info("Skipping IndexInitializer because it is disabled.");
         }
 
-        return searchConfig.getMongoHintsByNamespace()
+        final var persistenceWithHints = searchConfig.getMongoHintsByNamespace()
                 .map(mongoHintsByNamespace -> {
                     log.info("Applying MongoDB hints <{}>.", mongoHintsByNamespace);
                     return persistence.withHintsByNamespace(mongoHintsByNamespace);
                 })
                 .orElse(persistence);
+
+        final var sortKeys = SortKeys.of(searchConfig.getNamespaceIndexedFields());
+        if (sortKeys.equals(SortKeys.empty())) {
+            return persistenceWithHints;
+        } else {
+            log.info("Applying sort keys <{}>.", sortKeys);
+            return persistenceWithHints.withSortKeys(sortKeys);
+        }
     }
 
     private ActorRef initializeHealthCheckActor(final SearchConfig searchConfig,
@@ -16,6 +16,7 @@ import java.net.URLDecoder;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
@@ -85,6 +86,7 @@ public final class ThingUpdater extends AbstractFSMWithStash<ThingUpdater.State,
     private static final Counter INCORRECT_PATCH_UPDATE_COUNT =
             DittoMetrics.counter("wildcard_search_incorrect_patch_updates");
     private static final Counter UPDATE_FAILURE_COUNT = DittoMetrics.counter("wildcard_search_update_failures");
+    private static final Counter COALESCED_CHANGES_COUNT = DittoMetrics.counter("wildcard_search_coalesced_changes");
 
     private static final Duration BLOCK_NAMESPACE_SHUTDOWN_DELAY = Duration.ofMinutes(2);
 
@@ -107,8 +109,11 @@ public final class ThingUpdater extends AbstractFSMWithStash<ThingUpdater.State,
     private final Duration writeInterval;
     private final Duration thingDeletionTimeout;
     private final Duration maxIdleTime;
+    private final Duration coalescingWindow;
+    private final Duration coalescingMaxDelay;
     private ExponentialBackOff backOff;
     private boolean shuttingDown = false;
+    @Nullable private Instant firstCoalescedChange;
     @Nullable private UniqueKillSwitch killSwitch;
 
     /**
@@ -167,6 +172,8 @@ public final class ThingUpdater extends AbstractFSMWithStash<ThingUpdater.State,
                 config.getUpdaterConfig().getStreamConfig().getPersistenceConfig().getExponentialBackOffConfig());
         thingDeletionTimeout = config.getUpdaterConfig().getStreamConfig().getThingDeletionTimeout();
         maxIdleTime = config.getUpdaterConfig().getMaxIdleTime();
+        coalescingWindow = config.getUpdaterConfig().getStreamConfig().getCoalescingWindow();
+        coalescingMaxDelay = config.getUpdaterConfig().getStreamConfig().getCoalescingMaxDelay();
 
         startWith(State.RECOVERING, getInitialData(thingId));
         when(State.RECOVERING, recovering());
@@ -356,6 +363,7 @@ public final class ThingUpdater extends AbstractFSMWithStash<ThingUpdater.State,
     }
 
     private FSM.State<State, Data> tick(final Control tick, final Data data) {
+        firstCoalescedChange = null;
         if (shouldPersist(data.metadata(), data.lastWriteModel().getMetadata())) {
             if (log.isDebugEnabled()) {
                 log.debug("Persisting <{}>", data.metadata().export());
@@ -554,7 +562,11 @@ public final class ThingUpdater extends AbstractFSMWithStash<ThingUpdater.State,
     }
 
     private FSM.State<State, Data> enqueue(final Metadata newMetadata, final Data data) {
-        ensureTickTimer();
+        if (isCoalescing()) {
+            scheduleCoalescedTick();
+        } else {
+            ensureTickTimer();
+        }
 
         return stay().using(new Data(data.metadata().append(newMetadata), data.lastWriteModel()));
     }
@@ -639,6 +651,34 @@ public final class ThingUpdater extends AbstractFSMWithStash<ThingUpdater.State,
         }
     }
 
+    private boolean isCoalescing() {
+        // retries keep their back-off timer
+        return !coalescingWindow.isZero() && stateName() == State.READY;
+    }
+
+    /**
+     * Delays the next tick until no change arrived for the coalescing window, but at most until the maximum delay
+     * after the first change not yet written.
+     */
+    private void scheduleCoalescedTick() {
+        final var now = Instant.now();
+        if (firstCoalescedChange == null) {
+            firstCoalescedChange = now;
+        } else {
+            COALESCED_CHANGES_COUNT.increment();
+        }
+        final var untilMaxDelay = Duration.between(now, firstCoalescedChange.plus(coalescingMaxDelay));
+        final Duration delay;
+        if (untilMaxDelay.isNegative()) {
+            delay = Duration.ZERO;
+        } else if (untilMaxDelay.compareTo(coalescingWindow) < 0) {
+            delay = untilMaxDelay;
+        } else {
+            delay = coalescingWindow;
+        }
+        startSingleTimer(Control.TICK.name(), Control.TICK, delay);
+    }
+
     private static Data getInitialData(final ThingId thingId) {
         final var deletedMetadata = Metadata.ofDeleted(thingId);
         return new Data(deletedMetadata, ThingDeleteModel.of(deletedMetadata));
@@ -40,7 +40,8 @@ public final class DefaultNamespaceSearchIndexConfigTest {
         assertInstancesOf(DefaultNamespaceSearchIndexConfig.class, areImmutable(),
                           provided(String.class).isAlsoImmutable(),
                           assumingFields(
-                                  "includedFields").areSafelyCopiedUnmodifiableCollectionsWithImmutableElements()
+                                  "includedFields", "sortKeys")
+                                  .areSafelyCopiedUnmodifiableCollectionsWithImmutableElements()
         );
     }
 
@@ -86,6 +87,10 @@ public final class DefaultNamespaceSearchIndexConfigTest {
                 .isEqualTo(
                         List.of("attributes", "features/info/properties", "features/info/other"));
 
+        softly.assertThat(first.getSortKeys())
+                .as(NamespaceSearchIndexConfig.NamespaceSearchIndexConfigValue.SORT_KEYS.getConfigPath())
+                .isEqualTo(List.of("attributes/serial", "features/info/properties/rank"));
+
         // Second config
         softly.assertThat(second.getNamespacePattern()).isEqualTo("org.eclipse*");
 
@@ -93,5 +98,9 @@ public final class DefaultNamespaceSearchIndexConfigTest {
                 .as(NamespaceSearchIndexConfig.NamespaceSearchIndexConfigValue.INDEXED_FIELDS.getConfigPath())
                 .isEqualTo(
                         List.of("attributes", "features/info"));
+
+        softly.assertThat(second.getSortKeys())
+                .as(NamespaceSearchIndexConfig.NamespaceSearchIndexConfigValue.SORT_KEYS.getConfigPath())
+                .isEmpty();
     }
 }
@@ -16,7 +16,10 @@ import static org.mutabilitydetector.unittesting.AllowedReason.provided;
 import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
 import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
 
+import java.time.Duration;
+
 import org.assertj.core.api.JUnitSoftAssertions;
+import org.eclipse.ditto.internal.utils.cache.config.CacheConfig;
 import org.eclipse.ditto.internal.utils.persistence.mongo.config.ReadConcern;
 import org.eclipse.ditto.internal.utils.persistence.mongo.config.ReadPreference;
 import org.junit.BeforeClass;
@@ -48,7 +51,7 @@ public final class DefaultSearchPersistenceConfigTest {
     public void assertImmutability() {
         assertInstancesOf(DefaultSearchPersistenceConfig.class,
                 areImmutable(),
-                provided(ReadPreference.class).isAlsoImmutable());
+                provided(ReadPreference.class, CacheConfig.class).areAlsoImmutable());
     }
 
     @Test
@@ -73,6 +76,10 @@ public final class DefaultSearchPersistenceConfigTest {
                 .isEqualTo(ReadPreference.ofReadPreference(
                         (String) SearchPersistenceConfig.ConfigValue.READ_PREFERENCE.getDefaultValue())
                         .orElseThrow());
+
+        softly.assertThat(underTest.isCountCacheEnabled())
+                .as(SearchPersistenceConfig.ConfigValue.COUNT_CACHE_ENABLED.getConfigPath())
+                .isEqualTo(SearchPersistenceConfig.ConfigValue.COUNT_CACHE_ENABLED.getDefaultValue());
     }
 
     @Test
@@ -86,6 +93,26 @@ public final class DefaultSearchPersistenceConfigTest {
         softly.assertThat(underTest.readPreference())
                 .as(SearchPersistenceConfig.ConfigValue.READ_PREFERENCE.getConfigPath())
                 .isEqualTo(ReadPreference.SECONDARY_PREFERRED);
+
+        softly.assertThat(underTest.isCountCacheEnabled())
+                .as(SearchPersistenceConfig.ConfigValue.COUNT_CACHE_ENABLED.getConfigPath())
+                .isTrue();
+
+        softly.assertThat(underTest.getCountCacheConfig().getMaximumSize())
+                .as("count-cache.maximum-size")
+                .isEqualTo(42L);
+
+        softly.assertThat(underTest.getCountCacheConfig().getExpireAfterWrite())
+                .as("count-cache.expire-after-write")
+                .isEqualTo(Duration.ofSeconds(3L));
+
+        softly.assertThat(underTest.getSortKeysCheckCacheConfig().getMaximumSize())
+                .as("sort-keys-check-cache.maximum-size")
+                .isEqualTo(7L);
+
+        softly.assertThat(underTest.getSortKeysCheckCacheConfig().getExpireAfterWrite())
+                .as("sort-keys-check-cache.expire-after-write")
+                .isEqualTo(Duration.ofMinutes(2L));
     }
 
 }
@@ -74,6 +74,14 @@ public final class DefaultStreamConfigTest {
         softly.assertThat(underTest.getThingDeletionTimeout())
                 .as(StreamConfigValue.THING_DELETION_TIMEOUT.getConfigPath())
                 .isEqualTo(StreamConfigValue.THING_DELETION_TIMEOUT.getDefaultValue());
+
+        softly.assertThat(underTest.getCoalescingWindow())
+                .as(StreamConfigValue.COALESCING_WINDOW.getConfigPath())
+                .isEqualTo(StreamConfigValue.COALESCING_WINDOW.getDefaultValue());
+
+        softly.assertThat(underTest.getCoalescingMaxDelay())
+                .as(StreamConfigValue.COALESCING_MAX_DELAY.getConfigPath())
+                .isEqualTo(StreamConfigValue.COALESCING_MAX_DELAY.getDefaultValue());
     }
 
     @Test
@@ -91,6 +99,14 @@ public final class DefaultStreamConfigTest {
         softly.assertThat(underTest.getThingDeletionTimeout())
                 .as(StreamConfigValue.THING_DELETION_TIMEOUT.getConfigPath())
                 .isEqualTo(Duration.ofSeconds(3));
+
+        softly.assertThat(underTest.getCoalescingWindow())
+                .as(StreamConfigValue.COALESCING_WINDOW.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(4));
+
+        softly.assertThat(underTest.getCoalescingMaxDelay())
+                .as(StreamConfigValue.COALESCING_MAX_DELAY.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(6));
     }
 
 }
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.bson.BsonDocument;
+import org.eclipse.ditto.rql.query.SortDirection;
+import org.eclipse.ditto.rql.query.SortOption;
+import org.eclipse.ditto.rql.query.expression.FieldExpressionUtil;
+import org.eclipse.ditto.rql.query.expression.ThingsFieldExpressionFactory;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.thingsearch.service.common.config.DefaultNamespaceSearchIndexConfig;
+import org.eclipse.ditto.thingsearch.service.common.config.NamespaceSearchIndexConfig;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Unit test for {@link SortKeys}.
+ */
+public final class SortKeysTest {
+
+    private static final ThingsFieldExpressionFactory EFT = ThingsFieldExpressionFactory.of(
+            Map.of(FieldExpressionUtil.FIELD_NAME_THING_ID, FieldExpressionUtil.FIELD_ID));
+
+    private static final SortKeys UNDER_TEST = SortKeys.of(List.of(
+            namespaceConfig("org.eclipse.ditto*", List.of("attributes/serial", "features/info/properties/rank")),
+            namespaceConfig("org.eclipse.other", List.of())));
+
+    private static final String SORT_KEY_PATHS = "t.attributes.serial$t.features.info.properties.rank";
+
+    @Test
+    public void materializeCopiesSortKeyValuesAndThingId() {
+        final BsonDocument thing = BsonDocument.parse("{\"attributes\":{\"serial\":{\"a\":1}}," +
+                "\"features\":{\"info\":{\"properties\":{\"rank\":7}}}}");
+
+        final Optional<BsonDocument> result = UNDER_TEST.materialize(ThingId.of("org.eclipse.ditto.x:thing"), thing);
+
+        assertThat(result).contains(BsonDocument.parse(
+                "{\"0\":{\"a\":1},\"1\":7,\"id\":\"org.eclipse.ditto.x:thing\",\"k\":\"" + SORT_KEY_PATHS + "\"}"));
+    }
+
+    @Test
+    public void materializeOmitsMissingValues() {
+        final BsonDocument thing = BsonDocument.parse("{\"attributes\":{\"serial\":\"s1\"},\"features\":{}}");
+
+        final Optional<BsonDocument> result = UNDER_TEST.materialize(ThingId.of("org.eclipse.ditto:thing"), thing);
+
+        assertThat(result).contains(BsonDocument.parse(
+                "{\"0\":\"s1\",\"id\":\"org.eclipse.ditto:thing\",\"k\":\"" + SORT_KEY_PATHS + "\"}"));
+    }
+
+    @Test
+    public void materializeCopiesArrayValuesAsAWhole() {
+        final BsonDocument thing = BsonDocument.parse("{\"attributes\":{\"serial\":[\"s2\",\"s1\"]}}");
+
+        final Optional<BsonDocument> result = UNDER_TEST.materialize(ThingId.of("org.eclipse.ditto:thing"), thing);
+
+        assertThat(result).contains(BsonDocument.parse(
+                "{\"0\":[\"s2\",\"s1\"],\"id\":\"org.eclipse.ditto:thing\",\"k\":\"" + SORT_KEY_PATHS + "\"}"));
+    }
+
+    @Test
+    public void materializeNothingForSortKeysBelowArrays() {
+        final BsonDocument thing = BsonDocument.parse("{\"attributes\":{\"serial\":\"s1\"}," +
+                "\"features\":{\"info\":{\"properties\":[{\"rank\":7}]}}}");
+
+        assertThat(UNDER_TEST.materialize(ThingId.of("org.eclipse.ditto:thing"), thing)).isEmpty();
+    }
+
+    @Test
+    public void outdatedFilterSelectsDocumentsWithoutCurrentSortKeys() {
+        assertThat(SortKeys.outdatedFilter("org.eclipse.ditto", SORT_KEY_PATHS)).isEqualTo(BsonDocument.parse(
+                "{\"_namespace\":\"org.eclipse.ditto\",\"__sortKeys.k\":{\"$ne\":\"" + SORT_KEY_PATHS + "\"}}"));
+    }
+
+    @Test
+    public void materializeNothingForNamespacesWithoutSortKeys() {
+        final BsonDocument thing = BsonDocument.parse("{\"attributes\":{\"serial\":\"s1\"}}");
+
+        assertThat(UNDER_TEST.materialize(ThingId.of("org.eclipse.other:thing"), thing)).isEmpty();
+        assertThat(SortKeys.empty().materialize(ThingId.of("org.eclipse.ditto:thing"), thing)).isEmpty();
+    }
+
+    @Test
+    public void rewriteQueryCoveredBySortKeys() {
+        final BsonDocument filter = BsonDocument.parse("{\"$and\":[" +
+                "{\"t.attributes.serial\":{\"$gt\":\"s1\"}}," +
+                "{\"$or\":[{\"_id\":{\"$gt\":\"org.eclipse.ditto:a\"}},{\"t.attributes.other\":1}]}," +
+                "{\"f\":{\"$elemMatch\":{\"t.attributes.serial\":1}}}]}");
+
+        final Optional<SortKeys.KeysetQuery> result = UNDER_TEST.toKeysetQuery(
+                Set.of("org.eclipse.ditto", "org.eclipse.ditto.x"), coveredSortOptions(SortDirection.DESC), filter);
+
+        assertThat(result).isPresent();
+        assertThat(result.get().sortKeyPaths()).isEqualTo(SORT_KEY_PATHS);
+        assertThat(result.get().namespaces()).containsExactlyInAnyOrder("org.eclipse.ditto", "org.eclipse.ditto.x");
+        assertThat(result.get().filter()).isEqualTo(BsonDocument.parse("{\"$and\":[" +
+                "{\"__sortKeys.k\":\"" + SORT_KEY_PATHS + "\"}," +
+                "{\"$and\":[" +
+                "{\"__sortKeys.0\":{\"$gt\":\"s1\"}}," +
+                "{\"$or\":[{\"__sortKeys.id\":{\"$gt\":\"org.eclipse.ditto:a\"}},{\"t.attributes.other\":1}]}," +
+                "{\"f\":{\"$elemMatch\":{\"t.attributes.serial\":1}}}]}]}"));
+        assertThat(result.get().sort()).isEqualTo(BsonDocument.parse(
+                "{\"__sortKeys.0\":-1,\"__sortKeys.1\":-1,\"__sortKeys.2\":-1,\"__sortKeys.id\":-1}"));
+        assertThat(result.get().hint()).isEqualTo(Indices.SORT_KEYS.getKeys());
+    }
+
+    @Test
+    public void doNotRewriteQueryWithoutNamespaces() {
+        assertThat(UNDER_TEST.toKeysetQuery(null, coveredSortOptions(SortDirection.ASC), new BsonDocument()))
+                .isEmpty();
+    }
+
+    @Test
+    public void doNotRewriteQueryWithNamespaceWithoutSortKeys() {
+        assertThat(UNDER_TEST.toKeysetQuery(Set.of("org.eclipse.ditto", "org.eclipse.other"),
+                coveredSortOptions(SortDirection.ASC), new BsonDocument()))
+                .isEmpty();
+    }
+
+    @Test
+    public void doNotRewriteQueryWithOtherSortOptions() {
+        final Set<String> namespaces = Set.of("org.eclipse.ditto");
+
+        assertThat(UNDER_TEST.toKeysetQuery(namespaces,
+                List.of(new SortOption(EFT.sortByThingId(), SortDirection.ASC)), new BsonDocument()))
+                .isEmpty();
+        assertThat(UNDER_TEST.toKeysetQuery(namespaces, List.of(
+                new SortOption(EFT.sortByAttribute("serial"), SortDirection.ASC),
+                new SortOption(EFT.sortByFeatureProperty("info", "rank"), SortDirection.DESC),
+                new SortOption(EFT.sortByThingId(), SortDirection.ASC)), new BsonDocument()))
+                .isEmpty();
+    }
+
+    private static List<SortOption> coveredSortOptions(final SortDirection direction) {
+        return List.of(new SortOption(EFT.sortByAttribute("serial"), direction),
+                new SortOption(EFT.sortByFeatureProperty("info", "rank"), direction),
+                new SortOption(EFT.sortByThingId(), direction));
+    }
+
+    private static NamespaceSearchIndexConfig namespaceConfig(final String namespacePattern,
+            final List<String> sortKeys) {
+
+        return DefaultNamespaceSearchIndexConfig.of(ConfigFactory.parseMap(Map.of(
+                "namespace-pattern", namespacePattern,
+                "sort-keys", sortKeys)));
+    }
+
+}
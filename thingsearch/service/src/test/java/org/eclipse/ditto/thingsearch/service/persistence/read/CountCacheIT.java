@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.read;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.eclipse.ditto.rql.query.Query;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.thingsearch.service.common.config.DefaultSearchPersistenceConfig;
+import org.eclipse.ditto.thingsearch.service.persistence.TestConstants;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Tests the cache of count queries of {@link MongoThingsSearchPersistence}.
+ */
+public final class CountCacheIT extends AbstractReadPersistenceITBase {
+
+    private static final long EXPIRE_AFTER_WRITE_MILLIS = 2000L;
+    private static final List<String> OTHER_SUBJECTS = List.of("abc:otherSid");
+
+    @Before
+    public void enableCountCache() {
+        final var config = DefaultSearchPersistenceConfig.of(ConfigFactory.parseString(
+                "persistence.count-cache {\n" +
+                        "  enabled = true\n" +
+                        "  maximum-size = 100\n" +
+                        "  expire-after-write = " + EXPIRE_AFTER_WRITE_MILLIS + "ms\n" +
+                        "}"));
+        readPersistence = new MongoThingsSearchPersistence(getClient(), actorSystem, config);
+        readPersistence.initializeIndices().toCompletableFuture().join();
+    }
+
+    @Test
+    public void cachedCountIsReturnedUntilItExpires() throws InterruptedException {
+        final Query query = qbf.newUnlimitedBuilder(cf.any()).build();
+        persistThing(createThing(thingId("thing1")));
+        persistThing(createThing(thingId("thing2")));
+        assertThat(count(query, KNOWN_SUBJECTS)).isEqualTo(2L);
+
+        persistThing(createThing(thingId("thing3")));
+        assertThat(count(query, KNOWN_SUBJECTS)).isEqualTo(2L);
+
+        Thread.sleep(EXPIRE_AFTER_WRITE_MILLIS + 500L);
+        assertThat(count(query, KNOWN_SUBJECTS)).isEqualTo(3L);
+    }
+
+    @Test
+    public void cachedCountIsNotSharedBetweenSubjects() {
+        final Query query = qbf.newUnlimitedBuilder(cf.any()).build();
+        persistThing(createThing(thingId("thing1")));
+        assertThat(count(query, KNOWN_SUBJECTS)).isEqualTo(1L);
+
+        assertThat(count(query, OTHER_SUBJECTS)).isZero();
+        assertThat(count(query, KNOWN_SUBJECTS)).isEqualTo(1L);
+    }
+
+    @Test
+    public void sudoCountIsNotCached() {
+        final Query query = qbf.newUnlimitedBuilder(cf.any()).build();
+        persistThing(createThing(thingId("thing1")));
+        assertThat(count(query, null)).isEqualTo(1L);
+
+        persistThing(createThing(thingId("thing2")));
+        assertThat(count(query, null)).isEqualTo(2L);
+    }
+
+    private static ThingId thingId(final String name) {
+        return TestConstants.thingId(TestConstants.Thing.NAMESPACE, name);
+    }
+
+}
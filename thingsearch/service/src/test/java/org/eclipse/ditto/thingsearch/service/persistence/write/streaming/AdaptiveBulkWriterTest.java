@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.write.streaming;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.stream.SystemMaterializer;
+import org.apache.pekko.stream.javadsl.Source;
+import org.apache.pekko.testkit.TestProbe;
+import org.apache.pekko.testkit.javadsl.TestKit;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.thingsearch.service.common.config.DefaultPersistenceStreamConfig;
+import org.eclipse.ditto.thingsearch.service.persistence.write.model.AbstractWriteModel;
+import org.eclipse.ditto.thingsearch.service.persistence.write.model.Metadata;
+import org.eclipse.ditto.thingsearch.service.persistence.write.model.ThingDeleteModel;
+import org.eclipse.ditto.thingsearch.service.persistence.write.model.ThingWriteModel;
+import org.eclipse.ditto.thingsearch.service.persistence.write.model.WriteResultAndErrors;
+import org.eclipse.ditto.thingsearch.service.updater.actors.MongoWriteModel;
+import org.junit.After;
+import org.junit.Test;
+
+import com.mongodb.MongoSocketReadException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.BulkWriteUpsert;
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Tests {@link AdaptiveBulkWriter}.
+ */
+public final class AdaptiveBulkWriterTest {
+
+    private static final Duration TARGET_LATENCY = Duration.ofMillis(500L);
+
+    private final ActorSystem actorSystem = ActorSystem.create();
+
+    @After
+    public void stopActorSystem() {
+        TestKit.shutdownActorSystem(actorSystem);
+    }
+
+    @Test
+    public void bulkSizeLimitGrowsWhileBulksAreFullAndFast() {
+        assertThat(AdaptiveBulkWriter.adaptBulkSizeLimit(16, 16, Duration.ofMillis(10L), TARGET_LATENCY, false,
+                250)).isEqualTo(20);
+        assertThat(AdaptiveBulkWriter.adaptBulkSizeLimit(1, 1, Duration.ofMillis(10L), TARGET_LATENCY, false,
+                250)).isEqualTo(2);
+        assertThat(AdaptiveBulkWriter.adaptBulkSizeLimit(240, 240, Duration.ofMillis(10L), TARGET_LATENCY, false,
+                250)).isEqualTo(250);
+    }
+
+    @Test
+    public void bulkSizeLimitIsKeptForPartialBulks() {
+        assertThat(AdaptiveBulkWriter.adaptBulkSizeLimit(16, 3, Duration.ofMillis(10L), TARGET_LATENCY, false,
+                250)).isEqualTo(16);
+    }
+
+    @Test
+    public void bulkSizeLimitIsHalvedOnSlowOrFailedBulks() {
+        assertThat(AdaptiveBulkWriter.adaptBulkSizeLimit(16, 16, Duration.ofSeconds(1L), TARGET_LATENCY, false,
+                250)).isEqualTo(8);
+        assertThat(AdaptiveBulkWriter.adaptBulkSizeLimit(16, 2, Duration.ofMillis(10L), TARGET_LATENCY, true,
+                250)).isEqualTo(8);
+        assertThat(AdaptiveBulkWriter.adaptBulkSizeLimit(1, 1, Duration.ofSeconds(1L), TARGET_LATENCY, true,
+                250)).isEqualTo(1);
+    }
+
+    @Test
+    public void saturatedLaneBackpressuresInsteadOfFailingWrites() throws Exception {
+        final var persistenceConfig = DefaultPersistenceStreamConfig.of(ConfigFactory.parseString(
+                "persistence { parallelism = 1, max-bulk-size = 2 }"));
+        final AdaptiveBulkWriter underTest = AdaptiveBulkWriter.of(
+                writeModels -> Source.single(WriteResultAndErrors.success(List.copyOf(writeModels),
+                                BulkWriteResult.acknowledged(0, writeModels.size(), 0, writeModels.size(),
+                                        List.of(), List.of()), "bulk"))
+                        .initialDelay(Duration.ofMillis(10L)),
+                persistenceConfig,
+                SystemMaterializer.get(actorSystem).materializer());
+
+        // far more write models than the lane buffers
+        final List<CompletableFuture<WriteResultAndErrors>> results = new ArrayList<>();
+        for (final MongoWriteModel writeModel : generateWriteModels(100, false)) {
+            results.add(underTest.write(writeModel).toCompletableFuture());
+        }
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).get(30L, TimeUnit.SECONDS);
+
+        for (final CompletableFuture<WriteResultAndErrors> result : results) {
+            assertThat(result.join().getUnexpectedError()).isEmpty();
+        }
+    }
+
+    @Test
+    public void splitSuccessfulBulk() {
+        final List<MongoWriteModel> writeModels = generateWriteModels(4, false);
+        final BulkWriteResult result = BulkWriteResult.acknowledged(0, 1, 2, 1,
+                List.of(new BulkWriteUpsert(3, new BsonString("upsert 3"))), List.of());
+
+        final List<WriteResultAndErrors> split =
+                AdaptiveBulkWriter.splitByWriteModel(WriteResultAndErrors.success(writeModels, result, "bulk"));
+
+        assertThat(split).hasSize(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(split.get(i).getWriteModels()).containsExactly(writeModels.get(i));
+            assertThat(split.get(i).getBulkWriteErrors()).isEmpty();
+            assertThat(split.get(i).getBulkWriteCorrelationId()).isEqualTo("bulk");
+        }
+        assertThat(split.get(0).getBulkWriteResult().getDeletedCount()).isOne();
+        assertThat(split.get(1).getBulkWriteResult().getMatchedCount()).isOne();
+        assertThat(split.get(2).getBulkWriteResult().getDeletedCount()).isOne();
+        assertThat(split.get(3).getBulkWriteResult().getMatchedCount()).isZero();
+        assertThat(split.get(3).getBulkWriteResult().getUpserts())
+                .containsExactly(new BulkWriteUpsert(0, new BsonString("upsert 3")));
+    }
+
+    @Test
+    public void splitBulkWithErrors() {
+        final List<MongoWriteModel> writeModels = generateWriteModels(4, false);
+        final BulkWriteError error = new BulkWriteError(11000, "E11000 duplicate key", new BsonDocument(), 1);
+        final BulkWriteResult result = BulkWriteResult.acknowledged(0, 1, 2, 1, List.of(), List.of());
+
+        final List<WriteResultAndErrors> split = AdaptiveBulkWriter.splitByWriteModel(
+                WriteResultAndErrors.of(writeModels, result, List.of(error), "bulk"));
+
+        assertThat(split.get(1).getBulkWriteErrors())
+                .containsExactly(new BulkWriteError(11000, "E11000 duplicate key", new BsonDocument(), 0));
+        assertThat(split.get(1).getBulkWriteResult().getMatchedCount()).isZero();
+        assertThat(split.get(3).getBulkWriteErrors()).isEmpty();
+        assertThat(split.get(3).getBulkWriteResult().getMatchedCount()).isOne();
+    }
+
+    @Test
+    public void patchUpdatesAreUnmatchedIfUpdatesAreMissing() {
+        final List<MongoWriteModel> writeModels = generateWriteModels(4, true);
+        final BulkWriteResult result = BulkWriteResult.acknowledged(0, 1, 2, 1, List.of(), List.of());
+
+        final List<WriteResultAndErrors> split =
+                AdaptiveBulkWriter.splitByWriteModel(WriteResultAndErrors.success(writeModels, result, "bulk"));
+
+        assertThat(split.get(1).getBulkWriteResult().getMatchedCount()).isZero();
+        assertThat(split.get(3).getBulkWriteResult().getMatchedCount()).isZero();
+        assertThat(split.get(0).getBulkWriteResult().getDeletedCount()).isOne();
+    }
+
+    @Test
+    public void splitUnexpectedError() {
+        final List<MongoWriteModel> writeModels = generateWriteModels(3, false);
+        final var error = new MongoSocketReadException("Gee, the network is down!", new ServerAddress());
+
+        final List<WriteResultAndErrors> split = AdaptiveBulkWriter.splitByWriteModel(
+                WriteResultAndErrors.unexpectedError(writeModels, error, "bulk"));
+
+        assertThat(split).hasSize(3);
+        for (int i = 0; i < 3; i++) {
+            assertThat(split.get(i).getWriteModels()).containsExactly(writeModels.get(i));
+            assertThat(split.get(i).getUnexpectedError()).contains(error);
+        }
+    }
+
+    private List<MongoWriteModel> generateWriteModels(final int howMany, final boolean isPatchUpdate) {
+        final List<MongoWriteModel> writeModels = new ArrayList<>(howMany);
+        for (int i = 0; i < howMany; ++i) {
+            final Metadata metadata = Metadata.of(ThingId.of("thing", String.valueOf(i)), i * 10L, null, null,
+                    Set.of(), List.of(), null, actorSystem.actorSelection(TestProbe.apply(actorSystem).ref().path()));
+            final AbstractWriteModel abstractModel;
+            if (i % 2 == 0) {
+                abstractModel = ThingDeleteModel.of(metadata);
+            } else {
+                abstractModel = ThingWriteModel.of(metadata, new BsonDocument());
+            }
+            writeModels.add(MongoWriteModel.of(abstractModel, abstractModel.toMongo(), isPatchUpdate));
+        }
+        return writeModels;
+    }
+
+}
@@ -412,6 +412,52 @@ public final class ThingUpdaterTest {
         }};
     }
 
+    @Test
+    public void coalesceEventsWithinWindow() {
+        new TestKit(system) {{
+            // GIVEN: ThingUpdater coalesces changes within 1 second
+            final Props props = ThingUpdater.props(flow, id -> Source.single(getThingWriteModel()),
+                    getCoalescingSearchConfig("1s", "10s"), TestProbe.apply(system).ref());
+            final ActorRef underTest = watch(childActorOf(props, ACTOR_NAME));
+            inletProbe.ensureSubscription();
+            inletProbe.request(16);
+
+            // WHEN: 3 events arrive within the window
+            for (int i = 1; i <= 3; i++) {
+                underTest.tell(AttributeModified.of(THING_ID, JsonPointer.of("x"), JsonValue.of(i), REVISION + i,
+                        null, DittoHeaders.empty(), null), ActorRef.noSender());
+            }
+
+            // THEN: nothing is written before the window passed, then 1 update containing all events is sent
+            inletProbe.expectNoMessage(FiniteDuration.apply(500, "ms"));
+            final var data = inletProbe.expectNext();
+            assertThat(data.metadata().export())
+                    .isEqualTo(Metadata.of(THING_ID, REVISION + 3, null, null, Set.of(), null));
+            assertThat(data.metadata().getEvents()).hasSize(3);
+        }};
+    }
+
+    @Test
+    public void coalescedUpdateIsWrittenAfterMaxDelay() {
+        new TestKit(system) {{
+            // GIVEN: ThingUpdater coalesces changes within 1 minute but at most for 200 milliseconds
+            final Props props = ThingUpdater.props(flow, id -> Source.single(getThingWriteModel()),
+                    getCoalescingSearchConfig("1m", "200ms"), TestProbe.apply(system).ref());
+            final ActorRef underTest = watch(childActorOf(props, ACTOR_NAME));
+            inletProbe.ensureSubscription();
+            inletProbe.request(16);
+
+            // WHEN: an event arrives
+            underTest.tell(AttributeModified.of(THING_ID, JsonPointer.of("x"), JsonValue.of(6), REVISION + 1, null,
+                    DittoHeaders.empty(), null), ActorRef.noSender());
+
+            // THEN: the update is sent after the max delay
+            final var data = inletProbe.expectNext(TEN_SECONDS);
+            assertThat(data.metadata().export())
+                    .isEqualTo(Metadata.of(THING_ID, REVISION + 1, null, null, Set.of(), null));
+        }};
+    }
+
     @Test
     public void stashEventsDuringPersistence() {
         new TestKit(system) {{
@@ -663,4 +709,19 @@ public final class ThingUpdaterTest {
     private static String getActorName(final String name) {
         return URLEncoder.encode(THING_ID.getNamespace() + ":" + name, Charset.defaultCharset());
     }
+
+    private static SearchConfig getCoalescingSearchConfig(final String window, final String maxDelay) {
+        return DittoSearchConfig.of(DefaultScopedConfig.dittoScoped(ConfigFactory.parseString("""
+                  ditto {
+                    search {
+                        updater.stream.thing-deletion-timeout = 3s
+                        updater.stream.write-interval = 1ms
+                        updater.stream.coalescing-window = %s
+                        updater.stream.coalescing-max-delay = %s
+                    }
+                    mongodb.uri = "mongodb://localhost:27017/test"
+                  }
+                """.formatted(window, maxDelay))));
+    }
+
 }